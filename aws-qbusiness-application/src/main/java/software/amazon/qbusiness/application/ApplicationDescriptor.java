@@ -0,0 +1,36 @@
+package software.amazon.qbusiness.application;
+
+import static software.amazon.qbusiness.application.Constants.API_GET_APPLICATION;
+
+import java.util.Set;
+
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.ApplicationStatus;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationResponse;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.handler.Operation;
+import software.amazon.qbusiness.common.handler.ResourceDescriptor;
+
+final class ApplicationDescriptor {
+  static final ResourceDescriptor<ResourceModel, GetApplicationResponse> DESCRIPTOR = ResourceDescriptor.<ResourceModel, GetApplicationResponse>builder()
+      .typeName(ResourceModel.TYPE_NAME)
+      .callGraphPrefix("AWS-QBusiness-Application")
+      .primaryIdentifier(Utils::primaryIdentifier)
+      .arnBuilder(Utils::buildApplicationArn)
+      .get(Operation.of(API_GET_APPLICATION, Translator::translateToReadRequest, QBusinessClient::getApplication))
+      .responseType(GetApplicationResponse.class)
+      .fromGetResponse(Translator::translateFromReadResponse)
+      .toListTagsRequest(Translator::translateToListTagsRequest)
+      .withTags(Translator::translateFromReadResponseWithTags)
+      .statusExtractor(GetApplicationResponse::statusAsString)
+      .stableStates(Set.of(ApplicationStatus.ACTIVE.toString()))
+      .failedStates(Set.of(ApplicationStatus.FAILED.toString()))
+      .transitionalStates(Set.of(ApplicationStatus.CREATING.toString(), ApplicationStatus.UPDATING.toString()))
+      .failureReason(response -> response.error() == null ? null : response.error().errorMessage())
+      .build();
+
+  static final CrudEngine<ResourceModel, CallbackContext, GetApplicationResponse> ENGINE = new CrudEngine<>(DESCRIPTOR);
+
+  private ApplicationDescriptor() {
+  }
+}
@@ -3,14 +3,14 @@ package software.amazon.qbusiness.application;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.GetApplicationRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetApplicationResponse;
-import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
-import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.client.ThrottlingAwareProxyClient;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   @Override
@@ -23,7 +23,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         proxy,
         request,
         callbackContext != null ? callbackContext : new CallbackContext(),
-        proxy.newProxy(ClientBuilder::getClient),
+        ThrottlingAwareProxyClient.wrap(
+            proxy.newProxy(ClientBuilder::getClient), request.getAwsAccountId(), TimeBudget.startingNow(), logger
+        ),
         logger
     );
   }
@@ -35,14 +37,6 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
       final ProxyClient<QBusinessClient> proxyClient,
       final Logger logger);
 
-  protected ListTagsForResourceResponse callListTags(ListTagsForResourceRequest request, ProxyClient<QBusinessClient> client) {
-    return client.injectCredentialsAndInvokeV2(request, client.client()::listTagsForResource);
-  }
-
-  protected GetApplicationResponse callGetApplication(GetApplicationRequest request, ProxyClient<QBusinessClient> client) {
-    return client.injectCredentialsAndInvokeV2(request, client.client()::getApplication);
-  }
-
   protected GetApplicationResponse getApplication(ResourceModel model, ProxyClient<QBusinessClient> proxyClient, Logger logger) {
     if (StringUtils.isBlank(model.getApplicationId())) {
       logger.log("[ERROR] Unexpected call to get application with a null or empty application ID: %s".formatted(model.getApplicationId()));
@@ -6,10 +6,8 @@ import static software.amazon.qbusiness.application.Utils.primaryIdentifier;
 import static software.amazon.qbusiness.common.ErrorUtils.handleError;
 
 import java.time.Duration;
-import java.util.Objects;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
-import software.amazon.awssdk.services.qbusiness.model.ApplicationStatus;
 import software.amazon.awssdk.services.qbusiness.model.AutoSubscriptionStatus;
 import software.amazon.awssdk.services.qbusiness.model.CreateApplicationRequest;
 import software.amazon.awssdk.services.qbusiness.model.CreateApplicationResponse;
@@ -17,15 +15,16 @@ import software.amazon.awssdk.services.qbusiness.model.GetApplicationResponse;
 import software.amazon.awssdk.services.qbusiness.model.IdentityType;
 import software.amazon.awssdk.services.qbusiness.model.UpdateApplicationRequest;
 import software.amazon.awssdk.services.qbusiness.model.UpdateApplicationResponse;
-import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.stabilization.DeadlineAwareStabilizer;
 
 public class CreateHandler extends BaseHandlerStd {
 
@@ -34,7 +33,8 @@ public class CreateHandler extends BaseHandlerStd {
       .delay(Duration.ofSeconds(5))
       .build();
 
-  private final Constant backOffStrategy;
+  private final CrudEngine<ResourceModel, CallbackContext, GetApplicationResponse> engine = ApplicationDescriptor.ENGINE;
+  private final DeadlineAwareStabilizer stabilizer;
   private Logger logger;
 
   public CreateHandler() {
@@ -42,7 +42,7 @@ public class CreateHandler extends BaseHandlerStd {
   }
 
   public CreateHandler(Constant backOffStrategy) {
-    this.backOffStrategy = backOffStrategy;
+    this.stabilizer = new DeadlineAwareStabilizer(backOffStrategy);
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -53,6 +53,7 @@ public class CreateHandler extends BaseHandlerStd {
       final Logger logger) {
 
     this.logger = logger;
+    final TimeBudget budget = TimeBudget.startingNow();
     logger.log("[INFO] Starting to process Create Application request in stack: %s for Account: %s"
         .formatted(request.getStackId(), request.getAwsAccountId()));
 
@@ -60,13 +61,12 @@ public class CreateHandler extends BaseHandlerStd {
         .then(progress ->
             proxy.initiate("AWS-QBusiness-Application::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.translateToCreateRequest(request, model))
-                .backoffDelay(backOffStrategy)
                 .makeServiceCall((awsRequest, clientProxyClient) -> callCreateApplication(awsRequest, clientProxyClient, progress.getResourceModel()))
-                .stabilize((awsReq, response, clientProxyClient, model, context) -> isStabilized(clientProxyClient, model, logger))
                 .handleError((createReq, error, client, model, context) -> handleError(
                     model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_APPLICATION
                 ))
                 .progress()
+        ).then(progress -> engine.stabilize("Create", progress, stabilizer, budget, proxyClient, API_CREATE_APPLICATION, logger)
         ).then(progress -> {
             if (!isIAMFederatedApp(IdentityType.fromValue(request.getDesiredResourceState().getIdentityType()))) {
               return progress;
@@ -75,13 +75,12 @@ public class CreateHandler extends BaseHandlerStd {
             // TODO: Remove after AutoSubscribeConfiguration is added to the CreateApplication API.
             return proxy.initiate("AWS-QBusiness-Application::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToPostCreateUpdateRequest)
-                .backoffDelay(backOffStrategy)
                 .makeServiceCall(this::callUpdateApplication)
-                .stabilize((awsReq, response, clientProxyClient, model, context) -> isStabilized(clientProxyClient, model, logger))
                 .handleError((updateReq, error, client, model, context) -> handleError(
                     model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_APPLICATION
                 ))
-                .progress();
+                .progress()
+                .then(updated -> engine.stabilize("Update", updated, stabilizer, budget, proxyClient, API_CREATE_APPLICATION, logger));
             }
         ).then(progress ->
             new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger)
@@ -103,35 +102,6 @@ public class CreateHandler extends BaseHandlerStd {
     return IdentityType.AWS_IAM_IDP_OIDC.equals(identityType) || IdentityType.AWS_IAM_IDP_SAML.equals(identityType);
   }
 
-  private boolean isStabilized(
-      ProxyClient<QBusinessClient> proxyClient,
-      ResourceModel model,
-      Logger logger
-  ) {
-    GetApplicationResponse getAppResponse = getApplication(model, proxyClient, logger);
-
-    var status = getAppResponse.statusAsString();
-
-    if (ApplicationStatus.ACTIVE.toString().equals(status)) {
-      logger.log("[INFO] %s with ID: %s has stabilized".formatted(ResourceModel.TYPE_NAME, model.getApplicationId()));
-      return true;
-    }
-
-    if (!ApplicationStatus.FAILED.toString().equals(status)) {
-      logger.log("[INFO] %s with ID: %s is still stabilizing.".formatted(ResourceModel.TYPE_NAME, model.getApplicationId()));
-      return false;
-    }
-
-    // handle failed state
-
-    RuntimeException causeMessage = null;
-    if (Objects.nonNull(getAppResponse.error()) && StringUtils.isNotBlank(getAppResponse.error().errorMessage())) {
-      causeMessage = new RuntimeException(getAppResponse.error().errorMessage());
-    }
-
-    throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getApplicationId(), causeMessage);
-  }
-
   private CreateApplicationResponse callCreateApplication(CreateApplicationRequest request,
       ProxyClient<QBusinessClient> proxyClient,
       ResourceModel model) {
@@ -10,6 +10,7 @@ import java.time.Duration;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.DeleteApplicationRequest;
 import software.amazon.awssdk.services.qbusiness.model.DeleteApplicationResponse;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationResponse;
 import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -17,6 +18,9 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.stabilization.MutationGate;
 
 public class DeleteHandler extends BaseHandlerStd {
 
@@ -26,6 +30,8 @@ public class DeleteHandler extends BaseHandlerStd {
       .build();
 
   private final Constant backOffStrategy;
+  private final CrudEngine<ResourceModel, CallbackContext, GetApplicationResponse> engine = ApplicationDescriptor.ENGINE;
+  private final MutationGate mutationGate;
   private Logger logger;
 
   public DeleteHandler() {
@@ -34,6 +40,7 @@ public class DeleteHandler extends BaseHandlerStd {
 
   public DeleteHandler(Constant backOffStrategy) {
     this.backOffStrategy = backOffStrategy;
+    this.mutationGate = new MutationGate(backOffStrategy);
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -44,6 +51,7 @@ public class DeleteHandler extends BaseHandlerStd {
       final Logger logger) {
 
     this.logger = logger;
+    final TimeBudget budget = TimeBudget.startingNow();
 
     logger.log("[INFO] Initiating delete for %s with id: %s in stack: %s".formatted(
         ResourceModel.TYPE_NAME,
@@ -52,6 +60,7 @@ public class DeleteHandler extends BaseHandlerStd {
     ));
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> engine.awaitMutable("Delete::AwaitMutable", progress, mutationGate, budget, proxyClient, logger))
         .then(progress ->
             proxy.initiate("AWS-QBusiness-Application::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToDeleteRequest)
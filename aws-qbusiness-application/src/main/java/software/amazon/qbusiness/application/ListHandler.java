@@ -24,7 +24,7 @@ public class ListHandler extends BaseHandlerStd {
 
     final ListApplicationsRequest awsRequest = Translator.translateToListRequest(request.getNextToken());
 
-    ListApplicationsResponse listApplicationsResponse = proxy.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::listApplications);
+    ListApplicationsResponse listApplicationsResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::listApplications);
 
     String nextToken = listApplicationsResponse.nextToken();
 
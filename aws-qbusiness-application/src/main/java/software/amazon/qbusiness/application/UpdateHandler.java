@@ -7,7 +7,6 @@ import static software.amazon.qbusiness.common.ErrorUtils.handleError;
 import java.time.Duration;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
-import software.amazon.awssdk.services.qbusiness.model.ApplicationStatus;
 import software.amazon.awssdk.services.qbusiness.model.GetApplicationResponse;
 import software.amazon.awssdk.services.qbusiness.model.UpdateApplicationRequest;
 import software.amazon.awssdk.services.qbusiness.model.UpdateApplicationResponse;
@@ -17,7 +16,10 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
-import software.amazon.qbusiness.common.TagUtils;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.stabilization.DeadlineAwareStabilizer;
+import software.amazon.qbusiness.common.stabilization.MutationGate;
 
 public class UpdateHandler extends BaseHandlerStd {
 
@@ -26,7 +28,9 @@ public class UpdateHandler extends BaseHandlerStd {
       .delay(Duration.ofMinutes(2))
       .build();
 
-  private final Constant backOffStrategy;
+  private final CrudEngine<ResourceModel, CallbackContext, GetApplicationResponse> engine = ApplicationDescriptor.ENGINE;
+  private final DeadlineAwareStabilizer stabilizer;
+  private final MutationGate mutationGate;
   private Logger logger;
 
   public UpdateHandler() {
@@ -34,7 +38,8 @@ public class UpdateHandler extends BaseHandlerStd {
   }
 
   public UpdateHandler(Constant backOffStrategy) {
-    this.backOffStrategy = backOffStrategy;
+    this.stabilizer = new DeadlineAwareStabilizer(backOffStrategy);
+    this.mutationGate = new MutationGate(backOffStrategy);
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -45,6 +50,7 @@ public class UpdateHandler extends BaseHandlerStd {
       final Logger logger) {
 
     this.logger = logger;
+    final TimeBudget budget = TimeBudget.startingNow();
 
     logger.log("[INFO] Starting Update for %s with id: %s in stack: %s".formatted(
         ResourceModel.TYPE_NAME,
@@ -53,21 +59,18 @@ public class UpdateHandler extends BaseHandlerStd {
     ));
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> engine.awaitMutable("Update::AwaitMutable", progress, mutationGate, budget, proxyClient, logger))
         .then(progress ->
             proxy.initiate("AWS-QBusiness-Application::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToUpdateRequest)
-                .backoffDelay(backOffStrategy)
                 .makeServiceCall(this::updateApplication)
-                .stabilize((serviceRequest, updateApplicationResponse, client, model, context) -> isStabilized(client, model))
                 .handleError((serviceRequest, error, client, model, context) -> handleError(
                     model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_UPDATE_APPLICATION
                 ))
                 .progress()
         )
-        .then(progress -> {
-          var arn = Utils.buildApplicationArn(request, progress.getResourceModel());
-          return TagUtils.updateTags(ResourceModel.TYPE_NAME, progress, request, arn, proxyClient, logger);
-        })
+        .then(progress -> engine.stabilize("Update", progress, stabilizer, budget, proxyClient, API_UPDATE_APPLICATION, logger))
+        .then(progress -> engine.updateTags(progress, request, proxyClient, logger))
         .then(model -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
   }
 
@@ -76,14 +79,4 @@ public class UpdateHandler extends BaseHandlerStd {
     return proxyClient.injectCredentialsAndInvokeV2(request, client::updateApplication);
   }
 
-  private boolean isStabilized(
-      ProxyClient<QBusinessClient> proxyClient,
-      ResourceModel model
-  ) {
-    GetApplicationResponse getAppResponse = getApplication(model, proxyClient, logger);
-    var status = getAppResponse.status();
-    var hasStabilized = ApplicationStatus.ACTIVE.equals(status);
-    logger.log("[INFO] %s with ID: %s has stabilized: %s.".formatted(ResourceModel.TYPE_NAME, model.getApplicationId(), hasStabilized));
-    return hasStabilized;
-  }
 }
@@ -197,7 +197,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         software.amazon.awssdk.services.qbusiness.model.Tag::value));
     assertThat(requestTags).isEqualTo(expectedTagsAsMap);
 
-    verify(sdkClient, times(3)).getApplication(
+    verify(sdkClient, times(2)).getApplication(
         argThat((ArgumentMatcher<GetApplicationRequest>) t -> t.applicationId().equals(APP_ID))
     );
     verify(sdkClient, times(1)).updateApplication(
@@ -235,7 +235,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     assertThat(resultProgress).isNotNull();
     assertThat(resultProgress.isSuccess()).isTrue();
     verify(sdkClient).createApplication(any(CreateApplicationRequest.class));
-    verify(sdkClient, times(4)).getApplication(
+    verify(sdkClient, times(3)).getApplication(
         argThat((ArgumentMatcher<GetApplicationRequest>) t -> t.applicationId().equals(APP_ID))
     );
     verify(sdkClient, times(1)).updateApplication(
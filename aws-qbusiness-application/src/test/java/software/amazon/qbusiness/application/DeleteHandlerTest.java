@@ -101,7 +101,9 @@ public class DeleteHandlerTest extends AbstractTestBase {
   public void handleRequest_SimpleSuccess() {
     // set up test
     when(sdkClient.deleteApplication(any(DeleteApplicationRequest.class))).thenReturn(DeleteApplicationResponse.builder().build());
-    when(sdkClient.getApplication(any(GetApplicationRequest.class))).thenThrow(ResourceNotFoundException.builder().build());
+    when(sdkClient.getApplication(any(GetApplicationRequest.class)))
+        .thenReturn(activeApplication())
+        .thenThrow(ResourceNotFoundException.builder().build());
 
     // call method under test
     final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
@@ -118,11 +120,38 @@ public class DeleteHandlerTest extends AbstractTestBase {
     verify(sdkClient).deleteApplication(
         argThat((ArgumentMatcher<DeleteApplicationRequest>) t -> t.applicationId().equals(APP_ID))
     );
-    verify(sdkClient).getApplication(
+    verify(sdkClient, times(2)).getApplication(
         argThat((ArgumentMatcher<GetApplicationRequest>) t -> t.applicationId().equals(APP_ID))
     );
   }
 
+  @Test
+  public void testThatItWaitsForAnApplicationInTransitionBeforeDeleting() {
+    // set up test
+    when(sdkClient.deleteApplication(any(DeleteApplicationRequest.class))).thenReturn(DeleteApplicationResponse.builder().build());
+    when(sdkClient.getApplication(any(GetApplicationRequest.class)))
+        .thenReturn(activeApplication().toBuilder().status(ApplicationStatus.UPDATING).build())
+        .thenReturn(activeApplication())
+        .thenThrow(ResourceNotFoundException.builder().build());
+
+    // call method under test
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    // verify
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(sdkClient).deleteApplication(any(DeleteApplicationRequest.class));
+    verify(sdkClient, times(3)).getApplication(any(GetApplicationRequest.class));
+  }
+
+  private static GetApplicationResponse activeApplication() {
+    return GetApplicationResponse.builder()
+        .applicationId(APP_ID)
+        .status(ApplicationStatus.ACTIVE)
+        .build();
+  }
+
   @Test
   public void handleMovingFromDeletingToNotFound() {
     // set up test
@@ -177,6 +206,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
   @MethodSource("serviceErrorAndHandlerCodes")
   public void testThatItReturnsExpectedHandlerErrorCodeForServiceError(QBusinessException serviceError, HandlerErrorCode expectedErrorCode) {
     // set up test
+    when(sdkClient.getApplication(any(GetApplicationRequest.class))).thenReturn(activeApplication());
     when(sdkClient.deleteApplication(any(DeleteApplicationRequest.class))).thenThrow(serviceError);
 
     // call method under test
@@ -188,6 +218,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
     assertThat(responseProgress).isNotNull();
     assertThat(responseProgress.isSuccess()).isFalse();
     assertThat(responseProgress.getStatus()).isEqualTo(OperationStatus.FAILED);
+    verify(sdkClient).getApplication(any(GetApplicationRequest.class));
     verify(sdkClient).deleteApplication(any(DeleteApplicationRequest.class));
     assertThat(responseProgress.getErrorCode()).isEqualTo(expectedErrorCode);
     assertThat(responseProgress.getResourceModels()).isNull();
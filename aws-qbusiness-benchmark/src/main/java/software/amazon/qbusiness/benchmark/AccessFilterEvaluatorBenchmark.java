@@ -0,0 +1,93 @@
+package software.amazon.qbusiness.benchmark;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.qbusiness.dataaccessor.AttributeFilter;
+import software.amazon.qbusiness.dataaccessor.DocumentAttribute;
+import software.amazon.qbusiness.dataaccessor.DocumentAttributeValue;
+import software.amazon.qbusiness.dataaccessor.simulation.AccessFilterEvaluator;
+import software.amazon.qbusiness.dataaccessor.simulation.DocumentBatch;
+
+/**
+ * Evaluating a typical data accessor filter (a category, a group list, a page range and a date cut-off, with one
+ * negated branch) over a batch of 100,000 documents. Scores are documents per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessFilterEvaluatorBenchmark {
+  private static final int DOCUMENTS = 100_000;
+  private static final String[] CATEGORIES = {"policy", "design", "runbook", "faq"};
+  private static final String[] GROUPS = {"hr", "eng", "finance", "legal", "sales"};
+
+  private AccessFilterEvaluator evaluator;
+  private DocumentBatch batch;
+
+  @Setup
+  public void setUp() {
+    evaluator = AccessFilterEvaluator.compile(AttributeFilter.builder()
+        .andAllFilters(List.of(
+            AttributeFilter.builder().orAllFilters(List.of(
+                AttributeFilter.builder().equalsTo(attribute("_category", string("policy"))).build(),
+                AttributeFilter.builder().containsAny(attribute("groups", strings("eng", "legal"))).build()
+            )).build(),
+            AttributeFilter.builder().lessThanOrEquals(attribute("pages", number(200))).build(),
+            AttributeFilter.builder().greaterThan(attribute("_created_at",
+                DocumentAttributeValue.builder().dateValue("2023-06-01T00:00:00Z").build())).build(),
+            AttributeFilter.builder().notFilter(
+                AttributeFilter.builder().containsAll(attribute("groups", strings("hr", "finance"))).build()
+            ).build()
+        ))
+        .build());
+
+    final DocumentBatch.Builder builder = DocumentBatch.builder(DOCUMENTS);
+    final Instant start = Instant.parse("2023-01-01T00:00:00Z");
+    for (int i = 0; i < DOCUMENTS; i++) {
+      builder.string("_category", i, CATEGORIES[i % CATEGORIES.length])
+          .stringList("groups", i, List.of(GROUPS[i % GROUPS.length], GROUPS[(i / 7) % GROUPS.length]))
+          .longValue("pages", i, i % 500)
+          .date("_created_at", i, start.plusSeconds(600L * i));
+    }
+    batch = builder.build();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(DOCUMENTS)
+  public BitSet evaluate() {
+    return evaluator.evaluate(batch);
+  }
+
+  private static DocumentAttribute attribute(final String name, final DocumentAttributeValue value) {
+    return DocumentAttribute.builder().name(name).value(value).build();
+  }
+
+  private static DocumentAttributeValue string(final String value) {
+    return DocumentAttributeValue.builder().stringValue(value).build();
+  }
+
+  private static DocumentAttributeValue strings(final String... values) {
+    return DocumentAttributeValue.builder().stringListValue(List.of(values)).build();
+  }
+
+  private static DocumentAttributeValue number(final long value) {
+    return DocumentAttributeValue.builder().longValue((double) value).build();
+  }
+}
@@ -0,0 +1,119 @@
+package software.amazon.qbusiness.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.qbusiness.dataaccessor.ActionConfiguration;
+import software.amazon.qbusiness.dataaccessor.ActionFilterConfiguration;
+import software.amazon.qbusiness.dataaccessor.AttributeFilter;
+import software.amazon.qbusiness.dataaccessor.DocumentAttribute;
+import software.amazon.qbusiness.dataaccessor.DocumentAttributeValue;
+import software.amazon.qbusiness.dataaccessor.converter.ActionConfigurationConverter;
+
+/**
+ * Converting a DataAccessor action filter into its service form and back: a random tree of nested AND, OR and NOT
+ * groups over a few hundred distinct leaves, and a generated chain of ANDs thousands of levels deep, as produced by
+ * tools that append one condition at a time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AttributeFilterCompilerBenchmark {
+  private static final int DISTINCT_LEAVES = 300;
+
+  @Param({"1000", "10000"})
+  private int nodes;
+
+  private List<ActionConfiguration> randomTree;
+  private List<ActionConfiguration> deepChain;
+  private List<software.amazon.awssdk.services.qbusiness.model.ActionConfiguration> serviceDeepChain;
+
+  @Setup
+  public void setUp() {
+    final Random random = new Random(42);
+    randomTree = action(randomTree(random, nodes));
+
+    AttributeFilter chain = leaf(0);
+    for (int i = 1; i < nodes; i++) {
+      chain = AttributeFilter.builder().andAllFilters(List.of(chain, leaf(i % DISTINCT_LEAVES))).build();
+    }
+    deepChain = action(chain);
+    serviceDeepChain = ActionConfigurationConverter.toServiceActionConfigurations(deepChain);
+  }
+
+  @Benchmark
+  public Object randomTree() {
+    return ActionConfigurationConverter.toServiceActionConfigurations(randomTree);
+  }
+
+  @Benchmark
+  public Object deepChain() {
+    return ActionConfigurationConverter.toServiceActionConfigurations(deepChain);
+  }
+
+  @Benchmark
+  public Object deepChainFromService() {
+    return ActionConfigurationConverter.fromServiceActionConfigurations(serviceDeepChain);
+  }
+
+  /**
+   * Builds bottom up from a pool of subtrees, so the setup does not recurse either.
+   */
+  private static AttributeFilter randomTree(final Random random, final int nodes) {
+    final List<AttributeFilter> pool = new ArrayList<>();
+    for (int built = 0; built < nodes; built++) {
+      if (pool.size() < 4 || random.nextInt(3) == 0) {
+        pool.add(leaf(random.nextInt(DISTINCT_LEAVES)));
+        continue;
+      }
+      switch (random.nextInt(3)) {
+        case 0 -> pool.add(AttributeFilter.builder().notFilter(pool.remove(random.nextInt(pool.size()))).build());
+        case 1 -> pool.add(AttributeFilter.builder().andAllFilters(take(random, pool)).build());
+        default -> pool.add(AttributeFilter.builder().orAllFilters(take(random, pool)).build());
+      }
+    }
+    return AttributeFilter.builder().andAllFilters(pool).build();
+  }
+
+  private static List<AttributeFilter> take(final Random random, final List<AttributeFilter> pool) {
+    final int count = Math.min(pool.size(), 2 + random.nextInt(3));
+    final List<AttributeFilter> taken = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      taken.add(pool.remove(random.nextInt(pool.size())));
+    }
+    return taken;
+  }
+
+  private static AttributeFilter leaf(final int index) {
+    return AttributeFilter.builder()
+        .equalsTo(DocumentAttribute.builder()
+            .name("attribute_%d".formatted(index % 20))
+            .value(DocumentAttributeValue.builder().stringValue("value-%d".formatted(index)).build())
+            .build())
+        .build();
+  }
+
+  private static List<ActionConfiguration> action(final AttributeFilter filter) {
+    return List.of(ActionConfiguration.builder()
+        .action("qbusiness:SearchRelevantContent")
+        .filterConfiguration(ActionFilterConfiguration.builder().documentAttributeFilter(filter).build())
+        .build());
+  }
+}
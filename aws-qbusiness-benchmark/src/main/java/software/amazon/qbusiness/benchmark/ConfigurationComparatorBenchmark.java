@@ -0,0 +1,93 @@
+package software.amazon.qbusiness.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.qbusiness.datasource.translators.ConfigurationComparator;
+import software.amazon.qbusiness.datasource.translators.DocumentConverter;
+
+/**
+ * Cost of deciding that a roughly 500 KB connector configuration did not change, against converting it to the
+ * document an UpdateDataSource call would send. The template copy holds YAML style strings, the stored copy the
+ * booleans and SdkNumbers the service returns, so the comparator has to walk and normalize every value.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigurationComparatorBenchmark {
+  /** About 250 bytes of JSON per rule, so 2,000 rules is about 500 KB. */
+  private static final int FIELD_MAPPINGS = 2_000;
+
+  private Map<String, Object> template;
+  private Map<String, Object> stored;
+  private Map<String, Object> changed;
+
+  @Setup
+  public void setUp() {
+    template = configuration(FIELD_MAPPINGS, "true", false);
+    stored = DocumentConverter.convertDocumentToMap(DocumentConverter.convertToMapToDocument(
+        configuration(FIELD_MAPPINGS, "true", true)
+    ));
+    changed = configuration(FIELD_MAPPINGS, "false", false);
+  }
+
+  @Benchmark
+  public boolean compareUnchanged() {
+    return ConfigurationComparator.isEquivalent(template, stored);
+  }
+
+  @Benchmark
+  public boolean compareChangedAtTheEnd() {
+    return ConfigurationComparator.isEquivalent(changed, stored);
+  }
+
+  @Benchmark
+  public Document convertForUpdate() {
+    return DocumentConverter.convertToMapToDocument(template);
+  }
+
+  private static Map<String, Object> configuration(final int mappings, final String lastFlag, final boolean typed) {
+    final List<Object> fieldMappings = new ArrayList<>(mappings);
+    for (int i = 0; i < mappings; i++) {
+      final Map<String, Object> mapping = new LinkedHashMap<>();
+      mapping.put("indexFieldName", "custom_attribute_%05d".formatted(i));
+      mapping.put("indexFieldType", i % 3 == 0 ? "STRING_LIST" : "STRING");
+      mapping.put("dataSourceFieldName", "source_field_with_a_longer_descriptive_name_%05d".formatted(i));
+      mapping.put("dateFieldFormat", "yyyy-MM-dd'T'HH:mm:ss'Z'");
+      mapping.put("boost", typed ? (Object) (i % 10) : Integer.toString(i % 10));
+      mapping.put("searchable", "true");
+      mapping.put("facetable", i == mappings - 1 ? lastFlag : "true");
+      fieldMappings.add(mapping);
+    }
+
+    final Map<String, Object> additionalProperties = new LinkedHashMap<>();
+    additionalProperties.put("crawlDepth", typed ? (Object) 3 : "3");
+    additionalProperties.put("maxFileSizeInMegaBytes", typed ? (Object) 50 : "50");
+    additionalProperties.put("honorRobots", "true");
+
+    final Map<String, Object> configuration = new LinkedHashMap<>();
+    configuration.put("type", "WEBCRAWLERV2");
+    configuration.put("syncMode", "FULL_CRAWL");
+    configuration.put("additionalProperties", additionalProperties);
+    configuration.put("repositoryConfigurations", Map.of("webPage", Map.of("fieldMappings", fieldMappings)));
+    return configuration;
+  }
+}
@@ -0,0 +1,85 @@
+package software.amazon.qbusiness.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.qbusiness.datasource.translators.DocumentConverter;
+
+/**
+ * Converting a GetDataSource configuration document back into a map, when the same document was converted by a previous
+ * Read (memo hit) and when it was not (miss, the previous behaviour plus the hash). The configuration holds numbers and
+ * booleans, as real connector configurations do. Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} to
+ * see the bytes allocated per conversion.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigurationRoundTripBenchmark {
+  private static final int FIELD_MAPPINGS = 2_000;
+  // one more configuration than the memo holds, so cycling through them never hits
+  private static final int NEVER_REMEMBERED = 9;
+
+  private Document readAgain;
+  private Document[] changed;
+  private int next;
+
+  @Setup
+  public void setUp() {
+    readAgain = Document.fromMap(DocumentConverter.convertToMapToDocument(configuration("FULL_CRAWL")).asMap());
+    // the first Read of the document converts it, the ones measured below get the remembered map
+    DocumentConverter.convertDocumentToMap(readAgain);
+    changed = new Document[NEVER_REMEMBERED];
+    for (int i = 0; i < NEVER_REMEMBERED; i++) {
+      changed[i] = DocumentConverter.convertToMapToDocument(configuration("CHANGE_LOG_%d".formatted(i)));
+    }
+  }
+
+  @Benchmark
+  public Map<String, Object> unchangedConfiguration() {
+    return DocumentConverter.convertDocumentToMap(readAgain);
+  }
+
+  @Benchmark
+  public Map<String, Object> changedConfiguration() {
+    next = (next + 1) % NEVER_REMEMBERED;
+    return DocumentConverter.convertDocumentToMap(changed[next]);
+  }
+
+  private static Map<String, Object> configuration(final String syncMode) {
+    final List<Object> fieldMappings = new ArrayList<>(FIELD_MAPPINGS);
+    for (int i = 0; i < FIELD_MAPPINGS; i++) {
+      final Map<String, Object> mapping = new LinkedHashMap<>();
+      mapping.put("indexFieldName", "custom_attribute_%05d".formatted(i));
+      mapping.put("indexFieldType", i % 3 == 0 ? "STRING_LIST" : "STRING");
+      mapping.put("dataSourceFieldName", "source_field_with_a_longer_descriptive_name_%05d".formatted(i));
+      mapping.put("dateFieldFormat", "yyyy-MM-dd'T'HH:mm:ss'Z'");
+      mapping.put("boost", i % 10);
+      mapping.put("searchable", true);
+      fieldMappings.add(mapping);
+    }
+
+    final Map<String, Object> configuration = new LinkedHashMap<>();
+    configuration.put("type", "WEBCRAWLERV2");
+    configuration.put("syncMode", syncMode);
+    configuration.put("repositoryConfigurations", Map.of("webPage", Map.of("fieldMappings", fieldMappings)));
+    return configuration;
+  }
+}
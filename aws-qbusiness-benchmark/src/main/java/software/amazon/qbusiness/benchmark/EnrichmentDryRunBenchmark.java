@@ -0,0 +1,120 @@
+package software.amazon.qbusiness.benchmark;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.qbusiness.datasource.DocumentAttributeCondition;
+import software.amazon.qbusiness.datasource.DocumentAttributeTarget;
+import software.amazon.qbusiness.datasource.DocumentAttributeValue;
+import software.amazon.qbusiness.datasource.DocumentEnrichmentConfiguration;
+import software.amazon.qbusiness.datasource.HookConfiguration;
+import software.amazon.qbusiness.datasource.InlineDocumentEnrichmentConfiguration;
+import software.amazon.qbusiness.datasource.enrichment.DryRunReport;
+import software.amazon.qbusiness.datasource.enrichment.EnrichmentRuleEngine;
+
+/**
+ * Dry run of ten inline rules and both hooks over 10,000 sample documents, and the cost of compiling the
+ * configuration, which a caller pays once per batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnrichmentDryRunBenchmark {
+  private static final int DOCUMENTS = 10_000;
+  private static final String LAMBDA_ARN = "arn:aws:lambda:us-west-2:123456789012:function:enrich";
+  private static final String[] OPERATORS = {
+      "EQUALS", "BEGINS_WITH", "CONTAINS", "GREATER_THAN", "LESS_THAN", "EXISTS", "NOT_EQUALS", "NOT_CONTAINS",
+      "GREATER_THAN_OR_EQUALS", "NOT_EXISTS"
+  };
+
+  private DocumentEnrichmentConfiguration configuration;
+  private EnrichmentRuleEngine engine;
+  private List<Map<String, Object>> documents;
+
+  @Setup
+  public void setUp() {
+    final List<InlineDocumentEnrichmentConfiguration> rules = new ArrayList<>(OPERATORS.length);
+    for (int i = 0; i < OPERATORS.length; i++) {
+      rules.add(InlineDocumentEnrichmentConfiguration.builder()
+          .condition(condition(OPERATORS[i]))
+          .target(DocumentAttributeTarget.builder()
+              .key("enriched_%d".formatted(i))
+              .value(DocumentAttributeValue.builder().stringValue("rule-%d".formatted(i)).build())
+              .build())
+          .build());
+    }
+    configuration = DocumentEnrichmentConfiguration.builder()
+        .inlineConfigurations(rules)
+        .preExtractionHookConfiguration(HookConfiguration.builder()
+            .lambdaArn(LAMBDA_ARN)
+            .invocationCondition(DocumentAttributeCondition.builder()
+                .key("enriched_0").operator("EXISTS").build())
+            .build())
+        .postExtractionHookConfiguration(HookConfiguration.builder()
+            .lambdaArn(LAMBDA_ARN)
+            .invocationCondition(DocumentAttributeCondition.builder()
+                .key("_created_at").operator("GREATER_THAN")
+                .value(DocumentAttributeValue.builder().dateValue("2024-01-01T00:00:00Z").build())
+                .build())
+            .build())
+        .build();
+    engine = EnrichmentRuleEngine.compile(configuration);
+
+    documents = new ArrayList<>(DOCUMENTS);
+    final Instant start = Instant.parse("2023-01-01T00:00:00Z");
+    for (int i = 0; i < DOCUMENTS; i++) {
+      final Map<String, Object> attributes = new HashMap<>();
+      attributes.put("_source_uri", "s3://docs/%s/%d.pdf".formatted(i % 4 == 0 ? "hr" : "eng", i));
+      attributes.put("_category", i % 3 == 0 ? "policy" : "design");
+      attributes.put("tags", i % 5 == 0 ? List.of("draft", "internal") : List.of("final"));
+      attributes.put("pages", (long) (i % 50));
+      attributes.put("_created_at", start.plusSeconds(3_600L * i));
+      documents.add(attributes);
+    }
+  }
+
+  @Benchmark
+  public DryRunReport dryRun() {
+    return engine.dryRun(documents);
+  }
+
+  @Benchmark
+  public EnrichmentRuleEngine compile() {
+    return EnrichmentRuleEngine.compile(configuration);
+  }
+
+  private static DocumentAttributeCondition condition(final String operator) {
+    final DocumentAttributeCondition.DocumentAttributeConditionBuilder condition =
+        DocumentAttributeCondition.builder().operator(operator);
+    return switch (operator) {
+      case "EQUALS", "NOT_EQUALS" -> condition.key("_category").value(string("policy")).build();
+      case "BEGINS_WITH" -> condition.key("_source_uri").value(string("s3://docs/hr/")).build();
+      case "CONTAINS", "NOT_CONTAINS" -> condition.key("tags").value(string("draft")).build();
+      case "GREATER_THAN", "GREATER_THAN_OR_EQUALS", "LESS_THAN" ->
+          condition.key("pages").value(DocumentAttributeValue.builder().longValue(25.0).build()).build();
+      default -> condition.key("_version").build();
+    };
+  }
+
+  private static DocumentAttributeValue string(final String value) {
+    return DocumentAttributeValue.builder().stringValue(value).build();
+  }
+}
@@ -0,0 +1,89 @@
+package software.amazon.qbusiness.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import software.amazon.qbusiness.permission.ResourceModel;
+import software.amazon.qbusiness.permission.internal.CompactionPlan;
+import software.amazon.qbusiness.permission.internal.PolicyCompactionPlanner;
+import software.amazon.qbusiness.permission.internal.PolicyParser;
+import software.amazon.qbusiness.permission.internal.PolicyStatementIndex;
+
+/**
+ * Reading one permission out of an application policy with 1,000 statements, the way Read does it: parse the policy
+ * returned by GetPolicy, then look the statement id up. Compares {@link PolicyParser}, the indexed parse, and the
+ * indexed parse of the same permissions compacted by {@link PolicyCompactionPlanner}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PermissionPolicyBenchmark {
+  private static final int STATEMENTS = 1_000;
+  private static final int PRINCIPALS = 100;
+  private static final String APPLICATION_ID = "app-123";
+  private static final String RESOURCE = "arn:aws:qbusiness:us-west-2:123456789012:application/app-123";
+  private static final String[] ACTIONS = {
+      "qbusiness:SearchRelevantContent", "qbusiness:GetRelevantContent", "qbusiness:Chat", "qbusiness:ChatSync"
+  };
+
+  private String policy;
+  private String compactedPolicy;
+  private CompactionPlan plan;
+  private String statementId;
+
+  @Setup
+  public void setUp() {
+    final PolicyCompactionPlanner planner = new PolicyCompactionPlanner(true);
+    final StringBuilder statements = new StringBuilder();
+    for (int i = 0; i < STATEMENTS; i++) {
+      final String principal = "arn:aws:iam::123456789012:role/role-%03d".formatted(i % PRINCIPALS);
+      final String action = ACTIONS[i % ACTIONS.length];
+      planner.track(ResourceModel.builder()
+          .applicationId(APPLICATION_ID)
+          .statementId("statement-%04d".formatted(i))
+          .principal(principal)
+          .actions(List.of(action))
+          .build());
+      if (i > 0) {
+        statements.append(',');
+      }
+      statements.append("""
+          {"Sid":"statement-%04d","Effect":"Allow","Principal":{"AWS":"%s"},"Action":"%s","Resource":["%s"]}"""
+          .formatted(i, principal, action, RESOURCE));
+    }
+    policy = "{\"Version\":\"2012-10-17\",\"Statement\":[" + statements + "]}";
+    plan = planner.plan();
+    compactedPolicy = plan.toPolicyJson(RESOURCE);
+    statementId = "statement-%04d".formatted(STATEMENTS - 1);
+  }
+
+  @Benchmark
+  public Optional<ResourceModel> policyParser() {
+    return PolicyParser.getStatementFromPolicy(policy, statementId, APPLICATION_ID);
+  }
+
+  @Benchmark
+  public Optional<PolicyStatementIndex.IndexedStatement> statementIndex() {
+    return PolicyStatementIndex.parse(policy).statement(statementId);
+  }
+
+  @Benchmark
+  public Optional<ResourceModel> compactedStatementIndex() {
+    return plan.resolve(statementId, PolicyStatementIndex.parse(compactedPolicy));
+  }
+}
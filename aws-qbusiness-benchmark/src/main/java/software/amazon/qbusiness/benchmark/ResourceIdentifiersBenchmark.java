@@ -0,0 +1,105 @@
+package software.amazon.qbusiness.benchmark;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import software.amazon.qbusiness.common.ResourceIdentifiers;
+
+/**
+ * Compares the previous identifier code (String.formatted + toLowerCase ARNs, JSONObject primary identifiers, regex
+ * parsing) with {@link ResourceIdentifiers} on the error path, where a handler logs and reports the identifier of the
+ * same model several times while mapping one failed call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceIdentifiersBenchmark {
+  private static final String INDEX_ARN_FORMAT = "arn:%s:qbusiness:%s:%s:application/%s/index/%s";
+  private static final Pattern ARN_PATTERN = Pattern.compile("^arn:([^:]*):([^:]*):([^:]*):([^:]*):(.*)$");
+  private static final String[] KEYS = {"ApplicationId", "IndexId"};
+
+  /** Times the identifier is rendered while handling one failed call: error log, exception and event message. */
+  private static final int LOOKUPS_PER_ERROR = 3;
+
+  private static final class Model {
+    private final String applicationId = "63451660-1596-4f1a-a3c8-e5f4b33d9fe5";
+    private final String indexId = "11111111-1596-4f1a-a3c8-e5f4b33d9fe5";
+
+    JSONObject getPrimaryIdentifier() {
+      final JSONObject identifier = new JSONObject();
+      identifier.put("/properties/ApplicationId", applicationId);
+      identifier.put("/properties/IndexId", indexId);
+      return identifier;
+    }
+  }
+
+  private Model model;
+  private String arn;
+
+  @Setup
+  public void setUp() {
+    model = new Model();
+    arn = "arn:aws:qbusiness:us-west-2:123456789012:application/%s/index/%s".formatted(model.applicationId, model.indexId);
+  }
+
+  @Benchmark
+  public void formattedArn(final Blackhole blackhole) {
+    blackhole.consume(INDEX_ARN_FORMAT.formatted("aws", "us-west-2", "123456789012", model.applicationId, model.indexId)
+        .toLowerCase(Locale.ENGLISH));
+  }
+
+  @Benchmark
+  public void builtArn(final Blackhole blackhole) {
+    blackhole.consume(ResourceIdentifiers.arn(true, "aws", "us-west-2", "123456789012",
+        "application", model.applicationId, "index", model.indexId));
+  }
+
+  @Benchmark
+  public void jsonPrimaryIdentifierOnError(final Blackhole blackhole) {
+    for (int i = 0; i < LOOKUPS_PER_ERROR; i++) {
+      blackhole.consume(Optional.of(model).map(Model::getPrimaryIdentifier).map(JSONObject::toString).orElse(""));
+    }
+  }
+
+  @Benchmark
+  public void builtPrimaryIdentifierOnError(final Blackhole blackhole) {
+    for (int i = 0; i < LOOKUPS_PER_ERROR; i++) {
+      blackhole.consume(ResourceIdentifiers.primaryIdentifier(model, KEYS, model.applicationId, model.indexId));
+    }
+  }
+
+  @Benchmark
+  public void regexParseArn(final Blackhole blackhole) {
+    final Matcher matcher = ARN_PATTERN.matcher(arn);
+    if (matcher.matches()) {
+      blackhole.consume(matcher.group(4));
+      blackhole.consume(matcher.group(5).split("/"));
+    }
+  }
+
+  @Benchmark
+  public void scannedParseArn(final Blackhole blackhole) {
+    final ResourceIdentifiers.Arn parsed = ResourceIdentifiers.parseArn(arn);
+    blackhole.consume(parsed.accountId());
+    blackhole.consume(parsed.resourcePath());
+  }
+}
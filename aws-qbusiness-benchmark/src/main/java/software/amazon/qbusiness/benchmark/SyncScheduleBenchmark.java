@@ -0,0 +1,70 @@
+package software.amazon.qbusiness.benchmark;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import software.amazon.qbusiness.datasource.schedule.SyncSchedule;
+
+/**
+ * Parsing 5,000 mixed rate, six field and five field schedules, and previewing the next ten runs of one. Run with
+ * {@code -prof gc} to see the allocation per parse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SyncScheduleBenchmark {
+  private static final int EXPRESSIONS = 5_000;
+  private static final List<String> TEMPLATES = List.of(
+      "cron(%d %d ? * MON-FRI *)",
+      "cron(%d %d L * ? *)",
+      "cron(0/%d %d ? * 2#1 2025-2030)",
+      "%d %d * * 1,3,5",
+      "*/%d %d-23 1-15 JAN-JUN *",
+      "rate(%d hours)"
+  );
+
+  private String[] expressions;
+  private SyncSchedule weekdays;
+  private Instant from;
+
+  @Setup
+  public void setUp() {
+    expressions = new String[EXPRESSIONS];
+    for (int i = 0; i < EXPRESSIONS; i++) {
+      final String template = TEMPLATES.get(i % TEMPLATES.size());
+      expressions[i] = template.startsWith("rate")
+          ? template.formatted(i % 23 + 1)
+          : template.formatted(i % 59 + 1, i % 23);
+    }
+    weekdays = SyncSchedule.parse("cron(15 10 ? * MON-FRI *)");
+    from = Instant.parse("2024-05-01T00:00:00Z");
+  }
+
+  @Benchmark
+  public void parseAll(final Blackhole blackhole) {
+    for (final String expression : expressions) {
+      blackhole.consume(SyncSchedule.parse(expression));
+    }
+  }
+
+  @Benchmark
+  public List<Instant> nextTenRuns() {
+    return weekdays.nextRuns(from, 10);
+  }
+}
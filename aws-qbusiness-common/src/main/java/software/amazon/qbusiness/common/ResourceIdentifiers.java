@@ -0,0 +1,273 @@
+package software.amazon.qbusiness.common;
+
+import static software.amazon.qbusiness.common.SharedConstants.SERVICE_NAME_LOWER;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import lombok.NonNull;
+
+/**
+ * Builds and parses the ARNs and primary identifiers of QBusiness resources.
+ *
+ * <p>Identifiers are written straight into a pre-sized {@link StringBuilder} instead of going through
+ * {@code String.formatted}, {@code toLowerCase} or the generated {@code getPrimaryIdentifier()} JSON object. The last
+ * result is remembered per thread along with the strings it was built from, so the error and logging paths that ask
+ * for the identifier of the same model over and over only build it once. A hit compares those strings in place and
+ * allocates nothing, and the memo keeps no reference to the model.
+ */
+public final class ResourceIdentifiers {
+  private static final String ARN_PREFIX = "arn:";
+  private static final String PROPERTIES_PREFIX = "/properties/";
+
+  private static final ThreadLocal<PrimaryIdentifierMemo> PRIMARY_IDENTIFIERS = ThreadLocal.withInitial(PrimaryIdentifierMemo::new);
+  private static final ThreadLocal<ArnMemo> ARNS = ThreadLocal.withInitial(ArnMemo::new);
+
+  private ResourceIdentifiers() {
+  }
+
+  /**
+   * Builds {@code arn:<partition>:qbusiness:<region>:<account>:<type>/<id>[/<type>/<id>...]}.
+   *
+   * @param lowerCase    whether to lower case the whole ARN, which is what most QBusiness resources expect.
+   * @param resourcePath alternating resource type and id segments, starting with {@code application}.
+   */
+  public static String arn(
+      final boolean lowerCase,
+      @NonNull final String partition,
+      @NonNull final String region,
+      @NonNull final String accountId,
+      @NonNull final String... resourcePath) {
+    final ArnMemo memo = ARNS.get();
+    if (memo.matches(lowerCase, partition, region, accountId, resourcePath)) {
+      return memo.value;
+    }
+
+    int length = ARN_PREFIX.length() + SERVICE_NAME_LOWER.length() + partition.length() + region.length() + accountId.length() + 4;
+    for (final String segment : resourcePath) {
+      length += Objects.requireNonNull(segment, "resourcePath segment").length() + 1;
+    }
+
+    final StringBuilder arn = new StringBuilder(length);
+    arn.append(ARN_PREFIX).append(partition).append(':').append(SERVICE_NAME_LOWER).append(':')
+        .append(region).append(':').append(accountId).append(':');
+    for (int i = 0; i < resourcePath.length; i++) {
+      if (i > 0) {
+        arn.append('/');
+      }
+      arn.append(resourcePath[i]);
+    }
+
+    if (lowerCase) {
+      lowerCaseInPlace(arn);
+    }
+    return memo.remember(lowerCase, partition, region, accountId, resourcePath, arn.toString());
+  }
+
+  /**
+   * Renders a primary identifier in the shape of the generated {@code getPrimaryIdentifier().toString()}, with the keys
+   * in schema order, for example
+   * {@code {"/properties/ApplicationId":"a","/properties/IndexId":"b"}}.
+   *
+   * @param owner  the model the identifier belongs to, only checked for null.
+   * @param keys   the schema property names of the identifier, in schema order.
+   * @param values the values of those properties on the model.
+   * @return the identifier, or an empty string when the model is null or any component is still unset.
+   */
+  public static String primaryIdentifier(final Object owner, final String[] keys, final String... values) {
+    if (owner == null) {
+      return "";
+    }
+
+    final PrimaryIdentifierMemo memo = PRIMARY_IDENTIFIERS.get();
+    if (memo.matches(keys, values)) {
+      return memo.value;
+    }
+
+    int length = 2;
+    for (int i = 0; i < keys.length; i++) {
+      if (values[i] == null) {
+        return memo.remember(keys, values, "");
+      }
+      length += PROPERTIES_PREFIX.length() + keys[i].length() + values[i].length() + 6;
+    }
+
+    final StringBuilder identifier = new StringBuilder(length).append('{');
+    for (int i = 0; i < keys.length; i++) {
+      if (i > 0) {
+        identifier.append(',');
+      }
+      identifier.append('"').append(PROPERTIES_PREFIX).append(keys[i]).append("\":\"");
+      appendJsonEscaped(identifier, values[i]);
+      identifier.append('"');
+    }
+    return memo.remember(keys, values, identifier.append('}').toString());
+  }
+
+  /**
+   * Splits a QBusiness ARN into its components without regular expressions.
+   *
+   * @throws IllegalArgumentException if the value is not an ARN.
+   */
+  public static Arn parseArn(@NonNull final String arn) {
+    if (!arn.startsWith(ARN_PREFIX)) {
+      throw new IllegalArgumentException("Not an ARN: %s".formatted(arn));
+    }
+
+    final int partitionEnd = arn.indexOf(':', ARN_PREFIX.length());
+    final int serviceEnd = partitionEnd < 0 ? -1 : arn.indexOf(':', partitionEnd + 1);
+    final int regionEnd = serviceEnd < 0 ? -1 : arn.indexOf(':', serviceEnd + 1);
+    final int accountEnd = regionEnd < 0 ? -1 : arn.indexOf(':', regionEnd + 1);
+    if (accountEnd < 0) {
+      throw new IllegalArgumentException("Not an ARN: %s".formatted(arn));
+    }
+
+    final List<String> resourcePath = new ArrayList<>();
+    int segmentStart = accountEnd + 1;
+    for (int slash = arn.indexOf('/', segmentStart); slash >= 0; slash = arn.indexOf('/', segmentStart)) {
+      resourcePath.add(arn.substring(segmentStart, slash));
+      segmentStart = slash + 1;
+    }
+    resourcePath.add(arn.substring(segmentStart));
+
+    return new Arn(
+        arn.substring(ARN_PREFIX.length(), partitionEnd),
+        arn.substring(partitionEnd + 1, serviceEnd),
+        arn.substring(serviceEnd + 1, regionEnd),
+        arn.substring(regionEnd + 1, accountEnd),
+        Collections.unmodifiableList(resourcePath)
+    );
+  }
+
+  /**
+   * The components of a parsed ARN. The resource part is split on {@code /}, so for QBusiness ARNs it alternates
+   * between resource types and their ids.
+   */
+  public record Arn(String partition, String service, String region, String accountId, List<String> resourcePath) {
+
+    /**
+     * @return the id that follows the given resource type in the resource path, such as the index id for
+     *     {@code index}, or null when the type is not part of the ARN.
+     */
+    public String resourceId(final String resourceType) {
+      for (int i = 0; i < resourcePath.size() - 1; i += 2) {
+        if (resourcePath.get(i).equals(resourceType)) {
+          return resourcePath.get(i + 1);
+        }
+      }
+      return null;
+    }
+  }
+
+  private static void lowerCaseInPlace(final StringBuilder value) {
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      if (c >= 'A' && c <= 'Z') {
+        value.setCharAt(i, (char) (c + ('a' - 'A')));
+      } else if (c > 0x7f) {
+        value.setCharAt(i, Character.toLowerCase(c));
+      }
+    }
+  }
+
+  private static void appendJsonEscaped(final StringBuilder out, final String value) {
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      switch (c) {
+        case '"' -> out.append("\\\"");
+        case '\\' -> out.append("\\\\");
+        case '\n' -> out.append("\\n");
+        case '\r' -> out.append("\\r");
+        case '\t' -> out.append("\\t");
+        default -> {
+          if (c < 0x20) {
+            out.append("\\u%04x".formatted((int) c));
+          } else {
+            out.append(c);
+          }
+        }
+      }
+    }
+  }
+
+  private static boolean sameStrings(final String[] remembered, final String[] candidate) {
+    if (remembered == null || remembered.length != candidate.length) {
+      return false;
+    }
+    for (int i = 0; i < remembered.length; i++) {
+      if (!Objects.equals(remembered[i], candidate[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * The last ARN built on this thread and the parts it was built from. The resource path is copied on a miss, since the
+   * caller owns the array.
+   */
+  private static final class ArnMemo {
+    private boolean lowerCase;
+    private String partition;
+    private String region;
+    private String accountId;
+    private String[] resourcePath;
+    private String value;
+
+    private boolean matches(
+        final boolean candidateLowerCase,
+        final String candidatePartition,
+        final String candidateRegion,
+        final String candidateAccountId,
+        final String[] candidateResourcePath) {
+      return value != null
+          && lowerCase == candidateLowerCase
+          && partition.equals(candidatePartition)
+          && region.equals(candidateRegion)
+          && accountId.equals(candidateAccountId)
+          && sameStrings(resourcePath, candidateResourcePath);
+    }
+
+    private String remember(
+        final boolean newLowerCase,
+        final String newPartition,
+        final String newRegion,
+        final String newAccountId,
+        final String[] newResourcePath,
+        final String newValue) {
+      lowerCase = newLowerCase;
+      partition = newPartition;
+      region = newRegion;
+      accountId = newAccountId;
+      resourcePath = newResourcePath.clone();
+      value = newValue;
+      return newValue;
+    }
+  }
+
+  /**
+   * The last primary identifier built on this thread and the keys and values it was built from. Models are mutable
+   * (IDs are filled in after Create), so a hit needs equal values, not the same model. The keys are the caller's
+   * constant, so they are kept as given and usually match by identity.
+   */
+  private static final class PrimaryIdentifierMemo {
+    private String[] keys;
+    private String[] values;
+    private String value;
+
+    private boolean matches(final String[] candidateKeys, final String[] candidateValues) {
+      return value != null
+          && (keys == candidateKeys || sameStrings(keys, candidateKeys))
+          && sameStrings(values, candidateValues);
+    }
+
+    private String remember(final String[] newKeys, final String[] newValues, final String newValue) {
+      keys = newKeys;
+      values = newValues.clone();
+      value = newValue;
+      return newValue;
+    }
+  }
+}
@@ -6,7 +6,13 @@ public final class SharedConstants {
   public static final String SERVICE_NAME = "QBusiness";
   public static final String SERVICE_NAME_LOWER = SERVICE_NAME.toLowerCase(Locale.ENGLISH);
   public static final String ENV_AWS_REGION = "AWS_REGION";
+  public static final String ENV_LOG_LEVEL = "QBUSINESS_HANDLER_LOG_LEVEL";
+  public static final String ENV_HEDGE_BUDGET_PERCENT = "QBUSINESS_HANDLER_HEDGE_BUDGET_PERCENT";
+  public static final String ENV_LIST_HYDRATION_PARALLELISM = "QBUSINESS_HANDLER_LIST_HYDRATION_PARALLELISM";
+  public static final String ENV_LIST_DRIFT_CACHE_SECONDS = "QBUSINESS_HANDLER_LIST_DRIFT_CACHE_SECONDS";
   public static final String API_LIST_TAGS = "ListTagsForResource";
+  public static final String API_GET_APPLICATION = "GetApplication";
+  public static final String API_GET_INDEX = "GetIndex";
 
   private SharedConstants(){}
 }
@@ -0,0 +1,11 @@
+package software.amazon.qbusiness.common;
+
+/**
+ * Blocking wait used by handler helpers that pause in-process, replaceable in tests.
+ */
+@FunctionalInterface
+public interface Sleeper {
+  Sleeper THREAD_SLEEP = Thread::sleep;
+
+  void sleep(long millis) throws InterruptedException;
+}
@@ -0,0 +1,44 @@
+package software.amazon.qbusiness.common;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks how much of the current handler invocation is left to spend on waiting and retrying.
+ * <p>
+ * The CloudFormation proxy does not expose the remaining Lambda time, so by default the budget is measured from handler
+ * entry against a fixed per-invocation limit that leaves ample headroom for serializing the progress event.
+ */
+public final class TimeBudget {
+  public static final Duration DEFAULT_INVOCATION_LIMIT = Duration.ofSeconds(60);
+
+  private final LongSupplier remainingMillis;
+
+  private TimeBudget(final LongSupplier remainingMillis) {
+    this.remainingMillis = remainingMillis;
+  }
+
+  public static TimeBudget startingNow() {
+    return startingNow(DEFAULT_INVOCATION_LIMIT);
+  }
+
+  public static TimeBudget startingNow(final Duration limit) {
+    final long deadline = System.nanoTime() + limit.toNanos();
+    return new TimeBudget(() -> Duration.ofNanos(deadline - System.nanoTime()).toMillis());
+  }
+
+  public static TimeBudget of(final LongSupplier remainingMillis) {
+    return new TimeBudget(remainingMillis);
+  }
+
+  public Duration remaining() {
+    return Duration.ofMillis(Math.max(0L, remainingMillis.getAsLong()));
+  }
+
+  /**
+   * @return true if {@code wait} can be spent while still keeping {@code reserve} of the budget untouched.
+   */
+  public boolean canAfford(final Duration wait, final Duration reserve) {
+    return remaining().compareTo(wait.plus(reserve)) >= 0;
+  }
+}
@@ -0,0 +1,160 @@
+package software.amazon.qbusiness.common.client;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Client side AIMD (additive increase, multiplicative decrease) rate limiter with one token bucket per account and API.
+ * <p>
+ * Every successful call nudges the allowed rate up by a constant step, every throttled call cuts it by a factor. The
+ * shared instance lives for the lifetime of the handler container, so warm invocations keep the rate learned by earlier
+ * ones instead of rediscovering the service limit through throttling errors.
+ */
+public final class AdaptiveRateLimiter {
+  public static final double DEFAULT_INITIAL_RATE = 10.0;
+  public static final double DEFAULT_MIN_RATE = 0.5;
+  public static final double DEFAULT_MAX_RATE = 50.0;
+  public static final double DEFAULT_ADDITIVE_INCREASE = 0.5;
+  public static final double DEFAULT_DECREASE_FACTOR = 0.5;
+
+  private static final AdaptiveRateLimiter SHARED = new AdaptiveRateLimiter(
+      DEFAULT_INITIAL_RATE, DEFAULT_MIN_RATE, DEFAULT_MAX_RATE, DEFAULT_ADDITIVE_INCREASE, DEFAULT_DECREASE_FACTOR,
+      System::nanoTime
+  );
+
+  private final double initialRate;
+  private final double minRate;
+  private final double maxRate;
+  private final double additiveIncrease;
+  private final double decreaseFactor;
+  private final LongSupplier nanoClock;
+  private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+  AdaptiveRateLimiter(
+      final double initialRate,
+      final double minRate,
+      final double maxRate,
+      final double additiveIncrease,
+      final double decreaseFactor,
+      final LongSupplier nanoClock
+  ) {
+    if (minRate <= 0 || minRate > initialRate || initialRate > maxRate) {
+      throw new IllegalArgumentException("Rates must satisfy 0 < min <= initial <= max");
+    }
+    if (decreaseFactor <= 0 || decreaseFactor >= 1) {
+      throw new IllegalArgumentException("Decrease factor must be between 0 and 1 exclusive");
+    }
+    this.initialRate = initialRate;
+    this.minRate = minRate;
+    this.maxRate = maxRate;
+    this.additiveIncrease = additiveIncrease;
+    this.decreaseFactor = decreaseFactor;
+    this.nanoClock = nanoClock;
+  }
+
+  public static AdaptiveRateLimiter shared() {
+    return SHARED;
+  }
+
+  /**
+   * Takes a token for the given account and API.
+   *
+   * @return how long the caller has to wait before making the call; zero if a token was immediately available.
+   */
+  public Duration acquire(final String accountId, final String apiName) {
+    return bucket(accountId, apiName).reserve(nanoClock.getAsLong());
+  }
+
+  /**
+   * Takes a token for the given account and API only when one is available right away, for calls that are not worth
+   * waiting for, such as hedges.
+   *
+   * @return whether a token was taken.
+   */
+  public boolean tryAcquire(final String accountId, final String apiName) {
+    return bucket(accountId, apiName).tryReserve(nanoClock.getAsLong());
+  }
+
+  public void onSuccess(final String accountId, final String apiName) {
+    bucket(accountId, apiName).increase();
+  }
+
+  public void onThrottle(final String accountId, final String apiName) {
+    bucket(accountId, apiName).decrease();
+  }
+
+  /**
+   * Records a call that was given up on because it stayed throttled and there was no time left to retry it.
+   */
+  public void onRejected(final String accountId, final String apiName) {
+    bucket(accountId, apiName).reject();
+  }
+
+  public Snapshot snapshot(final String accountId, final String apiName) {
+    return bucket(accountId, apiName).snapshot();
+  }
+
+  private TokenBucket bucket(final String accountId, final String apiName) {
+    return buckets.computeIfAbsent(accountId + '/' + apiName, ignored -> new TokenBucket(nanoClock.getAsLong()));
+  }
+
+  public record Snapshot(double ratePerSecond, long throttledCalls, long rejectedCalls) {
+  }
+
+  private final class TokenBucket {
+    private double rate = initialRate;
+    private double tokens = 1.0;
+    private long lastRefillNanos;
+    private long throttledCalls;
+    private long rejectedCalls;
+
+    private TokenBucket(final long nowNanos) {
+      this.lastRefillNanos = nowNanos;
+    }
+
+    synchronized Duration reserve(final long nowNanos) {
+      refill(nowNanos);
+      tokens -= 1.0;
+      if (tokens >= 0) {
+        return Duration.ZERO;
+      }
+      // The token is borrowed from the future; the caller sleeps until the bucket would have refilled it.
+      return Duration.ofNanos((long) Math.ceil(-tokens / rate * 1_000_000_000L));
+    }
+
+    synchronized boolean tryReserve(final long nowNanos) {
+      refill(nowNanos);
+      if (tokens < 1.0) {
+        return false;
+      }
+      tokens -= 1.0;
+      return true;
+    }
+
+    synchronized void increase() {
+      rate = Math.min(maxRate, rate + additiveIncrease);
+    }
+
+    synchronized void decrease() {
+      throttledCalls++;
+      rate = Math.max(minRate, rate * decreaseFactor);
+    }
+
+    synchronized void reject() {
+      rejectedCalls++;
+    }
+
+    synchronized Snapshot snapshot() {
+      return new Snapshot(rate, throttledCalls, rejectedCalls);
+    }
+
+    private void refill(final long nowNanos) {
+      double elapsedSeconds = Math.max(0L, nowNanos - lastRefillNanos) / 1_000_000_000.0;
+      // Burst capacity is one second worth of calls at the current rate.
+      tokens = Math.min(Math.max(1.0, rate), tokens + elapsedSeconds * rate);
+      lastRefillNanos = nowNanos;
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package software.amazon.qbusiness.common.client;
+
+/**
+ * Token bucket refilled by traffic rather than time: every read call adds {@code ratio} of a token and every hedge
+ * spends one, so hedges never exceed {@code ratio} of the calls plus the saved up burst. A slow control plane slows
+ * every call at once, and a time based budget would then double the load exactly when the service is struggling.
+ */
+final class HedgeBudget {
+  private final double ratio;
+  private final double maxTokens;
+  private double tokens;
+  private long requests;
+  private long hedges;
+
+  HedgeBudget(final double ratio, final int maxBurst) {
+    this.ratio = ratio;
+    this.maxTokens = Math.max(1.0, maxBurst);
+  }
+
+  synchronized void onRequest() {
+    requests++;
+    tokens = Math.min(maxTokens, tokens + ratio);
+  }
+
+  synchronized boolean tryAcquire() {
+    if (tokens < 1.0) {
+      return false;
+    }
+    tokens -= 1.0;
+    hedges++;
+    return true;
+  }
+
+  synchronized long requests() {
+    return requests;
+  }
+
+  synchronized long hedges() {
+    return hedges;
+  }
+}
@@ -0,0 +1,233 @@
+package software.amazon.qbusiness.common.client;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.qbusiness.common.metrics.EmbeddedMetrics;
+
+/**
+ * {@link ProxyClient} decorator that hedges slow reads: when a Get or List call has not answered by the observed
+ * latency percentile of its API, a duplicate is sent and whichever response arrives first is used.
+ * <p>
+ * Reads are the only calls that are safe to send twice. Hedges are capped by a {@link HedgeBudget}, so they never add
+ * more than the configured share of read traffic, and an API is not hedged until enough of its latencies are on record
+ * to know what slow means for it.
+ * <p>
+ * This client sits underneath the {@link ThrottlingAwareProxyClient}, which paces and retries the call as a whole, so
+ * a hedge also takes its own token from the {@link AdaptiveRateLimiter}. It is only sent when a token is available
+ * right away, since a hedge that has to wait is no longer worth sending, and its outcome feeds the limiter like any
+ * other call.
+ */
+public final class HedgedProxyClient<ClientT> implements ProxyClient<ClientT> {
+  private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+    final Thread thread = new Thread(runnable, "qbusiness-hedged-call");
+    thread.setDaemon(true);
+    return thread;
+  });
+  private static final ConcurrentMap<HedgingPolicy, HedgeBudget> SHARED_BUDGETS = new ConcurrentHashMap<>();
+
+  private final ProxyClient<ClientT> delegate;
+  private final HedgingPolicy policy;
+  private final LatencyTracker latencies;
+  private final HedgeBudget budget;
+  private final AdaptiveRateLimiter limiter;
+  private final String accountId;
+  private final Logger logger;
+
+  HedgedProxyClient(
+      final ProxyClient<ClientT> delegate,
+      final HedgingPolicy policy,
+      final LatencyTracker latencies,
+      final HedgeBudget budget,
+      final AdaptiveRateLimiter limiter,
+      final String accountId,
+      final Logger logger
+  ) {
+    this.delegate = delegate;
+    this.policy = policy;
+    this.latencies = latencies;
+    this.budget = budget;
+    this.limiter = limiter;
+    this.accountId = accountId;
+    this.logger = logger;
+  }
+
+  /**
+   * @return {@code delegate} itself when the policy is disabled, otherwise a hedging decorator that shares its latency
+   * record and budget with every other client of the container using the same policy.
+   */
+  public static <ClientT> ProxyClient<ClientT> wrap(
+      final ProxyClient<ClientT> delegate,
+      final HedgingPolicy policy,
+      final AdaptiveRateLimiter limiter,
+      final String accountId,
+      final Logger logger
+  ) {
+    if (!policy.enabled()) {
+      return delegate;
+    }
+    final HedgeBudget budget = SHARED_BUDGETS.computeIfAbsent(policy, p -> new HedgeBudget(p.budgetRatio(), p.maxBurst()));
+    return new HedgedProxyClient<>(delegate, policy, LatencyTracker.shared(), budget, limiter, accountId, logger);
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+      final RequestT request,
+      final Function<RequestT, ResponseT> requestFunction
+  ) {
+    final String apiName = ThrottlingAwareProxyClient.apiName(request);
+    if (!RetryClassifier.isRead(apiName)) {
+      return delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+    }
+
+    budget.onRequest();
+    final long startNanos = System.nanoTime();
+    final Duration hedgeDelay = latencies.percentile(apiName, policy.percentile(), policy.minSamples())
+        .map(observed -> observed.compareTo(policy.minDelay()) > 0 ? observed : policy.minDelay())
+        .orElse(null);
+    if (hedgeDelay == null) {
+      final ResponseT response = delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+      latencies.record(apiName, Duration.ofNanos(System.nanoTime() - startNanos));
+      return response;
+    }
+
+    final CompletionService<ResponseT> calls = new ExecutorCompletionService<>(EXECUTOR);
+    final Future<ResponseT> primary = calls.submit(() -> delegate.injectCredentialsAndInvokeV2(request, requestFunction));
+    Future<ResponseT> hedge = null;
+    try {
+      Future<ResponseT> first = calls.poll(hedgeDelay.toNanos(), TimeUnit.NANOSECONDS);
+      if (first == null && budget.tryAcquire()) {
+        if (limiter.tryAcquire(accountId, apiName)) {
+          logger.log("[INFO] %s has not answered within %s ms, sending a hedged request".formatted(apiName, hedgeDelay.toMillis()));
+          hedge = calls.submit(() -> paced(request, apiName, requestFunction));
+        } else {
+          logger.log("[INFO] %s has not answered within %s ms, but the rate limit leaves no room for a hedged request"
+              .formatted(apiName, hedgeDelay.toMillis()));
+        }
+      }
+      if (first == null) {
+        first = calls.take();
+      }
+
+      ResponseT response;
+      try {
+        response = first.get();
+      } catch (ExecutionException e) {
+        if (hedge == null) {
+          throw e;
+        }
+        // One of the two failed; the other one may still answer, and its error is as good as this one otherwise.
+        first = calls.take();
+        response = first.get();
+      }
+      latencies.record(apiName, Duration.ofNanos(System.nanoTime() - startNanos));
+      if (hedge != null) {
+        publish(apiName, first == hedge);
+      }
+      return response;
+    } catch (ExecutionException e) {
+      throw rethrow(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw SdkClientException.create("Interrupted while waiting for %s".formatted(apiName), e);
+    } finally {
+      primary.cancel(true);
+      if (hedge != null) {
+        hedge.cancel(true);
+      }
+    }
+  }
+
+  /**
+   * Sends a hedge, reporting its outcome to the limiter the way {@link ThrottlingAwareProxyClient} does for the call.
+   */
+  private <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT paced(
+      final RequestT request,
+      final String apiName,
+      final Function<RequestT, ResponseT> requestFunction
+  ) {
+    try {
+      final ResponseT response = delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+      limiter.onSuccess(accountId, apiName);
+      return response;
+    } catch (SdkException e) {
+      if (RetryClassifier.classify(request, apiName, e) == RetryClassifier.Retry.THROTTLED) {
+        limiter.onThrottle(accountId, apiName);
+      }
+      throw e;
+    }
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+      final RequestT request,
+      final Function<RequestT, CompletableFuture<ResponseT>> requestFunction
+  ) {
+    return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT
+      injectCredentialsAndInvokeIterableV2(final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+    return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+      injectCredentialsAndInvokeV2InputStream(
+      final RequestT request,
+      final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction
+  ) {
+    return delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+      final RequestT request,
+      final Function<RequestT, ResponseBytes<ResponseT>> requestFunction
+  ) {
+    return delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+  }
+
+  @Override
+  public ClientT client() {
+    return delegate.client();
+  }
+
+  private static RuntimeException rethrow(final Throwable cause) {
+    if (cause instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    if (cause instanceof Error error) {
+      throw error;
+    }
+    return SdkClientException.create(cause.getMessage(), cause);
+  }
+
+  private void publish(final String apiName, final boolean hedgeWon) {
+    EmbeddedMetrics.record()
+        .dimension("ApiName", apiName)
+        .metric("HedgedCalls", 1, EmbeddedMetrics.Unit.COUNT)
+        .metric("HedgeWins", hedgeWon ? 1 : 0, EmbeddedMetrics.Unit.COUNT)
+        .emit(logger);
+  }
+}
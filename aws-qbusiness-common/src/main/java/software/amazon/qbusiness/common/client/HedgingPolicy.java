@@ -0,0 +1,57 @@
+package software.amazon.qbusiness.common.client;
+
+import java.time.Duration;
+
+import software.amazon.qbusiness.common.SharedConstants;
+
+/**
+ * Settings of {@link HedgedProxyClient}.
+ *
+ * @param percentile  observed latency percentile of an API after which a read is hedged, such as {@code 0.95}.
+ * @param budgetRatio share of read calls that may be hedged, such as {@code 0.05} for at most one hedge per 20 calls.
+ * @param maxBurst    hedges that may be saved up while latency is healthy and spent at once when it is not.
+ * @param minSamples  latencies an API needs on record before its percentile is trusted; calls are not hedged before.
+ * @param minDelay    lower bound of the hedge delay, so a fast API is not hedged on scheduling noise.
+ */
+public record HedgingPolicy(double percentile, double budgetRatio, int maxBurst, int minSamples, Duration minDelay) {
+  public static final double DEFAULT_PERCENTILE = 0.95;
+  public static final int DEFAULT_MAX_BURST = 5;
+  public static final int DEFAULT_MIN_SAMPLES = 20;
+  public static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(50);
+
+  public static final HedgingPolicy DISABLED = new HedgingPolicy(DEFAULT_PERCENTILE, 0.0, 0, DEFAULT_MIN_SAMPLES, DEFAULT_MIN_DELAY);
+
+  public HedgingPolicy {
+    if (percentile <= 0 || percentile >= 1) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 1 exclusive");
+    }
+    if (budgetRatio < 0 || budgetRatio > 1) {
+      throw new IllegalArgumentException("Budget ratio must be between 0 and 1");
+    }
+  }
+
+  public static HedgingPolicy ofBudgetPercent(final double budgetPercent) {
+    return new HedgingPolicy(DEFAULT_PERCENTILE, budgetPercent / 100.0, DEFAULT_MAX_BURST, DEFAULT_MIN_SAMPLES, DEFAULT_MIN_DELAY);
+  }
+
+  /**
+   * Hedging is opt-in: it is enabled by setting {@link SharedConstants#ENV_HEDGE_BUDGET_PERCENT} to the percentage of
+   * read calls that may be hedged.
+   */
+  public static HedgingPolicy fromEnvironment() {
+    final String budgetPercent = System.getenv(SharedConstants.ENV_HEDGE_BUDGET_PERCENT);
+    if (budgetPercent == null || budgetPercent.isBlank()) {
+      return DISABLED;
+    }
+    try {
+      final double percent = Double.parseDouble(budgetPercent.trim());
+      return percent > 0 && percent <= 100 ? ofBudgetPercent(percent) : DISABLED;
+    } catch (NumberFormatException e) {
+      return DISABLED;
+    }
+  }
+
+  public boolean enabled() {
+    return budgetRatio > 0;
+  }
+}
@@ -0,0 +1,67 @@
+package software.amazon.qbusiness.common.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Latencies of the most recent calls of each API, kept for the lifetime of the handler container so warm invocations
+ * hedge on what earlier ones observed.
+ */
+final class LatencyTracker {
+  static final int DEFAULT_WINDOW = 128;
+
+  private static final LatencyTracker SHARED = new LatencyTracker(DEFAULT_WINDOW);
+
+  private final int window;
+  private final ConcurrentMap<String, Window> windows = new ConcurrentHashMap<>();
+
+  LatencyTracker(final int window) {
+    this.window = window;
+  }
+
+  static LatencyTracker shared() {
+    return SHARED;
+  }
+
+  void record(final String apiName, final Duration latency) {
+    windows.computeIfAbsent(apiName, ignored -> new Window(window)).add(latency.toNanos());
+  }
+
+  /**
+   * @return the latency below which {@code percentile} of the recorded calls completed, or empty while fewer than
+   * {@code minSamples} calls are on record.
+   */
+  Optional<Duration> percentile(final String apiName, final double percentile, final int minSamples) {
+    final Window calls = windows.get(apiName);
+    return calls == null ? Optional.empty() : calls.percentile(percentile, minSamples).map(Duration::ofNanos);
+  }
+
+  private static final class Window {
+    private final long[] nanos;
+    private int next;
+    private int size;
+
+    private Window(final int capacity) {
+      this.nanos = new long[capacity];
+    }
+
+    synchronized void add(final long latencyNanos) {
+      nanos[next] = latencyNanos;
+      next = (next + 1) % nanos.length;
+      size = Math.min(size + 1, nanos.length);
+    }
+
+    synchronized Optional<Long> percentile(final double percentile, final int minSamples) {
+      if (size == 0 || size < minSamples) {
+        return Optional.empty();
+      }
+      final long[] sorted = Arrays.copyOf(nanos, size);
+      Arrays.sort(sorted);
+      final int rank = (int) Math.ceil(percentile * size) - 1;
+      return Optional.of(sorted[Math.max(0, Math.min(rank, size - 1))]);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package software.amazon.qbusiness.common.client;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
+import software.amazon.awssdk.services.qbusiness.model.ThrottlingException;
+
+/**
+ * Decides whether a failed call may be retried in-process, and why.
+ * <p>
+ * Throttling is always retryable since the request was not processed. Transient failures, an
+ * {@link InternalServerException}, any other 5xx, or an I/O error on the way to the service, may have been processed
+ * before failing, so they are only retried for requests that are safe to repeat: reads, and creates that carry a
+ * {@code clientToken} the service deduplicates on.
+ */
+final class RetryClassifier {
+  static final String CLIENT_TOKEN_FIELD = "clientToken";
+
+  private static final String[] READ_API_PREFIXES = {"Get", "List"};
+
+  enum Retry {
+    THROTTLED,
+    TRANSIENT,
+    NONE
+  }
+
+  private RetryClassifier() {
+  }
+
+  static Retry classify(final AwsRequest request, final String apiName, final SdkException error) {
+    if (error instanceof SdkServiceException serviceError && isThrottling(serviceError)) {
+      return Retry.THROTTLED;
+    }
+    return isTransient(error) && isIdempotent(request, apiName) ? Retry.TRANSIENT : Retry.NONE;
+  }
+
+  static boolean isThrottling(final SdkServiceException e) {
+    return e instanceof ThrottlingException || e.isThrottlingException();
+  }
+
+  static boolean isTransient(final SdkException e) {
+    if (e instanceof InternalServerException) {
+      return true;
+    }
+    if (e instanceof SdkServiceException serviceError) {
+      return serviceError.statusCode() >= 500;
+    }
+    return e instanceof SdkClientException && causedByIo(e);
+  }
+
+  static boolean isIdempotent(final AwsRequest request, final String apiName) {
+    return isRead(apiName) || request.getValueForField(CLIENT_TOKEN_FIELD, String.class).isPresent();
+  }
+
+  static boolean isRead(final String apiName) {
+    for (String prefix : READ_API_PREFIXES) {
+      if (apiName.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean causedByIo(final Throwable error) {
+    for (Throwable cause = error.getCause(); cause != null; cause = cause.getCause()) {
+      if (cause instanceof IOException || cause instanceof UncheckedIOException) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,227 @@
+package software.amazon.qbusiness.common.client;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.retry.AwsRetryStrategy;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.qbusiness.common.Sleeper;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.metrics.EmbeddedMetrics;
+
+/**
+ * {@link ProxyClient} decorator that paces synchronous calls through the {@link AdaptiveRateLimiter} and retries
+ * throttled calls for as long as the invocation {@link TimeBudget} allows.
+ * <p>
+ * A throttled call is only surfaced to the handler, and from there to CloudFormation as a throttling failure, once
+ * there is no longer enough time left in the invocation to back off and try again.
+ * <p>
+ * Transient failures of calls that are safe to repeat, see {@link RetryClassifier}, are retried up to
+ * {@link #MAX_TRANSIENT_RETRIES} times within the same budget, so a single 5xx does not fail the resource and roll
+ * back the stack.
+ * <p>
+ * This is the only retry layer: clients wrapped by this class are built with {@link #CLIENT_OVERRIDE_CONFIGURATION},
+ * which turns off the SDK's own retries so attempts do not multiply and every attempt is paced by the limiter.
+ * <p>
+ * Reads are additionally hedged by a {@link HedgedProxyClient} underneath when {@link HedgingPolicy#fromEnvironment()}
+ * enables it. A call and its hedge are retried together, as one attempt; the hedge takes its own token from the same
+ * limiter and is skipped when none is available.
+ */
+public final class ThrottlingAwareProxyClient<ClientT> implements ProxyClient<ClientT> {
+  static final Duration BASE_BACKOFF = Duration.ofMillis(200);
+  static final Duration MAX_BACKOFF = Duration.ofSeconds(5);
+  static final Duration BUDGET_RESERVE = Duration.ofSeconds(5);
+  static final int MAX_TRANSIENT_RETRIES = 3;
+
+  /**
+   * Override configuration for the SDK clients this class wraps.
+   */
+  public static final ClientOverrideConfiguration CLIENT_OVERRIDE_CONFIGURATION = ClientOverrideConfiguration.builder()
+      .retryStrategy(AwsRetryStrategy.doNotRetry())
+      .build();
+
+  private static final String REQUEST_SUFFIX = "Request";
+  private static final ClassValue<String> API_NAMES = new ClassValue<>() {
+    @Override
+    protected String computeValue(final Class<?> type) {
+      String name = type.getSimpleName();
+      return name.endsWith(REQUEST_SUFFIX) ? name.substring(0, name.length() - REQUEST_SUFFIX.length()) : name;
+    }
+  };
+
+  private final ProxyClient<ClientT> delegate;
+  private final AdaptiveRateLimiter limiter;
+  private final String accountId;
+  private final TimeBudget budget;
+  private final Sleeper sleeper;
+  private final Logger logger;
+
+  ThrottlingAwareProxyClient(
+      final ProxyClient<ClientT> delegate,
+      final AdaptiveRateLimiter limiter,
+      final String accountId,
+      final TimeBudget budget,
+      final Sleeper sleeper,
+      final Logger logger
+  ) {
+    this.delegate = delegate;
+    this.limiter = limiter;
+    this.accountId = accountId;
+    this.budget = budget;
+    this.sleeper = sleeper;
+    this.logger = logger;
+  }
+
+  public static <ClientT> ProxyClient<ClientT> wrap(
+      final ProxyClient<ClientT> delegate,
+      final String accountId,
+      final TimeBudget budget,
+      final Logger logger
+  ) {
+    final AdaptiveRateLimiter limiter = AdaptiveRateLimiter.shared();
+    return new ThrottlingAwareProxyClient<>(
+        HedgedProxyClient.wrap(delegate, HedgingPolicy.fromEnvironment(), limiter, accountId, logger),
+        limiter, accountId, budget, Sleeper.THREAD_SLEEP, logger
+    );
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+      final RequestT request,
+      final Function<RequestT, ResponseT> requestFunction
+  ) {
+    final String apiName = apiName(request);
+    int attempt = 0;
+    int transientRetries = 0;
+    while (true) {
+      pause(limiter.acquire(accountId, apiName));
+      try {
+        ResponseT response = delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+        limiter.onSuccess(accountId, apiName);
+        return response;
+      } catch (SdkException e) {
+        RetryClassifier.Retry retry = RetryClassifier.classify(request, apiName, e);
+        if (retry == RetryClassifier.Retry.NONE) {
+          throw e;
+        }
+
+        if (retry == RetryClassifier.Retry.TRANSIENT) {
+          transientRetries++;
+          Duration backoff = backoff(transientRetries);
+          if (transientRetries > MAX_TRANSIENT_RETRIES || !budget.canAfford(backoff, BUDGET_RESERVE)) {
+            logger.log("[WARN] %s kept failing after %d transient retries, giving up with %s ms of the time budget left"
+                .formatted(apiName, transientRetries - 1, budget.remaining().toMillis()));
+            throw e;
+          }
+
+          logger.log("[INFO] %s failed transiently (%s), retrying attempt %d in %s ms"
+              .formatted(apiName, e.getClass().getSimpleName(), transientRetries + 1, backoff.toMillis()));
+          publishTransientRetry(apiName);
+          pause(backoff);
+          continue;
+        }
+
+        limiter.onThrottle(accountId, apiName);
+        attempt++;
+        Duration backoff = backoff(attempt);
+        if (!budget.canAfford(backoff, BUDGET_RESERVE)) {
+          limiter.onRejected(accountId, apiName);
+          logger.log("[WARN] %s stayed throttled after %d attempts and the remaining time budget of %s ms is exhausted"
+              .formatted(apiName, attempt, budget.remaining().toMillis()));
+          publish(apiName);
+          throw e;
+        }
+
+        logger.log("[INFO] %s was throttled, retrying attempt %d in %s ms".formatted(apiName, attempt + 1, backoff.toMillis()));
+        publish(apiName);
+        pause(backoff);
+      }
+    }
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT> injectCredentialsAndInvokeV2Async(
+      final RequestT request,
+      final Function<RequestT, CompletableFuture<ResponseT>> requestFunction
+  ) {
+    return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>> IterableT
+      injectCredentialsAndInvokeIterableV2(final RequestT request, final Function<RequestT, IterableT> requestFunction) {
+    return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+      injectCredentialsAndInvokeV2InputStream(
+      final RequestT request,
+      final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction
+  ) {
+    return delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT> injectCredentialsAndInvokeV2Bytes(
+      final RequestT request,
+      final Function<RequestT, ResponseBytes<ResponseT>> requestFunction
+  ) {
+    return delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+  }
+
+  @Override
+  public ClientT client() {
+    return delegate.client();
+  }
+
+  static String apiName(final AwsRequest request) {
+    return API_NAMES.get(request.getClass());
+  }
+
+  /**
+   * Exponential backoff with full jitter, so concurrent handlers that were throttled together do not retry together.
+   */
+  private static Duration backoff(final int attempt) {
+    long ceiling = Math.min(MAX_BACKOFF.toMillis(), BASE_BACKOFF.toMillis() << Math.min(attempt, 16));
+    return Duration.ofMillis(ThreadLocalRandom.current().nextLong(BASE_BACKOFF.toMillis(), ceiling + 1));
+  }
+
+  private void pause(final Duration duration) {
+    if (duration.isZero()) {
+      return;
+    }
+    try {
+      sleeper.sleep(duration.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void publish(final String apiName) {
+    AdaptiveRateLimiter.Snapshot snapshot = limiter.snapshot(accountId, apiName);
+    EmbeddedMetrics.record()
+        .dimension("ApiName", apiName)
+        .metric("CurrentRate", snapshot.ratePerSecond(), EmbeddedMetrics.Unit.COUNT_PER_SECOND)
+        .metric("ThrottledCalls", snapshot.throttledCalls(), EmbeddedMetrics.Unit.COUNT)
+        .metric("RejectedCalls", snapshot.rejectedCalls(), EmbeddedMetrics.Unit.COUNT)
+        .emit(logger);
+  }
+
+  private void publishTransientRetry(final String apiName) {
+    EmbeddedMetrics.record()
+        .dimension("ApiName", apiName)
+        .metric("TransientRetries", 1, EmbeddedMetrics.Unit.COUNT)
+        .emit(logger);
+  }
+}
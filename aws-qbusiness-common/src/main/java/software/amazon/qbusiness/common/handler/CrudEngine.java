@@ -0,0 +1,318 @@
+package software.amazon.qbusiness.common.handler;
+
+import static software.amazon.qbusiness.common.ErrorUtils.handleError;
+import static software.amazon.qbusiness.common.SharedConstants.API_LIST_TAGS;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.qbusiness.common.TagUtils;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.logging.HandlerLogger;
+import software.amazon.qbusiness.common.logging.HandlerLogger.Level;
+import software.amazon.qbusiness.common.stabilization.DeadlineAwareStabilizer;
+import software.amazon.qbusiness.common.stabilization.GetResponseAware;
+import software.amazon.qbusiness.common.stabilization.MutationGate;
+import software.amazon.qbusiness.common.stabilization.ParentReadinessGate;
+import software.amazon.qbusiness.common.stabilization.StabilizationAware;
+
+/**
+ * Shared implementation of the create/read/update/delete building blocks every QBusiness handler repeats, driven by a
+ * {@link ResourceDescriptor}: proxied service calls with the common error mapping, status based stabilization, the
+ * Get then ListTags read chain and tag updates.
+ */
+public class CrudEngine<ModelT, CtxT extends StdCallbackContext & StabilizationAware, GetResponseT extends AwsResponse> {
+  private final ResourceDescriptor<ModelT, GetResponseT> descriptor;
+
+  public CrudEngine(final ResourceDescriptor<ModelT, GetResponseT> descriptor) {
+    this.descriptor = descriptor;
+  }
+
+  public ResourceDescriptor<ModelT, GetResponseT> getDescriptor() {
+    return descriptor;
+  }
+
+  public ProgressEvent<ModelT, CtxT> create(
+      final AmazonWebServicesClientProxy proxy,
+      final ResourceHandlerRequest<ModelT> request,
+      final ProgressEvent<ModelT, CtxT> progress,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final Logger logger) {
+    return call("Create", required(descriptor.getCreate(), "create"), proxy, request, progress, proxyClient, logger);
+  }
+
+  public ProgressEvent<ModelT, CtxT> update(
+      final AmazonWebServicesClientProxy proxy,
+      final ResourceHandlerRequest<ModelT> request,
+      final ProgressEvent<ModelT, CtxT> progress,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final Logger logger) {
+    return call("Update", required(descriptor.getUpdate(), "update"), proxy, request, progress, proxyClient, logger);
+  }
+
+  /**
+   * Makes one proxied call. The call graph name is {@code <prefix>::<action>}, so a call already made in an earlier
+   * invocation of the same handler is not repeated.
+   */
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ProgressEvent<ModelT, CtxT> call(
+      final String action,
+      final Operation<ModelT, RequestT, ResponseT> operation,
+      final AmazonWebServicesClientProxy proxy,
+      final ResourceHandlerRequest<ModelT> request,
+      final ProgressEvent<ModelT, CtxT> progress,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final Logger logger) {
+    return proxy.initiate(callGraph(action), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        .translateToServiceRequest(model -> operation.translate(request, model))
+        .makeServiceCall((serviceRequest, client) -> operation.invoke(serviceRequest, client, progress.getResourceModel()))
+        .handleError((serviceRequest, error, client, model, context) -> handleError(
+            model, descriptor.getPrimaryIdentifier().apply(model), error, context, logger, descriptor.getTypeName(), operation.apiName()
+        ))
+        .progress();
+  }
+
+  public GetResponseT get(final ModelT model, final ProxyClient<QBusinessClient> proxyClient) {
+    return invokeGet(descriptor.getGet(), model, proxyClient);
+  }
+
+  /**
+   * @return true once the resource reached a stable state, false while it is transitioning.
+   * @throws CfnNotStabilizedException if the resource reached a failed state.
+   */
+  public boolean isStabilized(final ModelT model, final ProxyClient<QBusinessClient> proxyClient, final HandlerLogger logger) {
+    return isStabilized(model, get(model, proxyClient), logger);
+  }
+
+  private boolean isStabilized(final ModelT model, final GetResponseT response, final HandlerLogger logger) {
+    final String status = descriptor.getStatusExtractor().apply(response);
+    final String identifier = descriptor.getPrimaryIdentifier().apply(model);
+
+    if (descriptor.getStableStates().contains(status)) {
+      logger.info("%s %s has stabilized with status %s", descriptor.getTypeName(), identifier, status);
+      return true;
+    }
+
+    if (!descriptor.getFailedStates().contains(status)) {
+      logger.event(Level.DEBUG, "Still stabilizing")
+          .field("type", descriptor.getTypeName())
+          .field("id", identifier)
+          .field("status", status)
+          .log();
+      return false;
+    }
+
+    final String reason = descriptor.getFailureReason().apply(response);
+    logger.error("%s %s failed to stabilize with status %s: %s", descriptor.getTypeName(), identifier, status, reason);
+    throw new CfnNotStabilizedException(
+        descriptor.getTypeName(), identifier, StringUtils.isNotBlank(reason) ? new RuntimeException(reason) : null
+    );
+  }
+
+  public ProgressEvent<ModelT, CtxT> stabilize(
+      final String stage,
+      final ProgressEvent<ModelT, CtxT> progress,
+      final DeadlineAwareStabilizer stabilizer,
+      final TimeBudget budget,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final String apiName,
+      final Logger logger) {
+    final HandlerLogger handlerLogger = HandlerLogger.wrap(logger);
+    return stabilizer.stabilize(callGraph(stage), progress, budget,
+        model -> {
+          final GetResponseT response = get(model, proxyClient);
+          final boolean stabilized = isStabilized(model, response, handlerLogger);
+          if (stabilized && progress.getCallbackContext() instanceof GetResponseAware aware) {
+            aware.getLastGetResponse().record(descriptor.getPrimaryIdentifier().apply(model), response);
+          }
+          return stabilized;
+        },
+        error -> failed(progress, error, apiName, logger),
+        logger
+    );
+  }
+
+  /**
+   * Waits, before an Update or Delete, until the resource is out of the descriptor's transitional states.
+   */
+  public ProgressEvent<ModelT, CtxT> awaitMutable(
+      final String stage,
+      final ProgressEvent<ModelT, CtxT> progress,
+      final MutationGate gate,
+      final TimeBudget budget,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final Logger logger) {
+    final MutationGate.Resource<ModelT> resource = new MutationGate.Resource<>(
+        descriptor.getTypeName(), descriptor.getPrimaryIdentifier(), descriptor.getGet().apiName(), descriptor.getTransitionalStates()
+    );
+    return gate.awaitMutable(callGraph(stage), progress, budget, resource,
+        model -> descriptor.getStatusExtractor().apply(get(model, proxyClient)), logger);
+  }
+
+  /**
+   * Holds a Create back until the application the resource belongs to is ready to accept it.
+   */
+  public ProgressEvent<ModelT, CtxT> awaitApplication(
+      final String stage,
+      final ProgressEvent<ModelT, CtxT> progress,
+      final ParentReadinessGate gate,
+      final TimeBudget budget,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final Function<ModelT, String> applicationId,
+      final Logger logger) {
+    return gate.awaitApplication(callGraph(stage), progress, budget, proxyClient, child(), applicationId, logger);
+  }
+
+  /**
+   * Holds a Create back until the index the resource belongs to is ready to accept it.
+   */
+  public ProgressEvent<ModelT, CtxT> awaitIndex(
+      final String stage,
+      final ProgressEvent<ModelT, CtxT> progress,
+      final ParentReadinessGate gate,
+      final TimeBudget budget,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final Function<ModelT, String> applicationId,
+      final Function<ModelT, String> indexId,
+      final Logger logger) {
+    return gate.awaitIndex(callGraph(stage), progress, budget, proxyClient, child(), applicationId, indexId, logger);
+  }
+
+  /**
+   * The read chain shared by every resource: {@link #readModel} then {@link #readTags}.
+   */
+  public ProgressEvent<ModelT, CtxT> read(
+      final AmazonWebServicesClientProxy proxy,
+      final ResourceHandlerRequest<ModelT> request,
+      final CtxT callbackContext,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final Logger logger) {
+    return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> readModel(proxy, progress, proxyClient, logger))
+        .then(progress -> readTags(proxy, request, progress, proxyClient, logger));
+  }
+
+  /**
+   * Gets the resource and translates it to a model. When the context still holds the Get response that just showed
+   * the resource as stable, that response is used instead of calling Get again.
+   */
+  public ProgressEvent<ModelT, CtxT> readModel(
+      final AmazonWebServicesClientProxy proxy,
+      final ProgressEvent<ModelT, CtxT> progress,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final Logger logger) {
+    return readModel(proxy, descriptor.getGet(), progress, proxyClient, logger);
+  }
+
+  /**
+   * Lists the tags of the resource and attaches them to the model, completing the read.
+   */
+  public ProgressEvent<ModelT, CtxT> readTags(
+      final AmazonWebServicesClientProxy proxy,
+      final ResourceHandlerRequest<ModelT> request,
+      final ProgressEvent<ModelT, CtxT> progress,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final Logger logger) {
+    return proxy.initiate(callGraph("ListTags"), proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+        .translateToServiceRequest(model -> descriptor.getToListTagsRequest().apply(request, model))
+        .makeServiceCall((listTagsRequest, client) ->
+            client.injectCredentialsAndInvokeV2(listTagsRequest, client.client()::listTagsForResource))
+        .handleError((listTagsRequest, error, client, model, context) -> handleError(
+            model, descriptor.getPrimaryIdentifier().apply(model), error, context, logger, descriptor.getTypeName(), API_LIST_TAGS
+        ))
+        .done(listTagsResponse -> ProgressEvent.defaultSuccessHandler(
+            descriptor.getWithTags().apply(listTagsResponse, progress.getResourceModel())
+        ));
+  }
+
+  /**
+   * The read chain without the proxy call graph, for reading listed resources off the handler thread: Get, translate
+   * to a model, then ListTags and attach the tags. Errors propagate to the caller.
+   */
+  public ModelT hydrate(final ResourceHandlerRequest<ModelT> request, final ModelT summary, final ProxyClient<QBusinessClient> proxyClient) {
+    final ModelT model = descriptor.getFromGetResponse().apply(get(summary, proxyClient));
+    final ListTagsForResourceRequest listTagsRequest = descriptor.getToListTagsRequest().apply(request, model);
+    final ListTagsForResourceResponse listTagsResponse =
+        proxyClient.injectCredentialsAndInvokeV2(listTagsRequest, proxyClient.client()::listTagsForResource);
+    return descriptor.getWithTags().apply(listTagsResponse, model);
+  }
+
+  public ProgressEvent<ModelT, CtxT> updateTags(
+      final ProgressEvent<ModelT, CtxT> progress,
+      final ResourceHandlerRequest<ModelT> request,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final Logger logger) {
+    final String arn = descriptor.getArnBuilder().apply(request, progress.getResourceModel());
+    return TagUtils.updateTags(descriptor.getTypeName(), progress, request, arn, proxyClient, logger);
+  }
+
+  private <RequestT extends AwsRequest> ProgressEvent<ModelT, CtxT> readModel(
+      final AmazonWebServicesClientProxy proxy,
+      final Operation<ModelT, RequestT, GetResponseT> get,
+      final ProgressEvent<ModelT, CtxT> progress,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final Logger logger) {
+    final CtxT context = progress.getCallbackContext();
+    return proxy.initiate(callGraph("Read"), proxyClient, progress.getResourceModel(), context)
+        .translateToServiceRequest(model -> get.translate(null, model))
+        .makeServiceCall((getRequest, client) -> lastGetResponse(context, progress.getResourceModel())
+            .orElseGet(() -> get.invoke(getRequest, client, progress.getResourceModel())))
+        .handleError((getRequest, error, client, model, ctx) -> handleError(
+            model, descriptor.getPrimaryIdentifier().apply(model), error, ctx, logger, descriptor.getTypeName(), get.apiName()
+        ))
+        .done(response -> ProgressEvent.progress(descriptor.getFromGetResponse().apply(response), context));
+  }
+
+  private Optional<GetResponseT> lastGetResponse(final CtxT context, final ModelT model) {
+    if (descriptor.getResponseType() == null || !(context instanceof GetResponseAware aware)) {
+      return Optional.empty();
+    }
+    return aware.getLastGetResponse().take(descriptor.getPrimaryIdentifier().apply(model), descriptor.getResponseType());
+  }
+
+  private <RequestT extends AwsRequest> GetResponseT invokeGet(
+      final Operation<ModelT, RequestT, GetResponseT> get,
+      final ModelT model,
+      final ProxyClient<QBusinessClient> proxyClient) {
+    return get.invoke(get.translate(null, model), proxyClient, model);
+  }
+
+  private ProgressEvent<ModelT, CtxT> failed(
+      final ProgressEvent<ModelT, CtxT> progress,
+      final Exception error,
+      final String apiName,
+      final Logger logger) {
+    final ModelT model = progress.getResourceModel();
+    return handleError(
+        model, descriptor.getPrimaryIdentifier().apply(model), error, progress.getCallbackContext(), logger, descriptor.getTypeName(), apiName
+    );
+  }
+
+  private ParentReadinessGate.Child<ModelT> child() {
+    return new ParentReadinessGate.Child<>(descriptor.getTypeName(), descriptor.getPrimaryIdentifier());
+  }
+
+  private String callGraph(final String action) {
+    return descriptor.getCallGraphPrefix() + "::" + action;
+  }
+
+  private static <T> T required(final T operation, final String name) {
+    if (operation == null) {
+      throw new IllegalStateException("Resource descriptor does not define a %s operation".formatted(name));
+    }
+    return operation;
+  }
+}
@@ -0,0 +1,203 @@
+package software.amazon.qbusiness.common.handler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.qbusiness.common.SharedConstants;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.metrics.EmbeddedMetrics;
+
+/**
+ * Turns the summary models of one List page into complete models, by reading every item with its Get and ListTags
+ * calls on a bounded number of threads.
+ * <p>
+ * List APIs only return summaries, so discovery and import tooling otherwise follows up with one Read per item. The
+ * hydrator stops waiting once the invocation budget is down to its reserve: items that are not complete by then are
+ * returned as their summaries, so the page is never lost. Items deleted since the List are dropped. Given a
+ * {@link SummaryDriftCache}, items whose summary is unchanged since an earlier invocation read them are not read again.
+ */
+public class ListHydrator {
+  public static final int MAX_PARALLELISM = 16;
+  public static final Duration DEFAULT_RESERVE = Duration.ofSeconds(10);
+  /** Calls a read of one item takes: its Get and its ListTagsForResource. */
+  static final int CALLS_PER_ITEM = 2;
+
+  public static final ListHydrator DISABLED = new ListHydrator(0, DEFAULT_RESERVE);
+
+  private final int parallelism;
+  private final Duration reserve;
+
+  public ListHydrator(final int parallelism) {
+    this(parallelism, DEFAULT_RESERVE);
+  }
+
+  ListHydrator(final int parallelism, final Duration reserve) {
+    this.parallelism = Math.min(Math.max(parallelism, 0), MAX_PARALLELISM);
+    this.reserve = reserve;
+  }
+
+  /**
+   * Hydration is opt-in: it is enabled by setting {@link SharedConstants#ENV_LIST_HYDRATION_PARALLELISM} to the number
+   * of items to read at once, capped at {@link #MAX_PARALLELISM}.
+   */
+  public static ListHydrator fromEnvironment() {
+    final String parallelism = System.getenv(SharedConstants.ENV_LIST_HYDRATION_PARALLELISM);
+    if (parallelism == null || parallelism.isBlank()) {
+      return DISABLED;
+    }
+    try {
+      return new ListHydrator(Integer.parseInt(parallelism.trim()));
+    } catch (NumberFormatException e) {
+      return DISABLED;
+    }
+  }
+
+  public boolean enabled() {
+    return parallelism > 0;
+  }
+
+  /**
+   * @param typeName  CloudFormation type of the listed resources, used in logs and metrics.
+   * @param summaries the models of one List page, in page order.
+   * @param hydrate   reads the complete model of a summary. It runs on a worker thread, so it must not touch the
+   *                  callback context.
+   * @return the complete models in page order, with a summary in place of every item that could not be read in time
+   * or failed to read, and without the items that no longer exist. {@code summaries} as is when hydration is disabled.
+   */
+  public <ModelT> List<ModelT> hydrate(
+      final String typeName,
+      final List<ModelT> summaries,
+      final UnaryOperator<ModelT> hydrate,
+      final TimeBudget budget,
+      final Logger logger
+  ) {
+    return hydrate(typeName, summaries, hydrate, null, null, budget, logger);
+  }
+
+  /**
+   * Same as {@link #hydrate(String, List, UnaryOperator, TimeBudget, Logger)}, except that items whose summary has not
+   * changed since they were last read are answered from {@code driftCache} instead of being read again.
+   *
+   * @param driftCache the reads of earlier invocations, or null to read every item.
+   * @param scope      the account and region of the request, see {@link SummaryDriftCache#lookup(String, Object)}.
+   */
+  public <ModelT> List<ModelT> hydrate(
+      final String typeName,
+      final List<ModelT> summaries,
+      final UnaryOperator<ModelT> hydrate,
+      final SummaryDriftCache<ModelT> driftCache,
+      final String scope,
+      final TimeBudget budget,
+      final Logger logger
+  ) {
+    if (!enabled() || summaries.isEmpty()) {
+      return summaries;
+    }
+
+    final List<ModelT> models = new ArrayList<>(summaries);
+    final List<Integer> toRead = new ArrayList<>(summaries.size());
+    for (int i = 0; i < summaries.size(); i++) {
+      final Optional<ModelT> cached = driftCache == null ? Optional.empty() : driftCache.lookup(scope, summaries.get(i));
+      if (cached.isPresent()) {
+        models.set(i, cached.get());
+      } else {
+        toRead.add(i);
+      }
+    }
+    final int reused = summaries.size() - toRead.size();
+    if (reused > 0) {
+      logger.log("[INFO] Reused the last read of %d of %d listed %s items whose summary is unchanged, saving %d calls"
+          .formatted(reused, summaries.size(), typeName, reused * CALLS_PER_ITEM));
+    }
+    if (toRead.isEmpty()) {
+      publish(typeName, 0, 0, reused, logger);
+      return models;
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, toRead.size()), runnable -> {
+      final Thread thread = new Thread(runnable, "qbusiness-list-hydration");
+      thread.setDaemon(true);
+      return thread;
+    });
+    final CompletionService<Hydrated<ModelT>> completion = new ExecutorCompletionService<>(executor);
+    for (final int index : toRead) {
+      completion.submit(() -> {
+        try {
+          return new Hydrated<>(index, hydrate.apply(summaries.get(index)), null);
+        } catch (RuntimeException e) {
+          return new Hydrated<>(index, null, e);
+        }
+      });
+    }
+
+    final boolean[] gone = new boolean[summaries.size()];
+    int hydrated = 0;
+    int notHydrated = 0;
+    try {
+      for (int pending = toRead.size(); pending > 0; pending--) {
+        final Duration wait = budget.remaining().minus(reserve);
+        final Future<Hydrated<ModelT>> next = wait.isNegative() ? null : completion.poll(wait.toMillis(), TimeUnit.MILLISECONDS);
+        if (next == null) {
+          notHydrated += pending;
+          logger.log("[WARN] %d of %d listed %s items were not read before the invocation deadline and are returned as summaries"
+              .formatted(pending, summaries.size(), typeName));
+          break;
+        }
+        final Hydrated<ModelT> result = next.get();
+        if (result.error() == null) {
+          models.set(result.index(), result.model());
+          if (driftCache != null) {
+            driftCache.remember(scope, summaries.get(result.index()), result.model());
+          }
+          hydrated++;
+        } else if (result.error() instanceof ResourceNotFoundException) {
+          gone[result.index()] = true;
+        } else {
+          notHydrated++;
+          logger.log("[WARN] Failed to read a listed %s item, returning its summary: %s".formatted(typeName, result.error()));
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ExecutionException e) {
+      // Tasks catch their own failures; only an Error thrown by one ends up here.
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    publish(typeName, hydrated, notHydrated, reused, logger);
+    final List<ModelT> result = new ArrayList<>(models.size());
+    for (int i = 0; i < models.size(); i++) {
+      if (!gone[i]) {
+        result.add(models.get(i));
+      }
+    }
+    return result;
+  }
+
+  private static void publish(final String typeName, final int hydrated, final int notHydrated, final int reused, final Logger logger) {
+    EmbeddedMetrics.record()
+        .dimension("ResourceType", typeName)
+        .metric("ListItemsHydrated", hydrated, EmbeddedMetrics.Unit.COUNT)
+        .metric("ListItemsNotHydrated", notHydrated, EmbeddedMetrics.Unit.COUNT)
+        .metric("ListItemsReused", reused, EmbeddedMetrics.Unit.COUNT)
+        .metric("ListCallsSaved", reused * CALLS_PER_ITEM, EmbeddedMetrics.Unit.COUNT)
+        .emit(logger);
+  }
+
+  private record Hydrated<ModelT>(int index, ModelT model, RuntimeException error) {
+  }
+}
@@ -0,0 +1,55 @@
+package software.amazon.qbusiness.common.handler;
+
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * A single QBusiness API call of a resource descriptor: how to build the request from the model, which client method
+ * to call, and what to copy back onto the model from the response (for example a generated ID).
+ */
+public record Operation<ModelT, RequestT extends AwsRequest, ResponseT extends AwsResponse>(
+    String apiName,
+    BiFunction<ResourceHandlerRequest<ModelT>, ModelT, RequestT> translator,
+    BiFunction<QBusinessClient, RequestT, ResponseT> call,
+    BiConsumer<ResponseT, ModelT> onResponse
+) {
+
+  public static <ModelT, RequestT extends AwsRequest, ResponseT extends AwsResponse> Operation<ModelT, RequestT, ResponseT> of(
+      final String apiName,
+      final Function<ModelT, RequestT> translator,
+      final BiFunction<QBusinessClient, RequestT, ResponseT> call
+  ) {
+    return new Operation<>(apiName, (request, model) -> translator.apply(model), call, (response, model) -> {
+    });
+  }
+
+  public static <ModelT, RequestT extends AwsRequest, ResponseT extends AwsResponse> Operation<ModelT, RequestT, ResponseT> ofRequest(
+      final String apiName,
+      final BiFunction<ResourceHandlerRequest<ModelT>, ModelT, RequestT> translator,
+      final BiFunction<QBusinessClient, RequestT, ResponseT> call
+  ) {
+    return new Operation<>(apiName, translator, call, (response, model) -> {
+    });
+  }
+
+  public Operation<ModelT, RequestT, ResponseT> withResponseHandler(final BiConsumer<ResponseT, ModelT> handler) {
+    return new Operation<>(apiName, translator, call, handler);
+  }
+
+  RequestT translate(final ResourceHandlerRequest<ModelT> request, final ModelT model) {
+    return translator.apply(request, model);
+  }
+
+  ResponseT invoke(final RequestT request, final ProxyClient<QBusinessClient> proxyClient, final ModelT model) {
+    final ResponseT response = proxyClient.injectCredentialsAndInvokeV2(request, req -> call.apply(proxyClient.client(), req));
+    onResponse.accept(response, model);
+    return response;
+  }
+}
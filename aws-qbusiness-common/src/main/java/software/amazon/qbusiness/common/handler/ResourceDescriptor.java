@@ -0,0 +1,50 @@
+package software.amazon.qbusiness.common.handler;
+
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+/**
+ * Everything {@link CrudEngine} needs to know about one QBusiness resource type.
+ *
+ * @param <ModelT>       the generated CloudFormation resource model.
+ * @param <GetResponseT> the response of the resource's Get API, which carries its status.
+ */
+@Value
+@Builder
+public class ResourceDescriptor<ModelT, GetResponseT extends AwsResponse> {
+  /** CloudFormation type name, such as {@code AWS::QBusiness::Index}. */
+  @NonNull String typeName;
+  /** Prefix of the proxy call graph names, such as {@code AWS-QBusiness-Index}. */
+  @NonNull String callGraphPrefix;
+  @NonNull Function<ModelT, String> primaryIdentifier;
+  @NonNull BiFunction<ResourceHandlerRequest<ModelT>, ModelT, String> arnBuilder;
+
+  @NonNull Operation<ModelT, ?, GetResponseT> get;
+  /** Type of the Get response. When set, a Get response recorded while stabilizing is reused by the read chain. */
+  Class<GetResponseT> responseType;
+  Operation<ModelT, ?, ?> create;
+  Operation<ModelT, ?, ?> update;
+  Operation<ModelT, ?, ?> delete;
+
+  @NonNull Function<GetResponseT, ModelT> fromGetResponse;
+  @NonNull BiFunction<ResourceHandlerRequest<ModelT>, ModelT, ListTagsForResourceRequest> toListTagsRequest;
+  @NonNull BiFunction<ListTagsForResourceResponse, ModelT, ModelT> withTags;
+
+  @NonNull Function<GetResponseT, String> statusExtractor;
+  @NonNull Set<String> stableStates;
+  @NonNull Set<String> failedStates;
+  /** Statuses in which the service rejects Update and Delete with a conflict until the resource settles. */
+  @Builder.Default
+  @NonNull Set<String> transitionalStates = Set.of();
+  /** Service provided reason for a failed status, or null when there is none. */
+  @NonNull Function<GetResponseT, String> failureReason;
+}
@@ -0,0 +1,143 @@
+package software.amazon.qbusiness.common.handler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import software.amazon.qbusiness.common.SharedConstants;
+
+/**
+ * Last complete model read for each listed resource, kept for the lifetime of the handler container together with the
+ * summary fields it was read under: status, display name and last update time.
+ * <p>
+ * A List page carries those fields for every item at the cost of one call, so when they are unchanged since the last
+ * read the cached model is returned instead of reading the item again with its Get and ListTags calls. Only summaries
+ * with an update time are cached, since without it a change to the resource cannot be seen from the List. Entries
+ * expire after a configured age, which bounds how long a change the summary does not reflect, such as a tag
+ * change, can go unseen.
+ */
+public class SummaryDriftCache<ModelT> {
+  public static final int DEFAULT_MAX_ENTRIES = 1_000;
+
+  private final Function<ModelT, String> identifier;
+  private final Function<ModelT, String> status;
+  private final Function<ModelT, String> displayName;
+  private final Function<ModelT, String> updatedAt;
+  private final Duration maxAge;
+  private final Clock clock;
+  private final Map<String, CachedRead<ModelT>> entries;
+
+  /**
+   * @param identifier  unique identifier of an item within its parent.
+   * @param status      status of an item, or null for types without one.
+   * @param displayName display name of an item, or null for types without one.
+   * @param updatedAt   last update time of an item.
+   * @param maxAge      how long a read is reused for; {@link Duration#ZERO} disables the cache.
+   */
+  public SummaryDriftCache(
+      final Function<ModelT, String> identifier,
+      final Function<ModelT, String> status,
+      final Function<ModelT, String> displayName,
+      final Function<ModelT, String> updatedAt,
+      final Duration maxAge
+  ) {
+    this(identifier, status, displayName, updatedAt, maxAge, DEFAULT_MAX_ENTRIES, Clock.systemUTC());
+  }
+
+  SummaryDriftCache(
+      final Function<ModelT, String> identifier,
+      final Function<ModelT, String> status,
+      final Function<ModelT, String> displayName,
+      final Function<ModelT, String> updatedAt,
+      final Duration maxAge,
+      final int maxEntries,
+      final Clock clock
+  ) {
+    this.identifier = identifier;
+    this.status = status;
+    this.displayName = displayName;
+    this.updatedAt = updatedAt;
+    this.maxAge = maxAge;
+    this.clock = clock;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<String, CachedRead<ModelT>> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  /**
+   * The cache is opt-in: it is enabled by setting {@link SharedConstants#ENV_LIST_DRIFT_CACHE_SECONDS} to the number of
+   * seconds a read is reused for.
+   */
+  public static Duration maxAgeFromEnvironment() {
+    final String seconds = System.getenv(SharedConstants.ENV_LIST_DRIFT_CACHE_SECONDS);
+    if (seconds == null || seconds.isBlank()) {
+      return Duration.ZERO;
+    }
+    try {
+      return Duration.ofSeconds(Math.max(Long.parseLong(seconds.trim()), 0L));
+    } catch (NumberFormatException e) {
+      return Duration.ZERO;
+    }
+  }
+
+  public boolean enabled() {
+    return !maxAge.isZero() && !maxAge.isNegative();
+  }
+
+  /**
+   * @param scope   the account and region the item was listed in, so that containers serving several of them never
+   *                answer one with the reads of another.
+   * @param summary the item as returned by the List.
+   * @return the model last read for the item, when it is recent and the summary has not changed since.
+   */
+  public synchronized Optional<ModelT> lookup(final String scope, final ModelT summary) {
+    if (!enabled() || updatedAt.apply(summary) == null) {
+      return Optional.empty();
+    }
+    final String key = key(scope, summary);
+    final CachedRead<ModelT> entry = entries.get(key);
+    if (entry == null) {
+      return Optional.empty();
+    }
+    if (entry.readAt().plus(maxAge).isBefore(clock.instant()) || !entry.fingerprint().equals(fingerprint(summary))) {
+      entries.remove(key);
+      return Optional.empty();
+    }
+    return Optional.of(entry.model());
+  }
+
+  /**
+   * Records {@code model} as the complete read of the item listed as {@code summary}.
+   */
+  public synchronized void remember(final String scope, final ModelT summary, final ModelT model) {
+    if (!enabled() || updatedAt.apply(summary) == null) {
+      return;
+    }
+    entries.put(key(scope, summary), new CachedRead<>(fingerprint(summary), model, clock.instant()));
+  }
+
+  private String key(final String scope, final ModelT summary) {
+    return scope + "/" + identifier.apply(summary);
+  }
+
+  private Fingerprint fingerprint(final ModelT summary) {
+    return new Fingerprint(
+        status == null ? null : status.apply(summary),
+        displayName == null ? null : displayName.apply(summary),
+        updatedAt.apply(summary)
+    );
+  }
+
+  private record Fingerprint(String status, String displayName, String updatedAt) {
+  }
+
+  private record CachedRead<ModelT>(Fingerprint fingerprint, ModelT model, Instant readAt) {
+  }
+}
@@ -0,0 +1,194 @@
+package software.amazon.qbusiness.common.logging;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.qbusiness.common.SharedConstants;
+
+/**
+ * Leveled logging facade over the CloudFormation {@link Logger}.
+ * <p>
+ * Nothing is formatted for messages below the configured level. Structured events append their key/value fields to a
+ * buffer that is reused between log lines, and field values are truncated, or redacted when the key is known to carry
+ * large or sensitive payloads such as data source configurations or plugin API schemas.
+ * <p>
+ * Instances are not thread safe; handlers create one per invocation.
+ */
+public final class HandlerLogger {
+  public static final int DEFAULT_MAX_VALUE_LENGTH = 512;
+  public static final Set<String> DEFAULT_REDACTED_FIELDS = Set.of("configuration", "payload", "schema", "apischema");
+
+  private static final int INITIAL_BUFFER_CAPACITY = 256;
+  private static final int MAX_RETAINED_BUFFER_CAPACITY = 16 * 1024;
+  private static final Event DISABLED = new DisabledEvent();
+
+  private final Logger delegate;
+  private final Level threshold;
+  private final int maxValueLength;
+  private final Set<String> redactedFields;
+  private final EnabledEvent event = new EnabledEvent();
+  private StringBuilder buffer = new StringBuilder(INITIAL_BUFFER_CAPACITY);
+
+  HandlerLogger(final Logger delegate, final Level threshold, final int maxValueLength, final Set<String> redactedFields) {
+    this.delegate = delegate;
+    this.threshold = threshold;
+    this.maxValueLength = maxValueLength;
+    this.redactedFields = redactedFields;
+  }
+
+  /**
+   * Wraps the handler logger using the level from the {@code QBUSINESS_HANDLER_LOG_LEVEL} environment variable,
+   * defaulting to INFO.
+   */
+  public static HandlerLogger wrap(final Logger logger) {
+    return wrap(logger, Level.fromName(System.getenv(SharedConstants.ENV_LOG_LEVEL)));
+  }
+
+  public static HandlerLogger wrap(final Logger logger, final Level threshold) {
+    return new HandlerLogger(logger, threshold, DEFAULT_MAX_VALUE_LENGTH, DEFAULT_REDACTED_FIELDS);
+  }
+
+  public boolean isEnabled(final Level level) {
+    return level.ordinal() >= threshold.ordinal();
+  }
+
+  public void debug(final String template, final Object... args) {
+    log(Level.DEBUG, template, args);
+  }
+
+  public void info(final String template, final Object... args) {
+    log(Level.INFO, template, args);
+  }
+
+  public void warn(final String template, final Object... args) {
+    log(Level.WARN, template, args);
+  }
+
+  public void error(final String template, final Object... args) {
+    log(Level.ERROR, template, args);
+  }
+
+  public void log(final Level level, final String template, final Object... args) {
+    if (!isEnabled(level)) {
+      return;
+    }
+    begin(level).append(args.length == 0 ? template : template.formatted(args));
+    flush();
+  }
+
+  public void log(final Level level, final Supplier<String> message) {
+    if (!isEnabled(level)) {
+      return;
+    }
+    begin(level).append(message.get());
+    flush();
+  }
+
+  /**
+   * Starts a structured log line. When the level is disabled a shared no-op event is returned, so chained
+   * {@link Event#field} calls cost nothing.
+   */
+  public Event event(final Level level, final String message) {
+    if (!isEnabled(level)) {
+      return DISABLED;
+    }
+    begin(level).append(message);
+    return event;
+  }
+
+  private StringBuilder begin(final Level level) {
+    buffer.setLength(0);
+    return buffer.append('[').append(level.name()).append("] ");
+  }
+
+  private void flush() {
+    delegate.log(buffer.toString());
+    if (buffer.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+      buffer = new StringBuilder(INITIAL_BUFFER_CAPACITY);
+    } else {
+      buffer.setLength(0);
+    }
+  }
+
+  private void appendValue(final String key, final Object value) {
+    if (value == null) {
+      buffer.append("null");
+      return;
+    }
+    if (redactedFields.contains(key.toLowerCase(Locale.ENGLISH))) {
+      buffer.append("<redacted>");
+      return;
+    }
+
+    final CharSequence text = value instanceof CharSequence chars ? chars : String.valueOf(value);
+    if (text.length() <= maxValueLength) {
+      buffer.append(text);
+    } else {
+      buffer.append(text, 0, maxValueLength).append("...<truncated ").append(text.length() - maxValueLength).append(" chars>");
+    }
+  }
+
+  public enum Level {
+    DEBUG, INFO, WARN, ERROR;
+
+    static Level fromName(final String name) {
+      if (name == null || name.isBlank()) {
+        return INFO;
+      }
+      try {
+        return valueOf(name.trim().toUpperCase(Locale.ENGLISH));
+      } catch (IllegalArgumentException e) {
+        return INFO;
+      }
+    }
+  }
+
+  /**
+   * A structured log line under construction.
+   */
+  public interface Event {
+    Event field(String key, Object value);
+
+    Event field(String key, long value);
+
+    void log();
+  }
+
+  private final class EnabledEvent implements Event {
+    @Override
+    public Event field(final String key, final Object value) {
+      buffer.append(' ').append(key).append('=');
+      appendValue(key, value);
+      return this;
+    }
+
+    @Override
+    public Event field(final String key, final long value) {
+      buffer.append(' ').append(key).append('=').append(value);
+      return this;
+    }
+
+    @Override
+    public void log() {
+      flush();
+    }
+  }
+
+  private static final class DisabledEvent implements Event {
+    @Override
+    public Event field(final String key, final Object value) {
+      return this;
+    }
+
+    @Override
+    public Event field(final String key, final long value) {
+      return this;
+    }
+
+    @Override
+    public void log() {
+    }
+  }
+}
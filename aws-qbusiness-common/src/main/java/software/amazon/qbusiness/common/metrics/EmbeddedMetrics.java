@@ -0,0 +1,96 @@
+package software.amazon.qbusiness.common.metrics;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+/**
+ * Builds a single CloudWatch embedded metric format (EMF) record and writes it to the handler logger, so metrics are
+ * extracted from the provider log stream without an extra PutMetricData call.
+ */
+public final class EmbeddedMetrics {
+  public static final String DEFAULT_NAMESPACE = "QBusiness/CloudFormationHandlers";
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final String namespace;
+  private final Clock clock;
+  private final Map<String, String> dimensions = new LinkedHashMap<>();
+  private final Map<String, Number> values = new LinkedHashMap<>();
+  private final Map<String, Unit> units = new LinkedHashMap<>();
+
+  private EmbeddedMetrics(final String namespace, final Clock clock) {
+    this.namespace = namespace;
+    this.clock = clock;
+  }
+
+  public static EmbeddedMetrics record() {
+    return new EmbeddedMetrics(DEFAULT_NAMESPACE, Clock.systemUTC());
+  }
+
+  public static EmbeddedMetrics record(final String namespace, final Clock clock) {
+    return new EmbeddedMetrics(namespace, clock);
+  }
+
+  public EmbeddedMetrics dimension(final String name, final String value) {
+    dimensions.put(name, value);
+    return this;
+  }
+
+  public EmbeddedMetrics metric(final String name, final Number value, final Unit unit) {
+    values.put(name, value);
+    units.put(name, unit);
+    return this;
+  }
+
+  public String toJson() {
+    ObjectNode root = MAPPER.createObjectNode();
+    ObjectNode aws = root.putObject("_aws");
+    aws.put("Timestamp", clock.millis());
+    ObjectNode directive = aws.putArray("CloudWatchMetrics").addObject();
+    directive.put("Namespace", namespace);
+    ArrayNode dimensionSet = directive.putArray("Dimensions").addArray();
+    dimensions.keySet().forEach(dimensionSet::add);
+    ArrayNode metrics = directive.putArray("Metrics");
+    units.forEach((name, unit) -> metrics.addObject().put("Name", name).put("Unit", unit.getValue()));
+
+    dimensions.forEach(root::put);
+    values.forEach((name, value) -> root.put(name, value.doubleValue()));
+
+    try {
+      return MAPPER.writeValueAsString(root);
+    } catch (JsonProcessingException e) {
+      // Only strings and numbers are ever added to the tree, so this cannot happen in practice.
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public void emit(final Logger logger) {
+    logger.log(toJson());
+  }
+
+  public enum Unit {
+    COUNT("Count"),
+    COUNT_PER_SECOND("Count/Second"),
+    MILLISECONDS("Milliseconds"),
+    BYTES("Bytes"),
+    NONE("None");
+
+    private final String value;
+
+    Unit(final String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package software.amazon.qbusiness.common.stabilization;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.Sleeper;
+import software.amazon.qbusiness.common.TimeBudget;
+
+/**
+ * Polls a resource until it stabilizes, waiting in-process only while the invocation time budget allows.
+ * <p>
+ * When the next poll would not fit in the remaining budget, the stabilizer returns an {@code IN_PROGRESS} event with a
+ * callback delay instead, so CloudFormation re-invokes the handler rather than the invocation hitting a hard timeout.
+ * Attempt counts live in the callback context, so the backoff timeout spans every invocation of the stage.
+ */
+public class DeadlineAwareStabilizer {
+  public static final Duration DEFAULT_RESERVE = Duration.ofSeconds(10);
+
+  private final Constant backOffStrategy;
+  private final Duration reserve;
+  private final Clock clock;
+  private final Sleeper sleeper;
+
+  public DeadlineAwareStabilizer(final Constant backOffStrategy) {
+    this(backOffStrategy, DEFAULT_RESERVE, Clock.systemUTC(), Sleeper.THREAD_SLEEP);
+  }
+
+  DeadlineAwareStabilizer(final Constant backOffStrategy, final Duration reserve, final Clock clock, final Sleeper sleeper) {
+    this.backOffStrategy = backOffStrategy;
+    this.reserve = reserve;
+    this.clock = clock;
+    this.sleeper = sleeper;
+  }
+
+  /**
+   * @param stage        unique name of the stabilization stage within the handler, used as the callback context key.
+   * @param progress     the in-progress event to stabilize; returned unchanged once the resource has stabilized.
+   * @param isStabilized checks the resource. Handler exceptions, such as a not stabilized failure, propagate as is.
+   * @param errorHandler turns any other exception thrown while checking into a failed event.
+   */
+  public <ModelT, CtxT extends StdCallbackContext & StabilizationAware> ProgressEvent<ModelT, CtxT> stabilize(
+      final String stage,
+      final ProgressEvent<ModelT, CtxT> progress,
+      final TimeBudget budget,
+      final Predicate<ModelT> isStabilized,
+      final Function<Exception, ProgressEvent<ModelT, CtxT>> errorHandler,
+      final Logger logger
+  ) {
+    final ModelT model = progress.getResourceModel();
+    final CtxT context = progress.getCallbackContext();
+    final StabilizationProgress state = context.getStabilizationProgress()
+        .computeIfAbsent(stage, ignored -> new StabilizationProgress(0, clock.millis(), false));
+
+    while (!state.isComplete()) {
+      state.setAttempts(state.getAttempts() + 1);
+      try {
+        state.setComplete(isStabilized.test(model));
+      } catch (BaseHandlerException e) {
+        throw e;
+      } catch (RuntimeException e) {
+        return errorHandler.apply(e);
+      }
+      if (state.isComplete()) {
+        break;
+      }
+
+      final Duration next = backOffStrategy.nextDelay(state.getAttempts());
+      if (next.isZero()) {
+        logger.log("[ERROR] Stage %s did not stabilize after %d attempts over %d seconds"
+            .formatted(stage, state.getAttempts(), Duration.ofMillis(clock.millis() - state.getStartedAtEpochMillis()).toSeconds()));
+        return ProgressEvent.failed(model, context, HandlerErrorCode.NotStabilized,
+            "Exceeded attempts to wait for stage %s to stabilize".formatted(stage));
+      }
+
+      if (!budget.canAfford(next, reserve)) {
+        final int callbackDelaySeconds = (int) Math.max(1L, next.toSeconds());
+        logger.log("[INFO] Stage %s is still stabilizing after %d attempts, %d ms left in this invocation. Handing off with a %d second callback delay"
+            .formatted(stage, state.getAttempts(), budget.remaining().toMillis(), callbackDelaySeconds));
+        return ProgressEvent.defaultInProgressHandler(context, callbackDelaySeconds, model);
+      }
+
+      try {
+        sleeper.sleep(next.toMillis());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return ProgressEvent.defaultInProgressHandler(context, (int) Math.max(1L, next.toSeconds()), model);
+      }
+    }
+
+    return progress;
+  }
+}
@@ -0,0 +1,9 @@
+package software.amazon.qbusiness.common.stabilization;
+
+/**
+ * Implemented by callback contexts that hold on to the {@link LastGetResponse} of the current invocation. The holder
+ * must not be serialized with the rest of the context.
+ */
+public interface GetResponseAware {
+  LastGetResponse getLastGetResponse();
+}
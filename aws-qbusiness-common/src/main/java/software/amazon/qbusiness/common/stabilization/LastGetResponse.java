@@ -0,0 +1,56 @@
+package software.amazon.qbusiness.common.stabilization;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * The Get response that last showed a resource as stable, kept for the rest of the invocation so the Read that follows
+ * stabilization can reuse it instead of calling Get again.
+ * <p>
+ * The holder is only meant to live in memory: a response recorded in one invocation is never seen by the next, which
+ * always polls again before reading. A response is handed out at most once, for the same resource, and only while it
+ * is younger than {@link #MAX_AGE}.
+ */
+public final class LastGetResponse {
+  public static final Duration MAX_AGE = Duration.ofSeconds(10);
+
+  private final Clock clock;
+  private String identifier;
+  private Object response;
+  private long recordedAtMillis;
+
+  public LastGetResponse() {
+    this(Clock.systemUTC());
+  }
+
+  LastGetResponse(final Clock clock) {
+    this.clock = clock;
+  }
+
+  public void record(final String identifier, final Object response) {
+    this.identifier = identifier;
+    this.response = response;
+    this.recordedAtMillis = clock.millis();
+  }
+
+  /**
+   * @return the recorded response if it is of {@code type}, for {@code identifier} and still fresh. The holder is
+   *     cleared either way.
+   */
+  public <T> Optional<T> take(final String identifier, final Class<T> type) {
+    final Object recorded = response;
+    final boolean fresh = recorded != null
+        && type.isInstance(recorded)
+        && identifier != null
+        && identifier.equals(this.identifier)
+        && clock.millis() - recordedAtMillis <= MAX_AGE.toMillis();
+    clear();
+    return fresh ? Optional.of(type.cast(recorded)) : Optional.empty();
+  }
+
+  public void clear() {
+    identifier = null;
+    response = null;
+  }
+}
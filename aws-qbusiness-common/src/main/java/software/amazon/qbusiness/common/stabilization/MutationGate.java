@@ -0,0 +1,107 @@
+package software.amazon.qbusiness.common.stabilization;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.ErrorUtils;
+import software.amazon.qbusiness.common.TimeBudget;
+
+/**
+ * Holds an Update or Delete back while the resource is in a transitional status, such as {@code CREATING} or
+ * {@code UPDATING}, in which the service rejects mutations with a {@code ConflictException}.
+ * <p>
+ * The status is checked with the resource's Get before the mutation, and re-checked with backoff until it settles.
+ * Waiting goes through {@link DeadlineAwareStabilizer}, so a long transition hands off to a callback instead of
+ * running out the invocation, and a gate that already opened is not checked again when the handler is re-invoked.
+ */
+public class MutationGate {
+  /**
+   * @param typeName           CloudFormation type of the resource, used in errors.
+   * @param primaryIdentifier  identifier of the resource, used in errors.
+   * @param getApiName         the Get the status is read with, used in errors.
+   * @param transitionalStates statuses in which the service rejects mutations until the resource settles.
+   */
+  public record Resource<ModelT>(
+      String typeName, Function<ModelT, String> primaryIdentifier, String getApiName, Set<String> transitionalStates) {
+  }
+
+  private final DeadlineAwareStabilizer stabilizer;
+
+  public MutationGate(final Constant backOffStrategy) {
+    this(new DeadlineAwareStabilizer(backOffStrategy));
+  }
+
+  MutationGate(final DeadlineAwareStabilizer stabilizer) {
+    this.stabilizer = stabilizer;
+  }
+
+  /**
+   * Waits on {@code resource}, mapping an exception thrown while reading its status with {@link ErrorUtils#handleError}.
+   *
+   * @param currentStatus reads the current status of the resource with its Get.
+   */
+  public <ModelT, CtxT extends StdCallbackContext & StabilizationAware> ProgressEvent<ModelT, CtxT> awaitMutable(
+      final String stage,
+      final ProgressEvent<ModelT, CtxT> progress,
+      final TimeBudget budget,
+      final Resource<ModelT> resource,
+      final Function<ModelT, String> currentStatus,
+      final Logger logger
+  ) {
+    return awaitMutable(stage, progress, budget, currentStatus, resource.transitionalStates(),
+        error -> ErrorUtils.handleError(
+            progress.getResourceModel(), resource.primaryIdentifier().apply(progress.getResourceModel()), error,
+            progress.getCallbackContext(), logger, resource.typeName(), resource.getApiName()
+        ),
+        logger
+    );
+  }
+
+  /**
+   * @param stage              unique name of the gate within the handler, used as the callback context key.
+   * @param progress           the event to gate; returned unchanged once the resource can be mutated.
+   * @param currentStatus      reads the current status of the resource with its Get.
+   * @param transitionalStates statuses in which the service rejects mutations until the resource settles.
+   * @param errorHandler       turns an exception thrown while reading the status into a failed event.
+   * @return {@code progress}, an in-progress event with a callback delay, or a failed event. A resource that does not
+   * settle within the backoff timeout fails with {@link HandlerErrorCode#ResourceConflict}, the error the mutation
+   * itself would have returned.
+   */
+  public <ModelT, CtxT extends StdCallbackContext & StabilizationAware> ProgressEvent<ModelT, CtxT> awaitMutable(
+      final String stage,
+      final ProgressEvent<ModelT, CtxT> progress,
+      final TimeBudget budget,
+      final Function<ModelT, String> currentStatus,
+      final Set<String> transitionalStates,
+      final Function<Exception, ProgressEvent<ModelT, CtxT>> errorHandler,
+      final Logger logger
+  ) {
+    final AtomicReference<String> lastStatus = new AtomicReference<>();
+    final ProgressEvent<ModelT, CtxT> result = stabilizer.stabilize(stage, progress, budget,
+        model -> {
+          final String status = currentStatus.apply(model);
+          lastStatus.set(status);
+          if (!transitionalStates.contains(status)) {
+            return true;
+          }
+          logger.log("[INFO] Stage %s is waiting for the resource to leave status %s before mutating it"
+              .formatted(stage, status));
+          return false;
+        },
+        errorHandler,
+        logger
+    );
+
+    if (result.isFailed() && HandlerErrorCode.NotStabilized.equals(result.getErrorCode())) {
+      return ProgressEvent.failed(result.getResourceModel(), result.getCallbackContext(), HandlerErrorCode.ResourceConflict,
+          "Resource is still in status %s and cannot be modified".formatted(lastStatus.get()));
+    }
+    return result;
+  }
+}
@@ -0,0 +1,200 @@
+package software.amazon.qbusiness.common.stabilization;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.ApplicationStatus;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.IndexStatus;
+import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.ErrorUtils;
+import software.amazon.qbusiness.common.SharedConstants;
+import software.amazon.qbusiness.common.TimeBudget;
+
+/**
+ * Holds a child Create back until its parent, the application or, for data sources, the index, is ready to accept it.
+ * <p>
+ * CloudFormation dispatches a child as soon as the parent's Create returns, and the parent may still be settling then.
+ * A Create sent at that point fails or is queued by the service, and the handler pays a full error and retry cycle.
+ * The parent is read with its Get instead, and waited on through {@link DeadlineAwareStabilizer}: once seen ready the
+ * stage is marked complete in the callback context, so it is not read again for the rest of the operation. A parent
+ * that is failed, or gone, fails the Create right away.
+ */
+public class ParentReadinessGate {
+  public static final Parent APPLICATION = new Parent(
+      "AWS::QBusiness::Application", Set.of(ApplicationStatus.ACTIVE.toString()), Set.of(ApplicationStatus.FAILED.toString())
+  );
+  public static final Parent INDEX = new Parent(
+      "AWS::QBusiness::Index", Set.of(IndexStatus.ACTIVE.toString()), Set.of(IndexStatus.FAILED.toString())
+  );
+
+  /**
+   * @param typeName    CloudFormation type of the parent, used in messages.
+   * @param readyStates statuses in which the parent accepts children.
+   * @param failedStates statuses the parent does not recover from on its own.
+   */
+  public record Parent(String typeName, Set<String> readyStates, Set<String> failedStates) {
+  }
+
+  /**
+   * @param typeName          CloudFormation type of the resource being created, used in errors.
+   * @param primaryIdentifier identifier of the resource being created, used in errors.
+   */
+  public record Child<ModelT>(String typeName, Function<ModelT, String> primaryIdentifier) {
+  }
+
+  private final DeadlineAwareStabilizer stabilizer;
+
+  public ParentReadinessGate(final Constant backOffStrategy) {
+    this(new DeadlineAwareStabilizer(backOffStrategy));
+  }
+
+  ParentReadinessGate(final DeadlineAwareStabilizer stabilizer) {
+    this.stabilizer = stabilizer;
+  }
+
+  /**
+   * Waits on the application of {@code child}, mapping an exception thrown while reading it with
+   * {@link ErrorUtils#handleError}.
+   */
+  public <ModelT, CtxT extends StdCallbackContext & StabilizationAware> ProgressEvent<ModelT, CtxT> awaitApplication(
+      final String stage,
+      final ProgressEvent<ModelT, CtxT> progress,
+      final TimeBudget budget,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final Child<ModelT> child,
+      final Function<ModelT, String> applicationId,
+      final Logger logger
+  ) {
+    return awaitApplication(stage, progress, budget, proxyClient, applicationId,
+        error -> failed(progress, child, error, SharedConstants.API_GET_APPLICATION, logger), logger);
+  }
+
+  /**
+   * Waits on the index of {@code child}, mapping an exception thrown while reading it with
+   * {@link ErrorUtils#handleError}.
+   */
+  public <ModelT, CtxT extends StdCallbackContext & StabilizationAware> ProgressEvent<ModelT, CtxT> awaitIndex(
+      final String stage,
+      final ProgressEvent<ModelT, CtxT> progress,
+      final TimeBudget budget,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final Child<ModelT> child,
+      final Function<ModelT, String> applicationId,
+      final Function<ModelT, String> indexId,
+      final Logger logger
+  ) {
+    return awaitIndex(stage, progress, budget, proxyClient, applicationId, indexId,
+        error -> failed(progress, child, error, SharedConstants.API_GET_INDEX, logger), logger);
+  }
+
+  private <ModelT, CtxT extends StdCallbackContext & StabilizationAware> ProgressEvent<ModelT, CtxT> awaitApplication(
+      final String stage,
+      final ProgressEvent<ModelT, CtxT> progress,
+      final TimeBudget budget,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final Function<ModelT, String> applicationId,
+      final Function<Exception, ProgressEvent<ModelT, CtxT>> errorHandler,
+      final Logger logger
+  ) {
+    return awaitReady(stage, progress, budget, APPLICATION,
+        model -> {
+          final GetApplicationRequest request = GetApplicationRequest.builder().applicationId(applicationId.apply(model)).build();
+          return proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::getApplication).statusAsString();
+        },
+        errorHandler, logger
+    );
+  }
+
+  private <ModelT, CtxT extends StdCallbackContext & StabilizationAware> ProgressEvent<ModelT, CtxT> awaitIndex(
+      final String stage,
+      final ProgressEvent<ModelT, CtxT> progress,
+      final TimeBudget budget,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final Function<ModelT, String> applicationId,
+      final Function<ModelT, String> indexId,
+      final Function<Exception, ProgressEvent<ModelT, CtxT>> errorHandler,
+      final Logger logger
+  ) {
+    return awaitReady(stage, progress, budget, INDEX,
+        model -> {
+          final GetIndexRequest request = GetIndexRequest.builder()
+              .applicationId(applicationId.apply(model))
+              .indexId(indexId.apply(model))
+              .build();
+          return proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::getIndex).statusAsString();
+        },
+        errorHandler, logger
+    );
+  }
+
+  /**
+   * @param stage         unique name of the gate within the handler, used as the callback context key.
+   * @param progress      the event to gate; returned unchanged once the parent is ready.
+   * @param parentStatus  reads the current status of the parent.
+   * @param errorHandler  turns an exception thrown while reading the parent into a failed event.
+   * @return {@code progress}, an in-progress event with a callback delay, or a failed event. A parent in one of its
+   * failed states, or one that does not exist, fails with {@link HandlerErrorCode#InvalidRequest}, since the Create
+   * cannot succeed until the template is fixed.
+   */
+  public <ModelT, CtxT extends StdCallbackContext & StabilizationAware> ProgressEvent<ModelT, CtxT> awaitReady(
+      final String stage,
+      final ProgressEvent<ModelT, CtxT> progress,
+      final TimeBudget budget,
+      final Parent parent,
+      final Function<ModelT, String> parentStatus,
+      final Function<Exception, ProgressEvent<ModelT, CtxT>> errorHandler,
+      final Logger logger
+  ) {
+    final AtomicReference<String> failedStatus = new AtomicReference<>();
+    final ProgressEvent<ModelT, CtxT> result = stabilizer.stabilize(stage, progress, budget,
+        model -> {
+          final String status = parentStatus.apply(model);
+          if (parent.failedStates().contains(status)) {
+            // Stops the wait; the failure is reported below, with the status that caused it.
+            failedStatus.set(status);
+            return true;
+          }
+          if (parent.readyStates().contains(status)) {
+            return true;
+          }
+          logger.log("[INFO] Stage %s is waiting for the parent %s to leave status %s".formatted(stage, parent.typeName(), status));
+          return false;
+        },
+        error -> error instanceof ResourceNotFoundException
+            ? ProgressEvent.failed(progress.getResourceModel(), progress.getCallbackContext(), HandlerErrorCode.InvalidRequest,
+                "The parent %s does not exist".formatted(parent.typeName()))
+            : errorHandler.apply(error),
+        logger
+    );
+
+    if (failedStatus.get() != null) {
+      logger.log("[ERROR] Stage %s found the parent %s in status %s".formatted(stage, parent.typeName(), failedStatus.get()));
+      return ProgressEvent.failed(result.getResourceModel(), result.getCallbackContext(), HandlerErrorCode.InvalidRequest,
+          "The parent %s is in status %s and cannot accept new resources".formatted(parent.typeName(), failedStatus.get()));
+    }
+    return result;
+  }
+
+  private static <ModelT, CtxT extends StdCallbackContext> ProgressEvent<ModelT, CtxT> failed(
+      final ProgressEvent<ModelT, CtxT> progress,
+      final Child<ModelT> child,
+      final Exception error,
+      final String apiName,
+      final Logger logger
+  ) {
+    return ErrorUtils.handleError(
+        progress.getResourceModel(), child.primaryIdentifier().apply(progress.getResourceModel()), error,
+        progress.getCallbackContext(), logger, child.typeName(), apiName
+    );
+  }
+}
@@ -0,0 +1,10 @@
+package software.amazon.qbusiness.common.stabilization;
+
+import java.util.Map;
+
+/**
+ * Implemented by callback contexts that can carry {@link DeadlineAwareStabilizer} progress between invocations.
+ */
+public interface StabilizationAware {
+  Map<String, StabilizationProgress> getStabilizationProgress();
+}
@@ -0,0 +1,18 @@
+package software.amazon.qbusiness.common.stabilization;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of a single stabilization stage, kept in the callback context so a stage resumed in a later invocation
+ * continues counting attempts against the same timeout.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StabilizationProgress {
+  private int attempts;
+  private long startedAtEpochMillis;
+  private boolean complete;
+}
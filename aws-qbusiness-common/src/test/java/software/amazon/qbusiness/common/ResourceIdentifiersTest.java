@@ -0,0 +1,149 @@
+package software.amazon.qbusiness.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+class ResourceIdentifiersTest {
+  private static final String[] KEYS = {"ApplicationId", "IndexId"};
+
+  @Data
+  @AllArgsConstructor
+  private static class TestModel {
+    private String applicationId;
+    private String indexId;
+  }
+
+  @Test
+  void testArnMatchesFormattedAndLowerCasedArn() {
+    TestModel model = new TestModel("App-ID", "Index-ID");
+
+    String arn = ResourceIdentifiers.arn(true, "aws", "us-west-2", "123456789012",
+        "application", model.getApplicationId(), "index", model.getIndexId());
+
+    assertThat(arn).isEqualTo("arn:%s:qbusiness:%s:%s:application/%s/index/%s"
+        .formatted("aws", "us-west-2", "123456789012", "App-ID", "Index-ID").toLowerCase(Locale.ENGLISH));
+  }
+
+  @Test
+  void testArnKeepsCaseWhenAsked() {
+    String arn = ResourceIdentifiers.arn(false, "aws", "us-east-1", "123456789012",
+        "application", "App", "index", "Idx", "data-source", "DS");
+
+    assertThat(arn).isEqualTo("arn:aws:qbusiness:us-east-1:123456789012:application/App/index/Idx/data-source/DS");
+  }
+
+  @Test
+  void testArnIsRebuiltWhenTheModelChanges() {
+    TestModel model = new TestModel("app", "first");
+    String first = ResourceIdentifiers.arn(true, "aws", "us-west-2", "123", "application", "app", "index", model.getIndexId());
+    assertThat(ResourceIdentifiers.arn(true, "aws", "us-west-2", "123", "application", "app", "index", model.getIndexId()))
+        .isSameAs(first);
+
+    model.setIndexId("second");
+
+    assertThat(ResourceIdentifiers.arn(true, "aws", "us-west-2", "123", "application", "app", "index", model.getIndexId()))
+        .endsWith("/index/second");
+  }
+
+  @Test
+  void testArnIsRememberedByItsParts() {
+    String first = ResourceIdentifiers.arn(true, "aws", "us-west-2", "123", "application", "app", "index", "idx");
+
+    assertThat(ResourceIdentifiers.arn(true, "aws", "us-west-2", "123", "application", "app", "index", "idx"))
+        .isSameAs(first);
+    assertThat(ResourceIdentifiers.arn(false, "aws", "us-west-2", "123", "application", "app", "index", "idx"))
+        .isNotSameAs(first);
+    assertThat(ResourceIdentifiers.arn(true, "aws", "us-west-2", "456", "application", "app", "index", "idx"))
+        .contains(":456:");
+    assertThat(ResourceIdentifiers.arn(true, "aws", "us-west-2", "123", "application", "app"))
+        .endsWith(":application/app");
+  }
+
+  @Test
+  void testArnRejectsMissingIds() {
+    assertThatThrownBy(() -> ResourceIdentifiers.arn(true, "aws", "us-west-2", "123", "application", null))
+        .isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void testPrimaryIdentifierMatchesGeneratedJson() {
+    TestModel model = new TestModel("app", "index");
+
+    String identifier = ResourceIdentifiers.primaryIdentifier(model, KEYS, model.getApplicationId(), model.getIndexId());
+
+    assertThat(identifier).isEqualTo("{\"/properties/ApplicationId\":\"app\",\"/properties/IndexId\":\"index\"}");
+    assertThat(new JSONObject(identifier).similar(new JSONObject()
+        .put("/properties/ApplicationId", "app")
+        .put("/properties/IndexId", "index"))).isTrue();
+  }
+
+  @Test
+  void testPrimaryIdentifierIsEmptyUntilComplete() {
+    TestModel model = new TestModel("app", null);
+
+    assertThat(ResourceIdentifiers.primaryIdentifier(null, KEYS, "app", "index")).isEmpty();
+    assertThat(ResourceIdentifiers.primaryIdentifier(model, KEYS, model.getApplicationId(), model.getIndexId())).isEmpty();
+
+    model.setIndexId("index");
+
+    assertThat(ResourceIdentifiers.primaryIdentifier(model, KEYS, model.getApplicationId(), model.getIndexId()))
+        .contains("\"/properties/IndexId\":\"index\"");
+  }
+
+  @Test
+  void testPrimaryIdentifierIsRebuiltForOtherKeys() {
+    ResourceIdentifiers.primaryIdentifier(new TestModel("app", "index"), KEYS, "app", "index");
+
+    assertThat(ResourceIdentifiers.primaryIdentifier(new Object(), new String[] {"ApplicationId", "RetrieverId"}, "app", "index"))
+        .isEqualTo("{\"/properties/ApplicationId\":\"app\",\"/properties/RetrieverId\":\"index\"}");
+  }
+
+  @Test
+  void testPrimaryIdentifierEscapesValues() {
+    String identifier = ResourceIdentifiers.primaryIdentifier(new Object(), KEYS, "a\"b", "c\\d");
+
+    assertThat(new JSONObject(identifier).getString("/properties/ApplicationId")).isEqualTo("a\"b");
+    assertThat(new JSONObject(identifier).getString("/properties/IndexId")).isEqualTo("c\\d");
+  }
+
+  @Test
+  void testParseArn() {
+    ResourceIdentifiers.Arn arn = ResourceIdentifiers.parseArn(
+        "arn:aws:qbusiness:us-west-2:123456789012:application/app/index/idx/data-source/ds"
+    );
+
+    assertThat(arn.partition()).isEqualTo("aws");
+    assertThat(arn.service()).isEqualTo("qbusiness");
+    assertThat(arn.region()).isEqualTo("us-west-2");
+    assertThat(arn.accountId()).isEqualTo("123456789012");
+    assertThat(arn.resourcePath()).containsExactly("application", "app", "index", "idx", "data-source", "ds");
+    assertThat(arn.resourceId("index")).isEqualTo("idx");
+    assertThat(arn.resourceId("plugin")).isNull();
+  }
+
+  @Test
+  void testParseArnWithEmptyRegionAndAccount() {
+    ResourceIdentifiers.Arn arn = ResourceIdentifiers.parseArn("arn:aws:sso:::instance/ssoins");
+
+    assertThat(arn.region()).isEmpty();
+    assertThat(arn.accountId()).isEmpty();
+    assertThat(arn.resourcePath()).isEqualTo(List.of("instance", "ssoins"));
+  }
+
+  @Test
+  void testParseArnRejectsNonArns() {
+    assertThatThrownBy(() -> ResourceIdentifiers.parseArn("application/app"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ResourceIdentifiers.parseArn("arn:aws:qbusiness:us-west-2"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,99 @@
+package software.amazon.qbusiness.common.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveRateLimiterTest {
+  private static final String ACCOUNT = "123456789012";
+  private static final String API = "GetIndex";
+
+  private AtomicLong nanos;
+  private AdaptiveRateLimiter limiter;
+
+  @BeforeEach
+  void setUp() {
+    nanos = new AtomicLong();
+    limiter = new AdaptiveRateLimiter(2.0, 0.5, 4.0, 1.0, 0.5, nanos::get);
+  }
+
+  @Test
+  void testFirstCallIsNotDelayed() {
+    assertThat(limiter.acquire(ACCOUNT, API)).isEqualTo(Duration.ZERO);
+  }
+
+  @Test
+  void testCallsBeyondTheRateAreDelayed() {
+    limiter.acquire(ACCOUNT, API);
+
+    assertThat(limiter.acquire(ACCOUNT, API)).isEqualTo(Duration.ofMillis(500));
+    assertThat(limiter.acquire(ACCOUNT, API)).isEqualTo(Duration.ofMillis(1000));
+  }
+
+  @Test
+  void testBucketRefillsOverTime() {
+    limiter.acquire(ACCOUNT, API);
+    nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+
+    assertThat(limiter.acquire(ACCOUNT, API)).isEqualTo(Duration.ZERO);
+    assertThat(limiter.acquire(ACCOUNT, API)).isEqualTo(Duration.ZERO);
+    assertThat(limiter.acquire(ACCOUNT, API)).isEqualTo(Duration.ofMillis(500));
+  }
+
+  @Test
+  void testTryAcquireNeverBorrowsFromTheFuture() {
+    assertThat(limiter.tryAcquire(ACCOUNT, API)).isTrue();
+    assertThat(limiter.tryAcquire(ACCOUNT, API)).isFalse();
+
+    nanos.addAndGet(Duration.ofMillis(500).toNanos());
+
+    assertThat(limiter.tryAcquire(ACCOUNT, API)).isTrue();
+    assertThat(limiter.acquire(ACCOUNT, API)).isEqualTo(Duration.ofMillis(500));
+  }
+
+  @Test
+  void testThrottleHalvesRateAndSuccessRecoversAdditively() {
+    limiter.onThrottle(ACCOUNT, API);
+    assertThat(limiter.snapshot(ACCOUNT, API).ratePerSecond()).isEqualTo(1.0);
+
+    limiter.onSuccess(ACCOUNT, API);
+    assertThat(limiter.snapshot(ACCOUNT, API).ratePerSecond()).isEqualTo(2.0);
+    assertThat(limiter.snapshot(ACCOUNT, API).throttledCalls()).isEqualTo(1);
+  }
+
+  @Test
+  void testRateStaysWithinBounds() {
+    for (int i = 0; i < 10; i++) {
+      limiter.onThrottle(ACCOUNT, API);
+    }
+    assertThat(limiter.snapshot(ACCOUNT, API).ratePerSecond()).isEqualTo(0.5);
+
+    for (int i = 0; i < 10; i++) {
+      limiter.onSuccess(ACCOUNT, API);
+    }
+    assertThat(limiter.snapshot(ACCOUNT, API).ratePerSecond()).isEqualTo(4.0);
+  }
+
+  @Test
+  void testBucketsAreIsolatedPerAccountAndApi() {
+    limiter.onThrottle(ACCOUNT, API);
+    limiter.onRejected(ACCOUNT, API);
+
+    assertThat(limiter.snapshot(ACCOUNT, "ListIndices").ratePerSecond()).isEqualTo(2.0);
+    assertThat(limiter.snapshot("210987654321", API).ratePerSecond()).isEqualTo(2.0);
+    assertThat(limiter.snapshot(ACCOUNT, API).rejectedCalls()).isEqualTo(1);
+  }
+
+  @Test
+  void testInvalidConfigurationIsRejected() {
+    assertThatThrownBy(() -> new AdaptiveRateLimiter(1.0, 2.0, 4.0, 1.0, 0.5, nanos::get))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new AdaptiveRateLimiter(2.0, 1.0, 4.0, 1.0, 1.0, nanos::get))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,36 @@
+package software.amazon.qbusiness.common.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HedgeBudgetTest {
+
+  @Test
+  void testHedgesNeverExceedTheRatioOfCalls() {
+    HedgeBudget budget = new HedgeBudget(0.25, 2);
+    int granted = 0;
+    for (int i = 0; i < 1_000; i++) {
+      budget.onRequest();
+      if (budget.tryAcquire()) {
+        granted++;
+      }
+    }
+
+    assertThat(granted).isEqualTo(250);
+    assertThat(budget.hedges()).isEqualTo(250);
+    assertThat(budget.requests()).isEqualTo(1_000);
+  }
+
+  @Test
+  void testSavedUpHedgesAreCappedByTheBurst() {
+    HedgeBudget budget = new HedgeBudget(0.25, 2);
+    for (int i = 0; i < 1_000; i++) {
+      budget.onRequest();
+    }
+
+    assertThat(budget.tryAcquire()).isTrue();
+    assertThat(budget.tryAcquire()).isTrue();
+    assertThat(budget.tryAcquire()).isFalse();
+  }
+}
@@ -0,0 +1,224 @@
+package software.amazon.qbusiness.common.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexResponse;
+import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
+import software.amazon.awssdk.services.qbusiness.model.UpdateIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.UpdateIndexResponse;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+class HedgedProxyClientTest {
+  private static final long FAST_MILLIS = 2L;
+  private static final long SLOW_MILLIS = 250L;
+
+  private static final HedgingPolicy POLICY = new HedgingPolicy(0.95, 0.05, 2, 20, Duration.ofMillis(20));
+  private static final String ACCOUNT = "123456789012";
+
+  /**
+   * Stands in for the control plane: every call, primary or hedge, takes the next latency of the injected
+   * distribution and answers with the number of the call that served it.
+   */
+  private static final class FakeEndpoint {
+    private final AtomicInteger calls = new AtomicInteger();
+    private final IntUnaryOperator latencyOfCall;
+
+    private FakeEndpoint(final IntUnaryOperator latencyOfCall) {
+      this.latencyOfCall = latencyOfCall;
+    }
+
+    GetIndexResponse getIndex(final GetIndexRequest request) {
+      final int call = calls.getAndIncrement();
+      try {
+        Thread.sleep(latencyOfCall.applyAsInt(call));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("cancelled", e);
+      }
+      return GetIndexResponse.builder().indexId(Integer.toString(call)).build();
+    }
+  }
+
+  private final Logger logger = mock(Logger.class);
+  private LatencyTracker latencies;
+  private HedgeBudget budget;
+  private AdaptiveRateLimiter limiter;
+  private ProxyClient<QBusinessClient> delegate;
+  private ProxyClient<QBusinessClient> underTest;
+
+  @BeforeEach
+  void setUp() {
+    latencies = new LatencyTracker(LatencyTracker.DEFAULT_WINDOW);
+    budget = new HedgeBudget(POLICY.budgetRatio(), POLICY.maxBurst());
+    limiter = new AdaptiveRateLimiter(1_000.0, 0.5, 1_000.0, 0.5, 0.5, System::nanoTime);
+    delegate = new ProxyClient<>() {
+      @Override public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+          RequestT request,
+          Function<RequestT, ResponseT> function
+      ) {
+        return function.apply(request);
+      }
+
+      @Override public QBusinessClient client() {
+        return null;
+      }
+    };
+    underTest = new HedgedProxyClient<>(delegate, POLICY, latencies, budget, limiter, ACCOUNT, logger);
+  }
+
+  private void warmUp(final Duration latency) {
+    for (int i = 0; i < POLICY.minSamples(); i++) {
+      latencies.record("GetIndex", latency);
+    }
+  }
+
+  @Test
+  void testDisabledPolicyReturnsTheDelegate() {
+    ProxyClient<QBusinessClient> delegate = mock(ProxyClient.class);
+    assertThat(HedgedProxyClient.wrap(delegate, HedgingPolicy.DISABLED, limiter, ACCOUNT, logger)).isSameAs(delegate);
+  }
+
+  @Test
+  void testCallsAreNotHedgedBeforeEnoughLatenciesAreKnown() {
+    FakeEndpoint endpoint = new FakeEndpoint(call -> (int) FAST_MILLIS);
+
+    underTest.injectCredentialsAndInvokeV2(GetIndexRequest.builder().build(), endpoint::getIndex);
+
+    assertThat(endpoint.calls).hasValue(1);
+    assertThat(budget.hedges()).isZero();
+    assertThat(latencies.percentile("GetIndex", 0.95, 1)).isPresent();
+  }
+
+  @Test
+  void testSlowReadIsHedgedAndTheFirstResponseWins() {
+    warmUp(Duration.ofMillis(FAST_MILLIS));
+    for (int i = 0; i < 20; i++) {
+      budget.onRequest();
+    }
+    FakeEndpoint endpoint = new FakeEndpoint(call -> call == 0 ? (int) SLOW_MILLIS : (int) FAST_MILLIS);
+
+    long start = System.nanoTime();
+    GetIndexResponse response = underTest.injectCredentialsAndInvokeV2(GetIndexRequest.builder().build(), endpoint::getIndex);
+    long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+    assertThat(response.indexId()).isEqualTo("1");
+    assertThat(elapsedMillis).isLessThan(SLOW_MILLIS);
+    assertThat(endpoint.calls).hasValue(2);
+    assertThat(budget.hedges()).isEqualTo(1);
+  }
+
+  @Test
+  void testSlowReadIsNotHedgedWithoutBudget() {
+    warmUp(Duration.ofMillis(FAST_MILLIS));
+    FakeEndpoint endpoint = new FakeEndpoint(call -> call == 0 ? 60 : (int) FAST_MILLIS);
+
+    GetIndexResponse response = underTest.injectCredentialsAndInvokeV2(GetIndexRequest.builder().build(), endpoint::getIndex);
+
+    assertThat(response.indexId()).isEqualTo("0");
+    assertThat(endpoint.calls).hasValue(1);
+  }
+
+  @Test
+  void testSlowReadIsNotHedgedWithoutARateLimitToken() {
+    warmUp(Duration.ofMillis(FAST_MILLIS));
+    for (int i = 0; i < 20; i++) {
+      budget.onRequest();
+    }
+    AtomicLong nanos = new AtomicLong();
+    AdaptiveRateLimiter exhausted = new AdaptiveRateLimiter(1.0, 0.5, 1.0, 0.5, 0.5, nanos::get);
+    exhausted.acquire(ACCOUNT, "GetIndex");
+    underTest = new HedgedProxyClient<>(delegate, POLICY, latencies, budget, exhausted, ACCOUNT, logger);
+    FakeEndpoint endpoint = new FakeEndpoint(call -> call == 0 ? 60 : (int) FAST_MILLIS);
+
+    GetIndexResponse response = underTest.injectCredentialsAndInvokeV2(GetIndexRequest.builder().build(), endpoint::getIndex);
+
+    assertThat(response.indexId()).isEqualTo("0");
+    assertThat(endpoint.calls).hasValue(1);
+  }
+
+  @Test
+  void testFailedHedgeFallsBackToTheOtherCall() {
+    warmUp(Duration.ofMillis(FAST_MILLIS));
+    for (int i = 0; i < 20; i++) {
+      budget.onRequest();
+    }
+    InternalServerException failure = InternalServerException.builder().message("boom").build();
+    AtomicInteger calls = new AtomicInteger();
+    Function<GetIndexRequest, GetIndexResponse> endpoint = request -> {
+      if (calls.getAndIncrement() == 1) {
+        throw failure;
+      }
+      try {
+        Thread.sleep(60);
+      } catch (InterruptedException e) {
+        throw new IllegalStateException(e);
+      }
+      return GetIndexResponse.builder().indexId("primary").build();
+    };
+
+    assertThat(underTest.injectCredentialsAndInvokeV2(GetIndexRequest.builder().build(), endpoint).indexId()).isEqualTo("primary");
+  }
+
+  @Test
+  void testErrorsOfUnhedgedCallsAreRethrownAsIs() {
+    warmUp(Duration.ofMillis(FAST_MILLIS));
+    InternalServerException failure = InternalServerException.builder().message("boom").build();
+
+    assertThatThrownBy(() -> underTest.injectCredentialsAndInvokeV2(GetIndexRequest.builder().build(), request -> {
+      throw failure;
+    })).isSameAs(failure);
+  }
+
+  @Test
+  void testWritesAreNeverHedged() {
+    warmUp(Duration.ofMillis(FAST_MILLIS));
+    AtomicInteger calls = new AtomicInteger();
+
+    underTest.injectCredentialsAndInvokeV2(UpdateIndexRequest.builder().build(), request -> {
+      calls.incrementAndGet();
+      return UpdateIndexResponse.builder().build();
+    });
+
+    assertThat(calls).hasValue(1);
+    assertThat(budget.requests()).isZero();
+  }
+
+  /**
+   * One call in 25 is slow. Without hedging every one of them is seen by the handler; with hedging the duplicate,
+   * which is fast, answers first, and the budget keeps up because slow calls are rarer than the hedge ratio.
+   */
+  @Test
+  void testHedgingCutsTheTailOfAnInjectedLatencyDistribution() {
+    FakeEndpoint endpoint = new FakeEndpoint(call -> call % 25 == 24 ? (int) SLOW_MILLIS : (int) FAST_MILLIS);
+    List<Long> observedMillis = new ArrayList<>();
+
+    for (int i = 0; i < 300; i++) {
+      long start = System.nanoTime();
+      underTest.injectCredentialsAndInvokeV2(GetIndexRequest.builder().build(), endpoint::getIndex);
+      observedMillis.add(Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    long slowSeen = observedMillis.stream().filter(millis -> millis >= SLOW_MILLIS).count();
+    assertThat(slowSeen).isLessThanOrEqualTo(1);
+    assertThat(budget.hedges()).isPositive();
+    assertThat((double) budget.hedges()).isLessThanOrEqualTo(POLICY.budgetRatio() * budget.requests() + POLICY.maxBurst());
+  }
+}
@@ -0,0 +1,52 @@
+package software.amazon.qbusiness.common.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.services.qbusiness.model.CreateIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.DeleteIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
+import software.amazon.awssdk.services.qbusiness.model.ListIndicesRequest;
+import software.amazon.awssdk.services.qbusiness.model.ThrottlingException;
+import software.amazon.awssdk.services.qbusiness.model.ValidationException;
+
+class RetryClassifierTest {
+
+  @Test
+  void testThrottlingIsAlwaysRetryable() {
+    assertThat(RetryClassifier.classify(DeleteIndexRequest.builder().build(), "DeleteIndex", ThrottlingException.builder().build()))
+        .isEqualTo(RetryClassifier.Retry.THROTTLED);
+  }
+
+  @Test
+  void testServerErrorsAndIoFailuresAreTransient() {
+    assertThat(RetryClassifier.isTransient(InternalServerException.builder().build())).isTrue();
+    assertThat(RetryClassifier.isTransient(SdkServiceException.builder().statusCode(503).build())).isTrue();
+    assertThat(RetryClassifier.isTransient(SdkClientException.create("reset", new IOException("connection reset")))).isTrue();
+
+    assertThat(RetryClassifier.isTransient(ValidationException.builder().statusCode(400).build())).isFalse();
+    assertThat(RetryClassifier.isTransient(SdkClientException.create("unable to marshall"))).isFalse();
+  }
+
+  @Test
+  void testOnlyReadsAndTokenedCreatesAreIdempotent() {
+    assertThat(RetryClassifier.isIdempotent(GetIndexRequest.builder().build(), "GetIndex")).isTrue();
+    assertThat(RetryClassifier.isIdempotent(ListIndicesRequest.builder().build(), "ListIndices")).isTrue();
+    assertThat(RetryClassifier.isIdempotent(CreateIndexRequest.builder().clientToken("token").build(), "CreateIndex")).isTrue();
+
+    assertThat(RetryClassifier.isIdempotent(CreateIndexRequest.builder().build(), "CreateIndex")).isFalse();
+    assertThat(RetryClassifier.isIdempotent(DeleteIndexRequest.builder().build(), "DeleteIndex")).isFalse();
+  }
+
+  @Test
+  void testTransientErrorsOfNonIdempotentCallsAreNotRetried() {
+    assertThat(RetryClassifier.classify(DeleteIndexRequest.builder().build(), "DeleteIndex", InternalServerException.builder().build()))
+        .isEqualTo(RetryClassifier.Retry.NONE);
+  }
+}
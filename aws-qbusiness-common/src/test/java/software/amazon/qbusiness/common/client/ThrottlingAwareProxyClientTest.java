@@ -0,0 +1,215 @@
+package software.amazon.qbusiness.common.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.CreateIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.CreateIndexResponse;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexResponse;
+import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
+import software.amazon.awssdk.services.qbusiness.model.ThrottlingException;
+import software.amazon.awssdk.services.qbusiness.model.UpdateIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.ValidationException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.qbusiness.common.TimeBudget;
+
+class ThrottlingAwareProxyClientTest {
+  private static final String ACCOUNT = "123456789012";
+
+  private QBusinessClient sdkClient;
+  private Logger logger;
+  private AtomicLong nanos;
+  private AdaptiveRateLimiter limiter;
+  private List<Long> sleeps;
+  private long remainingMillis;
+  private ProxyClient<QBusinessClient> underTest;
+
+  @BeforeEach
+  void setUp() {
+    sdkClient = mock(QBusinessClient.class);
+    logger = mock(Logger.class);
+    nanos = new AtomicLong();
+    limiter = new AdaptiveRateLimiter(10.0, 0.5, 50.0, 0.5, 0.5, nanos::get);
+    sleeps = new ArrayList<>();
+    remainingMillis = 60_000L;
+
+    ProxyClient<QBusinessClient> delegate = new ProxyClient<>() {
+      @Override public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+          RequestT request,
+          Function<RequestT, ResponseT> function
+      ) {
+        return function.apply(request);
+      }
+
+      @Override public QBusinessClient client() {
+        return sdkClient;
+      }
+    };
+
+    underTest = new ThrottlingAwareProxyClient<>(
+        delegate, limiter, ACCOUNT, TimeBudget.of(() -> remainingMillis), millis -> {
+          sleeps.add(millis);
+          nanos.addAndGet(millis * 1_000_000L);
+        }, logger
+    );
+  }
+
+  @Test
+  void testSuccessfulCallIncreasesRate() {
+    GetIndexResponse expected = GetIndexResponse.builder().indexId("index").build();
+    when(sdkClient.getIndex(any(GetIndexRequest.class))).thenReturn(expected);
+
+    GetIndexResponse response = underTest.injectCredentialsAndInvokeV2(GetIndexRequest.builder().build(), sdkClient::getIndex);
+
+    assertThat(response).isEqualTo(expected);
+    assertThat(sleeps).isEmpty();
+    assertThat(limiter.snapshot(ACCOUNT, "GetIndex").ratePerSecond()).isEqualTo(10.5);
+  }
+
+  @Test
+  void testThrottledCallIsRetriedWithinBudget() {
+    GetIndexResponse expected = GetIndexResponse.builder().indexId("index").build();
+    when(sdkClient.getIndex(any(GetIndexRequest.class)))
+        .thenThrow(ThrottlingException.builder().build())
+        .thenThrow(ThrottlingException.builder().build())
+        .thenReturn(expected);
+
+    GetIndexResponse response = underTest.injectCredentialsAndInvokeV2(GetIndexRequest.builder().build(), sdkClient::getIndex);
+
+    assertThat(response).isEqualTo(expected);
+    assertThat(sleeps).isNotEmpty();
+    AdaptiveRateLimiter.Snapshot snapshot = limiter.snapshot(ACCOUNT, "GetIndex");
+    assertThat(snapshot.throttledCalls()).isEqualTo(2);
+    assertThat(snapshot.rejectedCalls()).isZero();
+    assertThat(snapshot.ratePerSecond()).isEqualTo(3.0);
+    verify(sdkClient, times(3)).getIndex(any(GetIndexRequest.class));
+    verify(logger, atLeastOnce()).log(argThat(line -> line.contains("\"CurrentRate\"") && line.contains("\"_aws\"")));
+  }
+
+  @Test
+  void testThrottledCallIsRejectedWhenBudgetIsExhausted() {
+    remainingMillis = 1_000L;
+    ThrottlingException throttled = ThrottlingException.builder().message("slow down").build();
+    when(sdkClient.getIndex(any(GetIndexRequest.class))).thenThrow(throttled);
+
+    assertThatThrownBy(() -> underTest.injectCredentialsAndInvokeV2(GetIndexRequest.builder().build(), sdkClient::getIndex))
+        .isSameAs(throttled);
+
+    assertThat(limiter.snapshot(ACCOUNT, "GetIndex").rejectedCalls()).isEqualTo(1);
+    verify(sdkClient, times(1)).getIndex(any(GetIndexRequest.class));
+    verify(logger).log(argThat(line -> line.contains("\"RejectedCalls\":1.0")));
+  }
+
+  @Test
+  void testNonThrottlingErrorsAreNotRetried() {
+    ValidationException invalid = ValidationException.builder().message("bad").build();
+    when(sdkClient.getIndex(any(GetIndexRequest.class))).thenThrow(invalid);
+
+    assertThatThrownBy(() -> underTest.injectCredentialsAndInvokeV2(GetIndexRequest.builder().build(), sdkClient::getIndex))
+        .isSameAs(invalid);
+
+    verify(sdkClient, times(1)).getIndex(any(GetIndexRequest.class));
+    assertThat(limiter.snapshot(ACCOUNT, "GetIndex").throttledCalls()).isZero();
+  }
+
+  @Test
+  void testTransientErrorOnReadIsRetried() {
+    GetIndexResponse expected = GetIndexResponse.builder().indexId("index").build();
+    when(sdkClient.getIndex(any(GetIndexRequest.class)))
+        .thenThrow(internalError())
+        .thenReturn(expected);
+
+    GetIndexResponse response = underTest.injectCredentialsAndInvokeV2(GetIndexRequest.builder().build(), sdkClient::getIndex);
+
+    assertThat(response).isEqualTo(expected);
+    assertThat(sleeps).hasSize(1);
+    assertThat(limiter.snapshot(ACCOUNT, "GetIndex").throttledCalls()).isZero();
+    verify(sdkClient, times(2)).getIndex(any(GetIndexRequest.class));
+    verify(logger).log(argThat(line -> line.contains("\"TransientRetries\":1")));
+  }
+
+  @Test
+  void testTransientRetriesAreBounded() {
+    InternalServerException failure = internalError();
+    when(sdkClient.getIndex(any(GetIndexRequest.class))).thenThrow(failure);
+
+    assertThatThrownBy(() -> underTest.injectCredentialsAndInvokeV2(GetIndexRequest.builder().build(), sdkClient::getIndex))
+        .isSameAs(failure);
+
+    verify(sdkClient, times(ThrottlingAwareProxyClient.MAX_TRANSIENT_RETRIES + 1)).getIndex(any(GetIndexRequest.class));
+  }
+
+  @Test
+  void testTransientErrorIsNotRetriedWhenBudgetIsExhausted() {
+    remainingMillis = 1_000L;
+    InternalServerException failure = internalError();
+    when(sdkClient.getIndex(any(GetIndexRequest.class))).thenThrow(failure);
+
+    assertThatThrownBy(() -> underTest.injectCredentialsAndInvokeV2(GetIndexRequest.builder().build(), sdkClient::getIndex))
+        .isSameAs(failure);
+
+    verify(sdkClient, times(1)).getIndex(any(GetIndexRequest.class));
+  }
+
+  @Test
+  void testTransientErrorOnCreateWithClientTokenIsRetried() {
+    CreateIndexResponse expected = CreateIndexResponse.builder().indexId("index").build();
+    when(sdkClient.createIndex(any(CreateIndexRequest.class)))
+        .thenThrow(internalError())
+        .thenReturn(expected);
+
+    CreateIndexResponse response = underTest.injectCredentialsAndInvokeV2(
+        CreateIndexRequest.builder().clientToken("token").build(), sdkClient::createIndex
+    );
+
+    assertThat(response).isEqualTo(expected);
+    verify(sdkClient, times(2)).createIndex(any(CreateIndexRequest.class));
+  }
+
+  @Test
+  void testTransientErrorOnNonIdempotentCallIsNotRetried() {
+    InternalServerException failure = internalError();
+    when(sdkClient.updateIndex(any(UpdateIndexRequest.class))).thenThrow(failure);
+
+    assertThatThrownBy(() -> underTest.injectCredentialsAndInvokeV2(UpdateIndexRequest.builder().build(), sdkClient::updateIndex))
+        .isSameAs(failure);
+
+    assertThat(sleeps).isEmpty();
+    verify(sdkClient, times(1)).updateIndex(any(UpdateIndexRequest.class));
+  }
+
+  private static InternalServerException internalError() {
+    return InternalServerException.builder().message("boom").statusCode(500).build();
+  }
+
+  @Test
+  void testWrappedClientsAreBuiltWithoutSdkRetries() {
+    assertThat(ThrottlingAwareProxyClient.CLIENT_OVERRIDE_CONFIGURATION.retryStrategy())
+        .hasValueSatisfying(strategy -> assertThat(strategy.maxAttempts()).isEqualTo(1));
+  }
+
+  @Test
+  void testClientIsDelegated() {
+    assertThat(underTest.client()).isSameAs(sdkClient);
+  }
+}
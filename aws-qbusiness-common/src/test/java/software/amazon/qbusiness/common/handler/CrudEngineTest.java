@@ -0,0 +1,266 @@
+package software.amazon.qbusiness.common.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.AccessDeniedException;
+import software.amazon.awssdk.services.qbusiness.model.ErrorDetail;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexResponse;
+import software.amazon.awssdk.services.qbusiness.model.IndexStatus;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.qbusiness.model.Tag;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.logging.HandlerLogger;
+import software.amazon.qbusiness.common.stabilization.DeadlineAwareStabilizer;
+import software.amazon.qbusiness.common.stabilization.GetResponseAware;
+import software.amazon.qbusiness.common.stabilization.LastGetResponse;
+import software.amazon.qbusiness.common.stabilization.ParentReadinessGate;
+import software.amazon.qbusiness.common.stabilization.StabilizationAware;
+import software.amazon.qbusiness.common.stabilization.StabilizationProgress;
+
+class CrudEngineTest {
+  private static final Credentials MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
+  private static final String APP_ID = "63451660-1596-4f1a-a3c8-e5f4b33d9fe5";
+  private static final String INDEX_ID = "11111111-1596-4f1a-a3c8-e5f4b33d9fe5";
+
+  @Getter
+  private static class TestContext extends StdCallbackContext implements StabilizationAware {
+    private final Map<String, StabilizationProgress> stabilizationProgress = new HashMap<>();
+  }
+
+  @Getter
+  private static class ReusingTestContext extends TestContext implements GetResponseAware {
+    private final LastGetResponse lastGetResponse = new LastGetResponse();
+  }
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  private static class TestModel {
+    private String applicationId;
+    private String indexId;
+    private String status;
+    private List<String> tagKeys;
+  }
+
+  private static final ResourceDescriptor<TestModel, GetIndexResponse> DESCRIPTOR =
+      ResourceDescriptor.<TestModel, GetIndexResponse>builder()
+          .typeName("AWS::QBusiness::Index")
+          .callGraphPrefix("AWS-QBusiness-Index")
+          .primaryIdentifier(model -> model.getApplicationId() + "|" + model.getIndexId())
+          .arnBuilder((request, model) -> "arn:aws:qbusiness:us-west-2:123456789012:application/%s/index/%s"
+              .formatted(model.getApplicationId(), model.getIndexId()))
+          .get(Operation.of("GetIndex",
+              (TestModel model) -> GetIndexRequest.builder().applicationId(model.getApplicationId()).indexId(model.getIndexId()).build(),
+              QBusinessClient::getIndex))
+          .responseType(GetIndexResponse.class)
+          .fromGetResponse(response -> new TestModel(response.applicationId(), response.indexId(), response.statusAsString(), null))
+          .toListTagsRequest((request, model) -> ListTagsForResourceRequest.builder().resourceARN(model.getIndexId()).build())
+          .withTags((response, model) -> {
+            model.setTagKeys(response.tags().stream().map(Tag::key).toList());
+            return model;
+          })
+          .statusExtractor(GetIndexResponse::statusAsString)
+          .stableStates(Set.of(IndexStatus.ACTIVE.toString()))
+          .failedStates(Set.of(IndexStatus.FAILED.toString()))
+          .failureReason(response -> response.error() == null ? null : response.error().errorMessage())
+          .build();
+
+  @Mock
+  private QBusinessClient mockClient;
+  @Mock
+  private LoggerProxy mockLoggerProxy;
+
+  private final Logger logger = mock(Logger.class);
+  private AutoCloseable testAutoCloseable;
+  private AmazonWebServicesClientProxy proxy;
+  private ProxyClient<QBusinessClient> proxyClient;
+  private CrudEngine<TestModel, TestContext, GetIndexResponse> underTest;
+  private TestModel model;
+
+  @BeforeEach
+  void setUp() {
+    testAutoCloseable = MockitoAnnotations.openMocks(this);
+    proxy = new AmazonWebServicesClientProxy(mockLoggerProxy, MOCK_CREDENTIALS, () -> Duration.ofMinutes(5).toMillis());
+    proxyClient = new ProxyClient<>() {
+      @Override public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+          RequestT requestT,
+          Function<RequestT, ResponseT> function
+      ) {
+        return proxy.injectCredentialsAndInvokeV2(requestT, function);
+      }
+
+      @Override public QBusinessClient client() {
+        return mockClient;
+      }
+    };
+    underTest = new CrudEngine<>(DESCRIPTOR);
+    model = new TestModel(APP_ID, INDEX_ID, null, null);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    verifyNoMoreInteractions(mockClient);
+    testAutoCloseable.close();
+  }
+
+  @Test
+  void testIsStabilizedWhenStatusIsStable() {
+    when(mockClient.getIndex(any(GetIndexRequest.class))).thenReturn(getIndexResponse(IndexStatus.ACTIVE));
+
+    assertThat(underTest.isStabilized(model, proxyClient, HandlerLogger.wrap(logger))).isTrue();
+
+    verify(mockClient).getIndex(any(GetIndexRequest.class));
+  }
+
+  @Test
+  void testIsNotStabilizedWhileTransitioning() {
+    when(mockClient.getIndex(any(GetIndexRequest.class))).thenReturn(getIndexResponse(IndexStatus.CREATING));
+
+    assertThat(underTest.isStabilized(model, proxyClient, HandlerLogger.wrap(logger))).isFalse();
+
+    verify(mockClient).getIndex(any(GetIndexRequest.class));
+  }
+
+  @Test
+  void testIsStabilizedThrowsWhenStatusIsFailed() {
+    when(mockClient.getIndex(any(GetIndexRequest.class))).thenReturn(getIndexResponse(IndexStatus.FAILED).toBuilder()
+        .error(ErrorDetail.builder().errorMessage("Index capacity exceeded").build())
+        .build());
+
+    assertThatThrownBy(() -> underTest.isStabilized(model, proxyClient, HandlerLogger.wrap(logger)))
+        .isInstanceOf(CfnNotStabilizedException.class)
+        .hasRootCauseMessage("Index capacity exceeded");
+
+    verify(mockClient).getIndex(any(GetIndexRequest.class));
+  }
+
+  @Test
+  void testReadTranslatesGetResponseAndAttachesTags() {
+    when(mockClient.getIndex(any(GetIndexRequest.class))).thenReturn(getIndexResponse(IndexStatus.ACTIVE));
+    when(mockClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder()
+        .tags(List.of(Tag.builder().key("Category").value("Chat").build()))
+        .build());
+
+    ProgressEvent<TestModel, TestContext> result = underTest.read(proxy, request(), new TestContext(), proxyClient, logger);
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(result.getResourceModel()).isEqualTo(new TestModel(APP_ID, INDEX_ID, "ACTIVE", List.of("Category")));
+    verify(mockClient).getIndex(any(GetIndexRequest.class));
+    verify(mockClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(mockClient, atLeastOnce()).serviceName();
+  }
+
+  @Test
+  void testReadReusesTheResponseThatStabilizedTheResource() {
+    when(mockClient.getIndex(any(GetIndexRequest.class))).thenReturn(getIndexResponse(IndexStatus.ACTIVE));
+    when(mockClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder()
+        .tags(List.of())
+        .build());
+    ReusingTestContext context = new ReusingTestContext();
+
+    ProgressEvent<TestModel, ReusingTestContext> stabilized = new CrudEngine<TestModel, ReusingTestContext, GetIndexResponse>(DESCRIPTOR)
+        .stabilize("Create", ProgressEvent.progress(model, context), new DeadlineAwareStabilizer(Constant.of()
+            .timeout(Duration.ofMinutes(1)).delay(Duration.ofSeconds(1)).build()), TimeBudget.startingNow(), proxyClient, "GetIndex", logger);
+    ProgressEvent<TestModel, ReusingTestContext> result = new CrudEngine<TestModel, ReusingTestContext, GetIndexResponse>(DESCRIPTOR)
+        .read(proxy, request(), stabilized.getCallbackContext(), proxyClient, logger);
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(result.getResourceModel().getStatus()).isEqualTo("ACTIVE");
+    verify(mockClient, times(1)).getIndex(any(GetIndexRequest.class));
+    verify(mockClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(mockClient, atLeastOnce()).serviceName();
+  }
+
+  @Test
+  void testReadMapsServiceErrors() {
+    when(mockClient.getIndex(any(GetIndexRequest.class))).thenThrow(ResourceNotFoundException.builder().build());
+
+    ProgressEvent<TestModel, TestContext> result = underTest.read(proxy, request(), new TestContext(), proxyClient, logger);
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.FAILED);
+    assertThat(result.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    verify(mockClient, times(1)).getIndex(any(GetIndexRequest.class));
+    verify(mockClient, atLeastOnce()).serviceName();
+  }
+
+  @Test
+  void testAwaitApplicationMapsServiceErrorsForTheResource() {
+    when(mockClient.getApplication(any(GetApplicationRequest.class))).thenThrow(AccessDeniedException.builder().build());
+    ProgressEvent<TestModel, TestContext> progress = ProgressEvent.progress(model, new TestContext());
+
+    ProgressEvent<TestModel, TestContext> result = underTest.awaitApplication("Create::AwaitApplication", progress,
+        new ParentReadinessGate(Constant.of().timeout(Duration.ofMinutes(1)).delay(Duration.ofSeconds(1)).build()),
+        TimeBudget.startingNow(), proxyClient, TestModel::getApplicationId, logger);
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.FAILED);
+    assertThat(result.getErrorCode()).isEqualTo(HandlerErrorCode.AccessDenied);
+    verify(mockClient).getApplication(any(GetApplicationRequest.class));
+  }
+
+  @Test
+  void testCreateRequiresCreateOperation() {
+    ProgressEvent<TestModel, TestContext> progress = ProgressEvent.progress(model, new TestContext());
+
+    assertThatThrownBy(() -> underTest.create(proxy, request(), progress, proxyClient, logger))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("create");
+  }
+
+  private ResourceHandlerRequest<TestModel> request() {
+    return ResourceHandlerRequest.<TestModel>builder()
+        .desiredResourceState(model)
+        .build();
+  }
+
+  private static GetIndexResponse getIndexResponse(final IndexStatus status) {
+    return GetIndexResponse.builder()
+        .applicationId(APP_ID)
+        .indexId(INDEX_ID)
+        .status(status)
+        .build();
+  }
+}
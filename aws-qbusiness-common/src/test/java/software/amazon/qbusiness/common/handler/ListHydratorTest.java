@@ -0,0 +1,112 @@
+package software.amazon.qbusiness.common.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
+import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.qbusiness.common.TimeBudget;
+
+class ListHydratorTest {
+  private static final String TYPE_NAME = "AWS::QBusiness::Test";
+  private static final String SCOPE = "aws/123456789012/us-west-2";
+  private static final TimeBudget AMPLE = TimeBudget.of(() -> 60_000L);
+
+  private final Logger logger = mock(Logger.class);
+
+  @Test
+  void testReturnsTheSummariesWhenDisabled() {
+    List<String> summaries = List.of("a", "b");
+
+    List<String> result = ListHydrator.DISABLED.hydrate(TYPE_NAME, summaries, summary -> {
+      throw new AssertionError("must not read when disabled");
+    }, AMPLE, logger);
+
+    assertThat(result).isSameAs(summaries);
+  }
+
+  @Test
+  void testHydratesEveryItemInPageOrder() {
+    List<String> result = new ListHydrator(3).hydrate(TYPE_NAME, List.of("a", "b", "c", "d", "e"), String::toUpperCase, AMPLE, logger);
+
+    assertThat(result).containsExactly("A", "B", "C", "D", "E");
+  }
+
+  @Test
+  void testReadsNoMoreItemsAtOnceThanTheParallelism() {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger peak = new AtomicInteger();
+
+    new ListHydrator(2).hydrate(TYPE_NAME, List.of("a", "b", "c", "d", "e", "f"), summary -> {
+      peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(20);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      running.decrementAndGet();
+      return summary;
+    }, AMPLE, logger);
+
+    assertThat(peak.get()).isLessThanOrEqualTo(2);
+  }
+
+  @Test
+  void testDropsItemsDeletedSinceTheListAndKeepsTheSummaryOfFailedReads() {
+    List<String> result = new ListHydrator(2).hydrate(TYPE_NAME, List.of("a", "gone", "broken", "d"), summary -> switch (summary) {
+      case "gone" -> throw ResourceNotFoundException.builder().message("gone").build();
+      case "broken" -> throw InternalServerException.builder().message("boom").build();
+      default -> summary.toUpperCase();
+    }, AMPLE, logger);
+
+    assertThat(result).containsExactly("A", "broken", "D");
+  }
+
+  @Test
+  void testOnlyReadsItemsWhoseSummaryChangedSinceTheLastRead() {
+    SummaryDriftCache<String> driftCache = new SummaryDriftCache<>(
+        summary -> summary.substring(0, 1), summary -> null, summary -> null, summary -> summary, Duration.ofMinutes(5)
+    );
+    ListHydrator underTest = new ListHydrator(2);
+    underTest.hydrate(TYPE_NAME, List.of("a1", "b1", "c1"), String::toUpperCase, driftCache, SCOPE, AMPLE, logger);
+
+    List<String> read = new CopyOnWriteArrayList<>();
+    List<String> result = underTest.hydrate(TYPE_NAME, List.of("a1", "b2", "c1"), summary -> {
+      read.add(summary);
+      return summary.toUpperCase();
+    }, driftCache, SCOPE, AMPLE, logger);
+
+    assertThat(result).containsExactly("A1", "B2", "C1");
+    assertThat(read).containsExactly("b2");
+  }
+
+  @Test
+  void testReturnsSummariesForItemsNotReadBeforeTheDeadline() throws InterruptedException {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger remaining = new AtomicInteger(1_000);
+
+    List<String> result = new ListHydrator(2, Duration.ZERO).hydrate(TYPE_NAME, List.of("fast", "slow"), summary -> {
+      if (summary.equals("slow")) {
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      return summary.toUpperCase();
+    }, TimeBudget.of(() -> remaining.addAndGet(-400)), logger);
+
+    release.countDown();
+    assertThat(result).containsExactly("FAST", "slow");
+  }
+}
@@ -0,0 +1,129 @@
+package software.amazon.qbusiness.common.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SummaryDriftCacheTest {
+  private static final String SCOPE = "aws/123456789012/us-west-2";
+  private static final Instant START = Instant.ofEpochMilli(1_700_000_000_000L);
+
+  private record Item(String id, String status, String displayName, String updatedAt) {
+  }
+
+  private MutableClock clock;
+  private SummaryDriftCache<Item> underTest;
+
+  @BeforeEach
+  void setUp() {
+    clock = new MutableClock();
+    underTest = cache(Duration.ofMinutes(5), 2);
+  }
+
+  private SummaryDriftCache<Item> cache(final Duration maxAge, final int maxEntries) {
+    return new SummaryDriftCache<>(Item::id, Item::status, Item::displayName, Item::updatedAt, maxAge, maxEntries, clock);
+  }
+
+  @Test
+  void testReturnsTheLastReadWhileTheSummaryIsUnchanged() {
+    Item summary = new Item("a", "ACTIVE", "A", "t1");
+    Item read = new Item("a", "ACTIVE", "A with details", "t1");
+    underTest.remember(SCOPE, summary, read);
+
+    assertThat(underTest.lookup(SCOPE, new Item("a", "ACTIVE", "A", "t1"))).contains(read);
+  }
+
+  @Test
+  void testMissesOnceAnySummaryFieldChanges() {
+    Item summary = new Item("a", "ACTIVE", "A", "t1");
+    underTest.remember(SCOPE, summary, summary);
+
+    assertThat(underTest.lookup(SCOPE, new Item("a", "UPDATING", "A", "t1"))).isEmpty();
+    underTest.remember(SCOPE, summary, summary);
+    assertThat(underTest.lookup(SCOPE, new Item("a", "ACTIVE", "B", "t1"))).isEmpty();
+    underTest.remember(SCOPE, summary, summary);
+    assertThat(underTest.lookup(SCOPE, new Item("a", "ACTIVE", "A", "t2"))).isEmpty();
+  }
+
+  @Test
+  void testDoesNotAnswerAnotherScope() {
+    Item summary = new Item("a", "ACTIVE", "A", "t1");
+    underTest.remember(SCOPE, summary, summary);
+
+    assertThat(underTest.lookup("aws/210987654321/us-west-2", summary)).isEmpty();
+  }
+
+  @Test
+  void testExpiresReadsOlderThanTheMaxAge() {
+    Item summary = new Item("a", "ACTIVE", "A", "t1");
+    underTest.remember(SCOPE, summary, summary);
+
+    clock.advance(Duration.ofMinutes(5).plusSeconds(1));
+
+    assertThat(underTest.lookup(SCOPE, summary)).isEmpty();
+  }
+
+  @Test
+  void testDoesNotCacheSummariesWithoutAnUpdateTime() {
+    Item summary = new Item("a", "ACTIVE", "A", null);
+    underTest.remember(SCOPE, summary, summary);
+
+    assertThat(underTest.lookup(SCOPE, summary)).isEmpty();
+  }
+
+  @Test
+  void testEvictsTheLeastRecentlyUsedRead() {
+    Item a = new Item("a", "ACTIVE", "A", "t1");
+    Item b = new Item("b", "ACTIVE", "B", "t1");
+    Item c = new Item("c", "ACTIVE", "C", "t1");
+    underTest.remember(SCOPE, a, a);
+    underTest.remember(SCOPE, b, b);
+    underTest.lookup(SCOPE, a);
+
+    underTest.remember(SCOPE, c, c);
+
+    assertThat(underTest.lookup(SCOPE, a)).contains(a);
+    assertThat(underTest.lookup(SCOPE, b)).isEmpty();
+    assertThat(underTest.lookup(SCOPE, c)).contains(c);
+  }
+
+  @Test
+  void testIsDisabledWithoutAMaxAge() {
+    SummaryDriftCache<Item> disabled = cache(Duration.ZERO, 2);
+    Item summary = new Item("a", "ACTIVE", "A", "t1");
+    disabled.remember(SCOPE, summary, summary);
+
+    assertThat(disabled.enabled()).isFalse();
+    assertThat(disabled.lookup(SCOPE, summary)).isEmpty();
+  }
+
+  private static final class MutableClock extends Clock {
+    private Instant now = START;
+
+    void advance(final Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(final ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package software.amazon.qbusiness.common.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.qbusiness.common.logging.HandlerLogger.Level;
+
+class HandlerLoggerTest {
+  private List<String> lines;
+  private HandlerLogger underTest;
+
+  @BeforeEach
+  void setUp() {
+    lines = new ArrayList<>();
+    underTest = new HandlerLogger(lines::add, Level.INFO, 10, Set.of("configuration"));
+  }
+
+  @Test
+  void testMessagesBelowThresholdAreNeverFormatted() {
+    Object argument = new Object() {
+      @Override
+      public String toString() {
+        throw new AssertionError("argument should not be formatted");
+      }
+    };
+    @SuppressWarnings("unchecked")
+    Supplier<String> supplier = mock(Supplier.class);
+
+    underTest.debug("value: %s", argument);
+    underTest.log(Level.DEBUG, supplier);
+    underTest.event(Level.DEBUG, "event").field("value", argument).field("count", 1L).log();
+
+    assertThat(lines).isEmpty();
+    verify(supplier, never()).get();
+  }
+
+  @Test
+  void testMessagesAtOrAboveThresholdArePrefixedWithLevel() {
+    underTest.info("created %s", "index");
+    underTest.warn("plain");
+    underTest.log(Level.ERROR, () -> "supplied");
+
+    assertThat(lines).containsExactly("[INFO] created index", "[WARN] plain", "[ERROR] supplied");
+  }
+
+  @Test
+  void testEventFieldsAreTruncatedAndRedacted() {
+    underTest.event(Level.INFO, "Calling service")
+        .field("id", "short")
+        .field("name", "a-very-long-display-name")
+        .field("Configuration", "{\"secret\":\"value\"}")
+        .field("attempts", 3L)
+        .field("missing", null)
+        .log();
+
+    assertThat(lines).containsExactly(
+        "[INFO] Calling service id=short name=a-very-lon...<truncated 14 chars> Configuration=<redacted> attempts=3 missing=null"
+    );
+  }
+
+  @Test
+  void testBufferIsReusedAcrossLines() {
+    underTest.event(Level.INFO, "first").field("a", "1").log();
+    underTest.event(Level.INFO, "second").log();
+
+    assertThat(lines).containsExactly("[INFO] first a=1", "[INFO] second");
+  }
+
+  @Test
+  void testWrapDefaultsToInfo() {
+    Logger logger = mock(Logger.class);
+    HandlerLogger wrapped = HandlerLogger.wrap(logger, Level.fromName("not-a-level"));
+
+    assertThat(wrapped.isEnabled(Level.INFO)).isTrue();
+    assertThat(wrapped.isEnabled(Level.DEBUG)).isFalse();
+    wrapped.debug("hidden");
+    verifyNoInteractions(logger);
+    assertThat(Level.fromName(" debug ")).isEqualTo(Level.DEBUG);
+    assertThat(Level.fromName(null)).isEqualTo(Level.INFO);
+  }
+}
@@ -0,0 +1,51 @@
+package software.amazon.qbusiness.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+class EmbeddedMetricsTest {
+  private static final Clock CLOCK = Clock.fixed(Instant.ofEpochMilli(1_700_000_000_000L), ZoneOffset.UTC);
+
+  @Test
+  void testRecordFollowsEmbeddedMetricFormat() throws Exception {
+    String json = EmbeddedMetrics.record("Test/Namespace", CLOCK)
+        .dimension("ApiName", "GetIndex")
+        .metric("CurrentRate", 2.5, EmbeddedMetrics.Unit.COUNT_PER_SECOND)
+        .metric("RejectedCalls", 3L, EmbeddedMetrics.Unit.COUNT)
+        .toJson();
+
+    JsonNode root = new ObjectMapper().readTree(json);
+    JsonNode directive = root.path("_aws").path("CloudWatchMetrics").get(0);
+    assertThat(root.path("_aws").path("Timestamp").asLong()).isEqualTo(1_700_000_000_000L);
+    assertThat(directive.path("Namespace").asText()).isEqualTo("Test/Namespace");
+    assertThat(directive.path("Dimensions").get(0).get(0).asText()).isEqualTo("ApiName");
+    assertThat(directive.path("Metrics").get(0).path("Name").asText()).isEqualTo("CurrentRate");
+    assertThat(directive.path("Metrics").get(0).path("Unit").asText()).isEqualTo("Count/Second");
+    assertThat(root.path("ApiName").asText()).isEqualTo("GetIndex");
+    assertThat(root.path("CurrentRate").asDouble()).isEqualTo(2.5);
+    assertThat(root.path("RejectedCalls").asDouble()).isEqualTo(3.0);
+  }
+
+  @Test
+  void testEmitWritesToLogger() {
+    Logger logger = mock(Logger.class);
+    EmbeddedMetrics metrics = EmbeddedMetrics.record("Test/Namespace", CLOCK)
+        .metric("Calls", 1, EmbeddedMetrics.Unit.COUNT);
+
+    metrics.emit(logger);
+
+    verify(logger).log(metrics.toJson());
+  }
+}
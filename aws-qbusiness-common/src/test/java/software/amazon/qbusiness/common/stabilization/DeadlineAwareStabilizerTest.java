@@ -0,0 +1,142 @@
+package software.amazon.qbusiness.common.stabilization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import lombok.Getter;
+import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.TimeBudget;
+
+class DeadlineAwareStabilizerTest {
+  private static final String STAGE = "Test::Create";
+  private static final Clock CLOCK = Clock.fixed(Instant.ofEpochMilli(1_700_000_000_000L), ZoneOffset.UTC);
+
+  @Getter
+  private static class TestContext extends StdCallbackContext implements StabilizationAware {
+    private final Map<String, StabilizationProgress> stabilizationProgress = new HashMap<>();
+  }
+
+  private final Logger logger = mock(Logger.class);
+  private List<Long> sleeps;
+  private DeadlineAwareStabilizer underTest;
+  private TestContext context;
+
+  @BeforeEach
+  void setUp() {
+    sleeps = new ArrayList<>();
+    Constant backOff = Constant.of().delay(Duration.ofSeconds(5)).timeout(Duration.ofSeconds(30)).build();
+    underTest = new DeadlineAwareStabilizer(backOff, Duration.ofSeconds(10), CLOCK, sleeps::add);
+    context = new TestContext();
+  }
+
+  @Test
+  void testPollsLocallyWhileBudgetAllows() {
+    AtomicInteger calls = new AtomicInteger();
+
+    ProgressEvent<String, TestContext> result = underTest.stabilize(
+        STAGE, ProgressEvent.progress("model", context), TimeBudget.of(() -> 60_000L),
+        model -> calls.incrementAndGet() == 3, this::failed, logger
+    );
+
+    assertThat(result.isInProgress()).isTrue();
+    assertThat(result.getCallbackDelaySeconds()).isZero();
+    assertThat(sleeps).containsExactly(5_000L, 5_000L);
+    assertThat(context.getStabilizationProgress().get(STAGE)).isEqualTo(new StabilizationProgress(3, CLOCK.millis(), true));
+  }
+
+  @Test
+  void testHandsOffWhenBudgetIsShort() {
+    ProgressEvent<String, TestContext> result = underTest.stabilize(
+        STAGE, ProgressEvent.progress("model", context), TimeBudget.of(() -> 12_000L),
+        model -> false, this::failed, logger
+    );
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(result.getCallbackDelaySeconds()).isEqualTo(5);
+    assertThat(result.getResourceModel()).isEqualTo("model");
+    assertThat(sleeps).isEmpty();
+    assertThat(context.getStabilizationProgress().get(STAGE).getAttempts()).isEqualTo(1);
+  }
+
+  @Test
+  void testResumesFromContextAndSkipsCompletedStages() {
+    context.getStabilizationProgress().put(STAGE, new StabilizationProgress(4, CLOCK.millis(), false));
+    context.getStabilizationProgress().put("Test::Done", new StabilizationProgress(2, CLOCK.millis(), true));
+
+    ProgressEvent<String, TestContext> resumed = underTest.stabilize(
+        STAGE, ProgressEvent.progress("model", context), TimeBudget.of(() -> 60_000L),
+        model -> true, this::failed, logger
+    );
+    ProgressEvent<String, TestContext> skipped = underTest.stabilize(
+        "Test::Done", ProgressEvent.progress("model", context), TimeBudget.of(() -> 60_000L),
+        model -> {
+          throw new IllegalStateException("should not be polled");
+        }, this::failed, logger
+    );
+
+    assertThat(resumed.isInProgress()).isTrue();
+    assertThat(context.getStabilizationProgress().get(STAGE).getAttempts()).isEqualTo(5);
+    assertThat(skipped.isInProgress()).isTrue();
+  }
+
+  @Test
+  void testFailsOnceBackOffTimeoutIsExceeded() {
+    context.getStabilizationProgress().put(STAGE, new StabilizationProgress(6, CLOCK.millis(), false));
+
+    ProgressEvent<String, TestContext> result = underTest.stabilize(
+        STAGE, ProgressEvent.progress("model", context), TimeBudget.of(() -> 60_000L),
+        model -> false, this::failed, logger
+    );
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.FAILED);
+    assertThat(result.getErrorCode()).isEqualTo(HandlerErrorCode.NotStabilized);
+  }
+
+  @Test
+  void testServiceErrorsGoToErrorHandler() {
+    ProgressEvent<String, TestContext> result = underTest.stabilize(
+        STAGE, ProgressEvent.progress("model", context), TimeBudget.of(() -> 60_000L),
+        model -> {
+          throw InternalServerException.builder().message("boom").build();
+        }, this::failed, logger
+    );
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.FAILED);
+    assertThat(result.getErrorCode()).isEqualTo(HandlerErrorCode.GeneralServiceException);
+  }
+
+  @Test
+  void testHandlerExceptionsPropagate() {
+    assertThatThrownBy(() -> underTest.stabilize(
+        STAGE, ProgressEvent.progress("model", context), TimeBudget.of(() -> 60_000L),
+        model -> {
+          throw new CfnNotStabilizedException("Test::Resource", "id");
+        }, this::failed, logger
+    )).isInstanceOf(CfnNotStabilizedException.class);
+  }
+
+  private ProgressEvent<String, TestContext> failed(final Exception e) {
+    return ProgressEvent.failed("model", context, HandlerErrorCode.GeneralServiceException, e.getMessage());
+  }
+}
@@ -0,0 +1,63 @@
+package software.amazon.qbusiness.common.stabilization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationResponse;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexResponse;
+
+class LastGetResponseTest {
+  private static final Instant NOW = Instant.ofEpochMilli(1_700_000_000_000L);
+  private static final GetIndexResponse RESPONSE = GetIndexResponse.builder().indexId("index").build();
+
+  private static LastGetResponse recordedAt(final Instant recordedAt) {
+    final LastGetResponse holder = new LastGetResponse(Clock.fixed(recordedAt, ZoneOffset.UTC));
+    holder.record("app|index", RESPONSE);
+    return holder;
+  }
+
+  @Test
+  void testThatAFreshResponseIsHandedOutOnce() {
+    final LastGetResponse holder = recordedAt(NOW);
+
+    assertThat(holder.take("app|index", GetIndexResponse.class)).contains(RESPONSE);
+    assertThat(holder.take("app|index", GetIndexResponse.class)).isEmpty();
+  }
+
+  @Test
+  void testThatResponsesForAnotherResourceOrTypeAreNotReused() {
+    assertThat(recordedAt(NOW).take("app|other", GetIndexResponse.class)).isEmpty();
+    assertThat(recordedAt(NOW).take("app|index", GetApplicationResponse.class)).isEmpty();
+  }
+
+  @Test
+  void testThatStaleResponsesAreNotReused() {
+    final Instant[] now = {NOW};
+    final Clock clock = new Clock() {
+      @Override public ZoneOffset getZone() {
+        return ZoneOffset.UTC;
+      }
+
+      @Override public Clock withZone(final ZoneId zone) {
+        return this;
+      }
+
+      @Override public Instant instant() {
+        return now[0];
+      }
+    };
+    final LastGetResponse holder = new LastGetResponse(clock);
+
+    holder.record("app|index", RESPONSE);
+    now[0] = NOW.plus(LastGetResponse.MAX_AGE).plus(Duration.ofMillis(1));
+
+    assertThat(holder.take("app|index", GetIndexResponse.class)).isEmpty();
+  }
+}
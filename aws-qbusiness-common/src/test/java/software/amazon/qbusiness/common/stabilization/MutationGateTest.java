@@ -0,0 +1,128 @@
+package software.amazon.qbusiness.common.stabilization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import lombok.Getter;
+import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.TimeBudget;
+
+class MutationGateTest {
+  private static final String STAGE = "Test::Update::AwaitMutable";
+  private static final Set<String> TRANSITIONAL = Set.of("CREATING", "UPDATING");
+  private static final Clock CLOCK = Clock.fixed(Instant.ofEpochMilli(1_700_000_000_000L), ZoneOffset.UTC);
+
+  @Getter
+  private static class TestContext extends StdCallbackContext implements StabilizationAware {
+    private final Map<String, StabilizationProgress> stabilizationProgress = new HashMap<>();
+  }
+
+  private final Logger logger = mock(Logger.class);
+  private List<Long> sleeps;
+  private MutationGate underTest;
+  private TestContext context;
+
+  @BeforeEach
+  void setUp() {
+    sleeps = new ArrayList<>();
+    Constant backOff = Constant.of().delay(Duration.ofSeconds(5)).timeout(Duration.ofSeconds(30)).build();
+    underTest = new MutationGate(new DeadlineAwareStabilizer(backOff, Duration.ofSeconds(10), CLOCK, sleeps::add));
+    context = new TestContext();
+  }
+
+  private ProgressEvent<String, TestContext> await(final Iterator<String> statuses, final long remainingMillis) {
+    return underTest.awaitMutable(STAGE, ProgressEvent.progress("model", context), TimeBudget.of(() -> remainingMillis),
+        model -> statuses.next(), TRANSITIONAL,
+        error -> ProgressEvent.failed("model", context, HandlerErrorCode.NotFound, error.getMessage()), logger);
+  }
+
+  @Test
+  void testOpensRightAwayForASettledResource() {
+    ProgressEvent<String, TestContext> result = await(List.of("ACTIVE").iterator(), 60_000L);
+
+    assertThat(result.isInProgress()).isTrue();
+    assertThat(result.getCallbackDelaySeconds()).isZero();
+    assertThat(sleeps).isEmpty();
+  }
+
+  @Test
+  void testWaitsWhileTheResourceIsInTransition() {
+    ProgressEvent<String, TestContext> result = await(List.of("CREATING", "UPDATING", "ACTIVE").iterator(), 60_000L);
+
+    assertThat(result.isInProgress()).isTrue();
+    assertThat(sleeps).containsExactly(5_000L, 5_000L);
+    assertThat(context.getStabilizationProgress().get(STAGE).isComplete()).isTrue();
+  }
+
+  @Test
+  void testFailedStatusesAreLeftToTheMutation() {
+    assertThat(await(List.of("FAILED").iterator(), 60_000L).isInProgress()).isTrue();
+  }
+
+  @Test
+  void testHandsOffWhenTheBudgetIsShort() {
+    ProgressEvent<String, TestContext> result = await(List.of("UPDATING").iterator(), 12_000L);
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(result.getCallbackDelaySeconds()).isEqualTo(5);
+  }
+
+  @Test
+  void testFailsWithAConflictWhenTheResourceDoesNotSettle() {
+    context.getStabilizationProgress().put(STAGE, new StabilizationProgress(6, CLOCK.millis(), false));
+
+    ProgressEvent<String, TestContext> result = await(List.of("UPDATING").iterator(), 60_000L);
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.FAILED);
+    assertThat(result.getErrorCode()).isEqualTo(HandlerErrorCode.ResourceConflict);
+    assertThat(result.getMessage()).contains("UPDATING");
+  }
+
+  @Test
+  void testGetErrorsGoToTheErrorHandler() {
+    ProgressEvent<String, TestContext> result = underTest.awaitMutable(
+        STAGE, ProgressEvent.progress("model", context), TimeBudget.of(() -> 60_000L),
+        model -> {
+          throw ResourceNotFoundException.builder().message("gone").build();
+        }, TRANSITIONAL,
+        error -> ProgressEvent.failed("model", context, HandlerErrorCode.NotFound, error.getMessage()), logger
+    );
+
+    assertThat(result.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+  }
+
+  @Test
+  void testResourceGetErrorsAreMappedForTheResourceType() {
+    ProgressEvent<String, TestContext> result = underTest.awaitMutable(
+        STAGE, ProgressEvent.progress("model", context), TimeBudget.of(() -> 60_000L),
+        new MutationGate.Resource<>("AWS::QBusiness::Test", model -> model, "GetTest", TRANSITIONAL),
+        model -> {
+          throw ResourceNotFoundException.builder().message("gone").build();
+        }, logger
+    );
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.FAILED);
+    assertThat(result.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    assertThat(result.getMessage()).isEqualTo("gone");
+  }
+}
@@ -0,0 +1,130 @@
+package software.amazon.qbusiness.common.stabilization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import lombok.Getter;
+import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
+import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.TimeBudget;
+
+class ParentReadinessGateTest {
+  private static final String STAGE = "Test::Create::AwaitParent";
+  private static final Clock CLOCK = Clock.fixed(Instant.ofEpochMilli(1_700_000_000_000L), ZoneOffset.UTC);
+
+  @Getter
+  private static class TestContext extends StdCallbackContext implements StabilizationAware {
+    private final Map<String, StabilizationProgress> stabilizationProgress = new HashMap<>();
+  }
+
+  private final Logger logger = mock(Logger.class);
+  private List<Long> sleeps;
+  private ParentReadinessGate underTest;
+  private TestContext context;
+
+  @BeforeEach
+  void setUp() {
+    sleeps = new ArrayList<>();
+    Constant backOff = Constant.of().delay(Duration.ofSeconds(5)).timeout(Duration.ofSeconds(30)).build();
+    underTest = new ParentReadinessGate(new DeadlineAwareStabilizer(backOff, Duration.ofSeconds(10), CLOCK, sleeps::add));
+    context = new TestContext();
+  }
+
+  private ProgressEvent<String, TestContext> await(final Iterator<String> statuses, final long remainingMillis) {
+    return underTest.awaitReady(STAGE, ProgressEvent.progress("model", context), TimeBudget.of(() -> remainingMillis),
+        ParentReadinessGate.APPLICATION, model -> statuses.next(),
+        error -> ProgressEvent.failed("model", context, HandlerErrorCode.GeneralServiceException, error.getMessage()), logger);
+  }
+
+  @Test
+  void testOpensRightAwayForAnActiveParent() {
+    ProgressEvent<String, TestContext> result = await(List.of("ACTIVE").iterator(), 60_000L);
+
+    assertThat(result.isInProgress()).isTrue();
+    assertThat(result.getCallbackDelaySeconds()).isZero();
+    assertThat(sleeps).isEmpty();
+  }
+
+  @Test
+  void testWaitsForATransitioningParent() {
+    ProgressEvent<String, TestContext> result = await(List.of("CREATING", "UPDATING", "ACTIVE").iterator(), 60_000L);
+
+    assertThat(result.isInProgress()).isTrue();
+    assertThat(sleeps).containsExactly(5_000L, 5_000L);
+  }
+
+  @Test
+  void testAReadyParentIsNotReadAgain() {
+    Iterator<String> statuses = List.of("ACTIVE").iterator();
+    await(statuses, 60_000L);
+
+    ProgressEvent<String, TestContext> again = await(statuses, 60_000L);
+
+    assertThat(again.isInProgress()).isTrue();
+    assertThat(context.getStabilizationProgress().get(STAGE).getAttempts()).isEqualTo(1);
+  }
+
+  @Test
+  void testFailsFastForAFailedParent() {
+    ProgressEvent<String, TestContext> result = await(List.of("FAILED").iterator(), 60_000L);
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.FAILED);
+    assertThat(result.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+    assertThat(result.getMessage()).contains("AWS::QBusiness::Application", "FAILED");
+    assertThat(sleeps).isEmpty();
+  }
+
+  @Test
+  void testHandsOffWhenTheBudgetIsShort() {
+    ProgressEvent<String, TestContext> result = await(List.of("CREATING").iterator(), 12_000L);
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(result.getCallbackDelaySeconds()).isEqualTo(5);
+  }
+
+  @Test
+  void testAMissingParentIsAnInvalidRequest() {
+    ProgressEvent<String, TestContext> result = underTest.awaitReady(
+        STAGE, ProgressEvent.progress("model", context), TimeBudget.of(() -> 60_000L), ParentReadinessGate.INDEX,
+        model -> {
+          throw ResourceNotFoundException.builder().message("gone").build();
+        },
+        error -> ProgressEvent.failed("model", context, HandlerErrorCode.NotFound, error.getMessage()), logger
+    );
+
+    assertThat(result.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+    assertThat(result.getMessage()).contains("AWS::QBusiness::Index");
+  }
+
+  @Test
+  void testOtherErrorsGoToTheErrorHandler() {
+    ProgressEvent<String, TestContext> result = underTest.awaitReady(
+        STAGE, ProgressEvent.progress("model", context), TimeBudget.of(() -> 60_000L), ParentReadinessGate.APPLICATION,
+        model -> {
+          throw InternalServerException.builder().message("boom").build();
+        },
+        error -> ProgressEvent.failed("model", context, HandlerErrorCode.GeneralServiceException, error.getMessage()), logger
+    );
+
+    assertThat(result.getErrorCode()).isEqualTo(HandlerErrorCode.GeneralServiceException);
+  }
+}
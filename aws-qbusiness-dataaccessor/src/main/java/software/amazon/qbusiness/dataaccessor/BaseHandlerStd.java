@@ -10,6 +10,8 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.client.ThrottlingAwareProxyClient;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   @Override
@@ -22,7 +24,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
       proxy,
       request,
       callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
+      ThrottlingAwareProxyClient.wrap(
+          proxy.newProxy(ClientBuilder::getClient), request.getAwsAccountId(), TimeBudget.startingNow(), logger
+      ),
       logger
     );
   }
@@ -1,10 +1,15 @@
 package software.amazon.qbusiness.dataaccessor;
 
+import java.util.HashMap;
+import java.util.Map;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.qbusiness.common.stabilization.StabilizationAware;
+import software.amazon.qbusiness.common.stabilization.StabilizationProgress;
 
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
-public class CallbackContext extends StdCallbackContext {
+public class CallbackContext extends StdCallbackContext implements StabilizationAware {
+  private Map<String, StabilizationProgress> stabilizationProgress = new HashMap<>();
 }
@@ -4,6 +4,7 @@ import static software.amazon.qbusiness.common.ErrorUtils.handleError;
 import static software.amazon.qbusiness.dataaccessor.Constants.API_CREATE_DATA_ACCESSOR;
 import static software.amazon.qbusiness.dataaccessor.Utils.primaryIdentifier;
 
+import java.time.Duration;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.CreateDataAccessorRequest;
 import software.amazon.awssdk.services.qbusiness.model.CreateDataAccessorResponse;
@@ -12,10 +13,32 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.logging.HandlerLogger;
+import software.amazon.qbusiness.common.logging.HandlerLogger.Level;
+import software.amazon.qbusiness.common.stabilization.ParentReadinessGate;
 
 public class CreateHandler extends BaseHandlerStd {
+  private static final Constant DEFAULT_BACK_OFF_STRATEGY = Constant.of()
+      .timeout(Duration.ofHours(4))
+      .delay(Duration.ofSeconds(5))
+      .build();
+  private static final String STAGE_AWAIT_APPLICATION = "AWS-QBusiness-DataAccessor::Create::AwaitApplication";
+  private static final ParentReadinessGate.Child<ResourceModel> CHILD =
+      new ParentReadinessGate.Child<>(ResourceModel.TYPE_NAME, Utils::primaryIdentifier);
+
+  private final ParentReadinessGate parentGate;
   private Logger logger;
 
+  public CreateHandler() {
+    this(DEFAULT_BACK_OFF_STRATEGY);
+  }
+
+  public CreateHandler(Constant backOffStrategy) {
+    this.parentGate = new ParentReadinessGate(backOffStrategy);
+  }
+
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
       final AmazonWebServicesClientProxy proxy,
       final ResourceHandlerRequest<ResourceModel> request,
@@ -24,12 +47,15 @@ public class CreateHandler extends BaseHandlerStd {
       final Logger logger) {
 
     this.logger = logger;
+    final TimeBudget budget = TimeBudget.startingNow();
     this.logger.log(
         "[INFO] - [StackId: %s, ApplicationId: %s, DataAccessorId: %s] Entering Create Handler"
             .formatted(request.getStackId(), request.getDesiredResourceState().getApplicationId(),
                 request.getDesiredResourceState().getDataAccessorId()));
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> parentGate.awaitApplication(STAGE_AWAIT_APPLICATION, progress, budget, proxyClient, CHILD,
+            ResourceModel::getApplicationId, logger))
         .then(progress ->
             proxy.initiate("AWS-QBusiness-DataAccessor::Create", proxyClient,
                     progress.getResourceModel(), progress.getCallbackContext())
@@ -49,7 +75,7 @@ public class CreateHandler extends BaseHandlerStd {
       CreateDataAccessorRequest request,
       ProxyClient<QBusinessClient> proxyClient,
       ResourceModel model) {
-    logger.log("[DEBUG] Calling service with request: %s".formatted(request));
+    HandlerLogger.wrap(logger).event(Level.DEBUG, "Calling service").field("request", request).log();
 
     var client = proxyClient.client();
     CreateDataAccessorResponse response = proxyClient.injectCredentialsAndInvokeV2(request,
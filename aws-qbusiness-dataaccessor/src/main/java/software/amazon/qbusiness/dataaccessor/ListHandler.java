@@ -29,7 +29,7 @@ public class ListHandler extends BaseHandlerStd {
             request.getDesiredResourceState(),
             request.getNextToken());
 
-        ListDataAccessorsResponse listDataAccessorsResponse = proxy.injectCredentialsAndInvokeV2(
+        ListDataAccessorsResponse listDataAccessorsResponse = proxyClient.injectCredentialsAndInvokeV2(
             listDataAccessorsRequest, proxyClient.client()::listDataAccessors);
 
         String nextToken = listDataAccessorsResponse.nextToken();
@@ -0,0 +1,159 @@
+package software.amazon.qbusiness.dataaccessor.converter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import software.amazon.qbusiness.dataaccessor.AttributeFilter;
+
+/**
+ * Converts an {@link AttributeFilter} between its model and service forms, in both directions, without recursion.
+ *
+ * <p>The tree is walked with an explicit stack, so its depth is bounded by the heap, not the thread stack. Filters are
+ * sent as written: nested groups, double negations and repeated operands are kept, because the service returns the
+ * filter it was given and Read has to report the filter of the template for drift detection to stay quiet. Evaluating
+ * a normalized filter is left to the service.
+ */
+public final class AttributeFilterCompiler {
+
+  /**
+   * A node being visited: its operands are the not filter, then the and filters, then the or filters. Null operands
+   * are kept in place, so the converted lists line up with the given ones.
+   */
+  private static final class Frame<SourceT, TargetT> {
+    private final SourceT filter;
+    private final List<SourceT> operands;
+    private final List<TargetT> converted;
+
+    private Frame(final SourceT filter, final List<SourceT> operands) {
+      this.filter = filter;
+      this.operands = operands;
+      this.converted = new ArrayList<>(operands.size());
+    }
+  }
+
+  private AttributeFilterCompiler() {
+  }
+
+  /**
+   * @return the service filter as written in the model, or null when the filter is null.
+   */
+  public static software.amazon.awssdk.services.qbusiness.model.AttributeFilter compile(final AttributeFilter filter) {
+    return convert(filter, AttributeFilterCompiler::operands, AttributeFilterCompiler::toService);
+  }
+
+  /**
+   * @return the model filter as returned by the service, or null when the filter is null.
+   */
+  public static AttributeFilter decompile(final software.amazon.awssdk.services.qbusiness.model.AttributeFilter filter) {
+    return convert(filter, AttributeFilterCompiler::operands, AttributeFilterCompiler::fromService);
+  }
+
+  /**
+   * Converts a tree from the leaves up: {@code build} is called once per node, with the converted operands of the
+   * node in the order {@code operandsOf} lists them.
+   */
+  private static <SourceT, TargetT> TargetT convert(
+      final SourceT root,
+      final Function<SourceT, List<SourceT>> operandsOf,
+      final BiFunction<SourceT, List<TargetT>, TargetT> build) {
+    if (root == null) {
+      return null;
+    }
+    final Deque<Frame<SourceT, TargetT>> stack = new ArrayDeque<>();
+    stack.push(new Frame<>(root, operandsOf.apply(root)));
+    TargetT result = null;
+    while (!stack.isEmpty()) {
+      final Frame<SourceT, TargetT> frame = stack.peek();
+      if (frame.converted.size() < frame.operands.size()) {
+        final SourceT operand = frame.operands.get(frame.converted.size());
+        if (operand == null) {
+          frame.converted.add(null);
+        } else {
+          stack.push(new Frame<>(operand, operandsOf.apply(operand)));
+        }
+        continue;
+      }
+      stack.pop();
+      result = build.apply(frame.filter, frame.converted);
+      if (!stack.isEmpty()) {
+        stack.peek().converted.add(result);
+      }
+    }
+    return result;
+  }
+
+  private static List<AttributeFilter> operands(final AttributeFilter filter) {
+    final List<AttributeFilter> operands = new ArrayList<>();
+    operands.add(filter.getNotFilter());
+    if (filter.getAndAllFilters() != null) {
+      operands.addAll(filter.getAndAllFilters());
+    }
+    if (filter.getOrAllFilters() != null) {
+      operands.addAll(filter.getOrAllFilters());
+    }
+    return operands;
+  }
+
+  private static List<software.amazon.awssdk.services.qbusiness.model.AttributeFilter> operands(
+      final software.amazon.awssdk.services.qbusiness.model.AttributeFilter filter) {
+    final List<software.amazon.awssdk.services.qbusiness.model.AttributeFilter> operands = new ArrayList<>();
+    operands.add(filter.notFilter());
+    if (hasOperands(filter.andAllFilters())) {
+      operands.addAll(filter.andAllFilters());
+    }
+    if (hasOperands(filter.orAllFilters())) {
+      operands.addAll(filter.orAllFilters());
+    }
+    return operands;
+  }
+
+  private static software.amazon.awssdk.services.qbusiness.model.AttributeFilter toService(
+      final AttributeFilter filter,
+      final List<software.amazon.awssdk.services.qbusiness.model.AttributeFilter> operands) {
+    final int andEnd = 1 + (filter.getAndAllFilters() == null ? 0 : filter.getAndAllFilters().size());
+    return software.amazon.awssdk.services.qbusiness.model.AttributeFilter.builder()
+        .notFilter(operands.get(0))
+        .andAllFilters(filter.getAndAllFilters() == null ? null : new ArrayList<>(operands.subList(1, andEnd)))
+        .orAllFilters(filter.getOrAllFilters() == null ? null : new ArrayList<>(operands.subList(andEnd, operands.size())))
+        .containsAll(ActionConfigurationConverter.toServiceDocumentAttribute(filter.getContainsAll()))
+        .containsAny(ActionConfigurationConverter.toServiceDocumentAttribute(filter.getContainsAny()))
+        .equalsTo(ActionConfigurationConverter.toServiceDocumentAttribute(filter.getEqualsTo()))
+        .greaterThan(ActionConfigurationConverter.toServiceDocumentAttribute(filter.getGreaterThan()))
+        .greaterThanOrEquals(ActionConfigurationConverter.toServiceDocumentAttribute(filter.getGreaterThanOrEquals()))
+        .lessThan(ActionConfigurationConverter.toServiceDocumentAttribute(filter.getLessThan()))
+        .lessThanOrEquals(ActionConfigurationConverter.toServiceDocumentAttribute(filter.getLessThanOrEquals()))
+        .build();
+  }
+
+  private static AttributeFilter fromService(
+      final software.amazon.awssdk.services.qbusiness.model.AttributeFilter filter,
+      final List<AttributeFilter> operands) {
+    final AttributeFilter.AttributeFilterBuilder builder = AttributeFilter.builder();
+    if (operands.get(0) != null) {
+      builder.notFilter(operands.get(0));
+    }
+    final int andEnd = 1 + (hasOperands(filter.andAllFilters()) ? filter.andAllFilters().size() : 0);
+    if (hasOperands(filter.andAllFilters())) {
+      builder.andAllFilters(new ArrayList<>(operands.subList(1, andEnd)));
+    }
+    if (hasOperands(filter.orAllFilters())) {
+      builder.orAllFilters(new ArrayList<>(operands.subList(andEnd, operands.size())));
+    }
+    return builder
+        .containsAll(ActionConfigurationConverter.fromServiceDocumentAttribute(filter.containsAll()))
+        .containsAny(ActionConfigurationConverter.fromServiceDocumentAttribute(filter.containsAny()))
+        .equalsTo(ActionConfigurationConverter.fromServiceDocumentAttribute(filter.equalsTo()))
+        .greaterThan(ActionConfigurationConverter.fromServiceDocumentAttribute(filter.greaterThan()))
+        .greaterThanOrEquals(ActionConfigurationConverter.fromServiceDocumentAttribute(filter.greaterThanOrEquals()))
+        .lessThan(ActionConfigurationConverter.fromServiceDocumentAttribute(filter.lessThan()))
+        .lessThanOrEquals(ActionConfigurationConverter.fromServiceDocumentAttribute(filter.lessThanOrEquals()))
+        .build();
+  }
+
+  private static boolean hasOperands(final List<software.amazon.awssdk.services.qbusiness.model.AttributeFilter> filters) {
+    return filters != null && !filters.isEmpty();
+  }
+}
@@ -0,0 +1,352 @@
+package software.amazon.qbusiness.dataaccessor.simulation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import software.amazon.awssdk.services.qbusiness.model.AttributeFilter;
+import software.amazon.awssdk.services.qbusiness.model.DocumentAttribute;
+import software.amazon.awssdk.services.qbusiness.model.DocumentAttributeValue;
+import software.amazon.qbusiness.dataaccessor.ActionFilterConfiguration;
+import software.amazon.qbusiness.dataaccessor.converter.AttributeFilterCompiler;
+
+/**
+ * Works out locally which documents an {@link ActionFilterConfiguration} lets a data accessor see.
+ *
+ * <p>The filter is converted with {@link AttributeFilterCompiler} and compiled as written, once, into a postfix
+ * program; nested groups and double negations are evaluated as they stand rather than simplified first. Each
+ * comparison becomes a step specialized for the type of its value, which scans one column of a {@link DocumentBatch}
+ * with a primitive loop and produces the matching documents as a bit set; AND, OR and NOT combine those bit sets a
+ * word at a time. Evaluation is a loop over the program, so filter depth does not use the thread stack.
+ *
+ * <p>Comparisons follow the service: values only match attributes of the same type, {@code greaterThan} and friends
+ * apply to long and date values, {@code containsAll} and {@code containsAny} to string lists, and a document without
+ * the attribute matches no comparison, so it does match the negation of one. A node that sets several operators
+ * matches when all of them do.
+ */
+public final class AccessFilterEvaluator {
+  private final List<Step> program;
+
+  /**
+   * One instruction: pops its operands from the stack and pushes the documents it matches.
+   */
+  @FunctionalInterface
+  private interface Step {
+    void apply(DocumentBatch batch, Deque<BitSet> stack);
+  }
+
+  private enum Comparison { EQ, GT, GE, LT, LE }
+
+  private static final Step NOT = (batch, stack) -> stack.peek().flip(0, batch.size());
+
+  private AccessFilterEvaluator(final List<Step> program) {
+    this.program = program;
+  }
+
+  /**
+   * @return an evaluator for the configuration. Without a filter every document is visible.
+   */
+  public static AccessFilterEvaluator compile(final ActionFilterConfiguration configuration) {
+    return compile(configuration == null ? null : configuration.getDocumentAttributeFilter());
+  }
+
+  public static AccessFilterEvaluator compile(final software.amazon.qbusiness.dataaccessor.AttributeFilter filter) {
+    final AttributeFilter serviceFilter = AttributeFilterCompiler.compile(filter);
+    if (serviceFilter == null) {
+      return new AccessFilterEvaluator(List.of(constant(true)));
+    }
+    return new AccessFilterEvaluator(List.copyOf(postfix(serviceFilter)));
+  }
+
+  /**
+   * @return the indexes of the documents in the batch the filter matches.
+   */
+  public BitSet evaluate(final DocumentBatch batch) {
+    final Deque<BitSet> stack = new ArrayDeque<>();
+    for (final Step step : program) {
+      step.apply(batch, stack);
+    }
+    return stack.pop();
+  }
+
+  /**
+   * Flattens the tree into postfix order with an explicit work stack. Every visited node leaves exactly one result,
+   * so a combinator only needs to know how many results to pop.
+   */
+  private static List<Step> postfix(final AttributeFilter root) {
+    final List<Step> program = new ArrayList<>();
+    final Deque<Object> work = new ArrayDeque<>();
+    work.push(root);
+    while (!work.isEmpty()) {
+      final Object item = work.pop();
+      if (item instanceof Step step) {
+        program.add(step);
+        continue;
+      }
+
+      final AttributeFilter filter = (AttributeFilter) item;
+      final List<Step> comparisons = comparisons(filter);
+      final boolean hasAnd = filter.hasAndAllFilters();
+      final boolean hasOr = filter.hasOrAllFilters();
+      final int parts = comparisons.size() + (filter.notFilter() != null ? 1 : 0) + (hasAnd ? 1 : 0) + (hasOr ? 1 : 0);
+
+      // Pushed in reverse: the work stack runs the last push first.
+      if (parts == 0) {
+        work.push(constant(true));
+        continue;
+      }
+      if (parts > 1) {
+        work.push(and(parts));
+      }
+      if (hasOr) {
+        pushGroup(work, filter.orAllFilters(), false);
+      }
+      if (hasAnd) {
+        pushGroup(work, filter.andAllFilters(), true);
+      }
+      if (filter.notFilter() != null) {
+        work.push(NOT);
+        work.push(filter.notFilter());
+      }
+      for (int i = comparisons.size() - 1; i >= 0; i--) {
+        work.push(comparisons.get(i));
+      }
+    }
+    return program;
+  }
+
+  private static void pushGroup(final Deque<Object> work, final List<AttributeFilter> operands, final boolean conjunction) {
+    if (operands.isEmpty()) {
+      work.push(constant(conjunction));
+      return;
+    }
+    work.push(conjunction ? and(operands.size()) : or(operands.size()));
+    for (int i = operands.size() - 1; i >= 0; i--) {
+      work.push(operands.get(i));
+    }
+  }
+
+  private static List<Step> comparisons(final AttributeFilter filter) {
+    final List<Step> steps = new ArrayList<>(1);
+    if (filter.equalsTo() != null) {
+      steps.add(equalsTo(filter.equalsTo()));
+    }
+    if (filter.containsAll() != null) {
+      steps.add(containsAll(filter.containsAll()));
+    }
+    if (filter.containsAny() != null) {
+      steps.add(containsAny(filter.containsAny()));
+    }
+    if (filter.greaterThan() != null) {
+      steps.add(ordered(filter.greaterThan(), Comparison.GT));
+    }
+    if (filter.greaterThanOrEquals() != null) {
+      steps.add(ordered(filter.greaterThanOrEquals(), Comparison.GE));
+    }
+    if (filter.lessThan() != null) {
+      steps.add(ordered(filter.lessThan(), Comparison.LT));
+    }
+    if (filter.lessThanOrEquals() != null) {
+      steps.add(ordered(filter.lessThanOrEquals(), Comparison.LE));
+    }
+    return steps;
+  }
+
+  private static Step equalsTo(final DocumentAttribute attribute) {
+    final DocumentAttributeValue value = attribute.value();
+    if (value == null) {
+      return constant(false);
+    }
+    if (value.stringValue() != null) {
+      return stringEquals(attribute.name(), value.stringValue());
+    }
+    if (value.hasStringListValue()) {
+      final Set<String> expected = new HashSet<>(value.stringListValue());
+      return stringLists(attribute.name(), document -> document.length == expected.size()
+          && expected.containsAll(Arrays.asList(document)));
+    }
+    return ordered(attribute, Comparison.EQ);
+  }
+
+  private static Step containsAll(final DocumentAttribute attribute) {
+    final DocumentAttributeValue value = attribute.value();
+    if (value == null || !value.hasStringListValue()) {
+      return constant(false);
+    }
+    final List<String> expected = List.copyOf(value.stringListValue());
+    return stringLists(attribute.name(), document -> Arrays.asList(document).containsAll(expected));
+  }
+
+  private static Step containsAny(final DocumentAttribute attribute) {
+    final DocumentAttributeValue value = attribute.value();
+    if (value == null || !value.hasStringListValue()) {
+      return constant(false);
+    }
+    final Set<String> expected = new HashSet<>(value.stringListValue());
+    final Step lists = stringLists(attribute.name(), document -> {
+      for (final String element : document) {
+        if (expected.contains(element)) {
+          return true;
+        }
+      }
+      return false;
+    });
+    final String name = attribute.name();
+    return (batch, stack) -> {
+      lists.apply(batch, stack);
+      final DocumentBatch.Column column = batch.column(name);
+      if (column != null && column.strings != null) {
+        final BitSet matches = stack.peek();
+        final String[] strings = column.strings;
+        for (int i = 0; i < strings.length; i++) {
+          if (strings[i] != null && expected.contains(strings[i])) {
+            matches.set(i);
+          }
+        }
+      }
+    };
+  }
+
+  /**
+   * Long and date comparisons. The value decides which column is scanned; anything else matches nothing.
+   */
+  private static Step ordered(final DocumentAttribute attribute, final Comparison comparison) {
+    final DocumentAttributeValue value = attribute.value();
+    if (value == null) {
+      return constant(false);
+    }
+    final String name = attribute.name();
+    if (value.longValue() != null) {
+      final long expected = value.longValue();
+      return (batch, stack) -> {
+        final DocumentBatch.Column column = batch.column(name);
+        stack.push(column == null || column.longs == null
+            ? new BitSet()
+            : scan(column.longs, column.hasLong, comparison, expected));
+      };
+    }
+    if (value.dateValue() != null) {
+      final long expected = value.dateValue().toEpochMilli();
+      return (batch, stack) -> {
+        final DocumentBatch.Column column = batch.column(name);
+        stack.push(column == null || column.dates == null
+            ? new BitSet()
+            : scan(column.dates, column.hasDate, comparison, expected));
+      };
+    }
+    return constant(false);
+  }
+
+  private static BitSet scan(final long[] values, final BitSet present, final Comparison comparison, final long expected) {
+    final BitSet matches = new BitSet(values.length);
+    switch (comparison) {
+      case EQ -> {
+        for (int i = 0; i < values.length; i++) {
+          if (values[i] == expected) {
+            matches.set(i);
+          }
+        }
+      }
+      case GT -> {
+        for (int i = 0; i < values.length; i++) {
+          if (values[i] > expected) {
+            matches.set(i);
+          }
+        }
+      }
+      case GE -> {
+        for (int i = 0; i < values.length; i++) {
+          if (values[i] >= expected) {
+            matches.set(i);
+          }
+        }
+      }
+      case LT -> {
+        for (int i = 0; i < values.length; i++) {
+          if (values[i] < expected) {
+            matches.set(i);
+          }
+        }
+      }
+      case LE -> {
+        for (int i = 0; i < values.length; i++) {
+          if (values[i] <= expected) {
+            matches.set(i);
+          }
+        }
+      }
+    }
+    matches.and(present);
+    return matches;
+  }
+
+  private static Step stringEquals(final String name, final String expected) {
+    return (batch, stack) -> {
+      final BitSet matches = new BitSet(batch.size());
+      final DocumentBatch.Column column = batch.column(name);
+      if (column != null && column.strings != null) {
+        final String[] strings = column.strings;
+        for (int i = 0; i < strings.length; i++) {
+          if (expected.equals(strings[i])) {
+            matches.set(i);
+          }
+        }
+      }
+      stack.push(matches);
+    };
+  }
+
+  private interface ListPredicate {
+    boolean test(String[] document);
+  }
+
+  private static Step stringLists(final String name, final ListPredicate predicate) {
+    return (batch, stack) -> {
+      final BitSet matches = new BitSet(batch.size());
+      final DocumentBatch.Column column = batch.column(name);
+      if (column != null && column.stringLists != null) {
+        final String[][] lists = column.stringLists;
+        for (int i = 0; i < lists.length; i++) {
+          if (lists[i] != null && predicate.test(lists[i])) {
+            matches.set(i);
+          }
+        }
+      }
+      stack.push(matches);
+    };
+  }
+
+  private static Step constant(final boolean matches) {
+    return (batch, stack) -> {
+      final BitSet result = new BitSet(batch.size());
+      if (matches) {
+        result.set(0, batch.size());
+      }
+      stack.push(result);
+    };
+  }
+
+  private static Step and(final int operands) {
+    return (batch, stack) -> {
+      final BitSet result = stack.pop();
+      for (int i = 1; i < operands; i++) {
+        result.and(stack.pop());
+      }
+      stack.push(result);
+    };
+  }
+
+  private static Step or(final int operands) {
+    return (batch, stack) -> {
+      final BitSet result = stack.pop();
+      for (int i = 1; i < operands; i++) {
+        result.or(stack.pop());
+      }
+      stack.push(result);
+    };
+  }
+}
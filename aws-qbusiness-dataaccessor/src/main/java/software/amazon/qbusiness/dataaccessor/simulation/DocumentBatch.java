@@ -0,0 +1,157 @@
+package software.amazon.qbusiness.dataaccessor.simulation;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The attributes of a batch of documents, stored by column: for each attribute name, one array per value type,
+ * indexed by document. A document without the attribute, or with a value of another type, has no entry in that array.
+ *
+ * <p>Dates are kept as epoch milliseconds, so they compare with the same primitive loops as long values.
+ */
+public final class DocumentBatch {
+  private final int size;
+  private final Map<String, Column> columns;
+
+  /**
+   * One attribute across the batch. Arrays are only allocated for the value types the attribute actually has.
+   */
+  static final class Column {
+    String[] strings;
+    String[][] stringLists;
+    long[] longs;
+    BitSet hasLong;
+    long[] dates;
+    BitSet hasDate;
+  }
+
+  private DocumentBatch(final int size, final Map<String, Column> columns) {
+    this.size = size;
+    this.columns = columns;
+  }
+
+  public static Builder builder(final int size) {
+    return new Builder(size);
+  }
+
+  /**
+   * Builds a batch from one attribute map per document. Values may be strings, collections of strings, integral
+   * numbers or {@link Instant}s.
+   *
+   * @throws IllegalArgumentException for values of any other type.
+   */
+  public static DocumentBatch fromDocuments(final List<Map<String, Object>> documents) {
+    final Builder builder = builder(documents.size());
+    for (int document = 0; document < documents.size(); document++) {
+      for (final Map.Entry<String, Object> attribute : documents.get(document).entrySet()) {
+        builder.value(attribute.getKey(), document, attribute.getValue());
+      }
+    }
+    return builder.build();
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return the column of the attribute, or null when no document in the batch has it.
+   */
+  Column column(final String name) {
+    return columns.get(name);
+  }
+
+  public static final class Builder {
+    private final int size;
+    private final Map<String, Column> columns = new HashMap<>();
+
+    private Builder(final int size) {
+      this.size = size;
+    }
+
+    public Builder string(final String name, final int document, final String value) {
+      final Column column = column(name);
+      if (column.strings == null) {
+        column.strings = new String[size];
+      }
+      column.strings[document] = value;
+      return this;
+    }
+
+    public Builder stringList(final String name, final int document, final Collection<String> values) {
+      return stringList(name, document, values.toArray(new String[0]));
+    }
+
+    public Builder longValue(final String name, final int document, final long value) {
+      final Column column = column(name);
+      if (column.longs == null) {
+        column.longs = new long[size];
+        column.hasLong = new BitSet(size);
+      }
+      column.longs[document] = value;
+      column.hasLong.set(document);
+      return this;
+    }
+
+    public Builder date(final String name, final int document, final Instant value) {
+      final Column column = column(name);
+      if (column.dates == null) {
+        column.dates = new long[size];
+        column.hasDate = new BitSet(size);
+      }
+      column.dates[document] = value.toEpochMilli();
+      column.hasDate.set(document);
+      return this;
+    }
+
+    Builder value(final String name, final int document, final Object value) {
+      if (value == null) {
+        return this;
+      }
+      if (value instanceof String string) {
+        return string(name, document, string);
+      }
+      if (value instanceof Instant instant) {
+        return date(name, document, instant);
+      }
+      if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+        return longValue(name, document, ((Number) value).longValue());
+      }
+      if (value instanceof Collection<?> collection) {
+        final String[] strings = new String[collection.size()];
+        int i = 0;
+        for (final Object element : collection) {
+          if (!(element instanceof String string)) {
+            throw new IllegalArgumentException("Attribute %s of document %d has a non string list element %s"
+                .formatted(name, document, element));
+          }
+          strings[i++] = string;
+        }
+        return stringList(name, document, strings);
+      }
+      throw new IllegalArgumentException("Attribute %s of document %d has an unsupported value type %s"
+          .formatted(name, document, value.getClass().getSimpleName()));
+    }
+
+    private Builder stringList(final String name, final int document, final String[] values) {
+      final Column column = column(name);
+      if (column.stringLists == null) {
+        column.stringLists = new String[size][];
+      }
+      column.stringLists[document] = values;
+      return this;
+    }
+
+    public DocumentBatch build() {
+      return new DocumentBatch(size, Map.copyOf(columns));
+    }
+
+    private Column column(final String name) {
+      return columns.computeIfAbsent(name, ignored -> new Column());
+    }
+  }
+}
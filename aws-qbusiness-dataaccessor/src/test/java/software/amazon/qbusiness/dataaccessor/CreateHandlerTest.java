@@ -17,8 +17,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.ApplicationStatus;
 import software.amazon.awssdk.services.qbusiness.model.CreateDataAccessorRequest;
 import software.amazon.awssdk.services.qbusiness.model.CreateDataAccessorResponse;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationResponse;
 import software.amazon.awssdk.services.qbusiness.model.GetDataAccessorRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetDataAccessorResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -84,6 +87,8 @@ public class CreateHandlerTest extends AbstractTestBase {
 
     @Test
     public void handleRequest_SimpleSuccess() {
+        when(proxyClient.client().getApplication(any(GetApplicationRequest.class)))
+            .thenReturn(application(ApplicationStatus.ACTIVE));
         when(proxyClient.client().createDataAccessor(any(CreateDataAccessorRequest.class)))
             .thenReturn(CreateDataAccessorResponse.builder()
                 .dataAccessorId(DATAACCESSOR_ID)
@@ -110,5 +115,10 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(qBusinessClient).getApplication(any(GetApplicationRequest.class));
+    }
+
+    private static GetApplicationResponse application(ApplicationStatus status) {
+        return GetApplicationResponse.builder().applicationId(APPLICATION_ID).status(status).build();
     }
 }
@@ -0,0 +1,107 @@
+package software.amazon.qbusiness.dataaccessor.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import software.amazon.qbusiness.dataaccessor.AttributeFilter;
+import software.amazon.qbusiness.dataaccessor.DocumentAttribute;
+import software.amazon.qbusiness.dataaccessor.DocumentAttributeValue;
+
+class AttributeFilterCompilerTest {
+
+  private static AttributeFilter leaf(final String name) {
+    return AttributeFilter.builder()
+        .equalsTo(DocumentAttribute.builder()
+            .name(name)
+            .value(DocumentAttributeValue.builder().stringValue("value").build())
+            .build())
+        .build();
+  }
+
+  private static software.amazon.awssdk.services.qbusiness.model.AttributeFilter serviceLeaf(final String name) {
+    return software.amazon.awssdk.services.qbusiness.model.AttributeFilter.builder()
+        .equalsTo(software.amazon.awssdk.services.qbusiness.model.DocumentAttribute.builder()
+            .name(name)
+            .value(software.amazon.awssdk.services.qbusiness.model.DocumentAttributeValue.builder().stringValue("value").build())
+            .build())
+        .build();
+  }
+
+  private static AttributeFilter and(final AttributeFilter... filters) {
+    return AttributeFilter.builder().andAllFilters(List.of(filters)).build();
+  }
+
+  private static AttributeFilter or(final AttributeFilter... filters) {
+    return AttributeFilter.builder().orAllFilters(List.of(filters)).build();
+  }
+
+  private static AttributeFilter not(final AttributeFilter filter) {
+    return AttributeFilter.builder().notFilter(filter).build();
+  }
+
+  @Test
+  void testThatFiltersAreSentAsWritten() {
+    var compiled = AttributeFilterCompiler.compile(and(leaf("a"), and(leaf("b"), leaf("a")), and(leaf("c"))));
+
+    assertThat(compiled.andAllFilters()).hasSize(3);
+    assertThat(compiled.andAllFilters().get(0)).isEqualTo(serviceLeaf("a"));
+    assertThat(compiled.andAllFilters().get(1).andAllFilters()).containsExactly(serviceLeaf("b"), serviceLeaf("a"));
+    assertThat(compiled.andAllFilters().get(2).andAllFilters()).containsExactly(serviceLeaf("c"));
+    assertThat(compiled.hasOrAllFilters()).isFalse();
+    assertThat(compiled.notFilter()).isNull();
+    assertThat(AttributeFilterCompiler.compile(not(not(leaf("a")))).notFilter().notFilter()).isEqualTo(serviceLeaf("a"));
+  }
+
+  @Test
+  void testThatReadReturnsTheFilterThatWasSent() {
+    var written = or(leaf("a"), not(not(leaf("b"))), and(leaf("c"), and(leaf("d"), leaf("c"))), or(leaf("a")));
+
+    assertThat(AttributeFilterCompiler.decompile(AttributeFilterCompiler.compile(written))).isEqualTo(written);
+  }
+
+  @Test
+  void testThatANodeWithSeveralOperatorsIsKeptAsGiven() {
+    var mixed = AttributeFilter.builder()
+        .equalsTo(leaf("a").getEqualsTo())
+        .andAllFilters(List.of(leaf("b"), and(leaf("c"))))
+        .orAllFilters(List.of(leaf("d")))
+        .build();
+
+    var compiled = AttributeFilterCompiler.compile(mixed);
+
+    assertThat(compiled.equalsTo()).isEqualTo(serviceLeaf("a").equalsTo());
+    assertThat(compiled.andAllFilters()).hasSize(2);
+    assertThat(compiled.andAllFilters().get(1).andAllFilters()).containsExactly(serviceLeaf("c"));
+    assertThat(compiled.orAllFilters()).containsExactly(serviceLeaf("d"));
+    assertThat(AttributeFilterCompiler.decompile(compiled)).isEqualTo(mixed);
+  }
+
+  @Test
+  void testThatVeryDeepTreesConvertWithoutRecursion() {
+    AttributeFilter chain = leaf("leaf-0");
+    for (int i = 1; i <= 100_000; i++) {
+      chain = and(chain, leaf("leaf-" + (i % 1_000)));
+    }
+
+    var compiled = AttributeFilterCompiler.compile(chain);
+    var decompiled = AttributeFilterCompiler.decompile(compiled);
+
+    var serviceNode = compiled;
+    var modelNode = decompiled;
+    for (int i = 100_000; i >= 1; i--) {
+      assertThat(serviceNode.andAllFilters().get(1)).isEqualTo(serviceLeaf("leaf-" + (i % 1_000)));
+      assertThat(modelNode.getAndAllFilters().get(1)).isEqualTo(leaf("leaf-" + (i % 1_000)));
+      serviceNode = serviceNode.andAllFilters().get(0);
+      modelNode = modelNode.getAndAllFilters().get(0);
+    }
+    assertThat(serviceNode).isEqualTo(serviceLeaf("leaf-0"));
+    assertThat(modelNode).isEqualTo(leaf("leaf-0"));
+  }
+
+  @Test
+  void testThatANullFilterCompilesToNull() {
+    assertThat(AttributeFilterCompiler.compile(null)).isNull();
+    assertThat(AttributeFilterCompiler.decompile(null)).isNull();
+  }
+}
@@ -0,0 +1,132 @@
+package software.amazon.qbusiness.dataaccessor.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import software.amazon.qbusiness.dataaccessor.ActionFilterConfiguration;
+import software.amazon.qbusiness.dataaccessor.AttributeFilter;
+import software.amazon.qbusiness.dataaccessor.DocumentAttribute;
+import software.amazon.qbusiness.dataaccessor.DocumentAttributeValue;
+
+class AccessFilterEvaluatorTest {
+
+  private static final DocumentBatch DOCUMENTS = DocumentBatch.fromDocuments(List.of(
+      Map.of("_category", "policy", "pages", 10L, "_created_at", Instant.parse("2024-01-10T00:00:00Z"),
+          "groups", List.of("hr", "finance")),
+      Map.of("_category", "design", "pages", 40L, "_created_at", Instant.parse("2024-06-01T00:00:00Z"),
+          "groups", List.of("eng")),
+      Map.of("_category", "policy", "pages", 25L, "groups", List.of("hr", "eng", "finance")),
+      Map.of("pages", "many", "groups", "hr")
+  ));
+
+  private static DocumentAttribute attribute(final String name, final DocumentAttributeValue value) {
+    return DocumentAttribute.builder().name(name).value(value).build();
+  }
+
+  private static DocumentAttributeValue string(final String value) {
+    return DocumentAttributeValue.builder().stringValue(value).build();
+  }
+
+  private static DocumentAttributeValue number(final long value) {
+    return DocumentAttributeValue.builder().longValue((double) value).build();
+  }
+
+  private static DocumentAttributeValue date(final String value) {
+    return DocumentAttributeValue.builder().dateValue(value).build();
+  }
+
+  private static DocumentAttributeValue strings(final String... values) {
+    return DocumentAttributeValue.builder().stringListValue(List.of(values)).build();
+  }
+
+  private static List<Integer> matches(final AttributeFilter filter) {
+    final BitSet result = AccessFilterEvaluator.compile(filter).evaluate(DOCUMENTS);
+    return result.stream().boxed().toList();
+  }
+
+  @Test
+  void testThatComparisonsOnlyMatchValuesOfTheSameType() {
+    assertThat(matches(AttributeFilter.builder().equalsTo(attribute("_category", string("policy"))).build()))
+        .containsExactly(0, 2);
+    assertThat(matches(AttributeFilter.builder().equalsTo(attribute("pages", number(40))).build()))
+        .containsExactly(1);
+    assertThat(matches(AttributeFilter.builder().greaterThan(attribute("pages", number(10))).build()))
+        .containsExactly(1, 2);
+    assertThat(matches(AttributeFilter.builder().lessThanOrEquals(attribute("pages", number(25))).build()))
+        .containsExactly(0, 2);
+    assertThat(matches(AttributeFilter.builder().greaterThanOrEquals(attribute("pages", string("a"))).build()))
+        .isEmpty();
+  }
+
+  @Test
+  void testThatDatesCompareChronologically() {
+    assertThat(matches(AttributeFilter.builder().lessThan(attribute("_created_at", date("2024-03-01T00:00:00Z"))).build()))
+        .containsExactly(0);
+    assertThat(matches(AttributeFilter.builder().equalsTo(attribute("_created_at", date("2024-06-01T00:00:00Z"))).build()))
+        .containsExactly(1);
+  }
+
+  @Test
+  void testThatListOperatorsMatchStringLists() {
+    assertThat(matches(AttributeFilter.builder().containsAll(attribute("groups", strings("finance", "hr"))).build()))
+        .containsExactly(0, 2);
+    assertThat(matches(AttributeFilter.builder().containsAny(attribute("groups", strings("eng", "legal"))).build()))
+        .containsExactly(1, 2);
+    assertThat(matches(AttributeFilter.builder().containsAny(attribute("groups", strings("hr"))).build()))
+        .containsExactly(0, 2, 3);
+    assertThat(matches(AttributeFilter.builder().equalsTo(attribute("groups", strings("finance", "hr"))).build()))
+        .containsExactly(0);
+  }
+
+  @Test
+  void testThatGroupsAndNegationCombineMatches() {
+    var policy = AttributeFilter.builder().equalsTo(attribute("_category", string("policy"))).build();
+    var longDocuments = AttributeFilter.builder().greaterThan(attribute("pages", number(20))).build();
+
+    assertThat(matches(AttributeFilter.builder().andAllFilters(List.of(policy, longDocuments)).build())).containsExactly(2);
+    assertThat(matches(AttributeFilter.builder().orAllFilters(List.of(policy, longDocuments)).build())).containsExactly(0, 1, 2);
+    assertThat(matches(AttributeFilter.builder().notFilter(policy).build())).containsExactly(1, 3);
+    assertThat(matches(AttributeFilter.builder()
+        .notFilter(AttributeFilter.builder().orAllFilters(List.of(policy, longDocuments)).build())
+        .build())).containsExactly(3);
+  }
+
+  @Test
+  void testThatANodeWithSeveralOperatorsRequiresAllOfThem() {
+    var mixed = AttributeFilter.builder()
+        .equalsTo(attribute("_category", string("policy")))
+        .lessThan(attribute("pages", number(20)))
+        .build();
+
+    assertThat(matches(mixed)).containsExactly(0);
+  }
+
+  @Test
+  void testThatEveryDocumentIsVisibleWithoutAFilter() {
+    assertThat(AccessFilterEvaluator.compile((ActionFilterConfiguration) null).evaluate(DOCUMENTS).cardinality())
+        .isEqualTo(4);
+  }
+
+  @Test
+  void testThatDeeplyNestedFiltersEvaluate() {
+    AttributeFilter filter = AttributeFilter.builder().equalsTo(attribute("_category", string("design"))).build();
+    for (int i = 0; i < 50_001; i++) {
+      filter = AttributeFilter.builder()
+          .notFilter(AttributeFilter.builder().andAllFilters(List.of(filter)).build())
+          .build();
+    }
+
+    assertThat(matches(filter)).containsExactly(0, 2, 3);
+  }
+
+  @Test
+  void testThatUnsupportedAttributeValuesAreRejected() {
+    assertThatThrownBy(() -> DocumentBatch.fromDocuments(List.of(Map.of("score", 0.5))))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
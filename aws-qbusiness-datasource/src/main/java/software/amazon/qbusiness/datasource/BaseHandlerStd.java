@@ -1,15 +1,26 @@
 package software.amazon.qbusiness.datasource;
 
+import static software.amazon.qbusiness.datasource.translators.DocumentConverter.convertToMapToDocument;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.core.document.Document;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.GetDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetDataSourceResponse;
-import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
-import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.client.ThrottlingAwareProxyClient;
+import software.amazon.qbusiness.datasource.configuration.ConfigurationObjectStore;
+import software.amazon.qbusiness.datasource.configuration.ConfigurationReferenceLoader;
+import software.amazon.qbusiness.datasource.configuration.S3ConfigurationObjectStore;
+import software.amazon.qbusiness.datasource.validation.ConnectorConfigurationValidator;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   @Override
@@ -22,7 +33,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         proxy,
         request,
         callbackContext != null ? callbackContext : new CallbackContext(),
-        proxy.newProxy(ClientBuilder::getClient),
+        ThrottlingAwareProxyClient.wrap(
+            proxy.newProxy(ClientBuilder::getClient), request.getAwsAccountId(), TimeBudget.startingNow(), logger
+        ),
         logger
     );
   }
@@ -34,10 +47,6 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
       final ProxyClient<QBusinessClient> proxyClient,
       final Logger logger);
 
-  protected ListTagsForResourceResponse callListTags(ListTagsForResourceRequest request, ProxyClient<QBusinessClient> client) {
-    return client.injectCredentialsAndInvokeV2(request, client.client()::listTagsForResource);
-  }
-
   protected GetDataSourceResponse getDataSource(ResourceModel model, ProxyClient<QBusinessClient> proxyClient) {
     var request = GetDataSourceRequest.builder()
         .applicationId(model.getApplicationId())
@@ -51,4 +60,62 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     var client = proxyClient.client();
     return proxyClient.injectCredentialsAndInvokeV2(request, client::getDataSource);
   }
+
+  /**
+   * Reads {@code ConfigurationS3Reference} objects from S3 with the caller's credentials.
+   */
+  protected static ConfigurationObjectStore s3ConfigurationStore(final AmazonWebServicesClientProxy proxy) {
+    return new S3ConfigurationObjectStore(proxy.newProxy(ClientBuilder::getS3Client));
+  }
+
+  /**
+   * The configuration document to send to the service: the inline {@code Configuration}, or the object named by
+   * {@code ConfigurationS3Reference}, read with the caller's credentials.
+   */
+  protected Document configurationDocument(final ResourceModel model, final Supplier<ConfigurationObjectStore> store) {
+    if (model.getConfigurationS3Reference() == null) {
+      return convertToMapToDocument(model.getConfiguration());
+    }
+    return ConfigurationReferenceLoader.load(model.getConfigurationS3Reference(), store.get());
+  }
+
+  /**
+   * The connector schema violations of the configuration: the inline {@code Configuration} as written in the template,
+   * or the document read from {@code ConfigurationS3Reference}.
+   */
+  protected List<String> configurationViolations(final ResourceModel model, final Document configuration) {
+    if (model.getConfigurationS3Reference() == null) {
+      return ConnectorConfigurationValidator.validate(model.getConfiguration());
+    }
+    return ConnectorConfigurationValidator.validateDocument(configuration);
+  }
+
+  /**
+   * Fails the request before any service call when the configuration does not match its connector schema.
+   */
+  protected ProgressEvent<ResourceModel, CallbackContext> invalidConfiguration(
+      final ResourceModel model,
+      final CallbackContext callbackContext,
+      final Document configuration,
+      final List<String> violations,
+      final Logger logger) {
+    var type = configuration == null || !configuration.isMap() ? null : configuration.asMap().get("type");
+    var message = "Configuration is not valid for connector type %s: %s".formatted(
+        type != null && type.isString() ? type.asString() : null, String.join("; ", violations)
+    );
+    logger.log("[ERROR] %s".formatted(message));
+    return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, message);
+  }
+
+  /**
+   * Fails the request before any service call when the sync schedule cannot be parsed.
+   */
+  protected ProgressEvent<ResourceModel, CallbackContext> invalidSyncSchedule(
+      final ResourceModel model,
+      final CallbackContext callbackContext,
+      final String violation,
+      final Logger logger) {
+    logger.log("[ERROR] %s".formatted(violation));
+    return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest, violation);
+  }
 }
@@ -6,7 +6,9 @@ import static software.amazon.qbusiness.common.SharedConstants.SERVICE_NAME_LOWE
 import java.net.URI;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.qbusiness.common.client.ThrottlingAwareProxyClient;
 
 public class ClientBuilder {
   private static final String URL_PATTERN = "https://%s.%s.api.aws";
@@ -18,6 +20,17 @@ public class ClientBuilder {
     return QBusinessClient.builder()
         .httpClient(LambdaWrapper.HTTP_CLIENT)
         .endpointOverride(URI.create(urlString))
+        .overrideConfiguration(ThrottlingAwareProxyClient.CLIENT_OVERRIDE_CONFIGURATION)
+        .build();
+  }
+
+  /**
+   * Client for reading {@code ConfigurationS3Reference} objects. The bucket may live in another region than the stack.
+   */
+  public static S3Client getS3Client() {
+    return S3Client.builder()
+        .httpClient(LambdaWrapper.HTTP_CLIENT)
+        .crossRegionAccessEnabled(true)
         .build();
   }
 }
@@ -7,6 +7,9 @@ public final class Constants {
   public static final String API_CREATE_DATASOURCE = "CreateDataSource";
   public static final String API_DELETE_DATASOURCE = "DeleteDataSource";
   public static final String API_UPDATE_DATASOURCE = "UpdateDataSource";
+  public static final String API_START_DATASOURCE_SYNC_JOB = "StartDataSourceSyncJob";
+  public static final String API_LIST_DATASOURCE_SYNC_JOBS = "ListDataSourceSyncJobs";
+  public static final String ENV_READ_SYNC_STATS = "QBUSINESS_DATASOURCE_READ_SYNC_STATS";
 
   private Constants() {
   }
@@ -5,22 +5,26 @@ import static software.amazon.qbusiness.datasource.Constants.API_CREATE_DATASOUR
 import static software.amazon.qbusiness.datasource.Utils.primaryIdentifier;
 
 import java.time.Duration;
-import java.util.Objects;
+import java.util.function.Function;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.CreateDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.CreateDataSourceResponse;
-import software.amazon.awssdk.services.qbusiness.model.DataSourceStatus;
 import software.amazon.awssdk.services.qbusiness.model.GetDataSourceResponse;
-import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
-import software.amazon.awssdk.utils.StringUtils;
-import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.logging.HandlerLogger;
+import software.amazon.qbusiness.common.logging.HandlerLogger.Level;
+import software.amazon.qbusiness.common.stabilization.DeadlineAwareStabilizer;
+import software.amazon.qbusiness.common.stabilization.ParentReadinessGate;
+import software.amazon.qbusiness.datasource.configuration.ConfigurationObjectStore;
+import software.amazon.qbusiness.datasource.schedule.SyncSchedule;
 
 public class CreateHandler extends BaseHandlerStd {
 
@@ -28,18 +32,41 @@ public class CreateHandler extends BaseHandlerStd {
       .timeout(Duration.ofHours(4))
       .delay(Duration.ofSeconds(30))
       .build();
+  private static final String STAGE_AWAIT_INDEX = "Create::AwaitIndex";
 
   private final Constant backOffStrategy;
+  private final CrudEngine<ResourceModel, CallbackContext, GetDataSourceResponse> engine = DataSourceDescriptor.ENGINE;
+  private final ParentReadinessGate parentGate;
+  private final DeadlineAwareStabilizer stabilizer;
+  private final InitialSyncTracker initialSyncTracker;
+  private final Function<AmazonWebServicesClientProxy, ConfigurationObjectStore> configurationStores;
 
   public CreateHandler() {
     this(DEFAULT_BACK_OFF_STRATEGY);
   }
 
   public CreateHandler(Constant backOffStrategy) {
+    this(backOffStrategy, new InitialSyncTracker());
+  }
+
+  CreateHandler(Constant backOffStrategy, InitialSyncTracker initialSyncTracker) {
+    this(backOffStrategy, initialSyncTracker, BaseHandlerStd::s3ConfigurationStore);
+  }
+
+  CreateHandler(
+      Constant backOffStrategy,
+      InitialSyncTracker initialSyncTracker,
+      Function<AmazonWebServicesClientProxy, ConfigurationObjectStore> configurationStores
+  ) {
     this.backOffStrategy = backOffStrategy;
+    this.parentGate = new ParentReadinessGate(backOffStrategy);
+    this.stabilizer = new DeadlineAwareStabilizer(backOffStrategy);
+    this.initialSyncTracker = initialSyncTracker;
+    this.configurationStores = configurationStores;
   }
 
   private Logger logger;
+  private HandlerLogger handlerLogger;
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
       final AmazonWebServicesClientProxy proxy,
@@ -49,6 +76,8 @@ public class CreateHandler extends BaseHandlerStd {
       final Logger logger) {
 
     this.logger = logger;
+    this.handlerLogger = HandlerLogger.wrap(logger);
+    final TimeBudget budget = TimeBudget.startingNow();
 
     var reqModel = request.getDesiredResourceState();
     logger.log("[INFO] Starting Create Data Source process in stack: %s For Account: %s, Application: %s, Index: %s"
@@ -57,69 +86,48 @@ public class CreateHandler extends BaseHandlerStd {
         )
     );
 
+    var configuration = configurationDocument(reqModel, () -> configurationStores.apply(proxy));
+    var configurationViolations = configurationViolations(reqModel, configuration);
+    if (!configurationViolations.isEmpty()) {
+      return invalidConfiguration(reqModel, callbackContext, configuration, configurationViolations, logger);
+    }
+    var scheduleViolation = SyncSchedule.violation(reqModel.getSyncSchedule());
+    if (scheduleViolation.isPresent()) {
+      return invalidSyncSchedule(reqModel, callbackContext, scheduleViolation.get(), logger);
+    }
+
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> engine.awaitIndex(STAGE_AWAIT_INDEX, progress, parentGate, budget, proxyClient,
+            ResourceModel::getApplicationId, ResourceModel::getIndexId, logger))
         .then(progress ->
             proxy.initiate("AWS-QBusiness-DataSource::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(model -> Translator.translateToCreateRequest(
-                    request, model
-                ))
+                .translateToServiceRequest(model -> Translator.translateToCreateRequest(request, model, configuration))
                 .backoffDelay(backOffStrategy)
                 .makeServiceCall((awsRequest, clientProxyClient) -> callCreateDataSource(awsRequest, clientProxyClient, progress.getResourceModel()))
-                .stabilize((createReq, createResponse, client, model, context) -> isStabilized(request, client, model, logger))
                 .handleError((createReq, error, client, model, context) -> handleError(
                     model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_DATASOURCE
                 ))
                 .progress()
         )
+        .then(progress -> engine.stabilize("Create", progress, stabilizer, budget, proxyClient, API_CREATE_DATASOURCE, logger))
+        .then(progress -> Boolean.TRUE.equals(reqModel.getSyncOnCreate())
+            ? initialSyncTracker.track(progress, proxyClient, budget, logger)
+            : progress
+        )
         .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
   }
 
-  private boolean isStabilized(
-      final ResourceHandlerRequest<ResourceModel> request,
-      ProxyClient<QBusinessClient> proxyClient,
-      ResourceModel model,
-      Logger logger
-  ) {
-    logger.log("[INFO] Checking for Create Complete for Data Source process in stack: %s with ID: %s, For Account: %s, Application: %s, Index: %s"
-        .formatted(request.getStackId(), request.getAwsAccountId(), model.getDataSourceId(), model.getApplicationId(), model.getIndexId())
-    );
-
-    GetDataSourceResponse getDataSourceRes = getDataSource(model, proxyClient);
-    var status = getDataSourceRes.status();
-
-    if (DataSourceStatus.ACTIVE.equals(status)) {
-      logger.log("[INFO] %s with ID: %s, for App: %s, IndexId: %s, stack ID: %s has stabilized".formatted(
-          ResourceModel.TYPE_NAME, model.getDataSourceId(), model.getApplicationId(), model.getIndexId(), request.getStackId()
-      ));
-
-      return true;
-    }
-
-    if (!DataSourceStatus.FAILED.equals(status)) {
-      logger.log("[INFO] %s with ID: %s, for App: %s, IndexId: %s, stack ID: %s is still stabilizing".formatted(
-          ResourceModel.TYPE_NAME, model.getDataSourceId(), model.getApplicationId(), model.getIndexId(), request.getStackId()
-      ));
-      return false;
-    }
-
-    logger.log("[INFO] %s with ID: %s, for App: %s, IndexId: %s, stack ID: %s has failed to stabilize with message: %s".formatted(
-        ResourceModel.TYPE_NAME, model.getDataSourceId(), model.getApplicationId(), model.getIndexId(), request.getStackId(),
-        Objects.nonNull(getDataSourceRes.error()) ? getDataSourceRes.error().errorMessage() : null
-    ));
-
-    InternalServerException causeError = null;
-    if (Objects.nonNull(getDataSourceRes.error()) && StringUtils.isNotBlank(getDataSourceRes.error().errorMessage())) {
-      causeError = InternalServerException.builder().message(getDataSourceRes.error().errorMessage()).build();
-    }
-
-    throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getDataSourceId(), causeError);
-  }
-
   private CreateDataSourceResponse callCreateDataSource(
       CreateDataSourceRequest request,
       ProxyClient<QBusinessClient> proxyClient,
       ResourceModel model
   ) {
+    handlerLogger.event(Level.DEBUG, "Calling CreateDataSource")
+        .field("applicationId", request.applicationId())
+        .field("indexId", request.indexId())
+        .field("type", model.getType())
+        .field("configuration", request.configuration())
+        .log();
     final CreateDataSourceResponse response = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::createDataSource);
     model.setDataSourceId(response.dataSourceId());
     return response;
@@ -0,0 +1,38 @@
+package software.amazon.qbusiness.datasource;
+
+import static software.amazon.qbusiness.datasource.Constants.API_GET_DATASOURCE;
+
+import java.util.Set;
+
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.DataSourceStatus;
+import software.amazon.awssdk.services.qbusiness.model.GetDataSourceResponse;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.handler.Operation;
+import software.amazon.qbusiness.common.handler.ResourceDescriptor;
+
+final class DataSourceDescriptor {
+  static final ResourceDescriptor<ResourceModel, GetDataSourceResponse> DESCRIPTOR = ResourceDescriptor.<ResourceModel, GetDataSourceResponse>builder()
+      .typeName(ResourceModel.TYPE_NAME)
+      .callGraphPrefix("AWS-QBusiness-DataSource")
+      .primaryIdentifier(Utils::primaryIdentifier)
+      .arnBuilder(Utils::buildDataSourceArn)
+      .get(Operation.of(API_GET_DATASOURCE, Translator::translateToReadRequest, QBusinessClient::getDataSource))
+      .responseType(GetDataSourceResponse.class)
+      .fromGetResponse(Translator::translateFromReadResponse)
+      .toListTagsRequest(Translator::translateToListTagsRequest)
+      .withTags(Translator::translateFromReadResponseWithTags)
+      .statusExtractor(GetDataSourceResponse::statusAsString)
+      .stableStates(Set.of(DataSourceStatus.ACTIVE.toString()))
+      .failedStates(Set.of(DataSourceStatus.FAILED.toString()))
+      .transitionalStates(Set.of(
+          DataSourceStatus.PENDING_CREATION.toString(), DataSourceStatus.CREATING.toString(), DataSourceStatus.UPDATING.toString()
+      ))
+      .failureReason(response -> response.error() == null ? null : response.error().errorMessage())
+      .build();
+
+  static final CrudEngine<ResourceModel, CallbackContext, GetDataSourceResponse> ENGINE = new CrudEngine<>(DESCRIPTOR);
+
+  private DataSourceDescriptor() {
+  }
+}
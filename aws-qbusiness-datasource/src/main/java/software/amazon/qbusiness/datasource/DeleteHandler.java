@@ -6,10 +6,10 @@ import static software.amazon.qbusiness.datasource.Utils.primaryIdentifier;
 
 import java.time.Duration;
 
-import lombok.RequiredArgsConstructor;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.DeleteDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.DeleteDataSourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.GetDataSourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -17,8 +17,10 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.stabilization.MutationGate;
 
-@RequiredArgsConstructor
 public class DeleteHandler extends BaseHandlerStd {
 
   private static final Constant DEFAULT_SYNCING_WAIT_BACKOFF_STRATEGY = Constant.of()
@@ -27,6 +29,8 @@ public class DeleteHandler extends BaseHandlerStd {
       .build();
 
   private final Constant deletionBackOffStrategy;
+  private final CrudEngine<ResourceModel, CallbackContext, GetDataSourceResponse> engine = DataSourceDescriptor.ENGINE;
+  private final MutationGate mutationGate;
 
   private Logger logger;
 
@@ -34,6 +38,11 @@ public class DeleteHandler extends BaseHandlerStd {
     this(DEFAULT_SYNCING_WAIT_BACKOFF_STRATEGY);
   }
 
+  public DeleteHandler(Constant deletionBackOffStrategy) {
+    this.deletionBackOffStrategy = deletionBackOffStrategy;
+    this.mutationGate = new MutationGate(deletionBackOffStrategy);
+  }
+
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
       final AmazonWebServicesClientProxy proxy,
       final ResourceHandlerRequest<ResourceModel> request,
@@ -42,6 +51,7 @@ public class DeleteHandler extends BaseHandlerStd {
       final Logger logger) {
 
     this.logger = logger;
+    final TimeBudget budget = TimeBudget.startingNow();
 
     var desiredResourceState = request.getDesiredResourceState();
     logger.log("[INFO] Initiating delete of %s in Stack: %s for ID: %s, application: %s, index: %s".formatted(
@@ -53,6 +63,7 @@ public class DeleteHandler extends BaseHandlerStd {
     ));
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> engine.awaitMutable("Delete::AwaitMutable", progress, mutationGate, budget, proxyClient, logger))
         .then(progress ->
             proxy.initiate("AWS-QBusiness-DataSource::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToDeleteRequest)
@@ -0,0 +1,22 @@
+package software.amazon.qbusiness.datasource;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * State of the sync job started by a create with {@code SyncOnCreate}, kept in the callback context so tracking resumes
+ * where it left off when the handler is re-invoked.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InitialSyncProgress {
+  /** Null when a sync was already running and we track the newest job instead of one we started. */
+  private String executionId;
+  private long startedAtEpochMillis;
+  private long lastPolledAtEpochMillis;
+  private long documentsProcessed;
+  private long pollDelayMillis;
+  private boolean complete;
+}
@@ -0,0 +1,255 @@
+package software.amazon.qbusiness.datasource;
+
+import static software.amazon.qbusiness.common.ErrorUtils.handleError;
+import static software.amazon.qbusiness.datasource.Constants.API_LIST_DATASOURCE_SYNC_JOBS;
+import static software.amazon.qbusiness.datasource.Constants.API_START_DATASOURCE_SYNC_JOB;
+import static software.amazon.qbusiness.datasource.Utils.primaryIdentifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.ConflictException;
+import software.amazon.awssdk.services.qbusiness.model.DataSourceSyncJob;
+import software.amazon.awssdk.services.qbusiness.model.DataSourceSyncJobMetrics;
+import software.amazon.awssdk.services.qbusiness.model.DataSourceSyncJobStatus;
+import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
+import software.amazon.awssdk.services.qbusiness.model.ListDataSourceSyncJobsRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListDataSourceSyncJobsResponse;
+import software.amazon.awssdk.services.qbusiness.model.StartDataSourceSyncJobRequest;
+import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.qbusiness.common.Sleeper;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.metrics.EmbeddedMetrics;
+import software.amazon.qbusiness.common.stabilization.DeadlineAwareStabilizer;
+
+/**
+ * Starts the first sync job of a newly created data source and waits for it, for creates with {@code SyncOnCreate}.
+ *
+ * <p>The job is followed through ListDataSourceSyncJobs, with waits chosen by {@link SyncPollingStrategy}. Progress
+ * is kept in {@link CallbackContext#getInitialSync()}, so when the next wait does not fit in the invocation the
+ * handler hands off to CloudFormation and picks the same job up again on re-invocation.
+ *
+ * <p>A FAILED job fails the create. A job that is still running after {@link #DEFAULT_TIMEOUT}, or that ended
+ * INCOMPLETE or ABORTED, is logged and the create completes, since the data source itself is usable.
+ */
+class InitialSyncTracker {
+  static final Duration DEFAULT_TIMEOUT = Duration.ofHours(4);
+  private static final int PAGE_SIZE = 10;
+
+  private final Duration timeout;
+  private final Clock clock;
+  private final Sleeper sleeper;
+
+  InitialSyncTracker() {
+    this(DEFAULT_TIMEOUT, Clock.systemUTC(), Sleeper.THREAD_SLEEP);
+  }
+
+  InitialSyncTracker(final Duration timeout, final Clock clock, final Sleeper sleeper) {
+    this.timeout = timeout;
+    this.clock = clock;
+    this.sleeper = sleeper;
+  }
+
+  ProgressEvent<ResourceModel, CallbackContext> track(
+      final ProgressEvent<ResourceModel, CallbackContext> progress,
+      final ProxyClient<QBusinessClient> proxyClient,
+      final TimeBudget budget,
+      final Logger logger) {
+    final ResourceModel model = progress.getResourceModel();
+    final CallbackContext context = progress.getCallbackContext();
+
+    if (context.getInitialSync() == null) {
+      try {
+        context.setInitialSync(start(model, proxyClient, logger));
+      } catch (BaseHandlerException e) {
+        throw e;
+      } catch (RuntimeException e) {
+        return handleError(model, primaryIdentifier(model), e, context, logger, ResourceModel.TYPE_NAME, API_START_DATASOURCE_SYNC_JOB);
+      }
+    }
+
+    final InitialSyncProgress state = context.getInitialSync();
+    while (!state.isComplete()) {
+      final DataSourceSyncJob job;
+      try {
+        job = findJob(model, state.getExecutionId(), proxyClient);
+      } catch (BaseHandlerException e) {
+        throw e;
+      } catch (RuntimeException e) {
+        return handleError(model, primaryIdentifier(model), e, context, logger, ResourceModel.TYPE_NAME, API_LIST_DATASOURCE_SYNC_JOBS);
+      }
+
+      final long now = clock.millis();
+      if (job != null && isFinished(job.status())) {
+        state.setComplete(true);
+        finish(model, state, job, now, logger);
+        break;
+      }
+
+      if (now - state.getStartedAtEpochMillis() >= timeout.toMillis()) {
+        state.setComplete(true);
+        logger.log("[WARN] Initial sync of %s with ID: %s is still running after %d minutes, completing the create without waiting for it"
+            .formatted(ResourceModel.TYPE_NAME, model.getDataSourceId(), timeout.toMinutes()));
+        break;
+      }
+
+      final long processed = job == null ? state.getDocumentsProcessed() : documentsProcessed(job.metrics());
+      final Duration next = SyncPollingStrategy.nextDelay(
+          Duration.ofMillis(state.getPollDelayMillis()),
+          processed - state.getDocumentsProcessed(),
+          Duration.ofMillis(now - state.getLastPolledAtEpochMillis())
+      );
+      logger.log("[INFO] Initial sync of %s with ID: %s is %s, %d documents processed. Next check in %d seconds"
+          .formatted(ResourceModel.TYPE_NAME, model.getDataSourceId(), job == null ? "PENDING" : job.statusAsString(),
+              processed, next.toSeconds()));
+      state.setDocumentsProcessed(processed);
+      state.setLastPolledAtEpochMillis(now);
+      state.setPollDelayMillis(next.toMillis());
+
+      if (!budget.canAfford(next, DeadlineAwareStabilizer.DEFAULT_RESERVE)) {
+        return ProgressEvent.defaultInProgressHandler(context, (int) Math.max(1L, next.toSeconds()), model);
+      }
+      try {
+        sleeper.sleep(next.toMillis());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return ProgressEvent.defaultInProgressHandler(context, (int) Math.max(1L, next.toSeconds()), model);
+      }
+    }
+
+    return progress;
+  }
+
+  private InitialSyncProgress start(final ResourceModel model, final ProxyClient<QBusinessClient> proxyClient, final Logger logger) {
+    final long now = clock.millis();
+    String executionId = null;
+    try {
+      executionId = proxyClient.injectCredentialsAndInvokeV2(
+          StartDataSourceSyncJobRequest.builder()
+              .applicationId(model.getApplicationId())
+              .indexId(model.getIndexId())
+              .dataSourceId(model.getDataSourceId())
+              .build(),
+          proxyClient.client()::startDataSourceSyncJob
+      ).executionId();
+      logger.log("[INFO] Started initial sync %s of %s with ID: %s"
+          .formatted(executionId, ResourceModel.TYPE_NAME, model.getDataSourceId()));
+    } catch (ConflictException e) {
+      logger.log("[INFO] A sync of %s with ID: %s is already running, tracking it instead of starting one"
+          .formatted(ResourceModel.TYPE_NAME, model.getDataSourceId()));
+    }
+    return new InitialSyncProgress(executionId, now, now, 0L, 0L, false);
+  }
+
+  /**
+   * @return the job with the execution ID, or the newest job when the ID is null. Null when the job is not listed yet.
+   */
+  private DataSourceSyncJob findJob(final ResourceModel model, final String executionId, final ProxyClient<QBusinessClient> proxyClient) {
+    String nextToken = null;
+    do {
+      final ListDataSourceSyncJobsResponse response = proxyClient.injectCredentialsAndInvokeV2(
+          ListDataSourceSyncJobsRequest.builder()
+              .applicationId(model.getApplicationId())
+              .indexId(model.getIndexId())
+              .dataSourceId(model.getDataSourceId())
+              .maxResults(PAGE_SIZE)
+              .nextToken(nextToken)
+              .build(),
+          proxyClient.client()::listDataSourceSyncJobs
+      );
+      if (executionId == null) {
+        return response.hasHistory() && !response.history().isEmpty() ? response.history().get(0) : null;
+      }
+      if (response.hasHistory()) {
+        for (final DataSourceSyncJob job : response.history()) {
+          if (executionId.equals(job.executionId())) {
+            return job;
+          }
+        }
+      }
+      nextToken = response.nextToken();
+    } while (nextToken != null);
+    return null;
+  }
+
+  private void finish(
+      final ResourceModel model,
+      final InitialSyncProgress state,
+      final DataSourceSyncJob job,
+      final long now,
+      final Logger logger) {
+    final DataSourceSyncJobMetrics metrics = job.metrics();
+    final long added = count(metrics == null ? null : metrics.documentsAdded());
+    final long modified = count(metrics == null ? null : metrics.documentsModified());
+    final long deleted = count(metrics == null ? null : metrics.documentsDeleted());
+    final long failed = count(metrics == null ? null : metrics.documentsFailed());
+    final long durationMillis = now - state.getStartedAtEpochMillis();
+
+    EmbeddedMetrics.record()
+        .dimension("SyncStatus", job.statusAsString())
+        .metric("SyncDocumentsAdded", added, EmbeddedMetrics.Unit.COUNT)
+        .metric("SyncDocumentsModified", modified, EmbeddedMetrics.Unit.COUNT)
+        .metric("SyncDocumentsDeleted", deleted, EmbeddedMetrics.Unit.COUNT)
+        .metric("SyncDocumentsFailed", failed, EmbeddedMetrics.Unit.COUNT)
+        .metric("SyncDuration", durationMillis, EmbeddedMetrics.Unit.MILLISECONDS)
+        .emit(logger);
+
+    final String summary = "Initial sync %s of %s with ID: %s finished as %s after %d seconds: %d added, %d modified, %d deleted, %d failed"
+        .formatted(job.executionId(), ResourceModel.TYPE_NAME, model.getDataSourceId(), job.statusAsString(),
+            Duration.ofMillis(durationMillis).toSeconds(), added, modified, deleted, failed);
+
+    if (DataSourceSyncJobStatus.SUCCEEDED.equals(job.status())) {
+      logger.log("[INFO] %s".formatted(summary));
+      return;
+    }
+    if (!DataSourceSyncJobStatus.FAILED.equals(job.status())) {
+      logger.log("[WARN] %s".formatted(summary));
+      return;
+    }
+
+    final String errorMessage = Objects.nonNull(job.error()) ? job.error().errorMessage() : null;
+    logger.log("[ERROR] %s. Error: %s".formatted(summary, errorMessage));
+    InternalServerException causeError = null;
+    if (StringUtils.isNotBlank(errorMessage)) {
+      causeError = InternalServerException.builder().message(errorMessage).build();
+    }
+    throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getDataSourceId(), causeError);
+  }
+
+  private static boolean isFinished(final DataSourceSyncJobStatus status) {
+    return DataSourceSyncJobStatus.SUCCEEDED.equals(status)
+        || DataSourceSyncJobStatus.FAILED.equals(status)
+        || DataSourceSyncJobStatus.INCOMPLETE.equals(status)
+        || DataSourceSyncJobStatus.ABORTED.equals(status);
+  }
+
+  /**
+   * Documents the job has gone through so far: the scanned count while crawling, or the indexed counts when higher.
+   */
+  static long documentsProcessed(final DataSourceSyncJobMetrics metrics) {
+    if (metrics == null) {
+      return 0L;
+    }
+    final long indexed = count(metrics.documentsAdded()) + count(metrics.documentsModified())
+        + count(metrics.documentsDeleted()) + count(metrics.documentsFailed());
+    return Math.max(count(metrics.documentsScanned()), indexed);
+  }
+
+  private static long count(final String value) {
+    if (StringUtils.isBlank(value)) {
+      return 0L;
+    }
+    try {
+      return Long.parseLong(value.trim());
+    } catch (NumberFormatException e) {
+      return 0L;
+    }
+  }
+}
@@ -27,7 +27,7 @@ public class ListHandler extends BaseHandlerStd {
         resourceModel,
         request.getNextToken()
     );
-    ListDataSourcesResponse listDataSourcesResponse = proxy.injectCredentialsAndInvokeV2(serviceRequest, proxyClient.client()::listDataSources);
+    ListDataSourcesResponse listDataSourcesResponse = proxyClient.injectCredentialsAndInvokeV2(serviceRequest, proxyClient.client()::listDataSources);
 
     final String nextToken = listDataSourcesResponse.nextToken();
 
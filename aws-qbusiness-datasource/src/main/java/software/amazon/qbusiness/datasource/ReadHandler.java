@@ -1,20 +1,32 @@
 package software.amazon.qbusiness.datasource;
 
-import static software.amazon.qbusiness.common.ErrorUtils.handleError;
-import static software.amazon.qbusiness.common.SharedConstants.API_LIST_TAGS;
-import static software.amazon.qbusiness.datasource.Constants.API_GET_DATASOURCE;
-import static software.amazon.qbusiness.datasource.Utils.primaryIdentifier;
+import static software.amazon.qbusiness.datasource.Constants.API_LIST_DATASOURCE_SYNC_JOBS;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.GetDataSourceResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.handler.CrudEngine;
 
 public class ReadHandler extends BaseHandlerStd {
+  private final CrudEngine<ResourceModel, CallbackContext, GetDataSourceResponse> engine = DataSourceDescriptor.ENGINE;
+  private final SyncHistoryCache syncHistory;
   private Logger logger;
 
+  public ReadHandler() {
+    this(SyncHistoryCache.fromEnvironment());
+  }
+
+  /**
+   * @param syncHistory where to look up the last sync job for {@code LastSyncJob}, or null to leave it unset.
+   */
+  ReadHandler(final SyncHistoryCache syncHistory) {
+    this.syncHistory = syncHistory;
+  }
+
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
       final AmazonWebServicesClientProxy proxy,
       final ResourceHandlerRequest<ResourceModel> request,
@@ -31,29 +43,26 @@ public class ReadHandler extends BaseHandlerStd {
         ));
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-        .then(progress ->
-            proxy.initiate("AWS-QBusiness-DataSource::Read", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToReadRequest)
-                .makeServiceCall(this::callGetDataSource)
-                .handleError((getDataSourceRequest, error, client, model, context) -> handleError(
-                    model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_GET_DATASOURCE
-                ))
-                .done(response -> ProgressEvent.progress(Translator.translateFromReadResponse(response), callbackContext))
-        )
-        .then(progress ->
-            proxy.initiate(
-                    "AWS-QBusiness-DataSource::ListTags",
-                    proxyClient, progress.getResourceModel(),
-                    progress.getCallbackContext()
-                )
-                .translateToServiceRequest(model -> Translator.translateToListTagsRequest(request, model))
-                .makeServiceCall(this::callListTags)
-                .handleError((listTagsReq, error, client, model, context) -> handleError(
-                    model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_LIST_TAGS
-                ))
-                .done(listTagsResponse -> ProgressEvent.defaultSuccessHandler(
-                    Translator.translateFromReadResponseWithTags(listTagsResponse, progress.getResourceModel())
-                ))
-        );
+        .then(progress -> engine.readModel(proxy, progress, proxyClient, logger))
+        .then(progress -> syncHistory == null ? progress : withLastSyncJob(request, progress, proxyClient))
+        .then(progress -> engine.readTags(proxy, request, progress, proxyClient, logger));
+  }
+
+  /**
+   * Best effort: the sync statistics are informational, so a failure to list sync jobs is logged and the read goes on.
+   */
+  private ProgressEvent<ResourceModel, CallbackContext> withLastSyncJob(
+      final ResourceHandlerRequest<ResourceModel> request,
+      final ProgressEvent<ResourceModel, CallbackContext> progress,
+      final ProxyClient<QBusinessClient> proxyClient) {
+    final ResourceModel model = progress.getResourceModel();
+    final String scope = "%s/%s/%s".formatted(request.getAwsPartition(), request.getAwsAccountId(), request.getRegion());
+    try {
+      model.setLastSyncJob(Translator.translateFromSyncJob(syncHistory.latestJob(scope, model, proxyClient)));
+    } catch (RuntimeException e) {
+      logger.log("[WARN] Failed Request: %s for %s with ID: %s, leaving LastSyncJob unset. Error Message: %s"
+          .formatted(API_LIST_DATASOURCE_SYNC_JOBS, ResourceModel.TYPE_NAME, model.getDataSourceId(), e.getMessage()));
+    }
+    return progress;
   }
 }
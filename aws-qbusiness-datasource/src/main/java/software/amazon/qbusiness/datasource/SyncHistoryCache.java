@@ -0,0 +1,182 @@
+package software.amazon.qbusiness.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.DataSourceSyncJob;
+import software.amazon.awssdk.services.qbusiness.model.ListDataSourceSyncJobsRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListDataSourceSyncJobsResponse;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Finds the most recent sync job of a data source for Read, remembering the answer per data source for a short TTL.
+ * The cache is shared by the container, so entries are scoped to the partition, account and region of the caller: a
+ * caller only ever gets a job some call with its own credentials returned.
+ *
+ * <p>The first scan of a data source only asks for jobs started within {@link #DEFAULT_LOOKBACK}. Once a job is known,
+ * a refresh after the TTL only asks for jobs started since that job, which also returns the job itself with its
+ * current status. Every scan stops after {@link #MAX_PAGES} pages or {@link #DEFAULT_SCAN_LIMIT}, whichever comes first,
+ * and keeps the newest job seen so far.
+ */
+class SyncHistoryCache {
+  private static final SyncHistoryCache SHARED = new SyncHistoryCache();
+
+  static final Duration DEFAULT_TTL = Duration.ofMinutes(1);
+  static final Duration DEFAULT_LOOKBACK = Duration.ofDays(30);
+  static final Duration DEFAULT_SCAN_LIMIT = Duration.ofSeconds(5);
+  static final int MAX_PAGES = 20;
+  static final int MAX_ENTRIES = 64;
+  private static final int PAGE_SIZE = 10;
+
+  private final Duration ttl;
+  private final Clock clock;
+  private final Map<String, Entry> entries = new LinkedHashMap<>(MAX_ENTRIES * 2, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<String, Entry> eldest) {
+      return size() > MAX_ENTRIES;
+    }
+  };
+
+  private record Entry(DataSourceSyncJob latest, long fetchedAtEpochMillis) {
+  }
+
+  /**
+   * @return the container wide cache when sync history lookups are enabled with {@link Constants#ENV_READ_SYNC_STATS},
+   *     otherwise null.
+   */
+  static SyncHistoryCache fromEnvironment() {
+    return Boolean.parseBoolean(System.getenv(Constants.ENV_READ_SYNC_STATS)) ? SHARED : null;
+  }
+
+  SyncHistoryCache() {
+    this(DEFAULT_TTL, Clock.systemUTC());
+  }
+
+  SyncHistoryCache(final Duration ttl, final Clock clock) {
+    this.ttl = ttl;
+    this.clock = clock;
+  }
+
+  /**
+   * @param scope partition, account and region of the caller.
+   * @return the most recently started sync job of the data source, or null when it has none in the lookback window.
+   */
+  DataSourceSyncJob latestJob(final String scope, final ResourceModel model, final ProxyClient<QBusinessClient> proxyClient) {
+    final String key = String.join("/", scope, model.getApplicationId(), model.getIndexId(), model.getDataSourceId());
+    final long now = clock.millis();
+
+    final Entry cached;
+    synchronized (entries) {
+      cached = entries.get(key);
+    }
+    if (cached != null && now - cached.fetchedAtEpochMillis() < ttl.toMillis()) {
+      return cached.latest();
+    }
+
+    final DataSourceSyncJob known = cached == null ? null : cached.latest();
+    final Instant since = known != null && known.startTime() != null
+        ? known.startTime()
+        : Instant.ofEpochMilli(now).minus(DEFAULT_LOOKBACK);
+    final DataSourceSyncJob scanned = scan(model, since, now + DEFAULT_SCAN_LIMIT.toMillis(), proxyClient);
+    final DataSourceSyncJob latest = newer(scanned, known);
+
+    synchronized (entries) {
+      entries.put(key, new Entry(latest, now));
+    }
+    return latest;
+  }
+
+  /**
+   * Average run time of the finished sync jobs on one page of recent history. Not cached: this is only asked for when a
+   * schedule changes.
+   *
+   * @return the average, or null when no finished job was found.
+   */
+  Duration averageDuration(final ResourceModel model, final ProxyClient<QBusinessClient> proxyClient) {
+    final ListDataSourceSyncJobsResponse response = proxyClient.injectCredentialsAndInvokeV2(
+        ListDataSourceSyncJobsRequest.builder()
+            .applicationId(model.getApplicationId())
+            .indexId(model.getIndexId())
+            .dataSourceId(model.getDataSourceId())
+            .startTime(Instant.ofEpochMilli(clock.millis()).minus(DEFAULT_LOOKBACK))
+            .maxResults(PAGE_SIZE)
+            .build(),
+        proxyClient.client()::listDataSourceSyncJobs
+    );
+    if (!response.hasHistory()) {
+      return null;
+    }
+
+    long totalMillis = 0;
+    int finished = 0;
+    for (final DataSourceSyncJob job : response.history()) {
+      if (job.startTime() != null && job.endTime() != null) {
+        totalMillis += Duration.between(job.startTime(), job.endTime()).toMillis();
+        finished++;
+      }
+    }
+    return finished == 0 ? null : Duration.ofMillis(totalMillis / finished);
+  }
+
+  void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  private DataSourceSyncJob scan(
+      final ResourceModel model,
+      final Instant since,
+      final long deadlineEpochMillis,
+      final ProxyClient<QBusinessClient> proxyClient) {
+    DataSourceSyncJob latest = null;
+    String nextToken = null;
+    int pages = 0;
+    do {
+      final ListDataSourceSyncJobsResponse response = proxyClient.injectCredentialsAndInvokeV2(
+          ListDataSourceSyncJobsRequest.builder()
+              .applicationId(model.getApplicationId())
+              .indexId(model.getIndexId())
+              .dataSourceId(model.getDataSourceId())
+              .startTime(since)
+              .maxResults(PAGE_SIZE)
+              .nextToken(nextToken)
+              .build(),
+          proxyClient.client()::listDataSourceSyncJobs
+      );
+      if (response.hasHistory()) {
+        for (final DataSourceSyncJob job : response.history()) {
+          latest = newer(job, latest);
+        }
+      }
+      nextToken = response.nextToken();
+      pages++;
+    } while (nextToken != null && pages < MAX_PAGES && clock.millis() < deadlineEpochMillis);
+    return latest;
+  }
+
+  /**
+   * @return whichever job started later. A job with a start time wins over one without, and ties go to the first.
+   */
+  private static DataSourceSyncJob newer(final DataSourceSyncJob first, final DataSourceSyncJob second) {
+    if (second == null) {
+      return first;
+    }
+    if (first == null) {
+      return second;
+    }
+    if (second.startTime() == null) {
+      return first;
+    }
+    if (first.startTime() == null) {
+      return second;
+    }
+    return second.startTime().isAfter(first.startTime()) ? second : first;
+  }
+}
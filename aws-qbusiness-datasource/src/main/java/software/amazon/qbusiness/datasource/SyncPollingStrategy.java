@@ -0,0 +1,48 @@
+package software.amazon.qbusiness.datasource;
+
+import java.time.Duration;
+
+/**
+ * Chooses how long to wait before the next look at a sync job, from how fast it has been processing documents.
+ *
+ * <p>The aim is to poll about once every {@link #DOCUMENTS_PER_POLL} documents: a job moving quickly is checked often,
+ * since it is likely to finish soon, while a large crawl is checked rarely. When no progress was seen (the job is still
+ * crawling, or indexing its last batch) the wait doubles. Waits never grow by more than double between polls and stay
+ * within {@link #MIN_DELAY} and {@link #MAX_DELAY}.
+ */
+final class SyncPollingStrategy {
+  static final Duration MIN_DELAY = Duration.ofSeconds(15);
+  static final Duration MAX_DELAY = Duration.ofMinutes(5);
+  static final long DOCUMENTS_PER_POLL = 500;
+
+  private SyncPollingStrategy() {
+  }
+
+  /**
+   * @param previous  the wait before the poll that just happened, or zero on the first poll.
+   * @param processed documents processed since the previous poll.
+   * @param elapsed   time since the previous poll.
+   */
+  static Duration nextDelay(final Duration previous, final long processed, final Duration elapsed) {
+    if (previous.isZero()) {
+      return MIN_DELAY;
+    }
+
+    final Duration ceiling = min(previous.multipliedBy(2), MAX_DELAY);
+    if (processed <= 0 || elapsed.isZero() || elapsed.isNegative()) {
+      return max(ceiling, MIN_DELAY);
+    }
+
+    final long millisPerDocument = Math.max(1L, elapsed.toMillis() / processed);
+    final Duration target = Duration.ofMillis(millisPerDocument * DOCUMENTS_PER_POLL);
+    return max(min(target, ceiling), MIN_DELAY);
+  }
+
+  private static Duration min(final Duration a, final Duration b) {
+    return a.compareTo(b) <= 0 ? a : b;
+  }
+
+  private static Duration max(final Duration a, final Duration b) {
+    return a.compareTo(b) >= 0 ? a : b;
+  }
+}
@@ -1,19 +1,22 @@
 package software.amazon.qbusiness.datasource;
 
 import static software.amazon.qbusiness.datasource.translators.DocumentConverter.convertDocumentToMap;
-import static software.amazon.qbusiness.datasource.translators.DocumentConverter.convertToMapToDocument;
 import static software.amazon.qbusiness.datasource.translators.DocumentEnrichmentTranslator.fromServiceDocEnrichmentConf;
 import static software.amazon.qbusiness.datasource.translators.DocumentEnrichmentTranslator.toServiceDocEnrichmentConf;
 import static software.amazon.qbusiness.datasource.translators.MediaExtractionConfigurationTranslator.fromServiceMediaExtractionConfiguration;
 import static software.amazon.qbusiness.datasource.translators.MediaExtractionConfigurationTranslator.toServiceMediaExtractionConfiguration;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import software.amazon.awssdk.core.document.Document;
 import software.amazon.awssdk.services.qbusiness.model.CreateDataSourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.DataSourceSyncJob;
+import software.amazon.awssdk.services.qbusiness.model.DataSourceSyncJobMetrics;
 import software.amazon.awssdk.services.qbusiness.model.DeleteDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetDataSourceResponse;
@@ -30,10 +33,14 @@ public class Translator {
   /**
    * Request to create a resource
    *
-   * @param model resource model
+   * @param model         resource model
+   * @param configuration the connector configuration document, inline or resolved from its S3 reference
    * @return awsRequest the aws service request to create a resource
    */
-  static CreateDataSourceRequest translateToCreateRequest(final ResourceHandlerRequest<ResourceModel> request, final ResourceModel model) {
+  static CreateDataSourceRequest translateToCreateRequest(
+      final ResourceHandlerRequest<ResourceModel> request,
+      final ResourceModel model,
+      final Document configuration) {
     return CreateDataSourceRequest.builder()
         .clientToken(request.getClientRequestToken())
         .applicationId(model.getApplicationId())
@@ -44,7 +51,7 @@ public class Translator {
         .syncSchedule(model.getSyncSchedule())
         .tags(TagUtils.mergeCreateHandlerTagsToSdkTags(request, model))
         .vpcConfiguration(toServiceDataSourceVpcConfiguration(model.getVpcConfiguration()))
-        .configuration(convertToMapToDocument(model.getConfiguration()))
+        .configuration(configuration)
         .documentEnrichmentConfiguration(toServiceDocEnrichmentConf(model.getDocumentEnrichmentConfiguration()))
         .mediaExtractionConfiguration(toServiceMediaExtractionConfiguration(model.getMediaExtractionConfiguration()))
         .build();
@@ -70,6 +77,13 @@ public class Translator {
    * @param awsResponse the aws service describe resource response
    * @return model resource model
    */
+  /**
+   * Translates resource object from sdk into a resource model. The configuration is always the one the service holds;
+   * {@code ConfigurationS3Reference} is write only, since the service does not keep where a configuration came from.
+   *
+   * @param awsResponse the aws service describe resource response
+   * @return model resource model
+   */
   static ResourceModel translateFromReadResponse(final GetDataSourceResponse awsResponse) {
     return ResourceModel.builder()
         .applicationId(awsResponse.applicationId())
@@ -121,6 +135,37 @@ public class Translator {
         .orElse(null);
   }
 
+  static SyncJobSummary translateFromSyncJob(final DataSourceSyncJob job) {
+    if (job == null) {
+      return null;
+    }
+
+    final DataSourceSyncJobMetrics metrics = job.metrics();
+    final Double duration = job.startTime() != null && job.endTime() != null
+        ? (double) Duration.between(job.startTime(), job.endTime()).toSeconds()
+        : null;
+    return SyncJobSummary.builder()
+        .executionId(job.executionId())
+        .status(job.statusAsString())
+        .startTime(instantToString(job.startTime()))
+        .endTime(instantToString(job.endTime()))
+        .durationInSeconds(duration)
+        .documentsAdded(metrics == null ? null : documentCount(metrics.documentsAdded()))
+        .documentsModified(metrics == null ? null : documentCount(metrics.documentsModified()))
+        .documentsDeleted(metrics == null ? null : documentCount(metrics.documentsDeleted()))
+        .documentsFailed(metrics == null ? null : documentCount(metrics.documentsFailed()))
+        .documentsScanned(metrics == null ? null : documentCount(metrics.documentsScanned()))
+        .build();
+  }
+
+  private static Double documentCount(final String value) {
+    try {
+      return value == null ? null : Double.valueOf(value.trim());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
   static ResourceModel translateFromReadResponseWithTags(final ListTagsForResourceResponse listTagsResponse, final ResourceModel model) {
     if (listTagsResponse == null || !listTagsResponse.hasTags()) {
       return model;
@@ -155,10 +200,24 @@ public class Translator {
   /**
    * Request to update properties of a previously created resource
    *
-   * @param model resource model
+   * @param model         resource model
+   * @param configuration the connector configuration document, inline or resolved from its S3 reference
    * @return UpdateDataSourceRequest the aws service request to modify a resource
    */
-  static UpdateDataSourceRequest translateToUpdateRequest(final ResourceModel model) {
+  static UpdateDataSourceRequest translateToUpdateRequest(final ResourceModel model, final Document configuration) {
+    return translateToUpdateRequestWithoutConfiguration(model).toBuilder()
+        .configuration(configuration)
+        .build();
+  }
+
+  /**
+   * The update request minus the connector configuration, which is the expensive part to convert. Used to compare the
+   * previous and desired models, with the configuration compared separately by {@code ConfigurationComparator}.
+   *
+   * @param model resource model
+   * @return UpdateDataSourceRequest without its configuration document
+   */
+  static UpdateDataSourceRequest translateToUpdateRequestWithoutConfiguration(final ResourceModel model) {
     return UpdateDataSourceRequest.builder()
         .applicationId(model.getApplicationId())
         .indexId(model.getIndexId())
@@ -168,7 +227,6 @@ public class Translator {
         .roleArn(model.getRoleArn())
         .syncSchedule(model.getSyncSchedule())
         .vpcConfiguration(toServiceDataSourceVpcConfiguration(model.getVpcConfiguration()))
-        .configuration(convertToMapToDocument(model.getConfiguration()))
         .documentEnrichmentConfiguration(toServiceDocEnrichmentConf(model.getDocumentEnrichmentConfiguration()))
         .mediaExtractionConfiguration(toServiceMediaExtractionConfiguration(model.getMediaExtractionConfiguration()))
         .build();
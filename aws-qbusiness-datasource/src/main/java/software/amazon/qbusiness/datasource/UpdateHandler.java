@@ -5,19 +5,29 @@ import static software.amazon.qbusiness.datasource.Constants.API_UPDATE_DATASOUR
 import static software.amazon.qbusiness.datasource.Utils.primaryIdentifier;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.Function;
 
+import software.amazon.awssdk.core.document.Document;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
-import software.amazon.awssdk.services.qbusiness.model.DataSourceStatus;
 import software.amazon.awssdk.services.qbusiness.model.GetDataSourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.UpdateDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.UpdateDataSourceResponse;
+import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
-import software.amazon.qbusiness.common.TagUtils;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.stabilization.DeadlineAwareStabilizer;
+import software.amazon.qbusiness.common.stabilization.MutationGate;
+import software.amazon.qbusiness.datasource.configuration.ConfigurationObjectStore;
+import software.amazon.qbusiness.datasource.schedule.SyncSchedule;
+import software.amazon.qbusiness.datasource.translators.ConfigurationComparator;
 
 public class UpdateHandler extends BaseHandlerStd {
 
@@ -26,7 +36,13 @@ public class UpdateHandler extends BaseHandlerStd {
       .delay(Duration.ofMinutes(1))
       .build();
 
+  private static final int OVERLAP_LOOKAHEAD_RUNS = 50;
   private final Constant backOffStrategy;
+  private final CrudEngine<ResourceModel, CallbackContext, GetDataSourceResponse> engine = DataSourceDescriptor.ENGINE;
+  private final MutationGate mutationGate;
+  private final DeadlineAwareStabilizer stabilizer;
+  private final SyncHistoryCache syncHistory;
+  private final Function<AmazonWebServicesClientProxy, ConfigurationObjectStore> configurationStores;
   private Logger logger;
 
   public UpdateHandler() {
@@ -34,7 +50,23 @@ public class UpdateHandler extends BaseHandlerStd {
   }
 
   public UpdateHandler(Constant backOffStrategy) {
+    this(backOffStrategy, SyncHistoryCache.fromEnvironment());
+  }
+
+  UpdateHandler(Constant backOffStrategy, SyncHistoryCache syncHistory) {
+    this(backOffStrategy, syncHistory, BaseHandlerStd::s3ConfigurationStore);
+  }
+
+  UpdateHandler(
+      Constant backOffStrategy,
+      SyncHistoryCache syncHistory,
+      Function<AmazonWebServicesClientProxy, ConfigurationObjectStore> configurationStores
+  ) {
     this.backOffStrategy = backOffStrategy;
+    this.mutationGate = new MutationGate(backOffStrategy);
+    this.stabilizer = new DeadlineAwareStabilizer(backOffStrategy);
+    this.syncHistory = syncHistory;
+    this.configurationStores = configurationStores;
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -45,6 +77,7 @@ public class UpdateHandler extends BaseHandlerStd {
       final Logger logger) {
 
     this.logger = logger;
+    final TimeBudget budget = TimeBudget.startingNow();
 
     logger.log("[INFO] Starting Update for %s with ID: %s, ApplicationId: %s and IndexId: %s in stack: %s".formatted(
         ResourceModel.TYPE_NAME,
@@ -54,41 +87,97 @@ public class UpdateHandler extends BaseHandlerStd {
         request.getStackId()
     ));
 
+    var previousModel = request.getPreviousResourceState();
+    var desiredModel = request.getDesiredResourceState();
+    final Document changedConfiguration = hasConfigurationChanges(previousModel, desiredModel)
+        ? configurationDocument(desiredModel, () -> configurationStores.apply(proxy))
+        : null;
+    if (changedConfiguration != null) {
+      var configurationViolations = configurationViolations(desiredModel, changedConfiguration);
+      if (!configurationViolations.isEmpty()) {
+        return invalidConfiguration(desiredModel, callbackContext, changedConfiguration, configurationViolations, logger);
+      }
+    }
+    if (previousModel == null || !Objects.equals(previousModel.getSyncSchedule(), desiredModel.getSyncSchedule())) {
+      var scheduleViolation = SyncSchedule.violation(desiredModel.getSyncSchedule());
+      if (scheduleViolation.isPresent()) {
+        return invalidSyncSchedule(desiredModel, callbackContext, scheduleViolation.get(), logger);
+      }
+      if (syncHistory != null && StringUtils.isNotBlank(desiredModel.getSyncSchedule())) {
+        warnIfSyncsMayOverlap(desiredModel, proxyClient);
+      }
+    }
+
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-        .then(progress ->
-            proxy.initiate("AWS-QBusiness-DataSource::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(Translator::translateToUpdateRequest)
-                .backoffDelay(backOffStrategy)
-                .makeServiceCall(this::updateDataSource)
-                .stabilize((updateReq, updateRes, clientProxyClient, model, context) -> isStabilized(clientProxyClient, model))
-                .handleError((updateReq, error, clientProxyClient, model, context) -> handleError(
-                    model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_UPDATE_DATASOURCE
-                ))
-                .progress()
-        )
         .then(progress -> {
-          var arn = Utils.buildDataSourceArn(request, progress.getResourceModel());
-          return TagUtils.updateTags(ResourceModel.TYPE_NAME, progress, request, arn, proxyClient, logger);
+          if (!hasDataSourceChanges(request.getPreviousResourceState(), progress.getResourceModel())) {
+            logger.log("[INFO] No changes to %s with ID: %s beyond tags, skipping %s".formatted(
+                ResourceModel.TYPE_NAME, progress.getResourceModel().getDataSourceId(), API_UPDATE_DATASOURCE));
+            return progress;
+          }
+
+          return engine.awaitMutable("Update::AwaitMutable", progress, mutationGate, budget, proxyClient, logger)
+              .then(mutable ->
+                  proxy.initiate("AWS-QBusiness-DataSource::Update", proxyClient, mutable.getResourceModel(), mutable.getCallbackContext())
+                      .translateToServiceRequest(model -> Translator.translateToUpdateRequest(model, changedConfiguration != null
+                          ? changedConfiguration
+                          : configurationDocument(model, () -> configurationStores.apply(proxy))
+                      ))
+                      .backoffDelay(backOffStrategy)
+                      .makeServiceCall(this::updateDataSource)
+                      .handleError((updateReq, error, clientProxyClient, model, context) -> handleError(
+                          model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_UPDATE_DATASOURCE
+                      ))
+                      .progress()
+              )
+              .then(updated -> engine.stabilize("Update", updated, stabilizer, budget, proxyClient, API_UPDATE_DATASOURCE, logger));
         })
+        .then(progress -> engine.updateTags(progress, request, proxyClient, logger))
         .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
   }
 
-  private UpdateDataSourceResponse updateDataSource(UpdateDataSourceRequest request, ProxyClient<QBusinessClient> proxyClient) {
-    return proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::updateDataSource);
+  /**
+   * Whether the update would change anything on the service. Tags are handled separately, and the connector
+   * configuration is compared by meaning, so a template that only differs from the stored state in YAML scalar
+   * representation or key order does not trigger an update and its stabilization. A configuration kept in S3 is
+   * compared by its reference; pointing at a new object version is a change.
+   */
+  static boolean hasDataSourceChanges(final ResourceModel previous, final ResourceModel desired) {
+    if (previous == null) {
+      return true;
+    }
+
+    return !Translator.translateToUpdateRequestWithoutConfiguration(previous)
+        .equals(Translator.translateToUpdateRequestWithoutConfiguration(desired))
+        || hasConfigurationChanges(previous, desired);
   }
 
-  private boolean isStabilized(
-      ProxyClient<QBusinessClient> proxyClient,
-      ResourceModel model
-  ) {
-    GetDataSourceResponse getDataSourceResponse = getDataSource(model, proxyClient);
-    var status = getDataSourceResponse.status();
-    var hasStabilized = DataSourceStatus.ACTIVE.equals(status);
+  private static boolean hasConfigurationChanges(final ResourceModel previous, final ResourceModel desired) {
+    return previous == null
+        || !Objects.equals(previous.getConfigurationS3Reference(), desired.getConfigurationS3Reference())
+        || !ConfigurationComparator.isEquivalent(previous.getConfiguration(), desired.getConfiguration());
+  }
 
-    logger.log("[INFO] Update has %s for %s with ID: %s, ApplicationId: %s and IndexId: %s".formatted(
-        hasStabilized ? "stabilized" : "not stabilized yet",
-        ResourceModel.TYPE_NAME, model.getDataSourceId(), model.getApplicationId(), model.getIndexId()));
+  /**
+   * Best effort: logs a warning when the new schedule would start syncs closer together than recent syncs have taken.
+   */
+  private void warnIfSyncsMayOverlap(final ResourceModel model, final ProxyClient<QBusinessClient> proxyClient) {
+    try {
+      var averageSync = syncHistory.averageDuration(model, proxyClient);
+      var schedule = SyncSchedule.parse(model.getSyncSchedule());
+      if (averageSync != null && schedule.mayOverlap(averageSync, Instant.now(), OVERLAP_LOOKAHEAD_RUNS)) {
+        logger.log("[WARN] SyncSchedule %s of %s with ID: %s starts syncs as little as %d minutes apart, but recent syncs took %d minutes on average"
+            .formatted(model.getSyncSchedule(), ResourceModel.TYPE_NAME, model.getDataSourceId(),
+                schedule.shortestInterval(Instant.now(), OVERLAP_LOOKAHEAD_RUNS).toMinutes(), averageSync.toMinutes()));
+      }
+    } catch (RuntimeException e) {
+      logger.log("[WARN] Could not check SyncSchedule of %s with ID: %s against sync history: %s"
+          .formatted(ResourceModel.TYPE_NAME, model.getDataSourceId(), e.getMessage()));
+    }
+  }
 
-    return hasStabilized;
+  private UpdateDataSourceResponse updateDataSource(UpdateDataSourceRequest request, ProxyClient<QBusinessClient> proxyClient) {
+    return proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::updateDataSource);
   }
+
 }
@@ -0,0 +1,24 @@
+package software.amazon.qbusiness.datasource.configuration;
+
+import java.io.InputStream;
+
+/**
+ * Where a {@code ConfigurationS3Reference} is read from. Production reads go to S3 with the caller's credentials
+ * through {@link S3ConfigurationObjectStore}; tests use a local stand-in.
+ */
+public interface ConfigurationObjectStore {
+
+  /**
+   * Checks that the caller may read one version of an object, without downloading it.
+   *
+   * @throws software.amazon.cloudformation.exceptions.BaseHandlerException when the object cannot be read.
+   */
+  void authorize(String bucket, String key, String versionId);
+
+  /**
+   * Opens one version of an object for reading. The caller closes the stream.
+   *
+   * @throws software.amazon.cloudformation.exceptions.BaseHandlerException when the object cannot be read.
+   */
+  InputStream open(String bucket, String key, String versionId);
+}
@@ -0,0 +1,89 @@
+package software.amazon.qbusiness.datasource.configuration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.qbusiness.datasource.ConfigurationS3Reference;
+
+/**
+ * Resolves a {@code ConfigurationS3Reference} into the configuration document sent to the service.
+ *
+ * <p>The object is parsed as it is read, so the configuration never exists as a {@code Map<String, Object>} in the
+ * handler. Object versions are immutable, so documents are cached by S3 URI and version ID for the life of the
+ * container; the cache is small and bounded, since each entry holds a full connector configuration. The cache is shared
+ * by every caller the container serves, so a cached document is only returned after the store authorizes the read
+ * with the caller's credentials.
+ */
+public final class ConfigurationReferenceLoader {
+  static final int MAX_ENTRIES = 8;
+  private static final String S3_SCHEME = "s3://";
+  private static final String API_GET_OBJECT = "GetObject";
+
+  private static final Map<String, Document> DOCUMENTS = new LinkedHashMap<>(MAX_ENTRIES * 2, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<String, Document> eldest) {
+      return size() > MAX_ENTRIES;
+    }
+  };
+
+  private ConfigurationReferenceLoader() {
+  }
+
+  /**
+   * @return the referenced configuration, or null when there is no reference.
+   * @throws CfnInvalidRequestException when the URI is malformed, or the object is missing or not a JSON object.
+   */
+  public static Document load(final ConfigurationS3Reference reference, final ConfigurationObjectStore store) {
+    if (reference == null) {
+      return null;
+    }
+
+    final String uri = reference.getS3Uri();
+    final int keyStart = uri == null || !uri.startsWith(S3_SCHEME) ? -1 : uri.indexOf('/', S3_SCHEME.length());
+    if (keyStart <= S3_SCHEME.length() || keyStart == uri.length() - 1) {
+      throw new CfnInvalidRequestException("ConfigurationS3Reference %s is not an s3://bucket/key URI".formatted(uri));
+    }
+    final String bucket = uri.substring(S3_SCHEME.length(), keyStart);
+    final String key = uri.substring(keyStart + 1);
+
+    final String cacheKey = uri + "?versionId=" + reference.getVersionId();
+    final Document cached;
+    synchronized (DOCUMENTS) {
+      cached = DOCUMENTS.get(cacheKey);
+    }
+    if (cached != null) {
+      store.authorize(bucket, key, reference.getVersionId());
+      return cached;
+    }
+
+    final Document document;
+    try (InputStream content = store.open(bucket, key, reference.getVersionId())) {
+      document = JsonDocumentReader.read(content);
+    } catch (JsonProcessingException e) {
+      throw new CfnInvalidRequestException("Configuration object %s with version %s is not valid JSON: %s"
+          .formatted(uri, reference.getVersionId(), e.getOriginalMessage()), e);
+    } catch (IOException e) {
+      throw new CfnGeneralServiceException(API_GET_OBJECT, e);
+    }
+
+    synchronized (DOCUMENTS) {
+      DOCUMENTS.put(cacheKey, document);
+    }
+    return document;
+  }
+
+  static void clear() {
+    synchronized (DOCUMENTS) {
+      DOCUMENTS.clear();
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package software.amazon.qbusiness.datasource.configuration;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+/**
+ * Parses a JSON configuration straight into a {@link Document}, token by token, without first materializing it as
+ * Java maps and lists. Values keep their JSON types; integers stay integral and decimals keep their exact digits.
+ */
+final class JsonDocumentReader {
+  private static final JsonFactory FACTORY = new JsonFactory();
+
+  private JsonDocumentReader() {
+  }
+
+  /**
+   * @throws CfnInvalidRequestException when the content is not a single JSON object.
+   * @throws IOException                when the stream cannot be read.
+   */
+  static Document read(final InputStream content) throws IOException {
+    try (JsonParser parser = FACTORY.createParser(content)) {
+      final JsonToken first = parser.nextToken();
+      if (first != JsonToken.START_OBJECT) {
+        throw new CfnInvalidRequestException("Configuration must be a JSON object");
+      }
+      final Document document = readValue(parser, first);
+      if (parser.nextToken() != null) {
+        throw new CfnInvalidRequestException("Configuration has content after its closing brace");
+      }
+      return document;
+    }
+  }
+
+  private static Document readValue(final JsonParser parser, final JsonToken token) throws IOException {
+    switch (token) {
+      case START_OBJECT: {
+        final Map<String, Document> members = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          final String name = parser.currentName();
+          members.put(name, readValue(parser, parser.nextToken()));
+        }
+        return Document.fromMap(members);
+      }
+      case START_ARRAY: {
+        final List<Document> elements = new ArrayList<>();
+        JsonToken next;
+        while ((next = parser.nextToken()) != JsonToken.END_ARRAY) {
+          elements.add(readValue(parser, next));
+        }
+        return Document.fromList(elements);
+      }
+      case VALUE_STRING:
+        return Document.fromString(parser.getText());
+      case VALUE_NUMBER_INT:
+        return switch (parser.getNumberType()) {
+          case INT -> Document.fromNumber(parser.getIntValue());
+          case LONG -> Document.fromNumber(parser.getLongValue());
+          default -> Document.fromNumber(parser.getBigIntegerValue());
+        };
+      case VALUE_NUMBER_FLOAT:
+        return Document.fromNumber(parser.getDecimalValue());
+      case VALUE_TRUE:
+        return Document.fromBoolean(true);
+      case VALUE_FALSE:
+        return Document.fromBoolean(false);
+      case VALUE_NULL:
+        return Document.fromNull();
+      default:
+        throw new CfnInvalidRequestException("Configuration has an unexpected %s".formatted(token));
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package software.amazon.qbusiness.datasource.configuration;
+
+import java.io.InputStream;
+
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Reads configuration objects with GetObject, returning the response stream as is so the object is parsed while it
+ * downloads. Reads of cached objects are authorized with HeadObject.
+ */
+public final class S3ConfigurationObjectStore implements ConfigurationObjectStore {
+  private static final String API_GET_OBJECT = "GetObject";
+  private static final String API_HEAD_OBJECT = "HeadObject";
+
+  private final ProxyClient<S3Client> proxyClient;
+
+  public S3ConfigurationObjectStore(final ProxyClient<S3Client> proxyClient) {
+    this.proxyClient = proxyClient;
+  }
+
+  @Override
+  public void authorize(final String bucket, final String key, final String versionId) {
+    final HeadObjectRequest request = HeadObjectRequest.builder()
+        .bucket(bucket)
+        .key(key)
+        .versionId(versionId)
+        .build();
+    try {
+      proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::headObject);
+    } catch (S3Exception e) {
+      throw toHandlerException(e, API_HEAD_OBJECT, bucket, key, versionId);
+    }
+  }
+
+  @Override
+  public InputStream open(final String bucket, final String key, final String versionId) {
+    final GetObjectRequest request = GetObjectRequest.builder()
+        .bucket(bucket)
+        .key(key)
+        .versionId(versionId)
+        .build();
+    try {
+      return proxyClient.injectCredentialsAndInvokeV2InputStream(request, proxyClient.client()::getObject);
+    } catch (S3Exception e) {
+      throw toHandlerException(e, API_GET_OBJECT, bucket, key, versionId);
+    }
+  }
+
+  private static RuntimeException toHandlerException(
+      final S3Exception e,
+      final String apiName,
+      final String bucket,
+      final String key,
+      final String versionId) {
+    if (e instanceof NoSuchKeyException) {
+      return new CfnInvalidRequestException("Configuration object s3://%s/%s with version %s does not exist"
+          .formatted(bucket, key, versionId), e);
+    }
+    return switch (e.statusCode()) {
+      case 400, 404 -> new CfnInvalidRequestException("Configuration object s3://%s/%s with version %s could not be read: %s"
+          .formatted(bucket, key, versionId, e.getMessage()), e);
+      case 403 -> new CfnAccessDeniedException(apiName, e);
+      default -> new CfnGeneralServiceException(apiName, e);
+    };
+  }
+}
@@ -0,0 +1,165 @@
+package software.amazon.qbusiness.datasource.enrichment;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import software.amazon.awssdk.services.qbusiness.model.DocumentEnrichmentConditionOperator;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.qbusiness.datasource.DocumentAttributeCondition;
+import software.amazon.qbusiness.datasource.DocumentAttributeValue;
+
+/**
+ * Compiles a {@link DocumentAttributeCondition} into a predicate over a document's attributes. The operator and the
+ * type of the condition value are resolved once at compile time, so evaluating the predicate is a map lookup and one
+ * comparison.
+ *
+ * <p>Attribute values are Strings, Numbers, {@link Instant}s (ISO-8601 strings are accepted for date comparisons) or
+ * collections of Strings. A missing attribute only satisfies {@code NOT_EXISTS}.
+ */
+final class ConditionCompiler {
+  static final Predicate<Map<String, Object>> ALWAYS = attributes -> true;
+
+  private ConditionCompiler() {
+  }
+
+  static Predicate<Map<String, Object>> compile(final DocumentAttributeCondition condition) {
+    if (condition == null) {
+      return ALWAYS;
+    }
+
+    if (condition.getOperator() == null) {
+      throw new CfnInvalidRequestException("Condition on %s has no operator".formatted(condition.getKey()));
+    }
+
+    final String key = condition.getKey();
+    final DocumentEnrichmentConditionOperator operator = DocumentEnrichmentConditionOperator.fromValue(condition.getOperator());
+    final Object value = toAttributeValue(condition.getValue());
+    if (operator == DocumentEnrichmentConditionOperator.EXISTS) {
+      return attributes -> attributes.get(key) != null;
+    }
+    if (operator == DocumentEnrichmentConditionOperator.NOT_EXISTS) {
+      return attributes -> attributes.get(key) == null;
+    }
+
+    final Object expected = required(value, condition);
+    return switch (operator) {
+      case EQUALS -> present(key, actual -> equalsValue(actual, expected));
+      case NOT_EQUALS -> present(key, actual -> !equalsValue(actual, expected));
+      case CONTAINS -> present(key, contains(expected));
+      case NOT_CONTAINS -> present(key, contains(expected).negate());
+      case BEGINS_WITH -> beginsWith(key, expected);
+      case GREATER_THAN -> ordered(key, expected, comparison -> comparison > 0);
+      case GREATER_THAN_OR_EQUALS -> ordered(key, expected, comparison -> comparison >= 0);
+      case LESS_THAN -> ordered(key, expected, comparison -> comparison < 0);
+      case LESS_THAN_OR_EQUALS -> ordered(key, expected, comparison -> comparison <= 0);
+      default -> throw new CfnInvalidRequestException("Unsupported condition operator: %s".formatted(condition.getOperator()));
+    };
+  }
+
+  /**
+   * @return the model value as an attribute value: String, Long, Instant or List of Strings, or null when unset.
+   */
+  static Object toAttributeValue(final DocumentAttributeValue value) {
+    if (value == null) {
+      return null;
+    }
+    if (value.getStringValue() != null) {
+      return value.getStringValue();
+    }
+    if (value.getStringListValue() != null) {
+      return List.copyOf(value.getStringListValue());
+    }
+    if (value.getLongValue() != null) {
+      return value.getLongValue().longValue();
+    }
+    if (value.getDateValue() != null) {
+      return Instant.parse(value.getDateValue());
+    }
+    return null;
+  }
+
+  private static Object required(final Object expected, final DocumentAttributeCondition condition) {
+    if (expected == null) {
+      throw new CfnInvalidRequestException("Condition on %s with operator %s requires a value"
+          .formatted(condition.getKey(), condition.getOperator()));
+    }
+    return expected;
+  }
+
+  private static Predicate<Map<String, Object>> present(final String key, final Predicate<Object> test) {
+    return attributes -> {
+      final Object actual = attributes.get(key);
+      return actual != null && test.test(actual);
+    };
+  }
+
+  private static boolean equalsValue(final Object actual, final Object expected) {
+    if (expected instanceof Long expectedLong) {
+      return actual instanceof Number number && number.longValue() == expectedLong;
+    }
+    if (expected instanceof Instant expectedDate) {
+      final Instant actualDate = asInstant(actual);
+      return actualDate != null && actualDate.equals(expectedDate);
+    }
+    if (expected instanceof List<?> expectedList) {
+      return actual instanceof Collection<?> actualCollection
+          && actualCollection.size() == expectedList.size()
+          && actualCollection.containsAll(expectedList);
+    }
+    return expected.equals(actual);
+  }
+
+  private static Predicate<Object> contains(final Object expected) {
+    if (expected instanceof String expectedString) {
+      return actual -> actual instanceof Collection<?> collection
+          ? collection.contains(expectedString)
+          : actual instanceof String string && string.contains(expectedString);
+    }
+    if (expected instanceof List<?> expectedList) {
+      return actual -> actual instanceof Collection<?> collection && collection.containsAll(expectedList);
+    }
+    return actual -> false;
+  }
+
+  private static Predicate<Map<String, Object>> beginsWith(final String key, final Object expected) {
+    if (!(expected instanceof String prefix)) {
+      return attributes -> false;
+    }
+    return present(key, actual -> actual instanceof String string && string.startsWith(prefix));
+  }
+
+  private interface ComparisonTest {
+    boolean test(int comparison);
+  }
+
+  private static Predicate<Map<String, Object>> ordered(final String key, final Object expected, final ComparisonTest test) {
+    if (expected instanceof Long expectedLong) {
+      return present(key, actual -> actual instanceof Number number && test.test(Long.compare(number.longValue(), expectedLong)));
+    }
+    if (expected instanceof Instant expectedDate) {
+      return present(key, actual -> {
+        final Instant actualDate = asInstant(actual);
+        return actualDate != null && test.test(actualDate.compareTo(expectedDate));
+      });
+    }
+    return attributes -> false;
+  }
+
+  private static Instant asInstant(final Object value) {
+    if (value instanceof Instant instant) {
+      return instant;
+    }
+    if (value instanceof String string) {
+      try {
+        return Instant.parse(string);
+      } catch (DateTimeParseException e) {
+        return null;
+      }
+    }
+    return null;
+  }
+}
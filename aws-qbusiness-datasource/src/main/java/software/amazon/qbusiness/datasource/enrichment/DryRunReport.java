@@ -0,0 +1,30 @@
+package software.amazon.qbusiness.datasource.enrichment;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of {@link EnrichmentRuleEngine#dryRun}. Documents are identified by their index in the evaluated batch.
+ *
+ * @param rules                      one entry per inline configuration, in configuration order.
+ * @param contentDeletedDocuments    documents whose content an inline rule would delete.
+ * @param preExtractionHookDocuments documents that would invoke the pre-extraction hook Lambda.
+ * @param postExtractionHookDocuments documents that would invoke the post-extraction hook Lambda.
+ * @param enrichedAttributes         the attributes of each document after the inline rules ran.
+ */
+public record DryRunReport(
+    List<RuleResult> rules,
+    List<Integer> contentDeletedDocuments,
+    List<Integer> preExtractionHookDocuments,
+    List<Integer> postExtractionHookDocuments,
+    List<Map<String, Object>> enrichedAttributes
+) {
+
+  /**
+   * @param ruleIndex         position of the rule in the inline configurations.
+   * @param targetKey         the attribute the rule sets or deletes, or null when it only acts on content.
+   * @param matchingDocuments documents the rule fired for.
+   */
+  public record RuleResult(int ruleIndex, String targetKey, List<Integer> matchingDocuments) {
+  }
+}
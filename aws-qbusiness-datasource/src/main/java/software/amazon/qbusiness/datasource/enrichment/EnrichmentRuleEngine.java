@@ -0,0 +1,152 @@
+package software.amazon.qbusiness.datasource.enrichment;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import software.amazon.awssdk.services.qbusiness.model.AttributeValueOperator;
+import software.amazon.awssdk.services.qbusiness.model.DocumentContentOperator;
+import software.amazon.qbusiness.datasource.DocumentAttributeTarget;
+import software.amazon.qbusiness.datasource.DocumentEnrichmentConfiguration;
+import software.amazon.qbusiness.datasource.HookConfiguration;
+import software.amazon.qbusiness.datasource.InlineDocumentEnrichmentConfiguration;
+
+/**
+ * Evaluates a {@link DocumentEnrichmentConfiguration} locally against sample documents, so rules and hook conditions
+ * can be checked without running a sync job.
+ *
+ * <p>Evaluation follows the order the service applies enrichment in: inline configurations run in order, and each one
+ * sees the attributes as changed by the ones before it; the pre-extraction hook condition is then checked against the
+ * enriched attributes. The post-extraction hook condition is checked against the same attributes, since what the
+ * pre-extraction Lambda returns cannot be known offline.
+ */
+public final class EnrichmentRuleEngine {
+  private final List<CompiledRule> rules;
+  private final Predicate<Map<String, Object>> preExtractionHook;
+  private final Predicate<Map<String, Object>> postExtractionHook;
+
+  private record CompiledRule(
+      Predicate<Map<String, Object>> condition,
+      String targetKey,
+      boolean deleteTarget,
+      Object targetValue,
+      boolean deleteContent
+  ) {
+  }
+
+  private EnrichmentRuleEngine(
+      final List<CompiledRule> rules,
+      final Predicate<Map<String, Object>> preExtractionHook,
+      final Predicate<Map<String, Object>> postExtractionHook) {
+    this.rules = rules;
+    this.preExtractionHook = preExtractionHook;
+    this.postExtractionHook = postExtractionHook;
+  }
+
+  /**
+   * Compiles the configuration once; the engine can then evaluate any number of batches.
+   *
+   * @throws software.amazon.cloudformation.exceptions.CfnInvalidRequestException if a condition is malformed.
+   */
+  public static EnrichmentRuleEngine compile(final DocumentEnrichmentConfiguration configuration) {
+    final List<CompiledRule> rules = new ArrayList<>();
+    if (configuration == null) {
+      return new EnrichmentRuleEngine(rules, null, null);
+    }
+
+    if (configuration.getInlineConfigurations() != null) {
+      for (final InlineDocumentEnrichmentConfiguration inline : configuration.getInlineConfigurations()) {
+        final DocumentAttributeTarget target = inline.getTarget();
+        rules.add(new CompiledRule(
+            ConditionCompiler.compile(inline.getCondition()),
+            target == null ? null : target.getKey(),
+            target != null && AttributeValueOperator.DELETE.toString().equals(target.getAttributeValueOperator()),
+            target == null ? null : ConditionCompiler.toAttributeValue(target.getValue()),
+            DocumentContentOperator.DELETE.toString().equals(inline.getDocumentContentOperator())
+        ));
+      }
+    }
+
+    return new EnrichmentRuleEngine(
+        List.copyOf(rules),
+        compileHook(configuration.getPreExtractionHookConfiguration()),
+        compileHook(configuration.getPostExtractionHookConfiguration())
+    );
+  }
+
+  /**
+   * Runs every rule and hook condition over the documents. The input maps are not modified.
+   *
+   * @param documents the attributes of each sample document, by attribute key.
+   */
+  public DryRunReport dryRun(final List<Map<String, Object>> documents) {
+    final BitSet[] ruleMatches = new BitSet[rules.size()];
+    for (int r = 0; r < ruleMatches.length; r++) {
+      ruleMatches[r] = new BitSet(documents.size());
+    }
+    final BitSet contentDeleted = new BitSet(documents.size());
+    final BitSet preHook = new BitSet(documents.size());
+    final BitSet postHook = new BitSet(documents.size());
+    final List<Map<String, Object>> enriched = new ArrayList<>(documents.size());
+
+    for (int d = 0; d < documents.size(); d++) {
+      final Map<String, Object> original = documents.get(d);
+      Map<String, Object> attributes = original;
+
+      for (int r = 0; r < rules.size(); r++) {
+        final CompiledRule rule = rules.get(r);
+        if (!rule.condition().test(attributes)) {
+          continue;
+        }
+        ruleMatches[r].set(d);
+        if (rule.deleteContent()) {
+          contentDeleted.set(d);
+        }
+        if (rule.targetKey() != null && (rule.deleteTarget() || rule.targetValue() != null)) {
+          if (attributes == original) {
+            attributes = new HashMap<>(original);
+          }
+          if (rule.deleteTarget()) {
+            attributes.remove(rule.targetKey());
+          } else {
+            attributes.put(rule.targetKey(), rule.targetValue());
+          }
+        }
+      }
+
+      if (preExtractionHook != null && preExtractionHook.test(attributes)) {
+        preHook.set(d);
+      }
+      if (postExtractionHook != null && postExtractionHook.test(attributes)) {
+        postHook.set(d);
+      }
+      enriched.add(attributes);
+    }
+
+    final List<DryRunReport.RuleResult> ruleResults = new ArrayList<>(rules.size());
+    for (int r = 0; r < rules.size(); r++) {
+      ruleResults.add(new DryRunReport.RuleResult(r, rules.get(r).targetKey(), indexes(ruleMatches[r])));
+    }
+    return new DryRunReport(
+        List.copyOf(ruleResults), indexes(contentDeleted), indexes(preHook), indexes(postHook), enriched
+    );
+  }
+
+  private static Predicate<Map<String, Object>> compileHook(final HookConfiguration hook) {
+    if (hook == null || hook.getLambdaArn() == null) {
+      return null;
+    }
+    return ConditionCompiler.compile(hook.getInvocationCondition());
+  }
+
+  private static List<Integer> indexes(final BitSet bits) {
+    final List<Integer> result = new ArrayList<>(bits.cardinality());
+    for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+      result.add(i);
+    }
+    return List.copyOf(result);
+  }
+}
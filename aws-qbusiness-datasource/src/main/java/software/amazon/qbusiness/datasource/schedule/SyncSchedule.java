@@ -0,0 +1,652 @@
+package software.amazon.qbusiness.datasource.schedule;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+/**
+ * A parsed data source {@code SyncSchedule}, used to reject malformed schedules before calling the service and to
+ * preview when a schedule runs.
+ *
+ * <p>Three forms are accepted: {@code rate(<value> <minute|hour|day>)}, the six field
+ * {@code cron(minutes hours day-of-month month day-of-week year)} form (where one of the day fields must be {@code ?}
+ * and days of week are numbered 1-7 from Sunday), and the five field Unix form {@code minutes hours day-of-month month
+ * day-of-week} (days of week 0-7, both 0 and 7 being Sunday; when both day fields are restricted either may match).
+ * Cron fields take lists, ranges, steps and names; the cron form also takes {@code L}, {@code W} and {@code #}. All
+ * times are UTC.
+ *
+ * <p>Parsing scans the expression in place and keeps every field as a bit mask, so it allocates little beyond the
+ * instance itself, and finding the next run skips over whole hours and days that cannot match.
+ */
+public final class SyncSchedule {
+  public static final int MAX_YEAR = 2199;
+  private static final int MIN_YEAR = 1970;
+
+  private static final String[] MONTH_NAMES = {
+      "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"
+  };
+  private static final String[] DAY_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+
+  private static final int NONE = -1;
+  private static final int LAST_DAY = 1;
+  private static final int LAST_WEEKDAY = 2;
+
+  private final String expression;
+  private final Duration rate;
+
+  private final long minutes;
+  private final long hours;
+  private final long daysOfMonth;
+  private final long months;
+  private final long daysOfWeek;
+  private final long[] years;
+  private final boolean dayOfMonthRestricted;
+  private final boolean dayOfWeekRestricted;
+  private final int lastDayOfMonth;
+  private final int nearestWeekday;
+  private final int lastDayOfWeek;
+  private final int nthDayOfWeek;
+  private final int nthDayOfWeekIndex;
+
+  private SyncSchedule(final String expression, final Duration rate) {
+    this.expression = expression;
+    this.rate = rate;
+    this.minutes = 0;
+    this.hours = 0;
+    this.daysOfMonth = 0;
+    this.months = 0;
+    this.daysOfWeek = 0;
+    this.years = null;
+    this.dayOfMonthRestricted = false;
+    this.dayOfWeekRestricted = false;
+    this.lastDayOfMonth = NONE;
+    this.nearestWeekday = NONE;
+    this.lastDayOfWeek = NONE;
+    this.nthDayOfWeek = NONE;
+    this.nthDayOfWeekIndex = NONE;
+  }
+
+  private SyncSchedule(final String expression, final Fields fields) {
+    this.expression = expression;
+    this.rate = null;
+    this.minutes = fields.minutes;
+    this.hours = fields.hours;
+    this.daysOfMonth = fields.daysOfMonth;
+    this.months = fields.months;
+    this.daysOfWeek = fields.daysOfWeek;
+    this.years = fields.years;
+    this.dayOfMonthRestricted = fields.dayOfMonthRestricted;
+    this.dayOfWeekRestricted = fields.dayOfWeekRestricted;
+    this.lastDayOfMonth = fields.lastDayOfMonth;
+    this.nearestWeekday = fields.nearestWeekday;
+    this.lastDayOfWeek = fields.lastDayOfWeek;
+    this.nthDayOfWeek = fields.nthDayOfWeek;
+    this.nthDayOfWeekIndex = fields.nthDayOfWeekIndex;
+  }
+
+  /**
+   * @throws CfnInvalidRequestException if the expression is not a valid schedule, naming the offending part.
+   */
+  public static SyncSchedule parse(final String expression) {
+    if (expression == null) {
+      throw invalid("null", "a schedule is required");
+    }
+
+    final int start = skipSpaces(expression, 0);
+    final int end = trimEnd(expression);
+    if (start >= end) {
+      throw invalid(expression, "a schedule is required");
+    }
+
+    if (expression.regionMatches(true, start, "rate(", 0, 5)) {
+      return parseRate(expression, start + 5, closing(expression, end));
+    }
+    if (expression.regionMatches(true, start, "cron(", 0, 5)) {
+      return new SyncSchedule(expression, parseCron(expression, start + 5, closing(expression, end), true));
+    }
+    return new SyncSchedule(expression, parseCron(expression, start, end, false));
+  }
+
+  /**
+   * @return why the schedule is not valid, or empty when it is valid or unset (a data source without a schedule only
+   *     syncs on demand).
+   */
+  public static Optional<String> violation(final String expression) {
+    if (expression == null || expression.isBlank()) {
+      return Optional.empty();
+    }
+    try {
+      parse(expression);
+      return Optional.empty();
+    } catch (CfnInvalidRequestException e) {
+      return Optional.of(e.getMessage());
+    }
+  }
+
+  public String getExpression() {
+    return expression;
+  }
+
+  public boolean isRate() {
+    return rate != null;
+  }
+
+  /**
+   * @return the first run strictly after {@code after}, or null when the schedule never runs again before
+   *     {@link #MAX_YEAR}. A rate schedule is anchored at {@code after}, since its real anchor is not known.
+   */
+  public Instant nextRun(final Instant after) {
+    if (rate != null) {
+      return after.plus(rate);
+    }
+
+    LocalDateTime time = LocalDateTime.ofInstant(after, ZoneOffset.UTC).truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+    while (time.getYear() <= MAX_YEAR) {
+      if (!yearMatches(time.getYear())) {
+        time = LocalDateTime.of(time.getYear() + 1, 1, 1, 0, 0);
+        continue;
+      }
+      if ((months & (1L << time.getMonthValue())) == 0) {
+        time = time.toLocalDate().withDayOfMonth(1).plusMonths(1).atStartOfDay();
+        continue;
+      }
+      if (!dayMatches(time.toLocalDate())) {
+        time = time.toLocalDate().plusDays(1).atStartOfDay();
+        continue;
+      }
+      final long hoursLeft = hours & (-1L << time.getHour());
+      if (hoursLeft == 0) {
+        time = time.toLocalDate().plusDays(1).atStartOfDay();
+        continue;
+      }
+      final int hour = Long.numberOfTrailingZeros(hoursLeft);
+      if (hour != time.getHour()) {
+        time = time.withHour(hour).withMinute(0);
+      }
+      final long minutesLeft = minutes & (-1L << time.getMinute());
+      if (minutesLeft == 0) {
+        time = time.withMinute(0).plusHours(1);
+        continue;
+      }
+      return time.withMinute(Long.numberOfTrailingZeros(minutesLeft)).toInstant(ZoneOffset.UTC);
+    }
+    return null;
+  }
+
+  /**
+   * @return up to {@code count} run times after {@code after}, fewer when the schedule stops running.
+   */
+  public List<Instant> nextRuns(final Instant after, final int count) {
+    final List<Instant> runs = new ArrayList<>(count);
+    Instant previous = after;
+    while (runs.size() < count) {
+      final Instant next = nextRun(previous);
+      if (next == null) {
+        break;
+      }
+      runs.add(next);
+      previous = next;
+    }
+    return runs;
+  }
+
+  /**
+   * @return the shortest gap between consecutive runs among the next {@code runs} runs, or null with fewer than two.
+   */
+  public Duration shortestInterval(final Instant after, final int runs) {
+    if (rate != null) {
+      return rate;
+    }
+
+    Duration shortest = null;
+    Instant previous = nextRun(after);
+    for (int i = 1; i < runs && previous != null; i++) {
+      final Instant next = nextRun(previous);
+      if (next == null) {
+        break;
+      }
+      final Duration gap = Duration.between(previous, next);
+      if (shortest == null || gap.compareTo(shortest) < 0) {
+        shortest = gap;
+      }
+      previous = next;
+    }
+    return shortest;
+  }
+
+  /**
+   * @return true when, within the next {@code runs} runs, a run would start before a sync of {@code syncDuration}
+   *     started by the previous run has finished.
+   */
+  public boolean mayOverlap(final Duration syncDuration, final Instant after, final int runs) {
+    final Duration shortest = shortestInterval(after, runs);
+    return shortest != null && shortest.compareTo(syncDuration) < 0;
+  }
+
+  private boolean yearMatches(final int year) {
+    if (years == null) {
+      return true;
+    }
+    final int bit = year - MIN_YEAR;
+    return bit >= 0 && (years[bit >>> 6] & (1L << bit)) != 0;
+  }
+
+  private boolean dayMatches(final LocalDate date) {
+    if (dayOfMonthRestricted && dayOfWeekRestricted) {
+      return dayOfMonthMatches(date) || dayOfWeekMatches(date);
+    }
+    if (dayOfMonthRestricted) {
+      return dayOfMonthMatches(date);
+    }
+    return !dayOfWeekRestricted || dayOfWeekMatches(date);
+  }
+
+  private boolean dayOfMonthMatches(final LocalDate date) {
+    final int day = date.getDayOfMonth();
+    if ((daysOfMonth & (1L << day)) != 0) {
+      return true;
+    }
+    if (lastDayOfMonth == LAST_DAY) {
+      return day == date.lengthOfMonth();
+    }
+    if (lastDayOfMonth == LAST_WEEKDAY) {
+      return day == weekdayNearest(date, date.lengthOfMonth());
+    }
+    return nearestWeekday != NONE && day == weekdayNearest(date, nearestWeekday);
+  }
+
+  private boolean dayOfWeekMatches(final LocalDate date) {
+    final int dayOfWeek = date.getDayOfWeek().getValue() % 7;
+    if ((daysOfWeek & (1L << dayOfWeek)) != 0) {
+      return true;
+    }
+    if (lastDayOfWeek != NONE) {
+      return dayOfWeek == lastDayOfWeek && date.getDayOfMonth() + 7 > date.lengthOfMonth();
+    }
+    return nthDayOfWeek != NONE && dayOfWeek == nthDayOfWeek && (date.getDayOfMonth() - 1) / 7 + 1 == nthDayOfWeekIndex;
+  }
+
+  /**
+   * The weekday closest to {@code target} in the month of {@code date}, never crossing into another month.
+   */
+  private static int weekdayNearest(final LocalDate date, final int target) {
+    final int length = date.lengthOfMonth();
+    final int day = Math.min(target, length);
+    final int dayOfWeek = date.withDayOfMonth(day).getDayOfWeek().getValue();
+    if (dayOfWeek == 6) {
+      return day == 1 ? 3 : day - 1;
+    }
+    if (dayOfWeek == 7) {
+      return day == length ? day - 2 : day + 1;
+    }
+    return day;
+  }
+
+  private static SyncSchedule parseRate(final String expression, final int from, final int to) {
+    int position = skipSpaces(expression, from);
+    final int valueStart = position;
+    long value = 0;
+    while (position < to && isDigit(expression.charAt(position))) {
+      value = value * 10 + (expression.charAt(position) - '0');
+      if (value > Integer.MAX_VALUE) {
+        throw invalid(expression, "the rate value is too large");
+      }
+      position++;
+    }
+    if (position == valueStart || value == 0) {
+      throw invalid(expression, "a rate needs a positive whole number value");
+    }
+
+    final int unitStart = skipSpaces(expression, position);
+    if (unitStart == position) {
+      throw invalid(expression, "a rate needs a unit of minutes, hours or days");
+    }
+    int unitEnd = unitStart;
+    while (unitEnd < to && !Character.isWhitespace(expression.charAt(unitEnd))) {
+      unitEnd++;
+    }
+    if (skipSpaces(expression, unitEnd) != to) {
+      throw invalid(expression, "a rate takes a value and a unit only");
+    }
+
+    final ChronoUnit unit = rateUnit(expression, unitStart, unitEnd);
+    if (unit == null) {
+      throw invalid(expression, "a rate needs a unit of minutes, hours or days");
+    }
+    return new SyncSchedule(expression, Duration.of(value, unit));
+  }
+
+  private static ChronoUnit rateUnit(final String expression, final int start, final int end) {
+    final int length = end - start;
+    final boolean plural = length > 0 && Character.toLowerCase(expression.charAt(end - 1)) == 's';
+    final int stem = plural ? length - 1 : length;
+    if (stem == 6 && expression.regionMatches(true, start, "minute", 0, 6)) {
+      return ChronoUnit.MINUTES;
+    }
+    if (stem == 4 && expression.regionMatches(true, start, "hour", 0, 4)) {
+      return ChronoUnit.HOURS;
+    }
+    if (stem == 3 && expression.regionMatches(true, start, "day", 0, 3)) {
+      return ChronoUnit.DAYS;
+    }
+    return null;
+  }
+
+  private static Fields parseCron(final String expression, final int from, final int to, final boolean awsForm) {
+    final int expectedFields = awsForm ? 6 : 5;
+    final int[] bounds = new int[expectedFields * 2];
+    int count = 0;
+    int position = skipSpaces(expression, from);
+    while (position < to) {
+      if (count == expectedFields) {
+        throw invalid(expression, "expected %d fields".formatted(expectedFields));
+      }
+      final int fieldEnd = fieldEnd(expression, position, to);
+      bounds[count * 2] = position;
+      bounds[count * 2 + 1] = fieldEnd;
+      count++;
+      position = skipSpaces(expression, fieldEnd);
+    }
+    if (count != expectedFields) {
+      throw invalid(expression, "expected %d fields".formatted(expectedFields));
+    }
+
+    final Fields fields = new Fields();
+    fields.minutes = parseField(expression, bounds[0], bounds[1], 0, 59, null, 0, "minutes");
+    fields.hours = parseField(expression, bounds[2], bounds[3], 0, 23, null, 0, "hours");
+    fields.months = parseField(expression, bounds[6], bounds[7], 1, 12, MONTH_NAMES, 1, "month");
+    parseDayOfMonth(expression, bounds[4], bounds[5], awsForm, fields);
+    parseDayOfWeek(expression, bounds[8], bounds[9], awsForm, fields);
+
+    if (awsForm) {
+      final boolean domAny = isSingle(expression, bounds[4], bounds[5], '?');
+      final boolean dowAny = isSingle(expression, bounds[8], bounds[9], '?');
+      if (domAny == dowAny) {
+        throw invalid(expression, "exactly one of day-of-month and day-of-week must be ?");
+      }
+      if (!isSingle(expression, bounds[10], bounds[11], '*')) {
+        fields.years = new long[(MAX_YEAR - MIN_YEAR) / 64 + 1];
+        parseYears(expression, bounds[10], bounds[11], fields.years);
+      }
+    }
+    return fields;
+  }
+
+  private static void parseDayOfMonth(
+      final String expression, final int start, final int end, final boolean awsForm, final Fields fields) {
+    if (isSingle(expression, start, end, '*') || (awsForm && isSingle(expression, start, end, '?'))) {
+      fields.daysOfMonth = fullMask(1, 31);
+      return;
+    }
+    fields.dayOfMonthRestricted = true;
+    if (awsForm) {
+      if (end - start == 1 && Character.toUpperCase(expression.charAt(start)) == 'L') {
+        fields.lastDayOfMonth = LAST_DAY;
+        return;
+      }
+      if (end - start == 2 && expression.regionMatches(true, start, "LW", 0, 2)) {
+        fields.lastDayOfMonth = LAST_WEEKDAY;
+        return;
+      }
+      if (end - start > 1 && Character.toUpperCase(expression.charAt(end - 1)) == 'W') {
+        final int day = parseNumber(expression, start, end - 1, "day-of-month");
+        if (day < 1 || day > 31) {
+          throw invalid(expression, "day-of-month %d is out of range 1-31".formatted(day));
+        }
+        fields.nearestWeekday = day;
+        return;
+      }
+    }
+    fields.daysOfMonth = parseField(expression, start, end, 1, 31, null, 0, "day-of-month");
+  }
+
+  private static void parseDayOfWeek(
+      final String expression, final int start, final int end, final boolean awsForm, final Fields fields) {
+    if (isSingle(expression, start, end, '*') || (awsForm && isSingle(expression, start, end, '?'))) {
+      fields.daysOfWeek = fullMask(0, 6);
+      return;
+    }
+    fields.dayOfWeekRestricted = true;
+    if (awsForm) {
+      final int hash = expression.indexOf('#', start);
+      if (hash >= 0 && hash < end) {
+        fields.nthDayOfWeek = awsDayOfWeek(expression, start, hash);
+        fields.nthDayOfWeekIndex = parseNumber(expression, hash + 1, end, "day-of-week");
+        if (fields.nthDayOfWeekIndex < 1 || fields.nthDayOfWeekIndex > 5) {
+          throw invalid(expression, "the week number after # must be 1-5");
+        }
+        return;
+      }
+      if (end - start > 1 && Character.toUpperCase(expression.charAt(end - 1)) == 'L') {
+        fields.lastDayOfWeek = awsDayOfWeek(expression, start, end - 1);
+        return;
+      }
+      if (end - start == 1 && Character.toUpperCase(expression.charAt(start)) == 'L') {
+        fields.lastDayOfWeek = 6;
+        return;
+      }
+      // Days are numbered 1-7 from Sunday, so shift the mask down by one to index Sunday as 0.
+      fields.daysOfWeek = parseField(expression, start, end, 1, 7, DAY_NAMES, 1, "day-of-week") >>> 1;
+      return;
+    }
+    final long mask = parseField(expression, start, end, 0, 7, DAY_NAMES, 0, "day-of-week");
+    fields.daysOfWeek = (mask | (mask >>> 7)) & fullMask(0, 6);
+  }
+
+  private static int awsDayOfWeek(final String expression, final int start, final int end) {
+    final int named = nameIndex(expression, start, end, DAY_NAMES);
+    final int day = named >= 0 ? named + 1 : parseNumber(expression, start, end, "day-of-week");
+    if (day < 1 || day > 7) {
+      throw invalid(expression, "day-of-week %d is out of range 1-7".formatted(day));
+    }
+    return day - 1;
+  }
+
+  private static void parseYears(final String expression, final int start, final int end, final long[] years) {
+    int position = start;
+    while (position <= end) {
+      int itemEnd = position;
+      while (itemEnd < end && expression.charAt(itemEnd) != ',') {
+        itemEnd++;
+      }
+      final long[] bounds = itemBounds(expression, position, itemEnd, MIN_YEAR, MAX_YEAR, null, 0, "year");
+      for (long year = bounds[0]; year <= bounds[1]; year += bounds[2]) {
+        final int bit = (int) (year - MIN_YEAR);
+        years[bit >>> 6] |= 1L << bit;
+      }
+      position = itemEnd + 1;
+    }
+  }
+
+  /**
+   * Parses a comma separated list of values, ranges and steps into a mask with bit {@code n} set for value {@code n}.
+   */
+  private static long parseField(
+      final String expression,
+      final int start,
+      final int end,
+      final int min,
+      final int max,
+      final String[] names,
+      final int nameBase,
+      final String field) {
+    long mask = 0;
+    int position = start;
+    while (position <= end) {
+      int itemEnd = position;
+      while (itemEnd < end && expression.charAt(itemEnd) != ',') {
+        itemEnd++;
+      }
+      final long[] bounds = itemBounds(expression, position, itemEnd, min, max, names, nameBase, field);
+      for (long value = bounds[0]; value <= bounds[1]; value += bounds[2]) {
+        mask |= 1L << value;
+      }
+      position = itemEnd + 1;
+    }
+    return mask;
+  }
+
+  /**
+   * @return the first value, last value and step of one list item such as {@code 5}, {@code MON-FRI} or {@code *}/15.
+   */
+  private static long[] itemBounds(
+      final String expression,
+      final int start,
+      final int end,
+      final int min,
+      final int max,
+      final String[] names,
+      final int nameBase,
+      final String field) {
+    if (start >= end) {
+      throw invalid(expression, "%s has an empty list item".formatted(field));
+    }
+
+    int rangeEnd = end;
+    long step = 1;
+    final int slash = expression.indexOf('/', start);
+    if (slash >= 0 && slash < end) {
+      step = parseNumber(expression, slash + 1, end, field);
+      if (step < 1) {
+        throw invalid(expression, "%s step must be positive".formatted(field));
+      }
+      rangeEnd = slash;
+    }
+
+    long first;
+    long last;
+    if (rangeEnd - start == 1 && expression.charAt(start) == '*') {
+      first = min;
+      last = max;
+    } else {
+      final int dash = expression.indexOf('-', start);
+      if (dash >= 0 && dash < rangeEnd) {
+        first = value(expression, start, dash, names, nameBase, field);
+        last = value(expression, dash + 1, rangeEnd, names, nameBase, field);
+      } else {
+        first = value(expression, start, rangeEnd, names, nameBase, field);
+        last = slash >= 0 && slash < end ? max : first;
+      }
+    }
+
+    if (first < min || last > max) {
+      throw invalid(expression, "%s must be within %d-%d".formatted(field, min, max));
+    }
+    if (first > last) {
+      throw invalid(expression, "%s range %d-%d is backwards".formatted(field, first, last));
+    }
+    return new long[] {first, last, step};
+  }
+
+  private static int value(
+      final String expression, final int start, final int end, final String[] names, final int nameBase, final String field) {
+    if (names != null) {
+      final int named = nameIndex(expression, start, end, names);
+      if (named >= 0) {
+        return named + nameBase;
+      }
+    }
+    return parseNumber(expression, start, end, field);
+  }
+
+  private static int nameIndex(final String expression, final int start, final int end, final String[] names) {
+    if (end - start != 3) {
+      return -1;
+    }
+    for (int i = 0; i < names.length; i++) {
+      if (expression.regionMatches(true, start, names[i], 0, 3)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int parseNumber(final String expression, final int start, final int end, final String field) {
+    if (start >= end || end - start > 4) {
+      throw invalid(expression, "%s has an invalid value".formatted(field));
+    }
+    int value = 0;
+    for (int i = start; i < end; i++) {
+      final char c = expression.charAt(i);
+      if (!isDigit(c)) {
+        throw invalid(expression, "%s has an invalid value".formatted(field));
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  private static boolean isSingle(final String expression, final int start, final int end, final char c) {
+    return end - start == 1 && expression.charAt(start) == c;
+  }
+
+  private static long fullMask(final int min, final int max) {
+    return (-1L >>> (63 - max)) & (-1L << min);
+  }
+
+  private static int closing(final String expression, final int end) {
+    if (expression.charAt(end - 1) != ')') {
+      throw invalid(expression, "missing closing parenthesis");
+    }
+    return end - 1;
+  }
+
+  private static int fieldEnd(final String expression, final int from, final int to) {
+    int position = from;
+    while (position < to && !Character.isWhitespace(expression.charAt(position))) {
+      position++;
+    }
+    return position;
+  }
+
+  private static int skipSpaces(final String expression, final int from) {
+    int position = from;
+    while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+      position++;
+    }
+    return position;
+  }
+
+  private static int trimEnd(final String expression) {
+    int end = expression.length();
+    while (end > 0 && Character.isWhitespace(expression.charAt(end - 1))) {
+      end--;
+    }
+    return end;
+  }
+
+  private static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static CfnInvalidRequestException invalid(final String expression, final String reason) {
+    return new CfnInvalidRequestException("SyncSchedule %s is not valid: %s".formatted(expression, reason));
+  }
+
+  /**
+   * Scratch holder for the fields of a cron expression while they are parsed.
+   */
+  private static final class Fields {
+    private long minutes;
+    private long hours;
+    private long daysOfMonth;
+    private long months;
+    private long daysOfWeek;
+    private long[] years;
+    private boolean dayOfMonthRestricted;
+    private boolean dayOfWeekRestricted;
+    private int lastDayOfMonth = NONE;
+    private int nearestWeekday = NONE;
+    private int lastDayOfWeek = NONE;
+    private int nthDayOfWeek = NONE;
+    private int nthDayOfWeekIndex = NONE;
+  }
+}
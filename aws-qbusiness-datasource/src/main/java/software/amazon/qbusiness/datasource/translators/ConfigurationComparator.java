@@ -0,0 +1,158 @@
+package software.amazon.qbusiness.datasource.translators;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares data source {@code Configuration} documents by meaning rather than by Java type.
+ *
+ * <p>The configuration from a template and the one read back from the service differ in representation even when
+ * nothing changed: YAML hands us {@code "true"} and {@code "10"} as strings, {@link DocumentConverter} sends
+ * {@code "true"}/{@code "false"} as booleans, and the service returns booleans and {@code SdkNumber}s. This comparator
+ * treats those as equal, ignores key order and keys whose value is null, and walks both documents in place without
+ * building a canonical copy, so comparing large connector configurations stays cheap.
+ */
+public final class ConfigurationComparator {
+
+  private ConfigurationComparator() {
+  }
+
+  /**
+   * @return true when both configurations would produce the same document on the service. A missing configuration
+   *     and an empty one are considered equal.
+   */
+  public static boolean isEquivalent(final Map<String, Object> left, final Map<String, Object> right) {
+    if (left == right) {
+      return true;
+    }
+    return mapsEquivalent(left == null ? Map.of() : left, right == null ? Map.of() : right);
+  }
+
+  private static boolean mapsEquivalent(final Map<?, ?> left, final Map<?, ?> right) {
+    int leftSize = 0;
+    for (final Map.Entry<?, ?> entry : left.entrySet()) {
+      if (entry.getValue() == null) {
+        continue;
+      }
+      leftSize++;
+      if (!valuesEquivalent(entry.getValue(), right.get(entry.getKey()))) {
+        return false;
+      }
+    }
+
+    int rightSize = 0;
+    for (final Object value : right.values()) {
+      if (value != null) {
+        rightSize++;
+      }
+    }
+    return leftSize == rightSize;
+  }
+
+  private static boolean listsEquivalent(final List<?> left, final List<?> right) {
+    if (left.size() != right.size()) {
+      return false;
+    }
+    for (int i = 0; i < left.size(); i++) {
+      if (!valuesEquivalent(left.get(i), right.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean valuesEquivalent(final Object left, final Object right) {
+    if (left == right) {
+      return true;
+    }
+    if (left == null || right == null) {
+      return false;
+    }
+    if (left instanceof Map<?, ?> leftMap) {
+      return right instanceof Map<?, ?> rightMap && mapsEquivalent(leftMap, rightMap);
+    }
+    if (left instanceof List<?> leftList) {
+      return right instanceof List<?> rightList && listsEquivalent(leftList, rightList);
+    }
+    if (right instanceof Map<?, ?> || right instanceof List<?>) {
+      return false;
+    }
+    return scalarsEquivalent(left, right);
+  }
+
+  private static boolean scalarsEquivalent(final Object left, final Object right) {
+    if (left instanceof String leftString && right instanceof String rightString) {
+      return leftString.equals(rightString);
+    }
+
+    final Boolean leftBoolean = asBoolean(left);
+    final Boolean rightBoolean = asBoolean(right);
+    if (leftBoolean != null || rightBoolean != null) {
+      return leftBoolean != null && leftBoolean.equals(rightBoolean);
+    }
+
+    final BigDecimal leftNumber = asNumber(left);
+    final BigDecimal rightNumber = asNumber(right);
+    if (leftNumber != null && rightNumber != null) {
+      return leftNumber.compareTo(rightNumber) == 0;
+    }
+    return left.toString().equals(right.toString());
+  }
+
+  private static Boolean asBoolean(final Object value) {
+    if (value instanceof Boolean bool) {
+      return bool;
+    }
+    if ("true".equals(value)) {
+      return Boolean.TRUE;
+    }
+    if ("false".equals(value)) {
+      return Boolean.FALSE;
+    }
+    return null;
+  }
+
+  /**
+   * Numbers and numeric strings as a {@link BigDecimal}, so {@code 10}, {@code 10L}, {@code 10.0} and {@code "10"} all
+   * compare equal. Anything else is null.
+   */
+  private static BigDecimal asNumber(final Object value) {
+    if (value instanceof BigDecimal decimal) {
+      return decimal;
+    }
+    if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+      return BigDecimal.valueOf(((Number) value).longValue());
+    }
+    if (value instanceof Double || value instanceof Float) {
+      final double doubleValue = ((Number) value).doubleValue();
+      return Double.isFinite(doubleValue) ? BigDecimal.valueOf(doubleValue) : null;
+    }
+    final String text = value.toString();
+    return looksNumeric(text) ? parseDecimal(text) : null;
+  }
+
+  private static boolean looksNumeric(final String text) {
+    if (text.isEmpty()) {
+      return false;
+    }
+    boolean hasDigit = false;
+    for (int i = 0; i < text.length(); i++) {
+      final char c = text.charAt(i);
+      if (c >= '0' && c <= '9') {
+        hasDigit = true;
+      } else if (c != '-' && c != '+' && c != '.' && c != 'e' && c != 'E') {
+        return false;
+      }
+    }
+    return hasDigit;
+  }
+
+  private static BigDecimal parseDecimal(final String text) {
+    try {
+      return new BigDecimal(text);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package software.amazon.qbusiness.datasource.translators;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import software.amazon.awssdk.core.document.Document;
+
+/**
+ * Remembers the maps recent configuration documents converted into, keyed by a structural hash of the document, so
+ * converting the same document again (the GetDataSource response of every Read until the data source is updated)
+ * returns the remembered map instead of rebuilding it. The map is the document's own conversion, so a hit and a miss,
+ * or a warm and a cold container, return the same value whatever numbers or booleans the configuration holds.
+ *
+ * <p>A hit is confirmed with {@link Document#equals}, so a hash collision costs a comparison, never a wrong result. The
+ * memo is small and bounded, since each entry holds a full connector configuration.
+ */
+final class ConfigurationMemo {
+  static final int MAX_ENTRIES = 8;
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private static final Map<Long, Entry> ENTRIES = new LinkedHashMap<>(MAX_ENTRIES * 2, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<Long, Entry> eldest) {
+      return size() > MAX_ENTRIES;
+    }
+  };
+
+  private record Entry(Document document, Map<String, Object> configuration) {
+  }
+
+  private ConfigurationMemo() {
+  }
+
+  static void remember(final Document document, final Map<String, Object> configuration) {
+    final long hash = structuralHash(document);
+    synchronized (ENTRIES) {
+      ENTRIES.put(hash, new Entry(document, configuration));
+    }
+  }
+
+  /**
+   * @return the map remembered for the document, or null when it was not converted recently.
+   */
+  static Map<String, Object> lookup(final Document document) {
+    final Entry entry;
+    synchronized (ENTRIES) {
+      entry = ENTRIES.get(structuralHash(document));
+    }
+    return entry != null && entry.document().equals(document) ? entry.configuration() : null;
+  }
+
+  static void clear() {
+    synchronized (ENTRIES) {
+      ENTRIES.clear();
+    }
+  }
+
+  /**
+   * A 64-bit FNV-1a style hash of the document tree. Map entries are combined without regard to order, list items in
+   * order, and numbers by their string form, so a document and its round trip through the service hash the same.
+   */
+  static long structuralHash(final Document document) {
+    if (document == null || document.isNull()) {
+      return mix(FNV_OFFSET, 0);
+    }
+    if (document.isMap()) {
+      long combined = 0;
+      for (final Map.Entry<String, Document> entry : document.asMap().entrySet()) {
+        combined += mix(mix(FNV_OFFSET, entry.getKey()), structuralHash(entry.getValue()));
+      }
+      return mix(mix(FNV_OFFSET, 'm'), combined);
+    }
+    if (document.isList()) {
+      long hash = mix(FNV_OFFSET, 'l');
+      for (final Document item : document.asList()) {
+        hash = mix(hash, structuralHash(item));
+      }
+      return hash;
+    }
+    if (document.isBoolean()) {
+      return mix(FNV_OFFSET, document.asBoolean() ? 't' : 'f');
+    }
+    if (document.isNumber()) {
+      return mix(mix(FNV_OFFSET, 'n'), document.asNumber().stringValue());
+    }
+    return mix(mix(FNV_OFFSET, 's'), document.asString());
+  }
+
+  private static long mix(final long hash, final long value) {
+    long result = hash;
+    for (int i = 0; i < Long.BYTES; i++) {
+      result ^= (value >>> (i * 8)) & 0xff;
+      result *= FNV_PRIME;
+    }
+    return result;
+  }
+
+  private static long mix(final long hash, final String value) {
+    long result = hash;
+    for (int i = 0; i < value.length(); i++) {
+      result ^= value.charAt(i);
+      result *= FNV_PRIME;
+    }
+    return result;
+  }
+}
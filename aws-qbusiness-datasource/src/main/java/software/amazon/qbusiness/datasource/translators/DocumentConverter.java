@@ -2,6 +2,9 @@ package software.amazon.qbusiness.datasource.translators;
 
 import com.google.common.collect.ImmutableList;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -16,6 +19,10 @@ public final class DocumentConverter {
   private DocumentConverter() {
   }
 
+  /**
+   * Converts a configuration document from the service into an immutable map. The service returns the same
+   * configuration on every Read until it is updated, so the conversion of a recent document is remembered and reused.
+   */
   public static Map<String, Object> convertDocumentToMap(Document document) {
     if (Objects.isNull(document)) {
       return null;
@@ -24,14 +31,39 @@ public final class DocumentConverter {
       throw new CfnGeneralServiceException("Upstream service returned an unexpected template document.");
     }
 
-    ImmutableMap.Builder<String, Object> outputMapBuilder = ImmutableMap.builder();
+    var remembered = ConfigurationMemo.lookup(document);
+    if (remembered != null) {
+      return remembered;
+    }
+    var configuration = unwrapMap(document);
+    ConfigurationMemo.remember(document, configuration);
+    return configuration;
+  }
+
+  /**
+   * Same values as {@link Document#unwrap()}, with every nested map and list unmodifiable, since a remembered
+   * configuration is handed to every Read that gets the same document.
+   */
+  private static Map<String, Object> unwrapMap(Document document) {
+    Map<String, Object> map = new LinkedHashMap<>();
     for (Map.Entry<String, Document> documentEntry : document.asMap().entrySet()) {
-      var key = documentEntry.getKey();
-      var value = documentEntry.getValue().unwrap();
-      outputMapBuilder.put(key, value);
+      map.put(documentEntry.getKey(), unwrap(documentEntry.getValue()));
     }
+    return Collections.unmodifiableMap(map);
+  }
 
-    return outputMapBuilder.build();
+  private static Object unwrap(Document document) {
+    if (document.isMap()) {
+      return unwrapMap(document);
+    }
+    if (document.isList()) {
+      List<Object> list = new ArrayList<>(document.asList().size());
+      for (Document item : document.asList()) {
+        list.add(unwrap(item));
+      }
+      return Collections.unmodifiableList(list);
+    }
+    return document.unwrap();
   }
 
   public static Document convertToMapToDocument(Map<String, Object> objectMap) {
@@ -39,6 +71,10 @@ public final class DocumentConverter {
       return null;
     }
 
+    return mapToDocument(objectMap);
+  }
+
+  private static Document mapToDocument(Map<String, Object> objectMap) {
     ImmutableMap.Builder<String, Document> mapBuilder = ImmutableMap.builder();
     for (Map.Entry<String, Object> mapEntry : objectMap.entrySet()) {
       var key = mapEntry.getKey();
@@ -80,7 +116,7 @@ public final class DocumentConverter {
     } else if (value instanceof Map) {
       @SuppressWarnings("unchecked")
       var rawMap = (Map<String, Object>) value;
-      return convertToMapToDocument(rawMap);
+      return mapToDocument(rawMap);
     } else {
       throw new CfnInvalidRequestException("Unexpected document value found: %s".formatted(value));
     }
@@ -0,0 +1,135 @@
+package software.amazon.qbusiness.datasource.validation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.ValidationException;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import software.amazon.awssdk.core.document.Document;
+
+/**
+ * Pre-flight validation of a data source {@code Configuration} against the bundled schema of its connector
+ * {@code type}, so an obviously broken configuration fails before CreateDataSource or UpdateDataSource is called instead
+ * of after the data source reaches FAILED.
+ *
+ * <p>Schemas live under {@code /connector-schemas/<type>.json} and are compiled once per container. The bundled
+ * schemas only check structure (required sections, enums); field level rules stay with the service. A configuration
+ * whose type has no bundled schema is not validated.
+ */
+public final class ConnectorConfigurationValidator {
+  static final String SCHEMA_DIRECTORY = "/connector-schemas/";
+  private static final String TYPE_KEY = "type";
+
+  private static final Map<String, Optional<Schema>> SCHEMAS = new ConcurrentHashMap<>();
+
+  private ConnectorConfigurationValidator() {
+  }
+
+  /**
+   * @return the schema violations of the configuration, empty when it is valid or there is no schema for its type.
+   */
+  public static List<String> validate(final Map<String, Object> configuration) {
+    if (configuration == null) {
+      return List.of();
+    }
+
+    return validate(schemaFor(configuration.get(TYPE_KEY)), () -> new JSONObject(configuration));
+  }
+
+  /**
+   * Validates a configuration document, such as one read from a {@code ConfigurationS3Reference}, as it is sent to the
+   * service.
+   *
+   * @return the schema violations of the configuration, empty when it is valid or there is no schema for its type.
+   */
+  public static List<String> validateDocument(final Document configuration) {
+    if (configuration == null || !configuration.isMap()) {
+      return List.of();
+    }
+
+    final Document type = configuration.asMap().get(TYPE_KEY);
+    return validate(schemaFor(type != null && type.isString() ? type.asString() : null),
+        () -> (JSONObject) toJson(configuration));
+  }
+
+  private static List<String> validate(final Optional<Schema> schema, final Supplier<JSONObject> configuration) {
+    if (schema.isEmpty()) {
+      return List.of();
+    }
+
+    try {
+      schema.get().validate(configuration.get());
+      return List.of();
+    } catch (ValidationException e) {
+      return e.getAllMessages();
+    }
+  }
+
+  private static Object toJson(final Document document) {
+    if (document.isMap()) {
+      final JSONObject object = new JSONObject();
+      document.asMap().forEach((key, value) -> object.put(key, toJson(value)));
+      return object;
+    }
+    if (document.isList()) {
+      final JSONArray array = new JSONArray();
+      document.asList().forEach(item -> array.put(toJson(item)));
+      return array;
+    }
+    if (document.isString()) {
+      return document.asString();
+    }
+    if (document.isBoolean()) {
+      return document.asBoolean();
+    }
+    if (document.isNumber()) {
+      final BigDecimal number = document.asNumber().bigDecimalValue();
+      return number.stripTrailingZeros().scale() <= 0 ? number.toBigInteger() : number;
+    }
+    return JSONObject.NULL;
+  }
+
+  static Optional<Schema> schemaFor(final Object type) {
+    if (!(type instanceof String typeName) || !isResourceSafe(typeName)) {
+      return Optional.empty();
+    }
+    return SCHEMAS.computeIfAbsent(typeName.toLowerCase(Locale.ENGLISH), ConnectorConfigurationValidator::load);
+  }
+
+  private static Optional<Schema> load(final String type) {
+    try (InputStream schemaStream = ConnectorConfigurationValidator.class.getResourceAsStream(SCHEMA_DIRECTORY + type + ".json")) {
+      if (schemaStream == null) {
+        return Optional.empty();
+      }
+      return Optional.of(SchemaLoader.load(new JSONObject(new JSONTokener(schemaStream))));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read the %s connector schema".formatted(type), e);
+    }
+  }
+
+  private static boolean isResourceSafe(final String type) {
+    if (type.isEmpty()) {
+      return false;
+    }
+    for (int i = 0; i < type.length(); i++) {
+      final char c = type.charAt(i);
+      if (!(c >= 'a' && c <= 'z') && !(c >= 'A' && c <= 'Z') && !(c >= '0' && c <= '9')) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
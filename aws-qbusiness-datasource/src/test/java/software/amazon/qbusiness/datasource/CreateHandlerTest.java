@@ -11,7 +11,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -34,16 +37,26 @@ import software.amazon.awssdk.services.qbusiness.model.ConflictException;
 import software.amazon.awssdk.services.qbusiness.model.CreateDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.CreateDataSourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.DataSourceStatus;
+import software.amazon.awssdk.services.qbusiness.model.DataSourceSyncJob;
+import software.amazon.awssdk.services.qbusiness.model.DataSourceSyncJobMetrics;
+import software.amazon.awssdk.services.qbusiness.model.DataSourceSyncJobStatus;
 import software.amazon.awssdk.services.qbusiness.model.DocumentEnrichmentConditionOperator;
 import software.amazon.awssdk.services.qbusiness.model.ErrorDetail;
 import software.amazon.awssdk.services.qbusiness.model.QBusinessException;
 import software.amazon.awssdk.services.qbusiness.model.GetDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetDataSourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexResponse;
+import software.amazon.awssdk.services.qbusiness.model.IndexStatus;
 import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
+import software.amazon.awssdk.services.qbusiness.model.ListDataSourceSyncJobsRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListDataSourceSyncJobsResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.qbusiness.model.ServiceQuotaExceededException;
+import software.amazon.awssdk.services.qbusiness.model.StartDataSourceSyncJobRequest;
+import software.amazon.awssdk.services.qbusiness.model.StartDataSourceSyncJobResponse;
 import software.amazon.awssdk.services.qbusiness.model.ThrottlingException;
 import software.amazon.awssdk.services.qbusiness.model.ValidationException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
@@ -54,6 +67,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.datasource.configuration.LocalConfigurationObjectStore;
 
 public class CreateHandlerTest extends AbstractTestBase {
 
@@ -71,6 +85,7 @@ public class CreateHandlerTest extends AbstractTestBase {
   private AutoCloseable testMocks;
 
   private CreateHandler underTest;
+  private boolean expectServiceCalls;
 
   private ResourceHandlerRequest<ResourceModel> testRequest;
   private ResourceModel model;
@@ -78,6 +93,7 @@ public class CreateHandlerTest extends AbstractTestBase {
   @BeforeEach
   public void setup() {
     testMocks = MockitoAnnotations.openMocks(this);
+    expectServiceCalls = true;
     proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
     sdkClient = mock(QBusinessClient.class);
     proxyClient = MOCK_PROXY(proxy, sdkClient);
@@ -138,6 +154,8 @@ public class CreateHandlerTest extends AbstractTestBase {
         .desiredResourceState(model)
         .build();
 
+    when(sdkClient.getIndex(any(GetIndexRequest.class)))
+        .thenReturn(GetIndexResponse.builder().applicationId(APP_ID).indexId(INDEX_ID).status(IndexStatus.ACTIVE).build());
     when(sdkClient.createDataSource(any(CreateDataSourceRequest.class)))
         .thenReturn(CreateDataSourceResponse.builder()
             .dataSourceId(DATA_SOURCE_ID)
@@ -150,7 +168,12 @@ public class CreateHandlerTest extends AbstractTestBase {
 
   @AfterEach
   public void tear_down() throws Exception {
-    verify(sdkClient, atLeastOnce()).serviceName();
+    if (expectServiceCalls) {
+      verify(sdkClient, atLeastOnce()).serviceName();
+      verify(sdkClient).getIndex(argThat(
+          (ArgumentMatcher<GetIndexRequest>) t -> t.applicationId().equals(APP_ID) && t.indexId().equals(INDEX_ID)
+      ));
+    }
     verifyNoMoreInteractions(sdkClient);
 
     testMocks.close();
@@ -177,7 +200,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
     var createReqCaptor = ArgumentCaptor.forClass(CreateDataSourceRequest.class);
     verify(sdkClient).createDataSource(createReqCaptor.capture());
-    verify(sdkClient, times(2)).getDataSource(argThat(
+    verify(sdkClient, times(1)).getDataSource(argThat(
         (ArgumentMatcher<GetDataSourceRequest>) t -> t.dataSourceId().equals(DATA_SOURCE_ID)
     ));
     verify(sdkClient).listTagsForResource(argThat(
@@ -229,7 +252,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     assertThat(resultProgress.isSuccess()).isTrue();
 
     verify(sdkClient).createDataSource(any(CreateDataSourceRequest.class));
-    verify(sdkClient, times(3)).getDataSource(any(GetDataSourceRequest.class));
+    verify(sdkClient, times(2)).getDataSource(any(GetDataSourceRequest.class));
     verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
   }
 
@@ -256,6 +279,185 @@ public class CreateHandlerTest extends AbstractTestBase {
     verify(sdkClient, times(1)).getDataSource(any(GetDataSourceRequest.class));
   }
 
+  @Test
+  public void testThatItSendsTheConfigurationReferencedInS3() {
+    // set up
+    var store = new LocalConfigurationObjectStore()
+        .put("config-bucket", "web.json", "create-v1", """
+            {"type": "WEBCRAWLERV2", "syncMode": "FULL_CRAWL", "depth": 50, "crawlEverything": false,
+             "connectionConfiguration": {"repositoryEndpointMetadata": {"siteMapUrls": ["https://example.com/sitemap.xml"]}},
+             "repositoryConfigurations": {}}
+            """);
+    underTest = new CreateHandler(
+        Constant.of().timeout(Duration.ofSeconds(60)).delay(Duration.ofSeconds(3)).build(),
+        new InitialSyncTracker(),
+        awsProxy -> store
+    );
+    var reference = ConfigurationS3Reference.builder().s3Uri("s3://config-bucket/web.json").versionId("create-v1").build();
+    model.setConfiguration(null);
+    model.setConfigurationS3Reference(reference);
+    when(sdkClient.getDataSource(any(GetDataSourceRequest.class))).thenReturn(GetDataSourceResponse.builder()
+        .applicationId(APP_ID)
+        .indexId(INDEX_ID)
+        .dataSourceId(DATA_SOURCE_ID)
+        .status(DataSourceStatus.ACTIVE)
+        .configuration(Document.fromMap(Map.of("type", Document.fromString("WEBCRAWLERV2"))))
+        .build());
+
+    // call method
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    // verify
+    assertThat(resultProgress.isSuccess()).isTrue();
+    assertThat(resultProgress.getResourceModel().getConfigurationS3Reference()).isNull();
+    assertThat(resultProgress.getResourceModel().getConfiguration()).isEqualTo(Map.of("type", "WEBCRAWLERV2"));
+    assertThat(store.opens()).isEqualTo(1);
+
+    var createReqCaptor = ArgumentCaptor.forClass(CreateDataSourceRequest.class);
+    verify(sdkClient).createDataSource(createReqCaptor.capture());
+    verify(sdkClient, times(1)).getDataSource(any(GetDataSourceRequest.class));
+    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    var sent = createReqCaptor.getValue().configuration().asMap();
+    assertThat(sent.get("depth")).isEqualTo(Document.fromNumber(50));
+    assertThat(sent.get("crawlEverything")).isEqualTo(Document.fromBoolean(false));
+  }
+
+  @Test
+  public void testThatItRejectsAReferencedConfigurationThatDoesNotMatchItsConnectorSchema() {
+    // set up
+    var store = new LocalConfigurationObjectStore()
+        .put("config-bucket", "web.json", "invalid-v1", "{\"type\": \"WEBCRAWLERV2\", \"syncMode\": \"CHANGE_LOG\"}");
+    underTest = new CreateHandler(
+        Constant.of().timeout(Duration.ofSeconds(60)).delay(Duration.ofSeconds(3)).build(),
+        new InitialSyncTracker(),
+        awsProxy -> store
+    );
+    expectServiceCalls = false;
+    model.setConfiguration(null);
+    model.setConfigurationS3Reference(
+        ConfigurationS3Reference.builder().s3Uri("s3://config-bucket/web.json").versionId("invalid-v1").build()
+    );
+
+    // call method
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    // verify
+    assertThat(resultProgress.getStatus()).isEqualTo(OperationStatus.FAILED);
+    assertThat(resultProgress.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+    assertThat(resultProgress.getMessage()).contains("WEBCRAWLERV2").contains("syncMode");
+  }
+
+  private CreateHandler syncingHandler() {
+    return new CreateHandler(
+        Constant.of().timeout(Duration.ofSeconds(60)).delay(Duration.ofSeconds(3)).build(),
+        new InitialSyncTracker(Duration.ofHours(1), Clock.fixed(Instant.parse("2024-05-01T00:00:00Z"), ZoneOffset.UTC), millis -> { })
+    );
+  }
+
+  private static DataSourceSyncJob syncJob(DataSourceSyncJobStatus status, String scanned) {
+    return DataSourceSyncJob.builder()
+        .executionId("exec-1")
+        .status(status)
+        .metrics(DataSourceSyncJobMetrics.builder()
+            .documentsScanned(scanned)
+            .documentsAdded(scanned)
+            .documentsModified("0")
+            .documentsDeleted("0")
+            .documentsFailed("0")
+            .build())
+        .build();
+  }
+
+  private void activeDataSource() {
+    when(sdkClient.getDataSource(any(GetDataSourceRequest.class))).thenReturn(GetDataSourceResponse.builder()
+        .applicationId(APP_ID)
+        .indexId(INDEX_ID)
+        .dataSourceId(DATA_SOURCE_ID)
+        .status(DataSourceStatus.ACTIVE)
+        .build());
+  }
+
+  @Test
+  public void testThatItStartsAndWaitsForInitialSyncWhenRequested() {
+    testRequest.getDesiredResourceState().setSyncOnCreate(true);
+    activeDataSource();
+    when(sdkClient.startDataSourceSyncJob(any(StartDataSourceSyncJobRequest.class)))
+        .thenReturn(StartDataSourceSyncJobResponse.builder().executionId("exec-1").build());
+    when(sdkClient.listDataSourceSyncJobs(any(ListDataSourceSyncJobsRequest.class)))
+        .thenReturn(ListDataSourceSyncJobsResponse.builder()
+            .history(syncJob(DataSourceSyncJobStatus.SYNCING, "120"))
+            .build())
+        .thenReturn(ListDataSourceSyncJobsResponse.builder()
+            .history(syncJob(DataSourceSyncJobStatus.SUCCEEDED, "300"))
+            .build());
+
+    var callbackContext = new CallbackContext();
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = syncingHandler().handleRequest(
+        proxy, testRequest, callbackContext, proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    assertThat(callbackContext.getInitialSync().isComplete()).isTrue();
+    assertThat(callbackContext.getInitialSync().getDocumentsProcessed()).isEqualTo(120L);
+
+    verify(sdkClient).createDataSource(any(CreateDataSourceRequest.class));
+    verify(sdkClient, times(1)).getDataSource(any(GetDataSourceRequest.class));
+    verify(sdkClient).startDataSourceSyncJob(argThat(
+        (ArgumentMatcher<StartDataSourceSyncJobRequest>) t -> t.dataSourceId().equals(DATA_SOURCE_ID)
+    ));
+    verify(sdkClient, times(2)).listDataSourceSyncJobs(any(ListDataSourceSyncJobsRequest.class));
+    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
+
+  @Test
+  public void testThatItResumesTrackingTheInitialSyncFromTheCallbackContext() {
+    testRequest.getDesiredResourceState().setSyncOnCreate(true);
+    activeDataSource();
+    when(sdkClient.listDataSourceSyncJobs(any(ListDataSourceSyncJobsRequest.class)))
+        .thenReturn(ListDataSourceSyncJobsResponse.builder()
+            .history(syncJob(DataSourceSyncJobStatus.SUCCEEDED, "300"))
+            .build());
+
+    var callbackContext = new CallbackContext();
+    callbackContext.setInitialSync(new InitialSyncProgress("exec-1", 0L, 0L, 120L, 15_000L, false));
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = syncingHandler().handleRequest(
+        proxy, testRequest, callbackContext, proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(sdkClient).createDataSource(any(CreateDataSourceRequest.class));
+    verify(sdkClient, times(1)).getDataSource(any(GetDataSourceRequest.class));
+    verify(sdkClient).listDataSourceSyncJobs(any(ListDataSourceSyncJobsRequest.class));
+    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
+
+  @Test
+  public void testThatAFailedInitialSyncFailsTheCreate() {
+    testRequest.getDesiredResourceState().setSyncOnCreate(true);
+    activeDataSource();
+    when(sdkClient.startDataSourceSyncJob(any(StartDataSourceSyncJobRequest.class)))
+        .thenReturn(StartDataSourceSyncJobResponse.builder().executionId("exec-1").build());
+    when(sdkClient.listDataSourceSyncJobs(any(ListDataSourceSyncJobsRequest.class)))
+        .thenReturn(ListDataSourceSyncJobsResponse.builder()
+            .history(syncJob(DataSourceSyncJobStatus.FAILED, "0").toBuilder()
+                .error(ErrorDetail.builder().errorMessage("Bucket not found").build())
+                .build())
+            .build());
+
+    assertThatThrownBy(() -> syncingHandler().handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    )).isInstanceOf(CfnNotStabilizedException.class);
+
+    verify(sdkClient).createDataSource(any(CreateDataSourceRequest.class));
+    verify(sdkClient).getDataSource(any(GetDataSourceRequest.class));
+    verify(sdkClient).startDataSourceSyncJob(any(StartDataSourceSyncJobRequest.class));
+    verify(sdkClient).listDataSourceSyncJobs(any(ListDataSourceSyncJobsRequest.class));
+  }
+
   private static Stream<Arguments> serviceErrorsAndHandlerCodes() {
     return Stream.of(
         Arguments.of(ValidationException.builder().build(), HandlerErrorCode.InvalidRequest),
@@ -99,7 +99,9 @@ public class DeleteHandlerTest extends AbstractTestBase {
   public void handleRequest_SimpleSuccess() {
     // set up test
     when(sdkClient.deleteDataSource(any(DeleteDataSourceRequest.class))).thenReturn(DeleteDataSourceResponse.builder().build());
-    when(sdkClient.getDataSource(any(GetDataSourceRequest.class))).thenThrow(ResourceNotFoundException.builder().build());
+    when(sdkClient.getDataSource(any(GetDataSourceRequest.class)))
+        .thenReturn(activeDataSource())
+        .thenThrow(ResourceNotFoundException.builder().build());
 
     // call the method under test
     final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
@@ -117,16 +119,46 @@ public class DeleteHandlerTest extends AbstractTestBase {
         (ArgumentMatcher<DeleteDataSourceRequest>) t -> t.dataSourceId().equals(DATA_SOURCE_ID)
     ));
 
-    verify(sdkClient).getDataSource(argThat(
+    verify(sdkClient, times(2)).getDataSource(argThat(
         (ArgumentMatcher<GetDataSourceRequest>) t -> t.dataSourceId().equals(DATA_SOURCE_ID)
     ));
   }
 
+  @Test
+  public void testThatItWaitsForADataSourceInTransitionBeforeDeleting() {
+    // set up test
+    when(sdkClient.deleteDataSource(any(DeleteDataSourceRequest.class))).thenReturn(DeleteDataSourceResponse.builder().build());
+    when(sdkClient.getDataSource(any(GetDataSourceRequest.class)))
+        .thenReturn(activeDataSource().toBuilder().status(DataSourceStatus.UPDATING).build())
+        .thenReturn(activeDataSource())
+        .thenThrow(ResourceNotFoundException.builder().build());
+
+    // call method under test
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    // verify
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(sdkClient).deleteDataSource(any(DeleteDataSourceRequest.class));
+    verify(sdkClient, times(3)).getDataSource(any(GetDataSourceRequest.class));
+  }
+
+  private static GetDataSourceResponse activeDataSource() {
+    return GetDataSourceResponse.builder()
+        .applicationId(APP_ID)
+        .indexId(INDEX_ID)
+        .dataSourceId(DATA_SOURCE_ID)
+        .status(DataSourceStatus.ACTIVE)
+        .build();
+  }
+
   @Test
   public void testThatItStabilizesAfterDeletingStatus() {
     // set up test
     when(sdkClient.deleteDataSource(any(DeleteDataSourceRequest.class))).thenReturn(DeleteDataSourceResponse.builder().build());
     when(sdkClient.getDataSource(any(GetDataSourceRequest.class)))
+        .thenReturn(activeDataSource())
         .thenReturn(
             GetDataSourceResponse.builder()
                 .applicationId(APP_ID)
@@ -152,7 +184,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
         (ArgumentMatcher<DeleteDataSourceRequest>) t -> t.dataSourceId().equals(DATA_SOURCE_ID)
     ));
 
-    verify(sdkClient, times(2)).getDataSource(argThat(
+    verify(sdkClient, times(3)).getDataSource(argThat(
         (ArgumentMatcher<GetDataSourceRequest>) t -> t.dataSourceId().equals(DATA_SOURCE_ID)
     ));
   }
@@ -181,6 +213,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
       HandlerErrorCode expectedCfnErrorCode
   ) {
     // set up
+    when(sdkClient.getDataSource(any(GetDataSourceRequest.class))).thenReturn(activeDataSource());
     when(sdkClient.deleteDataSource(any(DeleteDataSourceRequest.class))).thenThrow(serviceError);
 
     // call method under test
@@ -192,6 +225,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
     assertThat(responseProgress).isNotNull();
     assertThat(responseProgress.isSuccess()).isFalse();
     assertThat(responseProgress.getStatus()).isEqualTo(OperationStatus.FAILED);
+    verify(sdkClient).getDataSource(any(GetDataSourceRequest.class));
     verify(sdkClient).deleteDataSource(any(DeleteDataSourceRequest.class));
     assertThat(responseProgress.getErrorCode()).isEqualTo(expectedCfnErrorCode);
   }
@@ -204,7 +238,9 @@ public class DeleteHandlerTest extends AbstractTestBase {
   ) {
     // set up
     when(sdkClient.deleteDataSource(any(DeleteDataSourceRequest.class))).thenReturn(DeleteDataSourceResponse.builder().build());
-    when(sdkClient.getDataSource(any(GetDataSourceRequest.class))).thenThrow(serviceError);
+    when(sdkClient.getDataSource(any(GetDataSourceRequest.class)))
+        .thenReturn(activeDataSource())
+        .thenThrow(serviceError);
 
     // call method under test & verify
     final ProgressEvent<ResourceModel, CallbackContext> responseProgress = underTest.handleRequest(
@@ -218,6 +254,6 @@ public class DeleteHandlerTest extends AbstractTestBase {
     assertThat(responseProgress.getErrorCode()).isEqualTo(expectedCfnErrorCode);
 
     verify(sdkClient).deleteDataSource(any(DeleteDataSourceRequest.class));
-    verify(sdkClient).getDataSource(any(GetDataSourceRequest.class));
+    verify(sdkClient, times(2)).getDataSource(any(GetDataSourceRequest.class));
   }
 }
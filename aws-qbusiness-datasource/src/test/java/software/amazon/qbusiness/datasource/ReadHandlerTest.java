@@ -4,13 +4,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static software.amazon.qbusiness.datasource.translators.DocumentConverter.convertToMapToDocument;
 
+import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -29,6 +32,9 @@ import software.amazon.awssdk.core.document.Document;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.AccessDeniedException;
 import software.amazon.awssdk.services.qbusiness.model.DataSourceStatus;
+import software.amazon.awssdk.services.qbusiness.model.DataSourceSyncJob;
+import software.amazon.awssdk.services.qbusiness.model.DataSourceSyncJobMetrics;
+import software.amazon.awssdk.services.qbusiness.model.DataSourceSyncJobStatus;
 import software.amazon.awssdk.services.qbusiness.model.DataSourceVpcConfiguration;
 import software.amazon.awssdk.services.qbusiness.model.DocumentAttributeCondition;
 import software.amazon.awssdk.services.qbusiness.model.DocumentAttributeTarget;
@@ -43,6 +49,8 @@ import software.amazon.awssdk.services.qbusiness.model.ImageExtractionConfigurat
 import software.amazon.awssdk.services.qbusiness.model.HookConfiguration;
 import software.amazon.awssdk.services.qbusiness.model.InlineDocumentEnrichmentConfiguration;
 import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
+import software.amazon.awssdk.services.qbusiness.model.ListDataSourceSyncJobsRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListDataSourceSyncJobsResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.MediaExtractionConfiguration;
@@ -208,6 +216,124 @@ public class ReadHandlerTest extends AbstractTestBase {
     ));
   }
 
+  private void simpleDataSource() {
+    when(sdkClient.getDataSource(any(GetDataSourceRequest.class))).thenReturn(GetDataSourceResponse.builder()
+        .applicationId(APP_ID)
+        .indexId(INDEX_ID)
+        .dataSourceId(DATA_SOURCE_ID)
+        .status(DataSourceStatus.ACTIVE)
+        .build());
+    when(sdkClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder()
+        .tags(List.of())
+        .build());
+  }
+
+  @Test
+  public void testThatItAddsTheLastSyncJobFromCachedHistoryWhenEnabled() {
+    simpleDataSource();
+    when(sdkClient.listDataSourceSyncJobs(any(ListDataSourceSyncJobsRequest.class))).thenReturn(
+        ListDataSourceSyncJobsResponse.builder()
+            .history(
+                DataSourceSyncJob.builder()
+                    .executionId("older")
+                    .status(DataSourceSyncJobStatus.SUCCEEDED)
+                    .startTime(Instant.parse("2024-04-01T00:00:00Z"))
+                    .endTime(Instant.parse("2024-04-01T01:00:00Z"))
+                    .build(),
+                DataSourceSyncJob.builder()
+                    .executionId("newest")
+                    .status(DataSourceSyncJobStatus.INCOMPLETE)
+                    .startTime(Instant.parse("2024-04-30T00:00:00Z"))
+                    .endTime(Instant.parse("2024-04-30T00:02:30Z"))
+                    .metrics(DataSourceSyncJobMetrics.builder()
+                        .documentsAdded("40")
+                        .documentsModified("2")
+                        .documentsDeleted("0")
+                        .documentsFailed("3")
+                        .documentsScanned("45")
+                        .build())
+                    .build())
+            .build());
+    var syncHistory = new SyncHistoryCache(Duration.ofMinutes(1), Clock.fixed(Instant.parse("2024-05-01T00:00:00Z"), ZoneOffset.UTC));
+    var handler = new ReadHandler(syncHistory);
+
+    final ProgressEvent<ResourceModel, CallbackContext> first = handler.handleRequest(
+        proxy, request, new CallbackContext(), proxyClient, logger
+    );
+    final ProgressEvent<ResourceModel, CallbackContext> second = handler.handleRequest(
+        proxy, request, new CallbackContext(), proxyClient, logger
+    );
+
+    assertThat(first.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(first.getResourceModel().getLastSyncJob()).isEqualTo(SyncJobSummary.builder()
+        .executionId("newest")
+        .status("INCOMPLETE")
+        .startTime("2024-04-30T00:00:00Z")
+        .endTime("2024-04-30T00:02:30Z")
+        .durationInSeconds(150.0)
+        .documentsAdded(40.0)
+        .documentsModified(2.0)
+        .documentsDeleted(0.0)
+        .documentsFailed(3.0)
+        .documentsScanned(45.0)
+        .build());
+    assertThat(second.getResourceModel().getLastSyncJob()).isEqualTo(first.getResourceModel().getLastSyncJob());
+
+    verify(sdkClient, times(2)).getDataSource(any(GetDataSourceRequest.class));
+    verify(sdkClient, times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient).listDataSourceSyncJobs(argThat(
+        (ArgumentMatcher<ListDataSourceSyncJobsRequest>) t -> t.dataSourceId().equals(DATA_SOURCE_ID)
+            && t.startTime().equals(Instant.parse("2024-04-01T00:00:00Z"))
+    ));
+  }
+
+  @Test
+  public void testThatCachedSyncHistoryIsNotSharedAcrossAccounts() {
+    simpleDataSource();
+    when(sdkClient.listDataSourceSyncJobs(any(ListDataSourceSyncJobsRequest.class))).thenReturn(
+        ListDataSourceSyncJobsResponse.builder()
+            .history(DataSourceSyncJob.builder()
+                .executionId("only")
+                .status(DataSourceSyncJobStatus.SUCCEEDED)
+                .startTime(Instant.parse("2024-04-30T00:00:00Z"))
+                .build())
+            .build());
+    var handler = new ReadHandler(new SyncHistoryCache());
+    var otherAccount = ResourceHandlerRequest.<ResourceModel>builder()
+        .awsPartition("aws")
+        .region("us-west-2")
+        .awsAccountId("444455556666")
+        .desiredResourceState(ResourceModel.builder().applicationId(APP_ID).indexId(INDEX_ID).dataSourceId(DATA_SOURCE_ID).build())
+        .build();
+
+    handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+    final ProgressEvent<ResourceModel, CallbackContext> other = handler.handleRequest(
+        proxy, otherAccount, new CallbackContext(), proxyClient, logger
+    );
+
+    assertThat(other.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    verify(sdkClient, times(2)).getDataSource(any(GetDataSourceRequest.class));
+    verify(sdkClient, times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient, times(2)).listDataSourceSyncJobs(any(ListDataSourceSyncJobsRequest.class));
+  }
+
+  @Test
+  public void testThatItStillReadsWhenSyncHistoryCannotBeListed() {
+    simpleDataSource();
+    when(sdkClient.listDataSourceSyncJobs(any(ListDataSourceSyncJobsRequest.class)))
+        .thenThrow(AccessDeniedException.builder().message("not allowed").build());
+
+    final ProgressEvent<ResourceModel, CallbackContext> result = new ReadHandler(new SyncHistoryCache()).handleRequest(
+        proxy, request, new CallbackContext(), proxyClient, logger
+    );
+
+    assertThat(result.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(result.getResourceModel().getLastSyncJob()).isNull();
+    verify(sdkClient).getDataSource(any(GetDataSourceRequest.class));
+    verify(sdkClient).listDataSourceSyncJobs(any(ListDataSourceSyncJobsRequest.class));
+    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
+
   private static Stream<Arguments> errorCodeExpects() {
     return Stream.of(
         Arguments.of(ValidationException.builder().build(), HandlerErrorCode.InvalidRequest),
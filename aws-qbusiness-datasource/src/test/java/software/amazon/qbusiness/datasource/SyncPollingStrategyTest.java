@@ -0,0 +1,39 @@
+package software.amazon.qbusiness.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class SyncPollingStrategyTest {
+
+  @Test
+  void firstPollUsesTheMinimumDelay() {
+    assertThat(SyncPollingStrategy.nextDelay(Duration.ZERO, 0, Duration.ZERO)).isEqualTo(SyncPollingStrategy.MIN_DELAY);
+  }
+
+  @Test
+  void delayDoublesWhileNoProgressIsSeen() {
+    assertThat(SyncPollingStrategy.nextDelay(Duration.ofSeconds(20), 0, Duration.ofSeconds(20)))
+        .isEqualTo(Duration.ofSeconds(40));
+    assertThat(SyncPollingStrategy.nextDelay(Duration.ofMinutes(4), 0, Duration.ofMinutes(4)))
+        .isEqualTo(SyncPollingStrategy.MAX_DELAY);
+  }
+
+  @Test
+  void delayTargetsAFixedNumberOfDocumentsPerPoll() {
+    // 100 documents in 60 seconds is 600 ms per document, so 500 documents take 300 seconds, capped at double.
+    assertThat(SyncPollingStrategy.nextDelay(Duration.ofSeconds(60), 100, Duration.ofSeconds(60)))
+        .isEqualTo(Duration.ofSeconds(120));
+    // 1,000 documents in 60 seconds is 60 ms per document, so the next poll is due in 30 seconds.
+    assertThat(SyncPollingStrategy.nextDelay(Duration.ofSeconds(60), 1_000, Duration.ofSeconds(60)))
+        .isEqualTo(Duration.ofSeconds(30));
+  }
+
+  @Test
+  void fastJobsArePolledNoMoreOftenThanTheMinimum() {
+    assertThat(SyncPollingStrategy.nextDelay(Duration.ofSeconds(30), 100_000, Duration.ofSeconds(30)))
+        .isEqualTo(SyncPollingStrategy.MIN_DELAY);
+  }
+}
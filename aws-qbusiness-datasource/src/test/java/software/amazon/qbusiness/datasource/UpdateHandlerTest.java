@@ -443,6 +443,46 @@ public class UpdateHandlerTest extends AbstractTestBase {
     assertThat(untagReq.tagKeys()).isEqualTo(List.of("toBeRemove", "aws::cloudformation::update"));
   }
 
+  @Test
+  public void testThatItSkipsUpdateWhenOnlyConfigurationRepresentationDiffers() {
+    // set up scenario: same data source, the previous configuration as read back from the service
+    previousModel.setConfiguration(Map.of(
+        "depth", 10L,
+        "crawlAttachments", true,
+        "thing", Map.of("a", 5.0)
+    ));
+    updateModel = ResourceModel.builder()
+        .applicationId(APP_ID)
+        .indexId(INDEX_ID)
+        .dataSourceId(DATA_SOURCE_ID)
+        .syncSchedule(previousModel.getSyncSchedule())
+        .displayName(previousModel.getDisplayName())
+        .description(previousModel.getDescription())
+        .roleArn(previousModel.getRoleArn())
+        .configuration(Map.of(
+            "thing", Map.of("a", "5"),
+            "crawlAttachments", "true",
+            "depth", "10"
+        ))
+        .tags(previousModel.getTags())
+        .build();
+    testRequest.setDesiredResourceState(updateModel);
+    testRequest.setDesiredResourceTags(testRequest.getPreviousResourceTags());
+    testRequest.setSystemTags(testRequest.getPreviousSystemTags());
+
+    // call method under test
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    // verify
+    assertThat(resultProgress).isNotNull();
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(sdkClient, times(0)).updateDataSource(any(UpdateDataSourceRequest.class));
+    verify(sdkClient).getDataSource(argThat(getAppMatcher()));
+    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
+
   private ArgumentMatcher<GetDataSourceRequest> getAppMatcher() {
     return t -> t.applicationId().equals(APP_ID) && t.indexId().equals(INDEX_ID) && t.dataSourceId().equals(DATA_SOURCE_ID);
   }
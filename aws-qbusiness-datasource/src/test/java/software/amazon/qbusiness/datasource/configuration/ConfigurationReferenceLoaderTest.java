@@ -0,0 +1,136 @@
+package software.amazon.qbusiness.datasource.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.qbusiness.datasource.ConfigurationS3Reference;
+
+public class ConfigurationReferenceLoaderTest {
+  private static final String CONFIGURATION = """
+      {
+        "type": "WEBCRAWLERV2",
+        "syncMode": "FULL_CRAWL",
+        "connectionConfiguration": {
+          "repositoryEndpointMetadata": {
+            "seedUrlConnections": [{"seedUrl": "https://example.com"}],
+            "maxLinksPerUrl": 100,
+            "rateLimit": 0.75,
+            "honorRobots": true
+          }
+        },
+        "additionalProperties": null
+      }
+      """;
+
+  private LocalConfigurationObjectStore store;
+
+  @BeforeEach
+  public void setup() {
+    ConfigurationReferenceLoader.clear();
+    store = new LocalConfigurationObjectStore()
+        .put("config-bucket", "datasources/web.json", "v1", CONFIGURATION)
+        .put("config-bucket", "datasources/web.json", "v2", "{\"type\": \"S3\"}");
+  }
+
+  private static ConfigurationS3Reference reference(final String uri, final String versionId) {
+    return ConfigurationS3Reference.builder().s3Uri(uri).versionId(versionId).build();
+  }
+
+  @Test
+  public void testThatItParsesTheObjectIntoADocumentKeepingJsonTypes() {
+    Document document = ConfigurationReferenceLoader.load(reference("s3://config-bucket/datasources/web.json", "v1"), store);
+
+    assertThat(document).isEqualTo(Document.fromMap(Map.of(
+        "type", Document.fromString("WEBCRAWLERV2"),
+        "syncMode", Document.fromString("FULL_CRAWL"),
+        "connectionConfiguration", Document.fromMap(Map.of(
+            "repositoryEndpointMetadata", Document.fromMap(Map.of(
+                "seedUrlConnections", Document.fromList(List.of(
+                    Document.fromMap(Map.of("seedUrl", Document.fromString("https://example.com")))
+                )),
+                "maxLinksPerUrl", Document.fromNumber(100),
+                "rateLimit", Document.fromNumber(new BigDecimal("0.75")),
+                "honorRobots", Document.fromBoolean(true)
+            ))
+        )),
+        "additionalProperties", Document.fromNull()
+    )));
+  }
+
+  @Test
+  public void testThatItReadsEachVersionOnlyOnce() {
+    var v1 = reference("s3://config-bucket/datasources/web.json", "v1");
+    var v2 = reference("s3://config-bucket/datasources/web.json", "v2");
+
+    Document first = ConfigurationReferenceLoader.load(v1, store);
+    Document again = ConfigurationReferenceLoader.load(v1, store);
+    Document other = ConfigurationReferenceLoader.load(v2, store);
+
+    assertThat(again).isSameAs(first);
+    assertThat(other.asMap().get("type").asString()).isEqualTo("S3");
+    assertThat(store.opens()).isEqualTo(2);
+    assertThat(store.authorizations()).isEqualTo(1);
+  }
+
+  @Test
+  public void testThatACachedVersionIsOnlyReturnedToCallersThatCanReadIt() {
+    var v1 = reference("s3://config-bucket/datasources/web.json", "v1");
+    ConfigurationReferenceLoader.load(v1, store);
+
+    var otherCaller = new LocalConfigurationObjectStore()
+        .put("config-bucket", "datasources/web.json", "v1", CONFIGURATION)
+        .deny();
+
+    assertThatThrownBy(() -> ConfigurationReferenceLoader.load(v1, otherCaller))
+        .isInstanceOf(CfnAccessDeniedException.class);
+    assertThat(otherCaller.authorizations()).isEqualTo(1);
+    assertThat(otherCaller.opens()).isZero();
+  }
+
+  @Test
+  public void testThatItReturnsNullWithoutAReference() {
+    assertThat(ConfigurationReferenceLoader.load(null, store)).isNull();
+    assertThat(store.opens()).isZero();
+  }
+
+  @Test
+  public void testThatItRejectsMalformedUris() {
+    assertThatThrownBy(() -> ConfigurationReferenceLoader.load(reference("https://config-bucket/web.json", "v1"), store))
+        .isInstanceOf(CfnInvalidRequestException.class);
+    assertThatThrownBy(() -> ConfigurationReferenceLoader.load(reference("s3://config-bucket/", "v1"), store))
+        .isInstanceOf(CfnInvalidRequestException.class);
+    assertThat(store.opens()).isZero();
+  }
+
+  @Test
+  public void testThatItRejectsObjectsThatAreNotAJsonObject() {
+    store.put("config-bucket", "list.json", "v1", "[1, 2]")
+        .put("config-bucket", "broken.json", "v1", "{\"type\": ")
+        .put("config-bucket", "trailing.json", "v1", "{} {}");
+
+    for (var key : List.of("list.json", "broken.json", "trailing.json")) {
+      assertThatThrownBy(() -> ConfigurationReferenceLoader.load(reference("s3://config-bucket/" + key, "v1"), store))
+          .isInstanceOf(CfnInvalidRequestException.class);
+    }
+  }
+
+  @Test
+  public void testThatAMissingObjectIsNotCached() {
+    var missing = reference("s3://config-bucket/missing.json", "v1");
+    assertThatThrownBy(() -> ConfigurationReferenceLoader.load(missing, store))
+        .isInstanceOf(CfnInvalidRequestException.class);
+
+    store.put("config-bucket", "missing.json", "v1", "{}");
+    assertThat(ConfigurationReferenceLoader.load(missing, store)).isEqualTo(Document.fromMap(Map.of()));
+  }
+}
@@ -0,0 +1,63 @@
+package software.amazon.qbusiness.datasource.configuration;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+/**
+ * In-memory stand-in for a versioned S3 bucket, counting how often objects are opened and reads are authorized.
+ */
+public class LocalConfigurationObjectStore implements ConfigurationObjectStore {
+  private final Map<String, byte[]> objects = new HashMap<>();
+  private int opens;
+  private int authorizations;
+  private boolean denied;
+
+  public LocalConfigurationObjectStore put(final String bucket, final String key, final String versionId, final String content) {
+    objects.put(bucket + "/" + key + "?" + versionId, content.getBytes(StandardCharsets.UTF_8));
+    return this;
+  }
+
+  /**
+   * Makes every later read fail as it would for a caller without access to the bucket.
+   */
+  public LocalConfigurationObjectStore deny() {
+    denied = true;
+    return this;
+  }
+
+  @Override
+  public void authorize(final String bucket, final String key, final String versionId) {
+    authorizations++;
+    if (denied) {
+      throw new CfnAccessDeniedException("HeadObject");
+    }
+  }
+
+  @Override
+  public InputStream open(final String bucket, final String key, final String versionId) {
+    opens++;
+    if (denied) {
+      throw new CfnAccessDeniedException("GetObject");
+    }
+    final byte[] content = objects.get(bucket + "/" + key + "?" + versionId);
+    if (content == null) {
+      throw new CfnInvalidRequestException("Configuration object s3://%s/%s with version %s does not exist"
+          .formatted(bucket, key, versionId));
+    }
+    return new ByteArrayInputStream(content);
+  }
+
+  public int opens() {
+    return opens;
+  }
+
+  public int authorizations() {
+    return authorizations;
+  }
+}
@@ -0,0 +1,162 @@
+package software.amazon.qbusiness.datasource.enrichment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.qbusiness.datasource.DocumentAttributeCondition;
+import software.amazon.qbusiness.datasource.DocumentAttributeTarget;
+import software.amazon.qbusiness.datasource.DocumentAttributeValue;
+import software.amazon.qbusiness.datasource.DocumentEnrichmentConfiguration;
+import software.amazon.qbusiness.datasource.HookConfiguration;
+import software.amazon.qbusiness.datasource.InlineDocumentEnrichmentConfiguration;
+
+class EnrichmentRuleEngineTest {
+  private static final String LAMBDA_ARN = "arn:aws:lambda:us-west-2:123456789012:function:enrich";
+
+  private static DocumentAttributeCondition condition(final String key, final String operator, final DocumentAttributeValue value) {
+    return DocumentAttributeCondition.builder().key(key).operator(operator).value(value).build();
+  }
+
+  private static DocumentAttributeValue string(final String value) {
+    return DocumentAttributeValue.builder().stringValue(value).build();
+  }
+
+  @Test
+  void rulesApplyInOrderAndHooksSeeTheEnrichedAttributes() {
+    var engine = EnrichmentRuleEngine.compile(DocumentEnrichmentConfiguration.builder()
+        .inlineConfigurations(List.of(
+            InlineDocumentEnrichmentConfiguration.builder()
+                .condition(condition("_source_uri", "BEGINS_WITH", string("s3://docs/hr/")))
+                .target(DocumentAttributeTarget.builder().key("department").value(string("hr")).build())
+                .build(),
+            InlineDocumentEnrichmentConfiguration.builder()
+                .condition(condition("department", "EQUALS", string("hr")))
+                .target(DocumentAttributeTarget.builder().key("_category").attributeValueOperator("DELETE").build())
+                .build()
+        ))
+        .preExtractionHookConfiguration(HookConfiguration.builder()
+            .lambdaArn(LAMBDA_ARN)
+            .invocationCondition(condition("department", "EXISTS", null))
+            .build())
+        .postExtractionHookConfiguration(HookConfiguration.builder().lambdaArn(LAMBDA_ARN).build())
+        .build());
+
+    var documents = List.<Map<String, Object>>of(
+        Map.of("_source_uri", "s3://docs/hr/handbook.pdf", "_category", "policy"),
+        Map.of("_source_uri", "s3://docs/eng/design.pdf", "_category", "design")
+    );
+
+    DryRunReport report = engine.dryRun(documents);
+
+    assertThat(report.rules()).extracting(DryRunReport.RuleResult::matchingDocuments)
+        .containsExactly(List.of(0), List.of(0));
+    assertThat(report.preExtractionHookDocuments()).containsExactly(0);
+    assertThat(report.postExtractionHookDocuments()).containsExactly(0, 1);
+    assertThat(report.enrichedAttributes().get(0))
+        .containsEntry("department", "hr")
+        .doesNotContainKey("_category");
+    assertThat(report.enrichedAttributes().get(1)).isSameAs(documents.get(1));
+  }
+
+  @Test
+  void contentDeletionIsReported() {
+    var engine = EnrichmentRuleEngine.compile(DocumentEnrichmentConfiguration.builder()
+        .inlineConfigurations(List.of(InlineDocumentEnrichmentConfiguration.builder()
+            .condition(condition("_file_type", "EQUALS", string("ppt")))
+            .documentContentOperator("DELETE")
+            .build()))
+        .build());
+
+    DryRunReport report = engine.dryRun(List.of(Map.of("_file_type", "pdf"), Map.of("_file_type", "ppt")));
+
+    assertThat(report.contentDeletedDocuments()).containsExactly(1);
+    assertThat(report.rules().get(0).targetKey()).isNull();
+  }
+
+  @Test
+  void numericAndDateComparisons() {
+    var engine = EnrichmentRuleEngine.compile(DocumentEnrichmentConfiguration.builder()
+        .inlineConfigurations(List.of(
+            InlineDocumentEnrichmentConfiguration.builder()
+                .condition(condition("pages", "GREATER_THAN", DocumentAttributeValue.builder().longValue(10.0).build()))
+                .build(),
+            InlineDocumentEnrichmentConfiguration.builder()
+                .condition(condition("_created_at", "LESS_THAN_OR_EQUALS",
+                    DocumentAttributeValue.builder().dateValue("2024-01-01T00:00:00Z").build()))
+                .build()
+        ))
+        .build());
+
+    DryRunReport report = engine.dryRun(List.of(
+        Map.of("pages", 11, "_created_at", "2023-06-01T00:00:00Z"),
+        Map.of("pages", 10L, "_created_at", Instant.parse("2024-01-01T00:00:00Z")),
+        Map.of("pages", "many", "_created_at", "not a date")
+    ));
+
+    assertThat(report.rules().get(0).matchingDocuments()).containsExactly(0);
+    assertThat(report.rules().get(1).matchingDocuments()).containsExactly(0, 1);
+  }
+
+  @Test
+  void containsMatchesListsAndSubstrings() {
+    var engine = EnrichmentRuleEngine.compile(DocumentEnrichmentConfiguration.builder()
+        .inlineConfigurations(List.of(InlineDocumentEnrichmentConfiguration.builder()
+            .condition(condition("tags", "NOT_CONTAINS", string("draft")))
+            .build()))
+        .build());
+
+    DryRunReport report = engine.dryRun(List.of(
+        Map.of("tags", List.of("final", "public")),
+        Map.of("tags", List.of("draft")),
+        Map.of("tags", "draft-v2"),
+        Map.of()
+    ));
+
+    assertThat(report.rules().get(0).matchingDocuments()).containsExactly(0);
+  }
+
+  @Test
+  void inputDocumentsAreNotModified() {
+    var engine = EnrichmentRuleEngine.compile(DocumentEnrichmentConfiguration.builder()
+        .inlineConfigurations(List.of(InlineDocumentEnrichmentConfiguration.builder()
+            .target(DocumentAttributeTarget.builder().key("reviewed").value(string("yes")).build())
+            .build()))
+        .build());
+    Map<String, Object> document = new HashMap<>(Map.of("title", "Q3"));
+
+    DryRunReport report = engine.dryRun(List.of(document));
+
+    assertThat(document).doesNotContainKey("reviewed");
+    assertThat(report.enrichedAttributes().get(0)).containsEntry("reviewed", "yes");
+  }
+
+  @Test
+  void hookWithoutLambdaIsNeverInvoked() {
+    var engine = EnrichmentRuleEngine.compile(DocumentEnrichmentConfiguration.builder()
+        .preExtractionHookConfiguration(HookConfiguration.builder().build())
+        .build());
+
+    assertThat(engine.dryRun(List.of(Map.of())).preExtractionHookDocuments()).isEmpty();
+  }
+
+  @Test
+  void conditionWithoutRequiredValueIsRejected() {
+    var configuration = DocumentEnrichmentConfiguration.builder()
+        .inlineConfigurations(List.of(InlineDocumentEnrichmentConfiguration.builder()
+            .condition(condition("title", "EQUALS", null))
+            .build()))
+        .build();
+
+    assertThatThrownBy(() -> EnrichmentRuleEngine.compile(configuration))
+        .isInstanceOf(CfnInvalidRequestException.class)
+        .hasMessageContaining("title");
+  }
+}
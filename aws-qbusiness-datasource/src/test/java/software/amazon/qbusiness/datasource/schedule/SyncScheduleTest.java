@@ -0,0 +1,94 @@
+package software.amazon.qbusiness.datasource.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+class SyncScheduleTest {
+  private static final Instant MAY_FIRST = Instant.parse("2024-05-01T00:00:00Z");
+
+  @ParameterizedTest
+  @CsvSource(delimiter = '|', value = {
+      "cron(0 12 * * ? *)         | 2024-05-01T12:00:00Z | 2024-05-02T12:00:00Z",
+      "cron(15 10 ? * MON-FRI *)  | 2024-05-03T11:00:00Z | 2024-05-06T10:15:00Z",
+      "cron(0 0 L * ? *)          | 2024-02-01T00:00:00Z | 2024-02-29T00:00:00Z",
+      "cron(0 9 ? * 6#3 *)        | 2024-05-01T00:00:00Z | 2024-05-17T09:00:00Z",
+      "cron(0 9 ? * 2L *)         | 2024-05-01T00:00:00Z | 2024-05-27T09:00:00Z",
+      "cron(0 9 15W * ? *)        | 2024-06-01T00:00:00Z | 2024-06-14T09:00:00Z",
+      "cron(0 0 1 1 ? 2030)       | 2024-05-01T00:00:00Z | 2030-01-01T00:00:00Z",
+      "0 11 * * 4                 | 2024-05-01T00:00:00Z | 2024-05-02T11:00:00Z",
+      "0 0 * * 7                  | 2024-05-01T00:00:00Z | 2024-05-05T00:00:00Z",
+      "*/20 * * * *               | 2024-05-01T00:05:00Z | 2024-05-01T00:20:00Z",
+      "30 8-17/3 * JAN-DEC *      | 2024-05-01T09:00:00Z | 2024-05-01T11:30:00Z",
+      "rate(5 minutes)            | 2024-05-01T00:00:00Z | 2024-05-01T00:05:00Z",
+      "RATE(1 day)                | 2024-05-01T00:00:00Z | 2024-05-02T00:00:00Z"
+  })
+  void nextRunFollowsTheExpression(String expression, String after, String expected) {
+    assertThat(SyncSchedule.parse(expression).nextRun(Instant.parse(after))).isEqualTo(Instant.parse(expected));
+  }
+
+  @Test
+  void unixScheduleWithBothDayFieldsMatchesEither() {
+    assertThat(SyncSchedule.parse("0 0 1,15 * 0").nextRuns(MAY_FIRST, 3)).containsExactly(
+        Instant.parse("2024-05-05T00:00:00Z"),
+        Instant.parse("2024-05-12T00:00:00Z"),
+        Instant.parse("2024-05-15T00:00:00Z")
+    );
+  }
+
+  @Test
+  void scheduleThatNeverRunsAgainHasNoNextRun() {
+    var schedule = SyncSchedule.parse("cron(0 0 1 1 ? 1999)");
+
+    assertThat(schedule.nextRun(MAY_FIRST)).isNull();
+    assertThat(schedule.nextRuns(MAY_FIRST, 5)).isEmpty();
+  }
+
+  @Test
+  void overlapIsJudgedAgainstTheShortestGapBetweenRuns() {
+    var schedule = SyncSchedule.parse("0 9,10 * * *");
+
+    assertThat(schedule.shortestInterval(MAY_FIRST, 10)).isEqualTo(Duration.ofHours(1));
+    assertThat(schedule.mayOverlap(Duration.ofMinutes(90), MAY_FIRST, 10)).isTrue();
+    assertThat(schedule.mayOverlap(Duration.ofMinutes(45), MAY_FIRST, 10)).isFalse();
+    assertThat(SyncSchedule.parse("rate(2 hours)").mayOverlap(Duration.ofHours(3), MAY_FIRST, 10)).isTrue();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "cron(0 12 * * * *)",
+      "cron(0 12 * * ? *",
+      "cron(0 12 * *)",
+      "61 * * * *",
+      "0 12 * * 4 extra",
+      "0 12 1, * *",
+      "0 12 * * FRI-MON",
+      "cron(0 9 ? * 6#6 *)",
+      "rate(0 minutes)",
+      "rate(5 weeks)",
+      "rate(minutes)",
+      "rate(5)"
+  })
+  void malformedSchedulesAreRejected(String expression) {
+    assertThatThrownBy(() -> SyncSchedule.parse(expression))
+        .isInstanceOf(CfnInvalidRequestException.class)
+        .hasMessageContaining(expression);
+    assertThat(SyncSchedule.violation(expression)).isPresent();
+  }
+
+  @Test
+  void missingScheduleIsNotAViolation() {
+    assertThat(SyncSchedule.violation(null)).isEmpty();
+    assertThat(SyncSchedule.violation(" ")).isEmpty();
+    assertThat(SyncSchedule.violation("0 11 * * 4")).isEmpty();
+  }
+}
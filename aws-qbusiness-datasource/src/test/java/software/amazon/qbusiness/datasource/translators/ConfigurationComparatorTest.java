@@ -0,0 +1,76 @@
+package software.amazon.qbusiness.datasource.translators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.core.document.Document;
+
+class ConfigurationComparatorTest {
+
+  @Test
+  void templateAndServiceRepresentationsAreEquivalent() {
+    Map<String, Object> template = Map.of(
+        "type", "WEBCRAWLERV2",
+        "syncMode", "FULL_CRAWL",
+        "additionalProperties", Map.of(
+            "crawlDepth", "2",
+            "honorRobots", "true",
+            "rateLimit", 300,
+            "inclusionPatterns", List.of("a", "b")
+        )
+    );
+    // what the service hands back: booleans and SdkNumbers, in another key order
+    Map<String, Object> fromService = DocumentConverter.convertDocumentToMap(Document.mapBuilder()
+        .putDocument("additionalProperties", Document.mapBuilder()
+            .putList("inclusionPatterns", builder -> builder.addString("a").addString("b"))
+            .putNumber("rateLimit", 300L)
+            .putBoolean("honorRobots", true)
+            .putNumber("crawlDepth", 2)
+            .build())
+        .putString("syncMode", "FULL_CRAWL")
+        .putString("type", "WEBCRAWLERV2")
+        .build());
+
+    assertThat(ConfigurationComparator.isEquivalent(template, fromService)).isTrue();
+    assertThat(ConfigurationComparator.isEquivalent(fromService, template)).isTrue();
+  }
+
+  @Test
+  void numbersCompareByValue() {
+    assertThat(ConfigurationComparator.isEquivalent(Map.of("n", 10), Map.of("n", 10.0))).isTrue();
+    assertThat(ConfigurationComparator.isEquivalent(Map.of("n", 10L), Map.of("n", new BigDecimal("1E+1")))).isTrue();
+    assertThat(ConfigurationComparator.isEquivalent(Map.of("n", "10"), Map.of("n", 11))).isFalse();
+  }
+
+  @Test
+  void meaningfulChangesAreDetected() {
+    assertThat(ConfigurationComparator.isEquivalent(Map.of("a", "true"), Map.of("a", false))).isFalse();
+    assertThat(ConfigurationComparator.isEquivalent(Map.of("a", "true"), Map.of("a", "yes"))).isFalse();
+    assertThat(ConfigurationComparator.isEquivalent(Map.of("a", List.of(1, 2)), Map.of("a", List.of(2, 1)))).isFalse();
+    assertThat(ConfigurationComparator.isEquivalent(Map.of("a", List.of(1)), Map.of("a", Map.of("0", 1)))).isFalse();
+    assertThat(ConfigurationComparator.isEquivalent(Map.of("a", 1), Map.of("a", 1, "b", 2))).isFalse();
+    assertThat(ConfigurationComparator.isEquivalent(Map.of("a", "x"), Map.of("b", "x"))).isFalse();
+    assertThat(ConfigurationComparator.isEquivalent(Map.of("a", "01.0a"), Map.of("a", "1"))).isFalse();
+  }
+
+  @Test
+  void nullValuesAndMissingConfigurationsAreIgnored() {
+    Map<String, Object> withNull = new HashMap<>();
+    withNull.put("a", 1);
+    withNull.put("b", null);
+    Map<String, Object> ordered = new LinkedHashMap<>();
+    ordered.put("a", 1);
+
+    assertThat(ConfigurationComparator.isEquivalent(withNull, ordered)).isTrue();
+    assertThat(ConfigurationComparator.isEquivalent(ordered, withNull)).isTrue();
+    assertThat(ConfigurationComparator.isEquivalent(null, Map.of())).isTrue();
+    assertThat(ConfigurationComparator.isEquivalent(null, ordered)).isFalse();
+  }
+}
@@ -0,0 +1,113 @@
+package software.amazon.qbusiness.datasource.translators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.core.document.Document;
+
+class ConfigurationMemoTest {
+
+  private static final Map<String, Object> CONFIGURATION = Map.of(
+      "type", "S3",
+      "syncMode", "FULL_CRAWL",
+      "additionalProperties", Map.of(
+          "inclusionPatterns", List.of("*.pdf", "*.docx"),
+          "enableDeletionProtection", false
+      )
+  );
+
+  private static final Map<String, Object> TEMPLATE_CONFIGURATION = Map.of(
+      "type", "S3",
+      "additionalProperties", Map.of(
+          "maxFileSizeInMegaBytes", 50,
+          "enableDeletionProtection", "false"
+      )
+  );
+
+  @BeforeEach
+  void setUp() {
+    ConfigurationMemo.clear();
+  }
+
+  @Test
+  void sameDocumentReturnsTheRememberedMap() {
+    Document sent = DocumentConverter.convertToMapToDocument(CONFIGURATION);
+    Map<String, Object> first = DocumentConverter.convertDocumentToMap(sent);
+    // the next Read hands back an equal, but separately built, document
+    Document returned = Document.fromMap(sent.asMap());
+
+    Map<String, Object> result = DocumentConverter.convertDocumentToMap(returned);
+
+    assertThat(result).isSameAs(first).isEqualTo(CONFIGURATION);
+    assertThatThrownBy(() -> result.put("syncMode", "CHANGE_LOG")).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void numbersAndBooleansAreRememberedAsTheDocumentHoldsThem() {
+    Document sent = DocumentConverter.convertToMapToDocument(TEMPLATE_CONFIGURATION);
+    Map<String, Object> warm = DocumentConverter.convertDocumentToMap(sent);
+    Map<String, Object> hit = DocumentConverter.convertDocumentToMap(Document.fromMap(sent.asMap()));
+    ConfigurationMemo.clear();
+    Map<String, Object> cold = DocumentConverter.convertDocumentToMap(sent);
+
+    assertThat(hit).isSameAs(warm);
+    assertThat(warm).isEqualTo(cold).isNotEqualTo(TEMPLATE_CONFIGURATION);
+    assertThat(warm).extractingByKey("additionalProperties")
+        .isEqualTo(Map.of("maxFileSizeInMegaBytes", "50", "enableDeletionProtection", false));
+    Map<?, ?> nested = (Map<?, ?>) warm.get("additionalProperties");
+    assertThatThrownBy(nested::clear).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void sendingADocumentDoesNotRememberIt() {
+    Document sent = DocumentConverter.convertToMapToDocument(CONFIGURATION);
+
+    assertThat(ConfigurationMemo.lookup(sent)).isNull();
+  }
+
+  @Test
+  void changedDocumentIsConvertedAgain() {
+    DocumentConverter.convertDocumentToMap(DocumentConverter.convertToMapToDocument(CONFIGURATION));
+    Document changed = Document.mapBuilder()
+        .putString("type", "S3")
+        .putString("syncMode", "CHANGE_LOG")
+        .build();
+
+    Map<String, Object> result = DocumentConverter.convertDocumentToMap(changed);
+
+    assertThat(result).isNotSameAs(CONFIGURATION);
+    assertThat(result).containsEntry("syncMode", "CHANGE_LOG");
+  }
+
+  @Test
+  void structuralHashIgnoresMapOrderButNotListOrder() {
+    Document first = Document.mapBuilder().putString("a", "1").putNumber("b", 2).build();
+    Document second = Document.mapBuilder().putNumber("b", 2).putString("a", "1").build();
+    Document listA = Document.fromList(List.of(Document.fromString("x"), Document.fromString("y")));
+    Document listB = Document.fromList(List.of(Document.fromString("y"), Document.fromString("x")));
+
+    assertThat(ConfigurationMemo.structuralHash(first)).isEqualTo(ConfigurationMemo.structuralHash(second));
+    assertThat(ConfigurationMemo.structuralHash(listA)).isNotEqualTo(ConfigurationMemo.structuralHash(listB));
+    assertThat(ConfigurationMemo.structuralHash(Document.fromString("true")))
+        .isNotEqualTo(ConfigurationMemo.structuralHash(Document.fromBoolean(true)));
+  }
+
+  @Test
+  void memoIsBounded() {
+    for (int i = 0; i <= ConfigurationMemo.MAX_ENTRIES; i++) {
+      DocumentConverter.convertDocumentToMap(Document.mapBuilder().putString("index", String.valueOf(i)).build());
+    }
+
+    Document oldest = Document.mapBuilder().putString("index", "0").build();
+    Document newest = Document.mapBuilder().putString("index", String.valueOf(ConfigurationMemo.MAX_ENTRIES)).build();
+
+    assertThat(ConfigurationMemo.lookup(oldest)).isNull();
+    assertThat(ConfigurationMemo.lookup(newest)).isEqualTo(Map.of("index", String.valueOf(ConfigurationMemo.MAX_ENTRIES)));
+  }
+}
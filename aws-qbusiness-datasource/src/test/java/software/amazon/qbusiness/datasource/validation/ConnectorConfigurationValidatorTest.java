@@ -0,0 +1,110 @@
+package software.amazon.qbusiness.datasource.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.core.document.Document;
+
+class ConnectorConfigurationValidatorTest {
+
+  private static Map<String, Object> s3Configuration(final Map<String, Object> endpointMetadata) {
+    return Map.of(
+        "type", "S3",
+        "syncMode", "FULL_CRAWL",
+        "connectionConfiguration", Map.of("repositoryEndpointMetadata", endpointMetadata),
+        "repositoryConfigurations", Map.of("document", Map.of("fieldMappings", List.of(Map.of(
+            "indexFieldName", "s3_document_id",
+            "indexFieldType", "STRING",
+            "dataSourceFieldName", "s3_document_id"
+        )))),
+        "additionalProperties", Map.of("inclusionPatterns", List.of("*.pdf"))
+    );
+  }
+
+  private static Map<String, Object> webCrawlerConfiguration(final Map<String, Object> endpointMetadata) {
+    return Map.of(
+        "type", "WEBCRAWLERV2",
+        "syncMode", "FULL_CRAWL",
+        "connectionConfiguration", Map.of("repositoryEndpointMetadata", endpointMetadata),
+        "repositoryConfigurations", Map.of()
+    );
+  }
+
+  @Test
+  void validS3ConfigurationPasses() {
+    assertThat(ConnectorConfigurationValidator.validate(s3Configuration(Map.of("BucketName", "my-docs")))).isEmpty();
+  }
+
+  @Test
+  void missingBucketIsReported() {
+    List<String> violations = ConnectorConfigurationValidator.validate(s3Configuration(Map.of("Bucket", "my-docs")));
+
+    assertThat(violations).hasSize(1);
+    assertThat(violations.get(0)).contains("BucketName");
+  }
+
+  @Test
+  void everyViolationIsReported() {
+    List<String> violations = ConnectorConfigurationValidator.validate(Map.of(
+        "type", "WEBCRAWLERV2",
+        "syncMode", "CHANGE_LOG",
+        "connectionConfiguration", Map.of("repositoryEndpointMetadata", Map.of()),
+        "repositoryConfigurations", Map.of()
+    ));
+
+    assertThat(violations).anyMatch(violation -> violation.contains("syncMode"));
+    assertThat(violations).anyMatch(violation -> violation.contains("repositoryEndpointMetadata"));
+  }
+
+  @Test
+  void webCrawlersSeededFromS3Pass() {
+    assertThat(ConnectorConfigurationValidator.validate(webCrawlerConfiguration(Map.of("s3SeedUrl", "s3://my-crawler/seeds.txt"))))
+        .isEmpty();
+    assertThat(ConnectorConfigurationValidator.validate(webCrawlerConfiguration(Map.of("s3SiteMapUrl", "s3://my-crawler/sitemap.xml"))))
+        .isEmpty();
+  }
+
+  @Test
+  void typeMatchingIsCaseInsensitive() {
+    assertThat(ConnectorConfigurationValidator.validate(Map.of("type", "webCrawlerV2"))).isNotEmpty();
+  }
+
+  @Test
+  void configurationsWithoutABundledSchemaAreNotValidated() {
+    assertThat(ConnectorConfigurationValidator.validate(null)).isEmpty();
+    assertThat(ConnectorConfigurationValidator.validate(Map.of("Type", "WebcrawlerV2"))).isEmpty();
+    assertThat(ConnectorConfigurationValidator.validate(Map.of("type", "SALESFORCEV2"))).isEmpty();
+    assertThat(ConnectorConfigurationValidator.validate(Map.of("type", "../s3"))).isEmpty();
+    assertThat(ConnectorConfigurationValidator.validate(Map.of("type", 5))).isEmpty();
+  }
+
+  @Test
+  void documentsAreValidatedAsTheyAreSent() {
+    Document valid = Document.mapBuilder()
+        .putString("type", "WEBCRAWLERV2")
+        .putString("syncMode", "FULL_CRAWL")
+        .putDocument("connectionConfiguration", Document.mapBuilder()
+            .putDocument("repositoryEndpointMetadata", Document.mapBuilder()
+                .putList("siteMapUrls", List.of(Document.fromString("https://example.com/sitemap.xml")))
+                .build())
+            .build())
+        .putDocument("repositoryConfigurations", Document.mapBuilder().build())
+        .putNumber("maxLinksPerUrl", 100)
+        .build();
+    Document invalid = Document.mapBuilder().putString("type", "WEBCRAWLERV2").putString("syncMode", "CHANGE_LOG").build();
+
+    assertThat(ConnectorConfigurationValidator.validateDocument(valid)).isEmpty();
+    assertThat(ConnectorConfigurationValidator.validateDocument(invalid)).anyMatch(violation -> violation.contains("syncMode"));
+    assertThat(ConnectorConfigurationValidator.validateDocument(null)).isEmpty();
+  }
+
+  @Test
+  void schemasAreCompiledOnce() {
+    assertThat(ConnectorConfigurationValidator.schemaFor("S3")).isPresent();
+    assertThat(ConnectorConfigurationValidator.schemaFor("s3").get()).isSameAs(ConnectorConfigurationValidator.schemaFor("S3").get());
+  }
+}
@@ -2,6 +2,7 @@ package software.amazon.qbusiness.index;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.qbusiness.common.client.ThrottlingAwareProxyClient;
 
 import java.net.URI;
 
@@ -20,6 +21,7 @@ public class ClientBuilder {
     return QBusinessClient.builder()
         .httpClient(LambdaWrapper.HTTP_CLIENT)
         .endpointOverride(URI.create(urlString))
+        .overrideConfiguration(ThrottlingAwareProxyClient.CLIENT_OVERRIDE_CONFIGURATION)
         .build();
   }
 
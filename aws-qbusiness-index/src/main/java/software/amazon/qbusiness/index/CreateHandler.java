@@ -1,45 +1,49 @@
 package software.amazon.qbusiness.index;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
-import software.amazon.awssdk.services.qbusiness.model.CreateIndexRequest;
-import software.amazon.awssdk.services.qbusiness.model.CreateIndexResponse;
 import software.amazon.awssdk.services.qbusiness.model.GetIndexResponse;
-import software.amazon.awssdk.services.qbusiness.model.IndexStatus;
 import software.amazon.awssdk.services.qbusiness.model.UpdateIndexRequest;
 import software.amazon.awssdk.services.qbusiness.model.UpdateIndexResponse;
-import software.amazon.awssdk.utils.StringUtils;
-import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.handler.Operation;
+import software.amazon.qbusiness.common.stabilization.DeadlineAwareStabilizer;
+import software.amazon.qbusiness.common.stabilization.ParentReadinessGate;
 
 import java.time.Duration;
-import java.util.Objects;
 
-import static software.amazon.qbusiness.common.ErrorUtils.handleError;
 import static software.amazon.qbusiness.index.Constants.API_CREATE_INDEX;
 import static software.amazon.qbusiness.index.Constants.API_UPDATE_INDEX;
-import static software.amazon.qbusiness.index.Utils.primaryIdentifier;
 
 public class CreateHandler extends BaseHandlerStd {
+  private static final String STAGE_AWAIT_APPLICATION = "Create::AwaitApplication";
 
   private static final Constant DEFAULT_BACK_OFF_STRATEGY = Constant.of()
       .timeout(Duration.ofHours(4))
       .delay(Duration.ofSeconds(15))
       .build();
 
-  private final Constant backOffStrategy;
-  private Logger logger;
+  private static final Operation<ResourceModel, UpdateIndexRequest, UpdateIndexResponse> POST_CREATE_UPDATE = Operation.of(
+      API_UPDATE_INDEX, Translator::translateToPostCreateUpdateRequest, QBusinessClient::updateIndex
+  );
+
+  private final CrudEngine<ResourceModel, CallbackContext, GetIndexResponse> engine = IndexDescriptor.ENGINE;
+  private final DeadlineAwareStabilizer stabilizer;
+  private final ParentReadinessGate parentGate;
 
   public CreateHandler() {
     this(DEFAULT_BACK_OFF_STRATEGY);
   }
 
   public CreateHandler(Constant backOffStrategy) {
-    this.backOffStrategy = backOffStrategy;
+    this.stabilizer = new DeadlineAwareStabilizer(backOffStrategy);
+    this.parentGate = new ParentReadinessGate(backOffStrategy);
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -49,23 +53,16 @@ public class CreateHandler extends BaseHandlerStd {
       final ProxyClient<QBusinessClient> proxyClient,
       final Logger logger) {
 
-    this.logger = logger;
+    final TimeBudget budget = TimeBudget.startingNow();
 
     logger.log("[INFO] Starting to process Create Index request in stack: %s for Account: %s and ApplicationId: %s"
         .formatted(request.getStackId(), request.getAwsAccountId(), request.getDesiredResourceState().getApplicationId()));
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
-        .then(progress ->
-            proxy.initiate("AWS-QBusiness-Index::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-                .translateToServiceRequest(model -> Translator.translateToCreateRequest(request, model))
-                .backoffDelay(backOffStrategy)
-                .makeServiceCall((awsRequest, clientProxyClient) -> callCreateIndex(awsRequest, clientProxyClient, progress.getResourceModel()))
-                .stabilize((awsReq, response, clientProxyClient, model, context) -> isStabilized(clientProxyClient, model, logger))
-                .handleError((createReq, error, client, model, context) -> handleError(
-                    model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_INDEX
-                ))
-                .progress()
-        )
+        .then(progress -> engine.awaitApplication(STAGE_AWAIT_APPLICATION, progress, parentGate, budget, proxyClient,
+            ResourceModel::getApplicationId, logger))
+        .then(progress -> engine.create(proxy, request, progress, proxyClient, logger))
+        .then(progress -> engine.stabilize("Create", progress, stabilizer, budget, proxyClient, API_CREATE_INDEX, logger))
         .then(progress -> {
           var documentAttributionConfig = request.getDesiredResourceState().getDocumentAttributeConfigurations();
           if (documentAttributionConfig == null || documentAttributionConfig.isEmpty()) {
@@ -77,63 +74,11 @@ public class CreateHandler extends BaseHandlerStd {
                       progress.getResourceModel().getIndexId())
           );
 
-          return proxy.initiate("AWS-QBusiness-Index::PostCreateUpdate", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
-              .translateToServiceRequest(Translator::translateToPostCreateUpdateRequest)
-              .makeServiceCall(this::callUpdateIndex)
-              .stabilize((updateIndexRequest, updateIndexResponse, clientProxyClient, model, context) ->
-                  isStabilized(clientProxyClient, model, logger))
-              .handleError((updateIndexRequest, error, client, model, context) -> handleError(
-                  model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_UPDATE_INDEX
-              ))
-              .progress();
+          return engine.call("PostCreateUpdate", POST_CREATE_UPDATE, proxy, request, progress, proxyClient, logger)
+              .then(updated -> engine.stabilize("PostCreateUpdate", updated, stabilizer, budget, proxyClient, API_UPDATE_INDEX, logger));
         })
         .then(progress ->
             new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger)
         );
   }
-
-  private boolean isStabilized(
-      final ProxyClient<QBusinessClient> proxyClient,
-      final ResourceModel model,
-      final Logger logger) {
-    final GetIndexResponse getIndexResponse = getIndex(model, proxyClient, logger);
-
-    final String status = getIndexResponse.statusAsString();
-
-    if (IndexStatus.ACTIVE.toString().equals(status)) {
-      logger.log("[INFO] %s with ApplicationId: %s and IndexId: %s has stabilized"
-          .formatted(ResourceModel.TYPE_NAME, model.getApplicationId(), model.getIndexId()));
-      return true;
-    }
-
-    if (!IndexStatus.FAILED.toString().equals(status)) {
-      logger.log("[INFO] %s with ApplicationId: %s and IndexId: %s is still stabilizing."
-          .formatted(ResourceModel.TYPE_NAME, model.getApplicationId(), model.getIndexId()));
-      return false;
-    }
-
-    // handle failed state
-
-    RuntimeException causeMessage = null;
-    if (Objects.nonNull(getIndexResponse.error()) && StringUtils.isNotBlank(getIndexResponse.error().errorMessage())) {
-      causeMessage = new RuntimeException(getIndexResponse.error().errorMessage());
-    }
-
-    throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getPrimaryIdentifier().toString(), causeMessage);
-  }
-
-  private CreateIndexResponse callCreateIndex(final CreateIndexRequest request,
-      final ProxyClient<QBusinessClient> proxyClient,
-      final ResourceModel model) {
-    CreateIndexResponse response = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::createIndex);
-    model.setIndexId(response.indexId());
-    return response;
-  }
-
-  private UpdateIndexResponse callUpdateIndex(
-      final UpdateIndexRequest updateIndexRequest,
-      final ProxyClient<QBusinessClient> proxyClient
-  ) {
-    return proxyClient.injectCredentialsAndInvokeV2(updateIndexRequest, proxyClient.client()::updateIndex);
-  }
 }
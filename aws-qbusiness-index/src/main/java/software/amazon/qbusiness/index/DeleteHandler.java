@@ -3,6 +3,7 @@ package software.amazon.qbusiness.index;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.DeleteIndexRequest;
 import software.amazon.awssdk.services.qbusiness.model.DeleteIndexResponse;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexResponse;
 import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -10,6 +11,9 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.stabilization.MutationGate;
 
 import java.time.Duration;
 
@@ -24,7 +28,9 @@ public class DeleteHandler extends BaseHandlerStd {
       .delay(Duration.ofSeconds(30))
       .build();
 
+  private final CrudEngine<ResourceModel, CallbackContext, GetIndexResponse> engine = IndexDescriptor.ENGINE;
   private final Constant backOffStrategy;
+  private final MutationGate mutationGate;
   private Logger logger;
 
   public DeleteHandler() {
@@ -33,6 +39,7 @@ public class DeleteHandler extends BaseHandlerStd {
 
   public DeleteHandler(Constant backOffStrategy) {
     this.backOffStrategy = backOffStrategy;
+    this.mutationGate = new MutationGate(backOffStrategy);
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -43,6 +50,7 @@ public class DeleteHandler extends BaseHandlerStd {
       final Logger logger) {
 
     this.logger = logger;
+    final TimeBudget budget = TimeBudget.startingNow();
 
     logger.log("[INFO] Initiating delete for %s with ApplicationId: %s and IndexId: %s in stack: %s".formatted(
         ResourceModel.TYPE_NAME,
@@ -52,6 +60,7 @@ public class DeleteHandler extends BaseHandlerStd {
     ));
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> engine.awaitMutable("Delete::AwaitMutable", progress, mutationGate, budget, proxyClient, logger))
         .then(progress ->
             proxy.initiate("AWS-QBusiness-Index::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToDeleteRequest)
@@ -0,0 +1,43 @@
+package software.amazon.qbusiness.index;
+
+import static software.amazon.qbusiness.index.Constants.API_CREATE_INDEX;
+import static software.amazon.qbusiness.index.Constants.API_DELETE_INDEX;
+import static software.amazon.qbusiness.index.Constants.API_GET_INDEX;
+import static software.amazon.qbusiness.index.Constants.API_UPDATE_INDEX;
+
+import java.util.Set;
+
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexResponse;
+import software.amazon.awssdk.services.qbusiness.model.IndexStatus;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.handler.Operation;
+import software.amazon.qbusiness.common.handler.ResourceDescriptor;
+
+final class IndexDescriptor {
+  static final ResourceDescriptor<ResourceModel, GetIndexResponse> DESCRIPTOR = ResourceDescriptor.<ResourceModel, GetIndexResponse>builder()
+      .typeName(ResourceModel.TYPE_NAME)
+      .callGraphPrefix("AWS-QBusiness-Index")
+      .primaryIdentifier(Utils::primaryIdentifier)
+      .arnBuilder(Utils::buildIndexArn)
+      .get(Operation.of(API_GET_INDEX, Translator::translateToReadRequest, QBusinessClient::getIndex))
+      .responseType(GetIndexResponse.class)
+      .create(Operation.ofRequest(API_CREATE_INDEX, Translator::translateToCreateRequest, QBusinessClient::createIndex)
+          .withResponseHandler((response, model) -> model.setIndexId(response.indexId())))
+      .update(Operation.of(API_UPDATE_INDEX, Translator::translateToUpdateRequest, QBusinessClient::updateIndex))
+      .delete(Operation.of(API_DELETE_INDEX, Translator::translateToDeleteRequest, QBusinessClient::deleteIndex))
+      .fromGetResponse(Translator::translateFromReadResponse)
+      .toListTagsRequest(Translator::translateToListTagsRequest)
+      .withTags(Translator::translateFromReadResponseWithTags)
+      .statusExtractor(GetIndexResponse::statusAsString)
+      .stableStates(Set.of(IndexStatus.ACTIVE.toString()))
+      .failedStates(Set.of(IndexStatus.FAILED.toString()))
+      .transitionalStates(Set.of(IndexStatus.CREATING.toString(), IndexStatus.UPDATING.toString()))
+      .failureReason(response -> response.error() == null ? null : response.error().errorMessage())
+      .build();
+
+  static final CrudEngine<ResourceModel, CallbackContext, GetIndexResponse> ENGINE = new CrudEngine<>(DESCRIPTOR);
+
+  private IndexDescriptor() {
+  }
+}
@@ -9,13 +9,37 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.handler.ListHydrator;
+import software.amazon.qbusiness.common.handler.SummaryDriftCache;
 
 import java.util.List;
 
 public class ListHandler extends BaseHandlerStd {
 
+  // Shared by the invocations of a warm container, so each one only reads the indices that changed since the last.
+  private static final SummaryDriftCache<ResourceModel> SHARED_DRIFT_CACHE = new SummaryDriftCache<>(
+      ResourceModel::getIndexId, ResourceModel::getStatus, ResourceModel::getDisplayName, ResourceModel::getUpdatedAt,
+      SummaryDriftCache.maxAgeFromEnvironment()
+  );
+
+  private final ListHydrator hydrator;
+  private final SummaryDriftCache<ResourceModel> driftCache;
   private Logger logger;
 
+  public ListHandler() {
+    this(ListHydrator.fromEnvironment(), SHARED_DRIFT_CACHE);
+  }
+
+  public ListHandler(ListHydrator hydrator) {
+    this(hydrator, SHARED_DRIFT_CACHE);
+  }
+
+  public ListHandler(ListHydrator hydrator, SummaryDriftCache<ResourceModel> driftCache) {
+    this.hydrator = hydrator;
+    this.driftCache = driftCache;
+  }
+
   @Override
   public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
       final AmazonWebServicesClientProxy proxy,
@@ -25,17 +49,23 @@ public class ListHandler extends BaseHandlerStd {
       final Logger logger) {
 
     this.logger = logger;
+    final TimeBudget budget = TimeBudget.startingNow();
 
     this.logger.log("[INFO] - [StackId: %s, ApplicationId: %s] Entering List Handler"
         .formatted(request.getStackId(), request.getDesiredResourceState().getApplicationId()));
 
     final ListIndicesRequest awsRequest = Translator.translateToListRequest(request.getNextToken(), request.getDesiredResourceState());
 
-    final ListIndicesResponse listIndicesResponse = proxy.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::listIndices);
+    final ListIndicesResponse listIndicesResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::listIndices);
 
     final String nextToken = listIndicesResponse.nextToken();
 
-    final List<ResourceModel> models = Translator.translateFromListResponse(listIndicesResponse, request.getDesiredResourceState().getApplicationId());
+    final List<ResourceModel> models = hydrator.hydrate(ResourceModel.TYPE_NAME,
+        Translator.translateFromListResponse(listIndicesResponse, request.getDesiredResourceState().getApplicationId()),
+        summary -> IndexDescriptor.ENGINE.hydrate(request, summary, proxyClient),
+        driftCache, "%s/%s/%s".formatted(request.getAwsPartition(), request.getAwsAccountId(), request.getRegion()),
+        budget, logger
+    );
 
     return ProgressEvent.<ResourceModel, CallbackContext>builder()
         .resourceModels(models)
@@ -30,11 +30,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.AccessDeniedException;
+import software.amazon.awssdk.services.qbusiness.model.ApplicationStatus;
 import software.amazon.awssdk.services.qbusiness.model.AttributeType;
 import software.amazon.awssdk.services.qbusiness.model.ConflictException;
 import software.amazon.awssdk.services.qbusiness.model.CreateIndexRequest;
 import software.amazon.awssdk.services.qbusiness.model.CreateIndexResponse;
 import software.amazon.awssdk.services.qbusiness.model.ErrorDetail;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationResponse;
 import software.amazon.awssdk.services.qbusiness.model.IndexType;
 import software.amazon.awssdk.services.qbusiness.model.QBusinessException;
 import software.amazon.awssdk.services.qbusiness.model.GetIndexRequest;
@@ -96,6 +99,9 @@ public class CreateHandlerTest extends AbstractTestBase {
 
     underTest = new CreateHandler(testBackOff);
 
+    when(QBusinessClient.getApplication(any(GetApplicationRequest.class)))
+        .thenReturn(GetApplicationResponse.builder().applicationId(APP_ID).status(ApplicationStatus.ACTIVE).build());
+
     createModel = ResourceModel.builder()
         .displayName("TheMeta")
         .description("A Description")
@@ -116,6 +122,9 @@ public class CreateHandlerTest extends AbstractTestBase {
   @AfterEach
   public void tear_down() throws Exception {
     verify(QBusinessClient, atLeastOnce()).serviceName();
+    verify(QBusinessClient).getApplication(
+        argThat((ArgumentMatcher<GetApplicationRequest>) t -> t.applicationId().equals(APP_ID))
+    );
     verifyNoMoreInteractions(QBusinessClient);
     testMocks.close();
   }
@@ -164,7 +173,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     assertThat(model.getCapacityConfiguration().getUnits()).isEqualTo(createModel.getCapacityConfiguration().getUnits());
 
     verify(QBusinessClient).createIndex(any(CreateIndexRequest.class));
-    verify(QBusinessClient, times(2)).getIndex(
+    verify(QBusinessClient, times(1)).getIndex(
         argThat((ArgumentMatcher<GetIndexRequest>) t -> t.applicationId().equals(APP_ID) && t.indexId().equals(INDEX_ID))
     );
     verify(QBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
@@ -220,7 +229,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     assertThat(resultProgress).isNotNull();
     assertThat(resultProgress.isSuccess()).isTrue();
     verify(QBusinessClient).createIndex(any(CreateIndexRequest.class));
-    verify(QBusinessClient, times(4)).getIndex(any(GetIndexRequest.class));
+    verify(QBusinessClient, times(3)).getIndex(any(GetIndexRequest.class));
     verify(QBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
     verify(QBusinessClient).updateIndex(
         argThat(
@@ -271,12 +280,63 @@ public class CreateHandlerTest extends AbstractTestBase {
     assertThat(resultProgress).isNotNull();
     assertThat(resultProgress.isSuccess()).isTrue();
     verify(QBusinessClient).createIndex(any(CreateIndexRequest.class));
-    verify(QBusinessClient, times(3)).getIndex(
+    verify(QBusinessClient, times(2)).getIndex(
         argThat((ArgumentMatcher<GetIndexRequest>) t -> t.applicationId().equals(APP_ID) && t.indexId().equals(INDEX_ID))
     );
     verify(QBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
   }
 
+  @Test
+  public void handleRequestHandsOffWhenNextPollExceedsInvocationBudget() {
+    // set up scenario
+    underTest = new CreateHandler(Constant.of()
+        .delay(Duration.ofMinutes(1))
+        .timeout(Duration.ofHours(1))
+        .build());
+    var getResponse = GetIndexResponse.builder()
+        .applicationId(APP_ID)
+        .indexId(INDEX_ID)
+        .type(IndexType.ENTERPRISE)
+        .displayName(createModel.getDisplayName())
+        .build();
+
+    when(QBusinessClient.createIndex(any(CreateIndexRequest.class)))
+        .thenReturn(CreateIndexResponse.builder()
+            .indexId(INDEX_ID)
+            .build()
+        );
+    when(QBusinessClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(ListTagsForResourceResponse.builder()
+        .tags(List.of())
+        .build());
+    when(QBusinessClient.getIndex(any(GetIndexRequest.class)))
+        .thenReturn(
+            getResponse.toBuilder().status(IndexStatus.CREATING).build(),
+            getResponse.toBuilder().status(IndexStatus.ACTIVE).build()
+        );
+
+    // call method under test
+    final ProgressEvent<ResourceModel, CallbackContext> handOff = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    // verify the first invocation hands off instead of waiting out the delay
+    assertThat(handOff.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+    assertThat(handOff.getCallbackDelaySeconds()).isEqualTo(60);
+    assertThat(handOff.getResourceModel().getIndexId()).isEqualTo(INDEX_ID);
+    assertThat(handOff.getCallbackContext().getStabilizationProgress().get("AWS-QBusiness-Index::Create").getAttempts())
+        .isEqualTo(1);
+
+    // re-invoke with the returned context, as CloudFormation would
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, handOff.getCallbackContext(), proxyClient, logger
+    );
+
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(QBusinessClient).createIndex(any(CreateIndexRequest.class));
+    verify(QBusinessClient, times(2)).getIndex(any(GetIndexRequest.class));
+    verify(QBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
+
   @Test
   public void testItFailsWithErrorMessageWhenGetReturnsFailStatus() {
     // set up
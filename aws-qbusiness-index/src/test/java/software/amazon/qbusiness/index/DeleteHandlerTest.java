@@ -37,6 +37,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -57,6 +58,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
   private QBusinessClient sdkClient;
 
   private DeleteHandler underTest;
+  private boolean expectProxyChain;
 
   private AutoCloseable testMocks;
 
@@ -66,6 +68,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
   @BeforeEach
   public void setup() {
     testMocks = MockitoAnnotations.openMocks(this);
+    expectProxyChain = true;
     proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
     sdkClient = mock(QBusinessClient.class);
     proxyClient = MOCK_PROXY(proxy, sdkClient);
@@ -92,7 +95,8 @@ public class DeleteHandlerTest extends AbstractTestBase {
 
   @AfterEach
   public void tear_down() throws Exception {
-    verify(sdkClient, atLeastOnce()).serviceName();
+    // The proxy chain asks the client for its service name; a delete that stops at the mutation gate never starts it.
+    verify(sdkClient, expectProxyChain ? atLeastOnce() : never()).serviceName();
     verifyNoMoreInteractions(sdkClient);
 
     testMocks.close();
@@ -102,7 +106,9 @@ public class DeleteHandlerTest extends AbstractTestBase {
   public void handleRequest_SimpleSuccess() {
     // set up test
     when(sdkClient.deleteIndex(any(DeleteIndexRequest.class))).thenReturn(DeleteIndexResponse.builder().build());
-    when(sdkClient.getIndex(any(GetIndexRequest.class))).thenThrow(ResourceNotFoundException.builder().build());
+    when(sdkClient.getIndex(any(GetIndexRequest.class)))
+        .thenReturn(activeIndex())
+        .thenThrow(ResourceNotFoundException.builder().build());
 
     // call method under test
     final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
@@ -119,11 +125,56 @@ public class DeleteHandlerTest extends AbstractTestBase {
     verify(sdkClient).deleteIndex(
         argThat((ArgumentMatcher<DeleteIndexRequest>) t -> t.applicationId().equals(APP_ID) && t.indexId().equals(INDEX_ID))
     );
-    verify(sdkClient).getIndex(
+    verify(sdkClient, times(2)).getIndex(
         argThat((ArgumentMatcher<GetIndexRequest>) t -> t.applicationId().equals(APP_ID) && t.indexId().equals(INDEX_ID))
     );
   }
 
+  @Test
+  public void testThatItWaitsForAnIndexInTransitionBeforeDeleting() {
+    // set up test
+    when(sdkClient.deleteIndex(any(DeleteIndexRequest.class))).thenReturn(DeleteIndexResponse.builder().build());
+    when(sdkClient.getIndex(any(GetIndexRequest.class)))
+        .thenReturn(activeIndex().toBuilder().status(IndexStatus.UPDATING).build())
+        .thenReturn(activeIndex())
+        .thenThrow(ResourceNotFoundException.builder().build());
+
+    // call method under test
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    // verify
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(sdkClient).deleteIndex(any(DeleteIndexRequest.class));
+    verify(sdkClient, times(3)).getIndex(any(GetIndexRequest.class));
+  }
+
+  @Test
+  public void testThatItReturnsNotFoundWithoutDeletingAMissingIndex() {
+    // set up test
+    when(sdkClient.getIndex(any(GetIndexRequest.class))).thenThrow(ResourceNotFoundException.builder().build());
+    expectProxyChain = false;
+
+    // call method under test
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    // verify
+    assertThat(resultProgress.getStatus()).isEqualTo(OperationStatus.FAILED);
+    assertThat(resultProgress.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+    verify(sdkClient).getIndex(any(GetIndexRequest.class));
+  }
+
+  private static GetIndexResponse activeIndex() {
+    return GetIndexResponse.builder()
+        .applicationId(APP_ID)
+        .indexId(INDEX_ID)
+        .status(IndexStatus.ACTIVE)
+        .build();
+  }
+
   @Test
   public void handleMovingFromDeletingToNotFound() {
     // set up test
@@ -180,6 +231,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
   @MethodSource("serviceErrorAndHandlerCodes")
   public void testThatItReturnsExpectedHandlerErrorCodeForServiceError(QBusinessException serviceError, HandlerErrorCode expectedErrorCode) {
     // set up test
+    when(sdkClient.getIndex(any(GetIndexRequest.class))).thenReturn(activeIndex());
     when(sdkClient.deleteIndex(any(DeleteIndexRequest.class))).thenThrow(serviceError);
 
     // call method under test
@@ -191,6 +243,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
     assertThat(responseProgress).isNotNull();
     assertThat(responseProgress.isSuccess()).isFalse();
     assertThat(responseProgress.getStatus()).isEqualTo(OperationStatus.FAILED);
+    verify(sdkClient).getIndex(any(GetIndexRequest.class));
     verify(sdkClient).deleteIndex(any(DeleteIndexRequest.class));
     assertThat(responseProgress.getErrorCode()).isEqualTo(expectedErrorCode);
     assertThat(responseProgress.getResourceModels()).isNull();
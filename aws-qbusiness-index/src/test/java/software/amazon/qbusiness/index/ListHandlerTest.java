@@ -3,6 +3,7 @@ package software.amazon.qbusiness.index;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -19,14 +20,22 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetIndexResponse;
 import software.amazon.awssdk.services.qbusiness.model.Index;
 import software.amazon.awssdk.services.qbusiness.model.IndexStatus;
+import software.amazon.awssdk.services.qbusiness.model.IndexType;
+import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
 import software.amazon.awssdk.services.qbusiness.model.ListIndicesRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListIndicesResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.Tag;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.handler.ListHydrator;
 
 public class ListHandlerTest extends AbstractTestBase {
 
@@ -117,4 +126,58 @@ public class ListHandlerTest extends AbstractTestBase {
         argThat((ArgumentMatcher<ListIndicesRequest>) t -> t.nextToken().equals(TEST_NEXT_TOKEN))
     );
   }
+
+  @Test
+  public void handleRequest_HydratesListedIndicesAndKeepsTheSummaryOfAFailedRead() {
+    // set up scenario
+    final String failingId = "db6a3cc2-3de5-4ede-b802-80f107d63ad8";
+    List<String> ids = List.of(
+        "a98163cb-407b-492c-85d7-a96ebc514eac",
+        failingId,
+        "25e148e0-777d-4f30-b523-1f895c36cf55"
+    );
+    when(sdkClient.listIndices(any(ListIndicesRequest.class)))
+        .thenReturn(ListIndicesResponse.builder()
+            .indices(ids.stream()
+                .map(id -> Index.builder().indexId(id).displayName("Index name").status(IndexStatus.ACTIVE).build())
+                .toList())
+            .build()
+        );
+    when(sdkClient.getIndex(any(GetIndexRequest.class))).thenAnswer(invocation -> {
+      GetIndexRequest getRequest = invocation.getArgument(0);
+      if (getRequest.indexId().equals(failingId)) {
+        throw InternalServerException.builder().message("try again").build();
+      }
+      return GetIndexResponse.builder()
+          .applicationId(APP_ID)
+          .indexId(getRequest.indexId())
+          .displayName("Index name")
+          .description("Hydrated")
+          .type(IndexType.ENTERPRISE)
+          .status(IndexStatus.ACTIVE)
+          .build();
+    });
+    when(sdkClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+        .thenReturn(ListTagsForResourceResponse.builder()
+            .tags(Tag.builder().key("team").value("search").build())
+            .build());
+
+    // call method under test
+    underTest = new ListHandler(new ListHydrator(2));
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    // verify
+    assertThat(resultProgress.isSuccess()).isTrue();
+    assertThat(resultProgress.getResourceModels()).extracting(ResourceModel::getIndexId).isEqualTo(ids);
+    assertThat(resultProgress.getResourceModels()).extracting(ResourceModel::getDescription)
+        .containsExactly("Hydrated", null, "Hydrated");
+    assertThat(resultProgress.getResourceModels().get(0).getTags()).hasSize(1);
+    assertThat(resultProgress.getResourceModels().get(1).getTags()).isNull();
+
+    verify(sdkClient).listIndices(any(ListIndicesRequest.class));
+    verify(sdkClient, times(3)).getIndex(any(GetIndexRequest.class));
+    verify(sdkClient, times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
 }
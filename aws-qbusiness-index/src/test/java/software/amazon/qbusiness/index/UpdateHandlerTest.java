@@ -226,6 +226,32 @@ public class UpdateHandlerTest extends AbstractTestBase {
     ));
   }
 
+  @Test
+  public void testThatItWaitsForAnIndexInTransitionBeforeUpdating() {
+    // set up scenario: the index is still applying an earlier change
+    var activeIndex = GetIndexResponse.builder()
+        .applicationId(APP_ID)
+        .indexId(INDEX_ID)
+        .status(IndexStatus.ACTIVE)
+        .build();
+    when(sdkClient.getIndex(any(GetIndexRequest.class)))
+        .thenReturn(activeIndex.toBuilder().status(IndexStatus.UPDATING).build())
+        .thenReturn(activeIndex);
+
+    // call method under test
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    // verify
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(sdkClient).updateIndex(any(UpdateIndexRequest.class));
+    verify(sdkClient, times(3)).getIndex(any(GetIndexRequest.class));
+    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    verify(sdkClient).tagResource(any(TagResourceRequest.class));
+    verify(sdkClient).untagResource(any(UntagResourceRequest.class));
+  }
+
   @Test
   public void testThatItDoesntTagAndUnTag() {
     // set up scenario
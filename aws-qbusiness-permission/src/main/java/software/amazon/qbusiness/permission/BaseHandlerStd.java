@@ -1,7 +1,5 @@
 package software.amazon.qbusiness.permission;
 
-import java.util.Optional;
-import org.json.JSONObject;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.AccessDeniedException;
 import software.amazon.awssdk.services.qbusiness.model.ConflictException;
@@ -23,8 +21,13 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.ResourceIdentifiers;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.client.ThrottlingAwareProxyClient;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+  private static final String[] PRIMARY_IDENTIFIER_KEYS = {"ApplicationId", "StatementId"};
+
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
     final AmazonWebServicesClientProxy proxy,
@@ -35,7 +38,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
       proxy,
       request,
       callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
+      ThrottlingAwareProxyClient.wrap(
+        proxy.newProxy(ClientBuilder::getClient), request.getAwsAccountId(), TimeBudget.startingNow(), logger
+      ),
       logger
     );
   }
@@ -58,10 +63,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     logger.log("[ERROR] Failed Request: %s. Error Message: %s".formatted(apiName, error.getMessage()));
     BaseHandlerException cfnException;
 
-    var primaryIdentifier = Optional.ofNullable(resourceModel)
-        .map(ResourceModel::getPrimaryIdentifier)
-        .map(JSONObject::toString)
-        .orElse("");
+    var primaryIdentifier = resourceModel == null ? "" : ResourceIdentifiers.primaryIdentifier(
+      resourceModel, PRIMARY_IDENTIFIER_KEYS, resourceModel.getApplicationId(), resourceModel.getStatementId()
+    );
 
     if (error instanceof ResourceNotFoundException) {
       cfnException = new CfnNotFoundException(ResourceModel.TYPE_NAME, primaryIdentifier, error);
@@ -9,6 +9,7 @@ public final class Constants {
   public static final String SERVICE_NAME = "QBusiness";
   public static final String SERVICE_NAME_LOWER = SERVICE_NAME.toLowerCase(Locale.ENGLISH);
   public static final String ENV_AWS_REGION = "AWS_REGION";
+  public static final int LIST_PAGE_SIZE = 100;
 
   private Constants() {
   }
@@ -10,6 +10,8 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.logging.HandlerLogger;
+import software.amazon.qbusiness.common.logging.HandlerLogger.Level;
 
 public class CreateHandler extends BaseHandlerStd {
 
@@ -46,7 +48,7 @@ public class CreateHandler extends BaseHandlerStd {
       AssociatePermissionRequest request,
       ProxyClient<QBusinessClient> proxyClient,
       ResourceModel model) {
-    logger.log("[DEBUG] Calling service with request: %s".formatted(request));
+    HandlerLogger.wrap(logger).event(Level.DEBUG, "Calling service").field("request", request).log();
 
     var client = proxyClient.client();
     return proxyClient.injectCredentialsAndInvokeV2(request,
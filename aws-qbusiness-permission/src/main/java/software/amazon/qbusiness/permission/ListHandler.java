@@ -1,20 +1,24 @@
 package software.amazon.qbusiness.permission;
 
 import static software.amazon.qbusiness.permission.Constants.API_GET_POLICY;
+import static software.amazon.qbusiness.permission.Constants.LIST_PAGE_SIZE;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.GetPolicyRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetPolicyResponse;
 import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.qbusiness.permission.internal.PolicyParser;
+import software.amazon.qbusiness.permission.internal.PolicyPageToken;
+import software.amazon.qbusiness.permission.internal.PolicyStatementStream;
 
 public class ListHandler extends BaseHandlerStd {
 
@@ -47,15 +51,46 @@ public class ListHandler extends BaseHandlerStd {
 
                             throw new CfnInternalFailureException();
                         }
-                        final List<ResourceModel> modelsFromPolicy = PolicyParser.getPermissionModelsFromPolicy(policy.get(), request.getDesiredResourceState().getApplicationId());
+                        final String applicationId = request.getDesiredResourceState().getApplicationId();
+                        final PolicyPageToken current = PolicyPageToken.first(policy.get());
+                        final PolicyPageToken start = startOfPage(request.getNextToken(), current, applicationId, logger);
+                        final PolicyStatementStream statements = PolicyStatementStream.open(policy.get(), applicationId, start.offset());
+                        final List<ResourceModel> page = new ArrayList<>();
+                        while (page.size() < LIST_PAGE_SIZE && statements.hasNext()) {
+                            page.add(statements.next());
+                        }
                         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                             .status(OperationStatus.SUCCESS)
-                            .resourceModels(modelsFromPolicy)
+                            .resourceModels(page)
+                            .nextToken(statements.hasNext() ? current.advance(statements.position()).encode() : null)
                             .build();
                     })
             );
     }
 
+    /**
+     * Resumes after the statements already returned, unless the policy changed since the token was issued, in which
+     * case listing starts over from the first statement of the current policy.
+     */
+    private PolicyPageToken startOfPage(final String nextToken, final PolicyPageToken current,
+        final String applicationId, final Logger logger) {
+        if (nextToken == null) {
+            return current;
+        }
+        final PolicyPageToken token;
+        try {
+            token = PolicyPageToken.decode(nextToken);
+        } catch (IllegalArgumentException e) {
+            throw new CfnInvalidRequestException(e.getMessage());
+        }
+        if (!token.samePolicyAs(current)) {
+            logger.log("[WARN] Policy of ApplicationId %s changed between pages, restarting the listing"
+                .formatted(applicationId));
+            return current;
+        }
+        return token;
+    }
+
     private GetPolicyResponse callGetPolicy(GetPolicyRequest request,
         ProxyClient<QBusinessClient> proxyClient) {
         return proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::getPolicy);
@@ -0,0 +1,74 @@
+package software.amazon.qbusiness.permission.internal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.NonNull;
+import software.amazon.qbusiness.permission.ResourceModel;
+
+/**
+ * The output of {@link PolicyCompactionPlanner}.
+ *
+ * @param statements  the statements of the compacted policy.
+ * @param index       every tracked CFN statement id, mapped to the sids of the statements that carry its grant.
+ * @param permissions every tracked permission, by CFN statement id.
+ */
+public record CompactionPlan(
+    List<CompactedStatement> statements,
+    Map<String, List<String>> index,
+    Map<String, ResourceModel> permissions
+) {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  public record CompactedStatement(String sid, List<String> principals, List<String> actions) {
+  }
+
+  /**
+   * Reads a permission back from a policy written from this plan. The permission is only returned while every
+   * statement the index points to is still in the policy and, together, they still grant its principal all of its
+   * actions.
+   */
+  public Optional<ResourceModel> resolve(@NonNull final String statementId, @NonNull final PolicyStatementIndex policy) {
+    final ResourceModel permission = permissions.get(statementId);
+    if (permission == null) {
+      return Optional.empty();
+    }
+
+    final Set<String> granted = new HashSet<>();
+    for (final String sid : index.get(statementId)) {
+      final Optional<PolicyStatementIndex.IndexedStatement> statement = policy.statement(sid);
+      if (statement.isEmpty() || !statement.get().principals().contains(permission.getPrincipal())) {
+        return Optional.empty();
+      }
+      granted.addAll(statement.get().actions());
+    }
+    if (permission.getActions() != null && !granted.containsAll(permission.getActions())) {
+      return Optional.empty();
+    }
+    return Optional.of(permission);
+  }
+
+  /**
+   * @return the compacted policy document, granting every statement on {@code resourceArn}.
+   */
+  public String toPolicyJson(@NonNull final String resourceArn) {
+    final ObjectNode policy = MAPPER.createObjectNode().put("Version", "2012-10-17");
+    final ArrayNode statementNodes = policy.putArray("Statement");
+    for (final CompactedStatement statement : statements) {
+      final ObjectNode node = statementNodes.addObject()
+          .put("Sid", statement.sid())
+          .put("Effect", "Allow");
+      final ArrayNode principals = node.putObject("Principal").putArray("AWS");
+      statement.principals().forEach(principals::add);
+      final ArrayNode actions = node.putArray("Action");
+      statement.actions().forEach(actions::add);
+      node.putArray("Resource").add(resourceArn);
+    }
+    return policy.toString();
+  }
+}
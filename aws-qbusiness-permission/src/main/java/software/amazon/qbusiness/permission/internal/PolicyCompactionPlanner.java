@@ -0,0 +1,147 @@
+package software.amazon.qbusiness.permission.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import lombok.NonNull;
+import software.amazon.qbusiness.permission.ResourceModel;
+
+/**
+ * Plans a smaller resource policy for the permissions granted on an application.
+ *
+ * <p>Every tracked permission is one CFN {@code statementId} granting one principal a set of actions. The planner
+ * merges the actions granted to the same principal into one statement, and, when {@code allowMultiplePrincipals} is
+ * set, lets principals with exactly the same actions share a statement. Statements never list more than
+ * {@link #MAX_ACTIONS_PER_STATEMENT} actions, the limit AssociatePermission applies. The resulting
+ * {@link CompactionPlan} keeps an index from every {@code statementId} to the statements that now carry its grant, so
+ * a permission can still be read back by the id CloudFormation knows it by.
+ *
+ * <p>Statements with several principals can only be read with {@link PolicyStatementIndex}; {@link PolicyParser}
+ * rejects them.
+ */
+public final class PolicyCompactionPlanner {
+  public static final int MAX_ACTIONS_PER_STATEMENT = 10;
+  static final String SID_PREFIX = "compacted-";
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final boolean allowMultiplePrincipals;
+  private final Map<String, ResourceModel> permissions = new TreeMap<>();
+
+  public PolicyCompactionPlanner(final boolean allowMultiplePrincipals) {
+    this.allowMultiplePrincipals = allowMultiplePrincipals;
+  }
+
+  /**
+   * Tracks a permission, replacing any permission already tracked under the same statement id.
+   */
+  public PolicyCompactionPlanner track(@NonNull final ResourceModel permission) {
+    if (permission.getStatementId() == null || permission.getPrincipal() == null) {
+      throw new IllegalArgumentException("A permission needs a statement id and a principal to be compacted");
+    }
+    permissions.put(permission.getStatementId(), permission);
+    return this;
+  }
+
+  public PolicyCompactionPlanner untrack(@NonNull final String statementId) {
+    permissions.remove(statementId);
+    return this;
+  }
+
+  public int size() {
+    return permissions.size();
+  }
+
+  public CompactionPlan plan() {
+    // principal -> every action granted to it, sorted so equal grants produce equal statements
+    final Map<String, TreeSet<String>> actionsByPrincipal = new TreeMap<>();
+    for (final ResourceModel permission : permissions.values()) {
+      final TreeSet<String> actions = actionsByPrincipal.computeIfAbsent(permission.getPrincipal(), ignored -> new TreeSet<>());
+      if (permission.getActions() != null) {
+        actions.addAll(permission.getActions());
+      }
+    }
+
+    // action set -> the principals granted exactly that set, each principal on its own unless they may share
+    final Map<List<String>, List<List<String>>> principalsByActions = new LinkedHashMap<>();
+    for (final Map.Entry<String, TreeSet<String>> entry : actionsByPrincipal.entrySet()) {
+      final List<List<String>> groups = principalsByActions.computeIfAbsent(List.copyOf(entry.getValue()), ignored -> new ArrayList<>());
+      if (allowMultiplePrincipals && !groups.isEmpty()) {
+        groups.get(0).add(entry.getKey());
+      } else {
+        groups.add(new ArrayList<>(List.of(entry.getKey())));
+      }
+    }
+
+    final List<CompactionPlan.CompactedStatement> statements = new ArrayList<>();
+    final Map<String, List<String>> sidsByPrincipal = new TreeMap<>();
+    final Set<String> usedSids = new HashSet<>();
+    for (final Map.Entry<List<String>, List<List<String>>> entry : principalsByActions.entrySet()) {
+      for (final List<String> group : entry.getValue()) {
+        addStatements(List.copyOf(group), entry.getKey(), statements, sidsByPrincipal, usedSids);
+      }
+    }
+
+    final Map<String, List<String>> index = new LinkedHashMap<>();
+    for (final ResourceModel permission : permissions.values()) {
+      index.put(permission.getStatementId(), List.copyOf(sidsByPrincipal.get(permission.getPrincipal())));
+    }
+    return new CompactionPlan(List.copyOf(statements), index, new LinkedHashMap<>(permissions));
+  }
+
+  private static void addStatements(
+      final List<String> principals,
+      final List<String> actions,
+      final List<CompactionPlan.CompactedStatement> statements,
+      final Map<String, List<String>> sidsByPrincipal,
+      final Set<String> usedSids
+  ) {
+    for (final List<String> chunk : chunks(actions)) {
+      final String sid = uniqueSid(principals, chunk, usedSids);
+      statements.add(new CompactionPlan.CompactedStatement(sid, principals, List.copyOf(chunk)));
+      for (final String principal : principals) {
+        sidsByPrincipal.computeIfAbsent(principal, ignored -> new ArrayList<>()).add(sid);
+      }
+    }
+  }
+
+  private static List<List<String>> chunks(final List<String> actions) {
+    if (actions.isEmpty()) {
+      return List.of(actions);
+    }
+    final List<List<String>> chunks = new ArrayList<>((actions.size() + MAX_ACTIONS_PER_STATEMENT - 1) / MAX_ACTIONS_PER_STATEMENT);
+    for (int start = 0; start < actions.size(); start += MAX_ACTIONS_PER_STATEMENT) {
+      chunks.add(actions.subList(start, Math.min(actions.size(), start + MAX_ACTIONS_PER_STATEMENT)));
+    }
+    return chunks;
+  }
+
+  /**
+   * Statement ids are derived from the statement content, so planning the same permissions twice yields the same
+   * policy and unchanged statements keep their ids across plans.
+   */
+  private static String uniqueSid(final List<String> principals, final List<String> actions, final Set<String> usedSids) {
+    final String base = SID_PREFIX + Long.toHexString(fnv1a(String.join(",", principals) + "|" + String.join(",", actions)));
+    String sid = base;
+    for (int suffix = 1; !usedSids.add(sid); suffix++) {
+      sid = base + "-" + suffix;
+    }
+    return sid;
+  }
+
+  private static long fnv1a(final String value) {
+    long hash = FNV_OFFSET_BASIS;
+    for (final byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b & 0xff;
+      hash *= FNV_PRIME;
+    }
+    return hash;
+  }
+}
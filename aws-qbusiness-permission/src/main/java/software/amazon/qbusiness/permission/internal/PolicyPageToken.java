@@ -0,0 +1,72 @@
+package software.amazon.qbusiness.permission.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import lombok.NonNull;
+
+/**
+ * The continuation token of a permission list. It records which version of the policy was being paged, by hash, and
+ * how many statements were already returned, so the next page can skip straight past them.
+ *
+ * @param policyHash the hash of the policy the offset refers to.
+ * @param offset     the number of statements already returned.
+ */
+public record PolicyPageToken(String policyHash, int offset) {
+  private static final String VERSION = "v1";
+
+  public static PolicyPageToken first(@NonNull final String policy) {
+    return new PolicyPageToken(hash(policy), 0);
+  }
+
+  /**
+   * @throws IllegalArgumentException when the token was not produced by {@link #encode()}.
+   */
+  public static PolicyPageToken decode(@NonNull final String token) {
+    final String[] parts;
+    try {
+      parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid next token %s".formatted(token), e);
+    }
+    if (parts.length != 3 || !VERSION.equals(parts[0])) {
+      throw new IllegalArgumentException("Invalid next token %s".formatted(token));
+    }
+    try {
+      final int offset = Integer.parseInt(parts[2]);
+      if (offset < 0) {
+        throw new IllegalArgumentException("Invalid next token %s".formatted(token));
+      }
+      return new PolicyPageToken(parts[1], offset);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid next token %s".formatted(token), e);
+    }
+  }
+
+  public static String hash(@NonNull final String policy) {
+    try {
+      final byte[] digest = MessageDigest.getInstance("SHA-256").digest(policy.getBytes(StandardCharsets.UTF_8));
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  /**
+   * A token issued for another version of the policy must not be resumed, since its offset may now point into the
+   * middle of different statements.
+   */
+  public boolean samePolicyAs(@NonNull final PolicyPageToken current) {
+    return policyHash.equals(current.policyHash());
+  }
+
+  public PolicyPageToken advance(final int offset) {
+    return new PolicyPageToken(policyHash, offset);
+  }
+
+  public String encode() {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString("%s:%s:%d".formatted(VERSION, policyHash, offset).getBytes(StandardCharsets.UTF_8));
+  }
+}
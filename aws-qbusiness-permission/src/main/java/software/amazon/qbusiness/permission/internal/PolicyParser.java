@@ -11,6 +11,8 @@ import lombok.NonNull;
 import software.amazon.qbusiness.permission.ResourceModel;
 
 public class PolicyParser {
+  private static final PolicyReaderOptions POLICY_READER_OPTIONS = new PolicyReaderOptions().withStripAwsPrincipalIdHyphensEnabled(false);
+
   /**
    * This method parses the output policy of GetPolicy into a list of permission ResourceModel
    * Example:
@@ -32,8 +34,7 @@ public class PolicyParser {
    * @return a list of ResourceModel for Qbusiness::Permission
    */
   public static List<ResourceModel> getPermissionModelsFromPolicy(final String policy, final String applicationId) {
-    final PolicyReaderOptions policyReaderOptions = new PolicyReaderOptions().withStripAwsPrincipalIdHyphensEnabled(false);
-    final Policy parsedPolicy = Policy.fromJson(policy, policyReaderOptions);
+    final Policy parsedPolicy = Policy.fromJson(policy, POLICY_READER_OPTIONS);
     return parsedPolicy.getStatements()
         .stream()
         .map(statement -> getPermissionModelFromStatement(statement, applicationId))
@@ -48,6 +49,15 @@ public class PolicyParser {
         .findAny();
   }
 
+  /**
+   * Converts a single statement, given as the JSON object it is written as in the policy, the same way
+   * {@link #getPermissionModelsFromPolicy} converts each statement of a whole policy.
+   */
+  static ResourceModel getPermissionModelFromStatement(@NonNull final String statement, final String applicationId) {
+    final Policy parsedPolicy = Policy.fromJson("{\"Statement\":[" + statement + "]}", POLICY_READER_OPTIONS);
+    return getPermissionModelFromStatement(parsedPolicy.getStatements().iterator().next(), applicationId);
+  }
+
   private static ResourceModel getPermissionModelFromStatement(final Statement statement, final String applicationId) {
     final String id = statement.getId();
     final List<String> actions = statement.getActions().stream().map(Action::getActionName).toList();
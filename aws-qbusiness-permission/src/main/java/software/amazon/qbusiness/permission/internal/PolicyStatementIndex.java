@@ -0,0 +1,81 @@
+package software.amazon.qbusiness.permission.internal;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.NonNull;
+
+/**
+ * A resource policy parsed once and indexed by statement id, so looking up one statement does not convert every
+ * statement in the policy. Unlike {@link PolicyParser}, statements with several principals are accepted, as written by
+ * {@link PolicyCompactionPlanner}.
+ */
+public final class PolicyStatementIndex {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final Map<String, IndexedStatement> statements;
+
+  /**
+   * @param sid        the statement id.
+   * @param principals the AWS principals the statement applies to.
+   * @param actions    the actions the statement allows.
+   */
+  public record IndexedStatement(String sid, List<String> principals, List<String> actions) {
+  }
+
+  private PolicyStatementIndex(final Map<String, IndexedStatement> statements) {
+    this.statements = statements;
+  }
+
+  /**
+   * @throws IllegalArgumentException when the policy is not valid JSON.
+   */
+  public static PolicyStatementIndex parse(@NonNull final String policy) {
+    final JsonNode root;
+    try {
+      root = MAPPER.readTree(policy);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Policy is not valid JSON: %s".formatted(e.getOriginalMessage()), e);
+    }
+
+    final JsonNode statementNodes = root.path("Statement");
+    final Map<String, IndexedStatement> statements = new HashMap<>(Math.max(16, statementNodes.size() * 2));
+    for (final JsonNode statement : statementNodes.isArray() ? statementNodes : List.of(statementNodes)) {
+      final String sid = statement.path("Sid").asText(null);
+      if (sid == null) {
+        continue;
+      }
+      statements.put(sid, new IndexedStatement(
+          sid, strings(statement.path("Principal").path("AWS")), strings(statement.path("Action"))
+      ));
+    }
+    return new PolicyStatementIndex(statements);
+  }
+
+  public Optional<IndexedStatement> statement(@NonNull final String sid) {
+    return Optional.ofNullable(statements.get(sid));
+  }
+
+  public int size() {
+    return statements.size();
+  }
+
+  /**
+   * Policy elements may hold one string or an array of strings.
+   */
+  private static List<String> strings(final JsonNode node) {
+    if (node.isTextual()) {
+      return List.of(node.asText());
+    }
+    final List<String> values = new ArrayList<>(node.size());
+    for (final JsonNode value : node) {
+      values.add(value.asText());
+    }
+    return List.copyOf(values);
+  }
+}
@@ -0,0 +1,127 @@
+package software.amazon.qbusiness.permission.internal;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import lombok.NonNull;
+import software.amazon.qbusiness.permission.ResourceModel;
+
+/**
+ * Reads the statements of a resource policy one at a time and converts each with {@link PolicyParser}, so they come out
+ * as the same permission models. Statements before the requested offset are skipped at the token level without being
+ * converted, and only the text of the statement about to be returned is held.
+ */
+public final class PolicyStatementStream implements Iterator<ResourceModel> {
+  private static final JsonFactory JSON = new JsonFactory();
+
+  private final String applicationId;
+  private JsonParser parser;
+  private String pending;
+  private int position;
+
+  private PolicyStatementStream(final String applicationId, final JsonParser parser, final String pending, final int position) {
+    this.applicationId = applicationId;
+    this.parser = parser;
+    this.pending = pending;
+    this.position = position;
+  }
+
+  /**
+   * @param offset the number of statements to skip.
+   * @throws IllegalArgumentException when the policy is not valid JSON.
+   */
+  public static PolicyStatementStream open(@NonNull final String policy, final String applicationId, final int offset) {
+    try {
+      final JsonParser parser = JSON.createParser(policy);
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalArgumentException("Policy is not a JSON object");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        final String name = parser.currentName();
+        final JsonToken value = parser.nextToken();
+        if ("Statement".equals(name) && value == JsonToken.START_ARRAY) {
+          final PolicyStatementStream stream = new PolicyStatementStream(applicationId, parser, null, 0);
+          stream.skip(offset);
+          stream.prefetch();
+          return stream;
+        }
+        if ("Statement".equals(name) && value == JsonToken.START_OBJECT) {
+          final String statement = copyStatement(parser);
+          return new PolicyStatementStream(applicationId, null, offset > 0 ? null : statement, Math.min(offset, 1));
+        }
+        parser.skipChildren();
+      }
+      return new PolicyStatementStream(applicationId, null, null, 0);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Policy is not valid JSON: %s".formatted(e.getMessage()), e);
+    }
+  }
+
+  /**
+   * @return the offset of the next statement, i.e. how many statements precede it in the policy.
+   */
+  public int position() {
+    return position;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return pending != null;
+  }
+
+  @Override
+  public ResourceModel next() {
+    if (pending == null) {
+      throw new NoSuchElementException();
+    }
+    final ResourceModel model = PolicyParser.getPermissionModelFromStatement(pending, applicationId);
+    position++;
+    prefetch();
+    return model;
+  }
+
+  private void skip(final int count) throws IOException {
+    while (position < count) {
+      final JsonToken token = parser.nextToken();
+      if (token == null || token == JsonToken.END_ARRAY) {
+        parser = null;
+        return;
+      }
+      parser.skipChildren();
+      position++;
+    }
+  }
+
+  private void prefetch() {
+    pending = null;
+    if (parser == null) {
+      return;
+    }
+    try {
+      final JsonToken token = parser.nextToken();
+      if (token == null || token == JsonToken.END_ARRAY) {
+        parser = null;
+        return;
+      }
+      pending = copyStatement(parser);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Policy is not valid JSON: %s".formatted(e.getMessage()), e);
+    }
+  }
+
+  /**
+   * @return the text of the value the parser is on, leaving the parser on its last token.
+   */
+  private static String copyStatement(final JsonParser parser) throws IOException {
+    final StringWriter statement = new StringWriter();
+    try (JsonGenerator generator = JSON.createGenerator(statement)) {
+      generator.copyCurrentStructure(parser);
+    }
+    return statement.toString();
+  }
+}
@@ -1,6 +1,7 @@
 package software.amazon.qbusiness.permission;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
@@ -9,6 +10,7 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +21,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.GetPolicyRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetPolicyResponse;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -84,4 +87,80 @@ public class ListHandlerTest extends AbstractTestBase{
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
     }
+
+    @Test
+    public void handleRequest_PagesThroughLargePolicies() {
+        final ListHandler handler = new ListHandler();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().applicationId(APPLICATION_ID).build())
+            .build();
+
+        when(proxyClient.client().getPolicy(any(GetPolicyRequest.class)))
+            .thenReturn(GetPolicyResponse.builder()
+                .policy(policyWithStatements(150))
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> first =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(first.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(first.getResourceModels()).hasSize(Constants.LIST_PAGE_SIZE);
+        assertThat(first.getResourceModels().get(0).getStatementId()).isEqualTo("statement-0");
+        assertThat(first.getNextToken()).isNotNull();
+
+        request.setNextToken(first.getNextToken());
+        final ProgressEvent<ResourceModel, CallbackContext> second =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(second.getResourceModels()).hasSize(50);
+        assertThat(second.getResourceModels().get(0).getStatementId()).isEqualTo("statement-100");
+        assertThat(second.getNextToken()).isNull();
+    }
+
+    @Test
+    public void handleRequest_RestartsWhenThePolicyChangesBetweenPages() {
+        final ListHandler handler = new ListHandler();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().applicationId(APPLICATION_ID).build())
+            .build();
+
+        when(proxyClient.client().getPolicy(any(GetPolicyRequest.class)))
+            .thenReturn(GetPolicyResponse.builder().policy(policyWithStatements(150)).build())
+            .thenReturn(GetPolicyResponse.builder().policy(policyWithStatements(120)).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> first =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        request.setNextToken(first.getNextToken());
+        final ProgressEvent<ResourceModel, CallbackContext> second =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(second.getResourceModels()).hasSize(Constants.LIST_PAGE_SIZE);
+        assertThat(second.getResourceModels().get(0).getStatementId()).isEqualTo("statement-0");
+        assertThat(second.getNextToken()).isNotNull();
+    }
+
+    @Test
+    public void handleRequest_RejectsAnInvalidNextToken() {
+        final ListHandler handler = new ListHandler();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().applicationId(APPLICATION_ID).build())
+            .nextToken("not-a-token")
+            .build();
+
+        when(proxyClient.client().getPolicy(any(GetPolicyRequest.class)))
+            .thenReturn(GetPolicyResponse.builder().policy(MOCK_POLICY).build());
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
+            .isInstanceOf(CfnInvalidRequestException.class);
+    }
+
+    private static String policyWithStatements(final int count) {
+        final List<String> statements = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            statements.add("""
+                {"Sid": "statement-%d", "Effect": "Allow", "Principal": {"AWS": "principal-%d"}, "Action": ["Action1"]}"""
+                .formatted(i, i));
+        }
+        return "{\"Version\": \"2012-10-17\", \"Statement\": [" + String.join(",", statements) + "]}";
+    }
 }
@@ -0,0 +1,141 @@
+package software.amazon.qbusiness.permission.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import software.amazon.qbusiness.permission.ResourceModel;
+
+class PolicyCompactionPlannerTest {
+  private static final String APPLICATION_ID = "app-123";
+  private static final String RESOURCE = "arn:aws:qbusiness:us-west-2:933142937839:application/app-123";
+  private static final String ROLE_1 = "arn:aws:iam::123:role/role1";
+  private static final String ROLE_2 = "arn:aws:iam::123:role/role2";
+  private static final String SEARCH = "qbusiness:SearchRelevantContent";
+  private static final String GET = "qbusiness:GetRelevantContent";
+
+  private static ResourceModel permission(final String statementId, final String principal, final String... actions) {
+    return ResourceModel.builder()
+        .applicationId(APPLICATION_ID)
+        .statementId(statementId)
+        .principal(principal)
+        .actions(List.of(actions))
+        .build();
+  }
+
+  @Test
+  void testThatGrantsToTheSamePrincipalShareAStatement() {
+    CompactionPlan plan = new PolicyCompactionPlanner(false)
+        .track(permission("search", ROLE_1, SEARCH))
+        .track(permission("get", ROLE_1, GET, SEARCH))
+        .track(permission("other", ROLE_2, GET))
+        .plan();
+
+    assertEquals(2, plan.statements().size());
+    assertEquals(List.of(GET, SEARCH), plan.statements().get(0).actions());
+    assertEquals(plan.index().get("search"), plan.index().get("get"));
+    assertEquals(1, plan.index().get("other").size());
+  }
+
+  @Test
+  void testThatPrincipalsWithTheSameActionsOnlyShareWhenAllowed() {
+    PolicyCompactionPlanner planner = new PolicyCompactionPlanner(true)
+        .track(permission("one", ROLE_1, GET))
+        .track(permission("two", ROLE_2, GET));
+
+    CompactionPlan plan = planner.plan();
+    assertEquals(1, plan.statements().size());
+    assertEquals(List.of(ROLE_1, ROLE_2), plan.statements().get(0).principals());
+
+    assertEquals(2, new PolicyCompactionPlanner(false)
+        .track(permission("one", ROLE_1, GET))
+        .track(permission("two", ROLE_2, GET))
+        .plan().statements().size());
+  }
+
+  @Test
+  void testThatStatementsStayWithinTheActionLimit() {
+    List<String> actions = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      actions.add("qbusiness:Action%02d".formatted(i));
+    }
+    CompactionPlan plan = new PolicyCompactionPlanner(false)
+        .track(permission("many", ROLE_1, actions.toArray(new String[0])))
+        .plan();
+
+    assertEquals(3, plan.statements().size());
+    assertTrue(plan.statements().stream().allMatch(statement -> statement.actions().size() <= PolicyCompactionPlanner.MAX_ACTIONS_PER_STATEMENT));
+    assertEquals(3, plan.index().get("many").size());
+  }
+
+  @Test
+  void testThatPermissionsResolveFromTheWrittenPolicy() {
+    CompactionPlan plan = new PolicyCompactionPlanner(true)
+        .track(permission("one", ROLE_1, GET))
+        .track(permission("two", ROLE_2, GET))
+        .track(permission("three", ROLE_2, SEARCH))
+        .plan();
+    PolicyStatementIndex policy = PolicyStatementIndex.parse(plan.toPolicyJson(RESOURCE));
+
+    assertEquals(plan.statements().size(), policy.size());
+    Optional<ResourceModel> resolved = plan.resolve("three", policy);
+    assertTrue(resolved.isPresent());
+    assertEquals(ROLE_2, resolved.get().getPrincipal());
+    assertEquals(List.of(SEARCH), resolved.get().getActions());
+    assertFalse(plan.resolve("missing", policy).isPresent());
+  }
+
+  @Test
+  void testThatAPermissionDoesNotResolveOnceItsStatementIsGone() {
+    CompactionPlan plan = new PolicyCompactionPlanner(false)
+        .track(permission("one", ROLE_1, GET))
+        .plan();
+    CompactionPlan other = new PolicyCompactionPlanner(false)
+        .track(permission("one", ROLE_2, GET))
+        .plan();
+
+    assertFalse(plan.resolve("one", PolicyStatementIndex.parse(other.toPolicyJson(RESOURCE))).isPresent());
+  }
+
+  @Test
+  void testThatSingleAndRepeatedPlansAreStable() {
+    PolicyCompactionPlanner planner = new PolicyCompactionPlanner(false)
+        .track(permission("one", ROLE_1, GET))
+        .track(permission("two", ROLE_2, SEARCH));
+
+    assertEquals(planner.plan().toPolicyJson(RESOURCE), planner.plan().toPolicyJson(RESOURCE));
+    assertEquals(1, planner.untrack("two").plan().statements().size());
+  }
+
+  @Test
+  void testThatSingularPolicyElementsAreIndexed() {
+    String policy = """
+        {
+            "Version": "2012-10-17",
+            "Statement": {
+                "Sid": "test-statement",
+                "Effect": "Allow",
+                "Principal": {"AWS": "%s"},
+                "Action": "%s",
+                "Resource": ["%s"]
+            }
+        }
+        """.formatted(ROLE_1, GET, RESOURCE);
+
+    PolicyStatementIndex.IndexedStatement statement = PolicyStatementIndex.parse(policy).statement("test-statement").orElseThrow();
+    assertEquals(List.of(ROLE_1), statement.principals());
+    assertEquals(List.of(GET), statement.actions());
+  }
+
+  @Test
+  void testThatInvalidInputIsRejected() {
+    assertThrows(IllegalArgumentException.class, () -> PolicyStatementIndex.parse("{not json"));
+    assertThrows(IllegalArgumentException.class,
+        () -> new PolicyCompactionPlanner(false).track(ResourceModel.builder().statementId("id").build()));
+  }
+}
@@ -0,0 +1,80 @@
+package software.amazon.qbusiness.permission.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import software.amazon.qbusiness.permission.ResourceModel;
+
+class PolicyStatementStreamTest {
+  private static final String APPLICATION_ID = "app-123";
+  private static final String POLICY = """
+      {
+          "Version": "2012-10-17",
+          "Statement": [
+              {"Sid": "one", "Effect": "Allow", "Principal": {"AWS": "role1"}, "Action": "qbusiness:Action1", "Resource": ["res"]},
+              {"Sid": "two", "Effect": "Allow", "Principal": {"AWS": ["role2"]}, "Action": ["qbusiness:Action1", "qbusiness:Action2"], "Resource": ["res"]},
+              {"Sid": "three", "Effect": "Allow", "Principal": {"AWS": "role3"}, "Action": ["qbusiness:Action3"], "Resource": ["res"]}
+          ]
+      }
+      """;
+
+  private static List<ResourceModel> drain(final PolicyStatementStream stream) {
+    final List<ResourceModel> models = new ArrayList<>();
+    stream.forEachRemaining(models::add);
+    return models;
+  }
+
+  @Test
+  void testThatItMatchesThePolicyParser() {
+    assertEquals(PolicyParser.getPermissionModelsFromPolicy(POLICY, APPLICATION_ID),
+        drain(PolicyStatementStream.open(POLICY, APPLICATION_ID, 0)));
+  }
+
+  @Test
+  void testThatItResumesFromAnOffset() {
+    PolicyStatementStream stream = PolicyStatementStream.open(POLICY, APPLICATION_ID, 1);
+
+    assertEquals(1, stream.position());
+    assertEquals("two", stream.next().getStatementId());
+    assertEquals(2, stream.position());
+    assertTrue(stream.hasNext());
+    assertFalse(PolicyStatementStream.open(POLICY, APPLICATION_ID, 3).hasNext());
+    assertFalse(PolicyStatementStream.open(POLICY, APPLICATION_ID, 10).hasNext());
+  }
+
+  @Test
+  void testThatASingleStatementObjectIsRead() {
+    String policy = """
+        {"Statement": {"Sid": "only", "Effect": "Allow", "Principal": {"AWS": "role1"}, "Action": "qbusiness:Action1"}}
+        """;
+
+    assertEquals(List.of("only"), drain(PolicyStatementStream.open(policy, APPLICATION_ID, 0)).stream()
+        .map(ResourceModel::getStatementId).toList());
+    assertFalse(PolicyStatementStream.open(policy, APPLICATION_ID, 1).hasNext());
+  }
+
+  @Test
+  void testThatStatementsWithSeveralPrincipalsAreRejected() {
+    String policy = """
+        {"Statement": [{"Sid": "many", "Principal": {"AWS": ["role1", "role2"]}, "Action": "qbusiness:Action1"}]}
+        """;
+
+    assertThrows(IllegalStateException.class, () -> PolicyStatementStream.open(policy, APPLICATION_ID, 0).next());
+  }
+
+  @Test
+  void testThatPageTokensRoundTrip() {
+    PolicyPageToken token = PolicyPageToken.first(POLICY).advance(2);
+    PolicyPageToken decoded = PolicyPageToken.decode(token.encode());
+
+    assertEquals(token, decoded);
+    assertTrue(decoded.samePolicyAs(PolicyPageToken.first(POLICY)));
+    assertFalse(decoded.samePolicyAs(PolicyPageToken.first(POLICY.replace("role3", "role4"))));
+    assertThrows(IllegalArgumentException.class, () -> PolicyPageToken.decode("not-a-token"));
+  }
+}
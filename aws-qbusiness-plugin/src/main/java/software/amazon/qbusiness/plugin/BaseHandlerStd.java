@@ -3,13 +3,13 @@ package software.amazon.qbusiness.plugin;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.GetPluginRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetPluginResponse;
-import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
-import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.client.ThrottlingAwareProxyClient;
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
   @Override
@@ -22,7 +22,9 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
       proxy,
       request,
       callbackContext != null ? callbackContext : new CallbackContext(),
-      proxy.newProxy(ClientBuilder::getClient),
+      ThrottlingAwareProxyClient.wrap(
+          proxy.newProxy(ClientBuilder::getClient), request.getAwsAccountId(), TimeBudget.startingNow(), logger
+      ),
       logger
     );
   }
@@ -34,10 +36,6 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     final ProxyClient<QBusinessClient> proxyClient,
     final Logger logger);
 
-  protected ListTagsForResourceResponse callListTags(ListTagsForResourceRequest request, ProxyClient<QBusinessClient> client) {
-    return client.injectCredentialsAndInvokeV2(request, client.client()::listTagsForResource);
-  }
-
   protected GetPluginResponse getPlugin(ResourceModel model, ProxyClient<QBusinessClient> proxyClient) {
     var request = GetPluginRequest.builder()
             .applicationId(model.getApplicationId())
@@ -50,5 +48,4 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
     var client = proxyClient.client();
     return proxyClient.injectCredentialsAndInvokeV2(request, client::getPlugin);
   }
-
 }
@@ -1,10 +1,24 @@
 package software.amazon.qbusiness.plugin;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.qbusiness.common.stabilization.GetResponseAware;
+import software.amazon.qbusiness.common.stabilization.LastGetResponse;
+import software.amazon.qbusiness.common.stabilization.StabilizationAware;
+import software.amazon.qbusiness.common.stabilization.StabilizationProgress;
 
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
-public class CallbackContext extends StdCallbackContext {
+public class CallbackContext extends StdCallbackContext implements StabilizationAware, GetResponseAware {
+  private Map<String, StabilizationProgress> stabilizationProgress = new HashMap<>();
+
+  @JsonIgnore
+  @lombok.ToString.Exclude
+  private transient LastGetResponse lastGetResponse = new LastGetResponse();
 }
@@ -23,15 +23,25 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.logging.HandlerLogger;
+import software.amazon.qbusiness.common.logging.HandlerLogger.Level;
+import software.amazon.qbusiness.common.stabilization.ParentReadinessGate;
 
 public class CreateHandler extends BaseHandlerStd {
   private Logger logger;
+  private HandlerLogger handlerLogger;
 
   private static final Constant DEFAULT_BACK_OFF_STRATEGY = Constant.of()
       .timeout(Duration.ofHours(4))
       .delay(Duration.ofSeconds(5))
       .build();
+  private static final String STAGE_AWAIT_APPLICATION = "Create::AwaitApplication";
+
   private final Constant backOffStrategy;
+  private final CrudEngine<ResourceModel, CallbackContext, GetPluginResponse> engine = PluginDescriptor.ENGINE;
+  private final ParentReadinessGate parentGate;
 
   public CreateHandler() {
     this(DEFAULT_BACK_OFF_STRATEGY);
@@ -39,6 +49,7 @@ public class CreateHandler extends BaseHandlerStd {
 
   public CreateHandler(Constant backOffStrategy) {
     this.backOffStrategy = backOffStrategy;
+    this.parentGate = new ParentReadinessGate(backOffStrategy);
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -49,17 +60,21 @@ public class CreateHandler extends BaseHandlerStd {
       final Logger logger) {
 
     this.logger = logger;
+    this.handlerLogger = HandlerLogger.wrap(logger);
+    final TimeBudget budget = TimeBudget.startingNow();
 
     this.logger.log("[INFO] - [StackId: %s, ApplicationId: %s, PluginId: %s] Entering Create Handler"
         .formatted(request.getStackId(), request.getDesiredResourceState().getApplicationId(), request.getDesiredResourceState().getPluginId()));
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> engine.awaitApplication(STAGE_AWAIT_APPLICATION, progress, parentGate, budget, proxyClient,
+            ResourceModel::getApplicationId, logger))
         .then(progress ->
             proxy.initiate("AWS-QBusiness-Plugin::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.translateToCreateRequest(model, request))
                 .backoffDelay(backOffStrategy)
                 .makeServiceCall((awsRequest, clientProxyClient) -> callCreatePlugin(awsRequest, clientProxyClient, progress.getResourceModel()))
-                .stabilize((createReq, createResponse, client, model, context) -> isStabilized(request, client, model, logger))
+                .stabilize((createReq, createResponse, client, model, context) -> isStabilized(request, client, model, context, logger))
                 .handleError((createPluginRequest, error, client, model, context) -> handleError(
                     model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_PLUGIN
                 ))
@@ -70,6 +85,8 @@ public class CreateHandler extends BaseHandlerStd {
             return progress;
           }
 
+          // the update changes the plugin state, so Read must not reuse the response that saw it become ready
+          progress.getCallbackContext().getLastGetResponse().clear();
           return proxy.initiate("AWS-QBusiness-Plugin::PostCreateUpdate", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
               .translateToServiceRequest(Translator::translateToPostCreateUpdateRequest)
               .makeServiceCall(this::callUpdatePlugin)
@@ -103,33 +120,39 @@ public class CreateHandler extends BaseHandlerStd {
       final ResourceHandlerRequest<ResourceModel> request,
       ProxyClient<QBusinessClient> proxyClient,
       ResourceModel model,
+      CallbackContext context,
       Logger logger
   ) {
-    logger.log("[INFO] Checking for Create Complete for Plugin process in stack: %s with ID: %s, For Account: %s, Application: %s"
-            .formatted(request.getStackId(), model.getPluginId(), request.getAwsAccountId(), model.getApplicationId())
-    );
+    handlerLogger.event(Level.DEBUG, "Checking for Create Complete for Plugin")
+        .field("stackId", request.getStackId())
+        .field("pluginId", model.getPluginId())
+        .field("accountId", request.getAwsAccountId())
+        .field("applicationId", model.getApplicationId())
+        .log();
 
     GetPluginResponse getPluginRes = getPlugin(model, proxyClient);
     var status = getPluginRes.buildStatus();
 
     if (PluginBuildStatus.READY.equals(status)) {
-      logger.log("[INFO] %s with ID: %s, for App: %s, stack ID: %s has stabilized".formatted(
-              ResourceModel.TYPE_NAME, model.getPluginId(), model.getApplicationId(), request.getStackId()
-      ));
+      handlerLogger.info("%s with ID: %s, for App: %s, stack ID: %s has stabilized",
+          ResourceModel.TYPE_NAME, model.getPluginId(), model.getApplicationId(), request.getStackId()
+      );
+      context.getLastGetResponse().record(primaryIdentifier(model), getPluginRes);
 
       return true;
     }
 
     if (PluginBuildStatus.CREATE_IN_PROGRESS.equals(status)) {
-      logger.log("[INFO] %s with ID: %s, for App: %s, stack ID: %s is still stabilizing".formatted(
-              ResourceModel.TYPE_NAME, model.getPluginId(), model.getApplicationId(), request.getStackId()
-      ));
+      handlerLogger.event(Level.DEBUG, "Plugin is still stabilizing")
+          .field("pluginId", model.getPluginId())
+          .field("buildStatus", getPluginRes.buildStatusAsString())
+          .log();
       return false;
     }
 
-    logger.log("[INFO] %s with ID: %s, for App: %s, stack ID: %s has failed to stabilize".formatted(
-            ResourceModel.TYPE_NAME, model.getPluginId(), model.getApplicationId(), request.getStackId()
-    ));
+    handlerLogger.error("%s with ID: %s, for App: %s, stack ID: %s has failed to stabilize with build status: %s",
+        ResourceModel.TYPE_NAME, model.getPluginId(), model.getApplicationId(), request.getStackId(), getPluginRes.buildStatusAsString()
+    );
 
     throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getPluginId(), null);
   }
@@ -4,6 +4,8 @@ import static software.amazon.qbusiness.common.ErrorUtils.handleError;
 import static software.amazon.qbusiness.plugin.Constants.API_DELETE_PLUGIN;
 import static software.amazon.qbusiness.plugin.Utils.primaryIdentifier;
 
+import java.time.Duration;
+
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.DeletePluginRequest;
 import software.amazon.awssdk.services.qbusiness.model.DeletePluginResponse;
@@ -16,10 +18,29 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.stabilization.MutationGate;
 
 public class DeleteHandler extends BaseHandlerStd {
+    private static final Constant DEFAULT_BACK_OFF_STRATEGY = Constant.of()
+        .timeout(Duration.ofHours(4))
+        .delay(Duration.ofSeconds(10))
+        .build();
+
+    private final CrudEngine<ResourceModel, CallbackContext, GetPluginResponse> engine = PluginDescriptor.ENGINE;
+    private final MutationGate mutationGate;
     private Logger logger;
 
+    public DeleteHandler() {
+        this(DEFAULT_BACK_OFF_STRATEGY);
+    }
+
+    public DeleteHandler(Constant backOffStrategy) {
+        this.mutationGate = new MutationGate(backOffStrategy);
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -28,11 +49,13 @@ public class DeleteHandler extends BaseHandlerStd {
         final Logger logger) {
 
         this.logger = logger;
+        final TimeBudget budget = TimeBudget.startingNow();
 
         this.logger.log("[INFO] - [StackId: %s, ApplicationId: %s, PluginId: %s] Entering Delete Handler"
         .formatted(request.getStackId(), request.getDesiredResourceState().getApplicationId(), request.getDesiredResourceState().getPluginId()));
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> engine.awaitMutable("Delete::AwaitMutable", progress, mutationGate, budget, proxyClient, logger))
         .then(progress ->
             proxy.initiate("AWS-QBusiness-Retriever::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToDeleteRequest)
@@ -25,7 +25,7 @@ public class ListHandler extends BaseHandlerStd {
     var applicationId = request.getDesiredResourceState().getApplicationId();
     final ListPluginsRequest listPluginsRequest = Translator.translateToListRequest(applicationId, request.getNextToken());
 
-    ListPluginsResponse listPluginsResponse = proxy.injectCredentialsAndInvokeV2(listPluginsRequest, proxyClient.client()::listPlugins);
+    ListPluginsResponse listPluginsResponse = proxyClient.injectCredentialsAndInvokeV2(listPluginsRequest, proxyClient.client()::listPlugins);
 
     String nextToken = listPluginsResponse.nextToken();
 
@@ -0,0 +1,39 @@
+package software.amazon.qbusiness.plugin;
+
+import static software.amazon.qbusiness.plugin.Constants.API_GET_PLUGIN;
+
+import java.util.Set;
+
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.GetPluginResponse;
+import software.amazon.awssdk.services.qbusiness.model.PluginBuildStatus;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.handler.Operation;
+import software.amazon.qbusiness.common.handler.ResourceDescriptor;
+
+final class PluginDescriptor {
+  static final ResourceDescriptor<ResourceModel, GetPluginResponse> DESCRIPTOR = ResourceDescriptor.<ResourceModel, GetPluginResponse>builder()
+      .typeName(ResourceModel.TYPE_NAME)
+      .callGraphPrefix("AWS-QBusiness-Plugin")
+      .primaryIdentifier(Utils::primaryIdentifier)
+      .arnBuilder(Utils::buildPluginArn)
+      .get(Operation.of(API_GET_PLUGIN, Translator::translateToReadRequest, QBusinessClient::getPlugin))
+      .responseType(GetPluginResponse.class)
+      .fromGetResponse(Translator::translateFromReadResponse)
+      .toListTagsRequest(Translator::translateToListTagsRequest)
+      .withTags(Translator::translateFromReadResponseWithTags)
+      .statusExtractor(GetPluginResponse::buildStatusAsString)
+      .stableStates(Set.of(PluginBuildStatus.READY.toString()))
+      .failedStates(Set.of(
+          PluginBuildStatus.CREATE_FAILED.toString(), PluginBuildStatus.UPDATE_FAILED.toString(), PluginBuildStatus.DELETE_FAILED.toString()
+      ))
+      .transitionalStates(Set.of(PluginBuildStatus.CREATE_IN_PROGRESS.toString(), PluginBuildStatus.UPDATE_IN_PROGRESS.toString()))
+      // GetPlugin does not say why a build failed.
+      .failureReason(response -> null)
+      .build();
+
+  static final CrudEngine<ResourceModel, CallbackContext, GetPluginResponse> ENGINE = new CrudEngine<>(DESCRIPTOR);
+
+  private PluginDescriptor() {
+  }
+}
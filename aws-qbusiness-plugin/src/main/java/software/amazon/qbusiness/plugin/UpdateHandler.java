@@ -18,16 +18,24 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
-import software.amazon.qbusiness.common.TagUtils;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.logging.HandlerLogger;
+import software.amazon.qbusiness.common.logging.HandlerLogger.Level;
+import software.amazon.qbusiness.common.stabilization.MutationGate;
 
 public class UpdateHandler extends BaseHandlerStd {
   private Logger logger;
+  private HandlerLogger handlerLogger;
 
   private static final Constant DEFAULT_BACK_OFF_STRATEGY = Constant.of()
       .timeout(Duration.ofHours(4))
       .delay(Duration.ofSeconds(10))
       .build();
+
   private final Constant backOffStrategy;
+  private final CrudEngine<ResourceModel, CallbackContext, GetPluginResponse> engine = PluginDescriptor.ENGINE;
+  private final MutationGate mutationGate;
 
   public UpdateHandler() {
     this(DEFAULT_BACK_OFF_STRATEGY);
@@ -36,6 +44,7 @@ public class UpdateHandler extends BaseHandlerStd {
   public UpdateHandler(Constant backOffStrategy) {
 
     this.backOffStrategy = backOffStrategy;
+    this.mutationGate = new MutationGate(backOffStrategy);
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -46,26 +55,26 @@ public class UpdateHandler extends BaseHandlerStd {
       final Logger logger) {
 
     this.logger = logger;
+    this.handlerLogger = HandlerLogger.wrap(logger);
+    final TimeBudget budget = TimeBudget.startingNow();
 
     this.logger.log("[INFO] - [StackId: %s, ApplicationId: %s, PluginId: %s] Entering Update Handler"
         .formatted(request.getStackId(), request.getDesiredResourceState().getApplicationId(), request.getDesiredResourceState().getPluginId()));
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> engine.awaitMutable("Update::AwaitMutable", progress, mutationGate, budget, proxyClient, logger))
         .then(progress ->
             proxy.initiate("AWS-QBusiness-Plugin::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToUpdateRequest)
                 .backoffDelay(backOffStrategy)
                 .makeServiceCall(this::callUpdatePlugin)
-                .stabilize((updateReq, updateResponse, client, model, context) -> isStabilized(request, client, model, logger))
+                .stabilize((updateReq, updateResponse, client, model, context) -> isStabilized(request, client, model, context, logger))
                 .handleError((describeApplicationRequest, error, client, model, context) -> handleError(
                     model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_UPDATE_PLUGIN
                 ))
                 .progress())
 
-        .then(progress -> {
-          var arn = Utils.buildPluginArn(request, progress.getResourceModel());
-          return TagUtils.updateTags(ResourceModel.TYPE_NAME, progress, request, arn, proxyClient, logger);
-        })
+        .then(progress -> engine.updateTags(progress, request, proxyClient, logger))
         .then(progress ->
             new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger)
         );
@@ -80,33 +89,39 @@ public class UpdateHandler extends BaseHandlerStd {
       final ResourceHandlerRequest<ResourceModel> request,
       ProxyClient<QBusinessClient> proxyClient,
       ResourceModel model,
+      CallbackContext context,
       Logger logger
   ) {
-    logger.log("[INFO] Checking for Update Complete for Plugin process in stack: %s with ID: %s, For Account: %s, Application: %s"
-        .formatted(request.getStackId(), model.getPluginId(), request.getAwsAccountId(), model.getApplicationId())
-    );
+    handlerLogger.event(Level.DEBUG, "Checking for Update Complete for Plugin")
+        .field("stackId", request.getStackId())
+        .field("pluginId", model.getPluginId())
+        .field("accountId", request.getAwsAccountId())
+        .field("applicationId", model.getApplicationId())
+        .log();
 
     GetPluginResponse getPluginRes = getPlugin(model, proxyClient);
     var status = getPluginRes.buildStatus();
 
     if (PluginBuildStatus.READY.equals(status)) {
-      logger.log("[INFO] %s with ID: %s, for App: %s, stack ID: %s has stabilized".formatted(
+      handlerLogger.info("%s with ID: %s, for App: %s, stack ID: %s has stabilized",
           ResourceModel.TYPE_NAME, model.getPluginId(), model.getApplicationId(), request.getStackId()
-      ));
+      );
+      context.getLastGetResponse().record(primaryIdentifier(model), getPluginRes);
 
       return true;
     }
 
     if (PluginBuildStatus.UPDATE_IN_PROGRESS.equals(status)) {
-      logger.log("[INFO] %s with ID: %s, for App: %s, stack ID: %s is still stabilizing".formatted(
-          ResourceModel.TYPE_NAME, model.getPluginId(), model.getApplicationId(), request.getStackId()
-      ));
+      handlerLogger.event(Level.DEBUG, "Plugin is still stabilizing")
+          .field("pluginId", model.getPluginId())
+          .field("buildStatus", getPluginRes.buildStatusAsString())
+          .log();
       return false;
     }
 
-    logger.log("[INFO] %s with ID: %s, for App: %s, stack ID: %s has failed to stabilize".formatted(
-        ResourceModel.TYPE_NAME, model.getPluginId(), model.getApplicationId(), request.getStackId()
-    ));
+    handlerLogger.error("%s with ID: %s, for App: %s, stack ID: %s has failed to stabilize with build status: %s",
+        ResourceModel.TYPE_NAME, model.getPluginId(), model.getApplicationId(), request.getStackId(), getPluginRes.buildStatusAsString()
+    );
 
     throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getPluginId(), null);
   }
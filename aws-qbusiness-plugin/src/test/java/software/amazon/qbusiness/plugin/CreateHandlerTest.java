@@ -27,12 +27,14 @@ import org.mockito.MockitoAnnotations;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.AccessDeniedException;
+import software.amazon.awssdk.services.qbusiness.model.ApplicationStatus;
 import software.amazon.awssdk.services.qbusiness.model.ConflictException;
 import software.amazon.awssdk.services.qbusiness.model.CreatePluginRequest;
 import software.amazon.awssdk.services.qbusiness.model.CreatePluginResponse;
 import software.amazon.awssdk.services.qbusiness.model.PluginBuildStatus;
 import software.amazon.awssdk.services.qbusiness.model.QBusinessException;
 import software.amazon.awssdk.services.qbusiness.model.GetApplicationRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationResponse;
 import software.amazon.awssdk.services.qbusiness.model.GetDataSourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetPluginRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetPluginResponse;
@@ -90,6 +92,11 @@ public class CreateHandlerTest extends AbstractTestBase {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         proxyClient = MOCK_PROXY(proxy, qBusinessClient);
         this.underTest = new CreateHandler();
+        when(qBusinessClient.getApplication(any(GetApplicationRequest.class)))
+                .thenReturn(GetApplicationResponse.builder()
+                        .applicationId(APPLICATION_ID)
+                        .status(ApplicationStatus.ACTIVE)
+                        .build());
 
         serviceAuthConfiguration = PluginAuthConfiguration.builder()
                 .basicAuthConfiguration(BasicAuthConfiguration.builder()
@@ -134,6 +141,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     @AfterEach
     public void tear_down() throws Exception {
         verify(qBusinessClient, atLeastOnce()).serviceName();
+        verify(qBusinessClient).getApplication(any(GetApplicationRequest.class));
         verifyNoMoreInteractions(qBusinessClient);
         testMocks.close();
     }
@@ -336,7 +344,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
       // verify results
       verify(qBusinessClient).createPlugin(any(CreatePluginRequest.class));
-      verify(qBusinessClient, times(2)).getPlugin(any(GetPluginRequest.class));
+      verify(qBusinessClient, times(1)).getPlugin(any(GetPluginRequest.class));
       verify(qBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
 
       assertThat(response).isNotNull();
@@ -44,6 +44,7 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
 
 public class DeleteHandlerTest extends AbstractTestBase {
 
@@ -72,7 +73,11 @@ public class DeleteHandlerTest extends AbstractTestBase {
         testMocks = MockitoAnnotations.openMocks(this);
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         proxyClient = MOCK_PROXY(proxy, qBusinessClient);
-        this.underTest = new DeleteHandler();
+        var testBackOff = Constant.of()
+            .delay(Duration.ofSeconds(5))
+            .timeout(Duration.ofSeconds(45))
+        .build();
+        this.underTest = new DeleteHandler(testBackOff);
 
         resourceModel = ResourceModel.builder()
                     .applicationId(APPLICATION_ID)
@@ -100,12 +105,14 @@ public class DeleteHandlerTest extends AbstractTestBase {
 
         when(proxyClient.client().deletePlugin(any(DeletePluginRequest.class)))
                 .thenReturn(DeletePluginResponse.builder().build());
-        when(proxyClient.client().getPlugin(any(GetPluginRequest.class))).thenThrow(ResourceNotFoundException.builder().build());
+        when(proxyClient.client().getPlugin(any(GetPluginRequest.class)))
+                .thenReturn(readyPlugin())
+                .thenThrow(ResourceNotFoundException.builder().build());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = underTest.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         verify(qBusinessClient).deletePlugin(any(DeletePluginRequest.class));
-        verify(qBusinessClient).getPlugin(any(GetPluginRequest.class));
+        verify(qBusinessClient, times(2)).getPlugin(any(GetPluginRequest.class));
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -123,12 +130,30 @@ public class DeleteHandlerTest extends AbstractTestBase {
 
     }
 
+    @Test
+    public void testThatItWaitsForAPluginBeingUpdatedBeforeDeleting() {
+
+        when(proxyClient.client().deletePlugin(any(DeletePluginRequest.class)))
+                .thenReturn(DeletePluginResponse.builder().build());
+        when(proxyClient.client().getPlugin(any(GetPluginRequest.class)))
+                .thenReturn(readyPlugin().toBuilder().buildStatus(PluginBuildStatus.UPDATE_IN_PROGRESS).build())
+                .thenReturn(readyPlugin())
+                .thenThrow(ResourceNotFoundException.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = underTest.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.isSuccess()).isTrue();
+        verify(qBusinessClient).deletePlugin(any(DeletePluginRequest.class));
+        verify(qBusinessClient, times(3)).getPlugin(any(GetPluginRequest.class));
+    }
+
     @Test
     public void handleRequest_StabilizeFromDeleteInProgressToDeleted() {
 
         when(proxyClient.client().deletePlugin(any(DeletePluginRequest.class)))
                 .thenReturn(DeletePluginResponse.builder().build());
         when(proxyClient.client().getPlugin(any(GetPluginRequest.class)))
+                .thenReturn(readyPlugin())
                 .thenReturn(GetPluginResponse.builder()
                         .applicationId(APPLICATION_ID)
                         .pluginId(PLUGIN_ID)
@@ -139,7 +164,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
         final ProgressEvent<ResourceModel, CallbackContext> response = underTest.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
         verify(qBusinessClient).deletePlugin(any(DeletePluginRequest.class));
-        verify(qBusinessClient, times(2)).getPlugin(any(GetPluginRequest.class));
+        verify(qBusinessClient, times(3)).getPlugin(any(GetPluginRequest.class));
     }
 
     @Test
@@ -158,7 +183,15 @@ public class DeleteHandlerTest extends AbstractTestBase {
                 .isInstanceOf(CfnNotStabilizedException.class);;
 
         verify(qBusinessClient).deletePlugin(any(DeletePluginRequest.class));
-        verify(qBusinessClient, times(1)).getPlugin(any(GetPluginRequest.class));
+        verify(qBusinessClient, times(2)).getPlugin(any(GetPluginRequest.class));
+    }
+
+    private static GetPluginResponse readyPlugin() {
+        return GetPluginResponse.builder()
+                .applicationId(APPLICATION_ID)
+                .pluginId(PLUGIN_ID)
+                .buildStatus(PluginBuildStatus.READY)
+                .build();
     }
 
     private static Stream<Arguments> serviceErrorAndHandlerCodes() {
@@ -177,6 +210,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
     public void testThatItReturnsExpectedHandlerErrorCodeForServiceError(QBusinessException serviceError, HandlerErrorCode expectedErrorCode) {
 
       // set up test
+      when(qBusinessClient.getPlugin(any(GetPluginRequest.class))).thenReturn(readyPlugin());
       when(qBusinessClient.deletePlugin(any(DeletePluginRequest.class))).thenThrow(serviceError);
 
       // call method under test
@@ -188,6 +222,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
       assertThat(responseProgress).isNotNull();
       assertThat(responseProgress.isSuccess()).isFalse();
       assertThat(responseProgress.getStatus()).isEqualTo(OperationStatus.FAILED);
+      verify(qBusinessClient).getPlugin(any(GetPluginRequest.class));
       verify(qBusinessClient).deletePlugin(any(DeletePluginRequest.class));
       assertThat(responseProgress.getErrorCode()).isEqualTo(expectedErrorCode);
       assertThat(responseProgress.getResourceModels()).isNull();
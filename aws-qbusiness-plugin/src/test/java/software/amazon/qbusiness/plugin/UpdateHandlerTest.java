@@ -273,6 +273,11 @@ public class UpdateHandlerTest extends AbstractTestBase {
     @Test
     public void handleRequest_StabilizeFromUpdateInProgressToReady() {
         when(qBusinessClient.getPlugin(any(GetPluginRequest.class)))
+                .thenReturn(GetPluginResponse.builder()
+                        .applicationId(APPLICATION_ID)
+                        .pluginId(PLUGIN_ID)
+                        .buildStatus(PluginBuildStatus.READY)
+                        .build())
                 .thenReturn(GetPluginResponse.builder()
                         .applicationId(APPLICATION_ID)
                         .pluginId(PLUGIN_ID)
@@ -366,7 +371,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         )).isInstanceOf(CfnNotStabilizedException.class);
 
         verify(qBusinessClient).updatePlugin(any(UpdatePluginRequest.class));
-        verify(qBusinessClient, times(1)).getPlugin(
+        verify(qBusinessClient, times(2)).getPlugin(
                 argThat((ArgumentMatcher<GetPluginRequest>) t ->
                         t.applicationId().equals(APPLICATION_ID) && t.pluginId().equals(PLUGIN_ID)
                 )
@@ -7,6 +7,7 @@ import java.net.URI;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.qbusiness.common.client.ThrottlingAwareProxyClient;
 
 public class ClientBuilder {
 
@@ -19,6 +20,7 @@ public class ClientBuilder {
     return QBusinessClient.builder()
         .httpClient(LambdaWrapper.HTTP_CLIENT)
         .endpointOverride(URI.create(urlString))
+        .overrideConfiguration(ThrottlingAwareProxyClient.CLIENT_OVERRIDE_CONFIGURATION)
         .build();
   }
 }
@@ -9,12 +9,17 @@ import java.time.Duration;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.CreateRetrieverRequest;
 import software.amazon.awssdk.services.qbusiness.model.CreateRetrieverResponse;
+import software.amazon.awssdk.services.qbusiness.model.GetRetrieverResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.stabilization.DeadlineAwareStabilizer;
+import software.amazon.qbusiness.common.stabilization.ParentReadinessGate;
 
 public class CreateHandler extends BaseHandlerStd {
 
@@ -22,7 +27,12 @@ public class CreateHandler extends BaseHandlerStd {
       .timeout(Duration.ofHours(4))
       .delay(Duration.ofSeconds(5))
       .build();
+  private static final String STAGE_AWAIT_APPLICATION = "Create::AwaitApplication";
+
+  private final CrudEngine<ResourceModel, CallbackContext, GetRetrieverResponse> engine = RetrieverDescriptor.ENGINE;
   private final Constant backOffStrategy;
+  private final DeadlineAwareStabilizer stabilizer;
+  private final ParentReadinessGate parentGate;
   private Logger logger;
 
   public CreateHandler() {
@@ -31,6 +41,8 @@ public class CreateHandler extends BaseHandlerStd {
 
   public CreateHandler(Constant backOffStrategy) {
     this.backOffStrategy = backOffStrategy;
+    this.stabilizer = new DeadlineAwareStabilizer(backOffStrategy);
+    this.parentGate = new ParentReadinessGate(backOffStrategy);
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -44,7 +56,11 @@ public class CreateHandler extends BaseHandlerStd {
     this.logger.log("[INFO] - [StackId: %s, ApplicationId: %s, RetrieverId: %s] Entering Create Handler"
         .formatted(request.getStackId(), request.getDesiredResourceState().getApplicationId(), request.getDesiredResourceState().getRetrieverId()));
 
+    final TimeBudget budget = TimeBudget.startingNow();
+
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> engine.awaitApplication(STAGE_AWAIT_APPLICATION, progress, parentGate, budget, proxyClient,
+            ResourceModel::getApplicationId, logger))
         .then(progress ->
             proxy.initiate("AWS-QBusiness-Retriever::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.translateToCreateRequest(request, model))
@@ -55,6 +71,7 @@ public class CreateHandler extends BaseHandlerStd {
                 ))
                 .progress()
         )
+        .then(progress -> engine.stabilize("Create", progress, stabilizer, budget, proxyClient, API_CREATE_RETRIEVER, logger))
         .then(progress ->
             new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger)
         );
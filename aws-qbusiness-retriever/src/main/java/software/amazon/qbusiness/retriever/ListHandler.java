@@ -9,10 +9,22 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.handler.ListHydrator;
 
 import java.util.List;
 
 public class ListHandler extends BaseHandlerStd {
+    private final ListHydrator hydrator;
+
+    public ListHandler() {
+        this(ListHydrator.fromEnvironment());
+    }
+
+    public ListHandler(ListHydrator hydrator) {
+        this.hydrator = hydrator;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -21,16 +33,21 @@ public class ListHandler extends BaseHandlerStd {
         final ProxyClient<QBusinessClient> proxyClient,
         final Logger logger) {
 
+        final TimeBudget budget = TimeBudget.startingNow();
         final ListRetrieversRequest awsRequest = Translator.translateToListRequest(
             request.getDesiredResourceState(),
             request.getNextToken()
         );
 
-        ListRetrieversResponse listRetrieversResponse = proxy.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::listRetrievers);
+        ListRetrieversResponse listRetrieversResponse = proxyClient.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::listRetrievers);
 
         String nextToken = listRetrieversResponse.nextToken();
 
-        List<ResourceModel> models = Translator.translateFromListResponse(listRetrieversResponse);
+        List<ResourceModel> models = hydrator.hydrate(ResourceModel.TYPE_NAME,
+            Translator.translateFromListResponse(listRetrieversResponse),
+            summary -> RetrieverDescriptor.ENGINE.hydrate(request, summary, proxyClient),
+            budget, logger
+        );
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
             .resourceModels(models)
             .nextToken(nextToken)
@@ -0,0 +1,36 @@
+package software.amazon.qbusiness.retriever;
+
+import static software.amazon.qbusiness.retriever.Constants.API_GET_RETRIEVER;
+
+import java.util.Set;
+
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.GetRetrieverResponse;
+import software.amazon.awssdk.services.qbusiness.model.RetrieverStatus;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.handler.Operation;
+import software.amazon.qbusiness.common.handler.ResourceDescriptor;
+
+final class RetrieverDescriptor {
+  static final ResourceDescriptor<ResourceModel, GetRetrieverResponse> DESCRIPTOR = ResourceDescriptor.<ResourceModel, GetRetrieverResponse>builder()
+      .typeName(ResourceModel.TYPE_NAME)
+      .callGraphPrefix("AWS-QBusiness-Retriever")
+      .primaryIdentifier(Utils::primaryIdentifier)
+      .arnBuilder(Utils::buildRetrieverArn)
+      .get(Operation.of(API_GET_RETRIEVER, Translator::translateToReadRequest, QBusinessClient::getRetriever))
+      .responseType(GetRetrieverResponse.class)
+      .fromGetResponse(Translator::translateFromReadResponse)
+      .toListTagsRequest(Translator::translateToListTagsRequest)
+      .withTags(Translator::translateFromReadResponseWithTags)
+      .statusExtractor(GetRetrieverResponse::statusAsString)
+      .stableStates(Set.of(RetrieverStatus.ACTIVE.toString()))
+      .failedStates(Set.of(RetrieverStatus.FAILED.toString()))
+      // GetRetriever does not say why a retriever failed.
+      .failureReason(response -> null)
+      .build();
+
+  static final CrudEngine<ResourceModel, CallbackContext, GetRetrieverResponse> ENGINE = new CrudEngine<>(DESCRIPTOR);
+
+  private RetrieverDescriptor() {
+  }
+}
@@ -7,6 +7,7 @@ import static software.amazon.qbusiness.retriever.Utils.primaryIdentifier;
 import java.time.Duration;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.GetRetrieverResponse;
 import software.amazon.awssdk.services.qbusiness.model.UpdateRetrieverRequest;
 import software.amazon.awssdk.services.qbusiness.model.UpdateRetrieverResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -15,14 +16,19 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
-import software.amazon.qbusiness.common.TagUtils;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.stabilization.DeadlineAwareStabilizer;
 
 public class UpdateHandler extends BaseHandlerStd {
   private static final Constant DEFAULT_BACK_OFF_STRATEGY = Constant.of()
       .timeout(Duration.ofHours(4))
       .delay(Duration.ofSeconds(10))
       .build();
+
+  private final CrudEngine<ResourceModel, CallbackContext, GetRetrieverResponse> engine = RetrieverDescriptor.ENGINE;
   private final Constant backOffStrategy;
+  private final DeadlineAwareStabilizer stabilizer;
   private Logger logger;
 
   public UpdateHandler() {
@@ -31,6 +37,7 @@ public class UpdateHandler extends BaseHandlerStd {
 
   public UpdateHandler(Constant backOffStrategy) {
     this.backOffStrategy = backOffStrategy;
+    this.stabilizer = new DeadlineAwareStabilizer(backOffStrategy);
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -41,6 +48,7 @@ public class UpdateHandler extends BaseHandlerStd {
       final Logger logger) {
 
     this.logger = logger;
+    final TimeBudget budget = TimeBudget.startingNow();
     this.logger.log("[INFO] - [StackId: %s, ApplicationId: %s, RetrieverId: %s] Entering Update Handler"
         .formatted(request.getStackId(), request.getDesiredResourceState().getApplicationId(), request.getDesiredResourceState().getRetrieverId()));
 
@@ -54,10 +62,8 @@ public class UpdateHandler extends BaseHandlerStd {
                     model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_UPDATE_RETRIEVER
                 ))
                 .progress())
-        .then(progress -> {
-          var arn = Utils.buildRetrieverArn(request, progress.getResourceModel());
-          return TagUtils.updateTags(ResourceModel.TYPE_NAME, progress, request, arn, proxyClient, logger);
-        })
+        .then(progress -> engine.stabilize("Update", progress, stabilizer, budget, proxyClient, API_UPDATE_RETRIEVER, logger))
+        .then(progress -> engine.updateTags(progress, request, proxyClient, logger))
         .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
   }
 
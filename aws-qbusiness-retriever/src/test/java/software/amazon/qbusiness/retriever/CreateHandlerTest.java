@@ -1,9 +1,11 @@
 package software.amazon.qbusiness.retriever;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -25,10 +27,13 @@ import org.mockito.MockitoAnnotations;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.AccessDeniedException;
+import software.amazon.awssdk.services.qbusiness.model.ApplicationStatus;
 import software.amazon.awssdk.services.qbusiness.model.ConflictException;
 import software.amazon.awssdk.services.qbusiness.model.CreateRetrieverRequest;
 import software.amazon.awssdk.services.qbusiness.model.CreateRetrieverResponse;
 import software.amazon.awssdk.services.qbusiness.model.QBusinessException;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationResponse;
 import software.amazon.awssdk.services.qbusiness.model.GetRetrieverRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetRetrieverResponse;
 import software.amazon.awssdk.services.qbusiness.model.InternalServerException;
@@ -37,9 +42,11 @@ import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceReques
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.qbusiness.model.RetrieverConfiguration;
+import software.amazon.awssdk.services.qbusiness.model.RetrieverStatus;
 import software.amazon.awssdk.services.qbusiness.model.Tag;
 import software.amazon.awssdk.services.qbusiness.model.ThrottlingException;
 import software.amazon.awssdk.services.qbusiness.model.ValidationException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -86,6 +93,8 @@ public class CreateHandlerTest extends AbstractTestBase {
     sdkClient = mock(QBusinessClient.class);
     proxyClient = MOCK_PROXY(proxy, sdkClient);
     this.underTest = new CreateHandler(testBackOff);
+    when(sdkClient.getApplication(any(GetApplicationRequest.class)))
+        .thenReturn(GetApplicationResponse.builder().applicationId(APP_ID).status(ApplicationStatus.ACTIVE).build());
 
     KendraIndexConfiguration kendraIndexConfiguration = KendraIndexConfiguration.builder()
         .indexId(INDEX_ID)
@@ -113,6 +122,7 @@ public class CreateHandlerTest extends AbstractTestBase {
   @AfterEach
   public void tear_down() throws Exception {
     verify(sdkClient, atLeastOnce()).serviceName();
+    verify(sdkClient).getApplication(any(GetApplicationRequest.class));
     verifyNoMoreInteractions(sdkClient);
     testMocks.close();
   }
@@ -174,6 +184,56 @@ public class CreateHandlerTest extends AbstractTestBase {
     ));
   }
 
+  @Test
+  public void testThatItWaitsForTheRetrieverToBecomeActive() {
+    when(sdkClient.createRetriever(any(CreateRetrieverRequest.class)))
+        .thenReturn(CreateRetrieverResponse.builder()
+            .retrieverId(RETRIEVER_ID)
+            .build());
+    when(sdkClient.getRetriever(any(GetRetrieverRequest.class)))
+        .thenReturn(retriever(RetrieverStatus.CREATING))
+        .thenReturn(retriever(RetrieverStatus.ACTIVE));
+    when(sdkClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+        .thenReturn(ListTagsForResourceResponse.builder().tags(List.of()).build());
+
+    final ProgressEvent<ResourceModel, CallbackContext> response = underTest.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+    assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    assertThat(response.getResourceModel().getStatus()).isEqualTo(RetrieverStatus.ACTIVE.toString());
+    verify(sdkClient).createRetriever(any(CreateRetrieverRequest.class));
+    // The second poll saw it active, and the Read step reuses that response.
+    verify(sdkClient, times(2)).getRetriever(any(GetRetrieverRequest.class));
+    verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+  }
+
+  @Test
+  public void testThatItFailsWhenTheRetrieverFails() {
+    when(sdkClient.createRetriever(any(CreateRetrieverRequest.class)))
+        .thenReturn(CreateRetrieverResponse.builder()
+            .retrieverId(RETRIEVER_ID)
+            .build());
+    when(sdkClient.getRetriever(any(GetRetrieverRequest.class)))
+        .thenReturn(retriever(RetrieverStatus.FAILED));
+
+    assertThatThrownBy(() -> underTest.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
+        .isInstanceOf(CfnNotStabilizedException.class);
+
+    verify(sdkClient).createRetriever(any(CreateRetrieverRequest.class));
+    verify(sdkClient).getRetriever(any(GetRetrieverRequest.class));
+  }
+
+  private GetRetrieverResponse retriever(RetrieverStatus status) {
+    return GetRetrieverResponse.builder()
+        .applicationId(APP_ID)
+        .retrieverId(RETRIEVER_ID)
+        .displayName(RETRIEVER_NAME)
+        .type(RETRIEVER_TYPE)
+        .status(status)
+        .configuration(retrieverConfiguration)
+        .roleArn(ROLE_ARN)
+        .build();
+  }
+
   private static Stream<Arguments> serviceErrorAndExpectedCfnCode() {
     return Stream.of(
         Arguments.of(ValidationException.builder().build(), HandlerErrorCode.InvalidRequest),
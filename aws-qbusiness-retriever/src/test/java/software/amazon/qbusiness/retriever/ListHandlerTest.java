@@ -3,6 +3,7 @@ package software.amazon.qbusiness.retriever;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -21,13 +22,21 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.GetRetrieverRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetRetrieverResponse;
 import software.amazon.awssdk.services.qbusiness.model.ListRetrieversRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListRetrieversResponse;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.qbusiness.model.Retriever;
+import software.amazon.awssdk.services.qbusiness.model.RetrieverStatus;
+import software.amazon.awssdk.services.qbusiness.model.Tag;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.qbusiness.common.handler.ListHydrator;
 
 public class ListHandlerTest {
     private static final String APP_ID = "ApplicationId";
@@ -108,4 +117,70 @@ public class ListHandlerTest {
                 t.applicationId().equals(APP_ID))
         );
     }
+
+    @Test
+    public void handleRequest_HydratesEveryListedRetriever() {
+        final String goneId = "25e148e0-777d-4f30-b523-1f895c36cf55";
+        List<String> ids = List.of(
+            "a98163cb-407b-492c-85d7-a96ebc514eac",
+            "db6a3cc2-3de5-4ede-b802-80f107d63ad8",
+            goneId
+        );
+        when(sdkClient.listRetrievers(any(ListRetrieversRequest.class)))
+            .thenReturn(ListRetrieversResponse.builder()
+                .retrievers(ids.stream()
+                    .map(id -> Retriever.builder().applicationId(APP_ID).retrieverId(id).build())
+                    .toList())
+                .build()
+            );
+        when(sdkClient.getRetriever(any(GetRetrieverRequest.class))).thenAnswer(invocation -> {
+            GetRetrieverRequest getRequest = invocation.getArgument(0);
+            if (getRequest.retrieverId().equals(goneId)) {
+                throw ResourceNotFoundException.builder().message("gone").build();
+            }
+            return GetRetrieverResponse.builder()
+                .applicationId(APP_ID)
+                .retrieverId(getRequest.retrieverId())
+                .displayName("Retriever " + getRequest.retrieverId())
+                .status(RetrieverStatus.ACTIVE)
+                .build();
+        });
+        when(sdkClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+            .thenReturn(ListTagsForResourceResponse.builder()
+                .tags(Tag.builder().key("team").value("search").build())
+                .build());
+
+        underTest = new ListHandler(new ListHydrator(4));
+        final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+            proxy, hydrationRequest(), new CallbackContext(), proxyClient, logger
+        );
+
+        // verify
+        assertThat(resultProgress.isSuccess()).isTrue();
+        assertThat(resultProgress.getNextToken()).isNull();
+        // The retriever deleted since the List is left out, the others keep their page order.
+        assertThat(resultProgress.getResourceModels())
+            .extracting(ResourceModel::getRetrieverId)
+            .containsExactly(ids.get(0), ids.get(1));
+        assertThat(resultProgress.getResourceModels()).allSatisfy(model -> {
+            assertThat(model.getDisplayName()).isEqualTo("Retriever " + model.getRetrieverId());
+            assertThat(model.getStatus()).isEqualTo(RetrieverStatus.ACTIVE.toString());
+            assertThat(model.getTags()).hasSize(1);
+        });
+
+        verify(sdkClient).listRetrievers(any(ListRetrieversRequest.class));
+        verify(sdkClient, times(3)).getRetriever(any(GetRetrieverRequest.class));
+        verify(sdkClient, times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    private ResourceHandlerRequest<ResourceModel> hydrationRequest() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder()
+                .applicationId(APP_ID)
+                .build())
+            .awsAccountId("123456789012")
+            .awsPartition("aws")
+            .region("us-east-1")
+            .build();
+    }
 }
@@ -35,6 +35,7 @@ import software.amazon.awssdk.services.qbusiness.model.KendraIndexConfiguration;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.RetrieverConfiguration;
+import software.amazon.awssdk.services.qbusiness.model.RetrieverStatus;
 import software.amazon.awssdk.services.qbusiness.model.TagResourceRequest;
 import software.amazon.awssdk.services.qbusiness.model.TagResourceResponse;
 import software.amazon.awssdk.services.qbusiness.model.UntagResourceRequest;
@@ -155,6 +156,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         .thenReturn(GetRetrieverResponse.builder()
             .applicationId(APP_ID)
             .retrieverId(RETRIEVER_ID)
+            .status(RetrieverStatus.ACTIVE)
             .build());
     when(sdkClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
         .thenReturn(ListTagsForResourceResponse.builder().tags(List.of()).build());
@@ -14,6 +14,9 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.stabilization.ParentReadinessGate;
 
 import java.time.Duration;
 import java.util.Objects;
@@ -29,7 +32,11 @@ public class CreateHandler extends BaseHandlerStd {
       .delay(Duration.ofSeconds(5))
       .build();
 
+  private static final String STAGE_AWAIT_APPLICATION = "Create::AwaitApplication";
+
   private final Constant backOffStrategy;
+  private final CrudEngine<ResourceModel, CallbackContext, GetWebExperienceResponse> engine = WebExperienceDescriptor.ENGINE;
+  private final ParentReadinessGate parentGate;
   private Logger logger;
 
   public CreateHandler() {
@@ -38,6 +45,7 @@ public class CreateHandler extends BaseHandlerStd {
 
   public CreateHandler(Constant backOffStrategy) {
     this.backOffStrategy = backOffStrategy;
+    this.parentGate = new ParentReadinessGate(backOffStrategy);
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -48,18 +56,21 @@ public class CreateHandler extends BaseHandlerStd {
       final Logger logger) {
 
     this.logger = logger;
+    final TimeBudget budget = TimeBudget.startingNow();
 
     logger.log("[INFO] Starting to process Create WebExperience request in stack: %s for Account: %s and ApplicationId: %s"
         .formatted(request.getStackId(), request.getAwsAccountId(), request.getDesiredResourceState().getApplicationId()));
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> engine.awaitApplication(STAGE_AWAIT_APPLICATION, progress, parentGate, budget, proxyClient,
+            ResourceModel::getApplicationId, logger))
         .then(progress ->
             proxy.initiate("AWS-QBusiness-WebExperience::Create", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(model -> Translator.translateToCreateRequest(request, model))
                 .backoffDelay(backOffStrategy)
                 .makeServiceCall((awsRequest, clientProxyClient) ->
                     callCreateWebExperience(awsRequest, clientProxyClient, progress.getResourceModel()))
-                .stabilize((awsReq, response, clientProxyClient, model, context) -> isStabilized(clientProxyClient, model, logger))
+                .stabilize((awsReq, response, clientProxyClient, model, context) -> isStabilized(clientProxyClient, model, context, logger))
                 .handleError((createReq, error, client, model, context) -> handleError(
                     model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_CREATE_WEB_EXPERIENCE
                 ))
@@ -79,6 +90,7 @@ public class CreateHandler extends BaseHandlerStd {
   private boolean isStabilized(
       final ProxyClient<QBusinessClient> proxyClient,
       final ResourceModel model,
+      final CallbackContext context,
       final Logger logger) {
     final GetWebExperienceResponse getWebExperienceResponse = getWebExperience(model, proxyClient, logger);
 
@@ -88,6 +100,7 @@ public class CreateHandler extends BaseHandlerStd {
     if (WebExperienceStatus.ACTIVE.toString().equals(status)) {
       logger.log("[INFO] %s with ApplicationId: %s and WebExperienceId: %s has stabilized for create operation"
               .formatted(ResourceModel.TYPE_NAME, model.getApplicationId(), model.getWebExperienceId()));
+      context.getLastGetResponse().record(primaryIdentifier(model), getWebExperienceResponse);
       return true;
     }
 
@@ -96,6 +109,7 @@ public class CreateHandler extends BaseHandlerStd {
     if (roleArn == null && WebExperienceStatus.PENDING_AUTH_CONFIG.toString().equals(status)) {
       logger.log("[INFO] %s with ApplicationId: %s and WebExperienceId: %s has stabilized for create operation"
           .formatted(ResourceModel.TYPE_NAME, model.getApplicationId(), model.getWebExperienceId()));
+      context.getLastGetResponse().record(primaryIdentifier(model), getWebExperienceResponse);
       return true;
     }
 
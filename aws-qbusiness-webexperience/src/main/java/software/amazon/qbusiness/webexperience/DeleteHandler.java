@@ -4,6 +4,7 @@ package software.amazon.qbusiness.webexperience;
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.DeleteWebExperienceRequest;
 import software.amazon.awssdk.services.qbusiness.model.DeleteWebExperienceResponse;
+import software.amazon.awssdk.services.qbusiness.model.GetWebExperienceResponse;
 import software.amazon.awssdk.services.qbusiness.model.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -11,6 +12,9 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.stabilization.MutationGate;
 
 import java.time.Duration;
 
@@ -26,6 +30,8 @@ public class DeleteHandler extends BaseHandlerStd {
       .build();
 
   private final Constant backOffStrategy;
+  private final CrudEngine<ResourceModel, CallbackContext, GetWebExperienceResponse> engine = WebExperienceDescriptor.ENGINE;
+  private final MutationGate mutationGate;
   private Logger logger;
 
   public DeleteHandler() {
@@ -34,6 +40,7 @@ public class DeleteHandler extends BaseHandlerStd {
 
   public DeleteHandler(Constant backOffStrategy) {
     this.backOffStrategy = backOffStrategy;
+    this.mutationGate = new MutationGate(backOffStrategy);
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -44,6 +51,7 @@ public class DeleteHandler extends BaseHandlerStd {
       final Logger logger) {
 
     this.logger = logger;
+    final TimeBudget budget = TimeBudget.startingNow();
 
     logger.log("[INFO] Initiating delete for %s with ApplicationId: %s and WebExperienceId: %s in stack: %s".formatted(
         ResourceModel.TYPE_NAME,
@@ -53,6 +61,7 @@ public class DeleteHandler extends BaseHandlerStd {
     ));
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> engine.awaitMutable("Delete::AwaitMutable", progress, mutationGate, budget, proxyClient, logger))
         .then(progress ->
             proxy.initiate("AWS-QBusiness-WebExperience::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToDeleteRequest)
@@ -31,7 +31,7 @@ public class ListHandler extends BaseHandlerStd {
 
     final ListWebExperiencesRequest awsRequest = Translator.translateToListRequest(request.getNextToken(), request.getDesiredResourceState());
 
-    final ListWebExperiencesResponse listWebExperienceResponse = proxy.injectCredentialsAndInvokeV2(
+    final ListWebExperiencesResponse listWebExperienceResponse = proxyClient.injectCredentialsAndInvokeV2(
         awsRequest, proxyClient.client()::listWebExperiences);
 
     final String nextToken = listWebExperienceResponse.nextToken();
@@ -21,7 +21,9 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.proxy.delay.Constant;
-import software.amazon.qbusiness.common.TagUtils;
+import software.amazon.qbusiness.common.TimeBudget;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.stabilization.MutationGate;
 
 public class UpdateHandler extends BaseHandlerStd {
 
@@ -31,6 +33,8 @@ public class UpdateHandler extends BaseHandlerStd {
       .build();
 
   private final Constant backOffStrategy;
+  private final CrudEngine<ResourceModel, CallbackContext, GetWebExperienceResponse> engine = WebExperienceDescriptor.ENGINE;
+  private final MutationGate mutationGate;
   private Logger logger;
 
   public UpdateHandler() {
@@ -39,6 +43,7 @@ public class UpdateHandler extends BaseHandlerStd {
 
   public UpdateHandler(Constant backOffStrategy) {
     this.backOffStrategy = backOffStrategy;
+    this.mutationGate = new MutationGate(backOffStrategy);
   }
 
   protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -49,6 +54,7 @@ public class UpdateHandler extends BaseHandlerStd {
       final Logger logger) {
 
     this.logger = logger;
+    final TimeBudget budget = TimeBudget.startingNow();
 
     logger.log("[INFO] Starting Update for %s with ApplicationId: %s and WebExperienceId: %s in stack: %s".formatted(
         ResourceModel.TYPE_NAME,
@@ -58,21 +64,19 @@ public class UpdateHandler extends BaseHandlerStd {
     ));
 
     return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+        .then(progress -> engine.awaitMutable("Update::AwaitMutable", progress, mutationGate, budget, proxyClient, logger))
         .then(progress ->
             proxy.initiate("AWS-QBusiness-WebExperience::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Translator::translateToUpdateRequest)
                 .backoffDelay(backOffStrategy)
                 .makeServiceCall(this::updateWebExperience)
-                .stabilize((serviceRequest, updateWebExperienceResponse, client, model, context) -> isStabilized(client, model))
+                .stabilize((serviceRequest, updateWebExperienceResponse, client, model, context) -> isStabilized(client, model, context))
                 .handleError((serviceRequest, error, client, model, context) -> handleError(
                     model, primaryIdentifier(model), error, context, logger, ResourceModel.TYPE_NAME, API_UPDATE_WEB_EXPERIENCE
                 ))
                 .progress()
         )
-        .then(progress -> {
-          var arn = Utils.buildWebExperienceArn(request, progress.getResourceModel());
-          return TagUtils.updateTags(ResourceModel.TYPE_NAME, progress, request, arn, proxyClient, logger);
-        })
+        .then(progress -> engine.updateTags(progress, request, proxyClient, logger))
         .then(model -> readHandler(proxy, request, callbackContext, proxyClient));
   }
 
@@ -93,7 +97,8 @@ public class UpdateHandler extends BaseHandlerStd {
 
   private boolean isStabilized(
       final ProxyClient<QBusinessClient> proxyClient,
-      final ResourceModel model) {
+      final ResourceModel model,
+      final CallbackContext context) {
     final GetWebExperienceResponse getWebExperienceResponse = getWebExperience(model, proxyClient, logger);
     final WebExperienceStatus status = getWebExperienceResponse.status();
     final String roleArn = getWebExperienceResponse.roleArn();
@@ -101,12 +106,14 @@ public class UpdateHandler extends BaseHandlerStd {
     if (WebExperienceStatus.ACTIVE.equals(status)) {
       logger.log("[INFO] %s with ApplicationId: %s and WebExperienceId: %s has stabilized."
               .formatted(ResourceModel.TYPE_NAME, model.getApplicationId(), model.getWebExperienceId()));
+      context.getLastGetResponse().record(primaryIdentifier(model), getWebExperienceResponse);
       return true;
     }
 
     if (roleArn == null && WebExperienceStatus.PENDING_AUTH_CONFIG.equals(status)) {
       logger.log("[INFO] %s with ApplicationId: %s and WebExperienceId: %s has stabilized."
               .formatted(ResourceModel.TYPE_NAME, model.getApplicationId(), model.getWebExperienceId()));
+      context.getLastGetResponse().record(primaryIdentifier(model), getWebExperienceResponse);
       return true;
     }
 
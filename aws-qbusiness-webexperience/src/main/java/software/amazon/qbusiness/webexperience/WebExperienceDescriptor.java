@@ -0,0 +1,37 @@
+package software.amazon.qbusiness.webexperience;
+
+import software.amazon.awssdk.services.qbusiness.QBusinessClient;
+import software.amazon.awssdk.services.qbusiness.model.GetWebExperienceResponse;
+import software.amazon.awssdk.services.qbusiness.model.WebExperienceStatus;
+import software.amazon.qbusiness.common.handler.CrudEngine;
+import software.amazon.qbusiness.common.handler.Operation;
+import software.amazon.qbusiness.common.handler.ResourceDescriptor;
+
+import java.util.Set;
+
+import static software.amazon.qbusiness.webexperience.Constants.API_GET_WEB_EXPERIENCE;
+
+final class WebExperienceDescriptor {
+  static final ResourceDescriptor<ResourceModel, GetWebExperienceResponse> DESCRIPTOR = ResourceDescriptor.<ResourceModel, GetWebExperienceResponse>builder()
+      .typeName(ResourceModel.TYPE_NAME)
+      .callGraphPrefix("AWS-QBusiness-WebExperience")
+      .primaryIdentifier(Utils::primaryIdentifier)
+      .arnBuilder(Utils::buildWebExperienceArn)
+      .get(Operation.of(API_GET_WEB_EXPERIENCE, Translator::translateToReadRequest, QBusinessClient::getWebExperience))
+      .responseType(GetWebExperienceResponse.class)
+      .fromGetResponse(Translator::translateFromReadResponse)
+      .toListTagsRequest(Translator::translateToListTagsRequest)
+      .withTags(Translator::translateFromReadResponseWithTags)
+      .statusExtractor(GetWebExperienceResponse::statusAsString)
+      // PENDING_AUTH_CONFIG is only stable without a role, which Create and Update check for themselves.
+      .stableStates(Set.of(WebExperienceStatus.ACTIVE.toString()))
+      .failedStates(Set.of(WebExperienceStatus.FAILED.toString()))
+      .transitionalStates(Set.of(WebExperienceStatus.CREATING.toString()))
+      .failureReason(response -> response.error() == null ? null : response.error().errorMessage())
+      .build();
+
+  static final CrudEngine<ResourceModel, CallbackContext, GetWebExperienceResponse> ENGINE = new CrudEngine<>(DESCRIPTOR);
+
+  private WebExperienceDescriptor() {
+  }
+}
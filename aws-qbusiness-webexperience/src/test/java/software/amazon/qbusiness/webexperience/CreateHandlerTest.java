@@ -28,10 +28,13 @@ import org.mockito.MockitoAnnotations;
 
 import software.amazon.awssdk.services.qbusiness.QBusinessClient;
 import software.amazon.awssdk.services.qbusiness.model.AccessDeniedException;
+import software.amazon.awssdk.services.qbusiness.model.ApplicationStatus;
 import software.amazon.awssdk.services.qbusiness.model.ConflictException;
 import software.amazon.awssdk.services.qbusiness.model.CreateWebExperienceRequest;
 import software.amazon.awssdk.services.qbusiness.model.CreateWebExperienceResponse;
 import software.amazon.awssdk.services.qbusiness.model.ErrorDetail;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationRequest;
+import software.amazon.awssdk.services.qbusiness.model.GetApplicationResponse;
 import software.amazon.awssdk.services.qbusiness.model.QBusinessException;
 import software.amazon.awssdk.services.qbusiness.model.GetWebExperienceRequest;
 import software.amazon.awssdk.services.qbusiness.model.GetWebExperienceResponse;
@@ -92,6 +95,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         .build();
 
     underTest = new CreateHandler(testBackOff);
+    when(qBusinessClient.getApplication(any(GetApplicationRequest.class))).thenReturn(application(ApplicationStatus.ACTIVE));
 
     identityProviderConfiguration = IdentityProviderConfiguration.builder()
             .samlConfiguration(SamlProviderConfiguration.builder().authenticationUrl("https://someTestAuthenticationUrl").build())
@@ -131,6 +135,7 @@ public class CreateHandlerTest extends AbstractTestBase {
   @AfterEach
   public void tear_down() throws Exception {
     verify(qBusinessClient, atLeastOnce()).serviceName();
+    verify(qBusinessClient).getApplication(any(GetApplicationRequest.class));
     verifyNoMoreInteractions(qBusinessClient);
 
     testMocks.close();
@@ -197,7 +202,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
     verify(qBusinessClient).createWebExperience(any(CreateWebExperienceRequest.class));
 
-    verify(qBusinessClient, times(2)).getWebExperience(
+    verify(qBusinessClient, times(1)).getWebExperience(
         argThat((ArgumentMatcher<GetWebExperienceRequest>) t -> t.applicationId().equals(APP_ID) && t.webExperienceId().equals(WEB_EXPERIENCE_ID))
     );
     verify(qBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
@@ -246,7 +251,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     assertThat(resultModel.getWebExperienceId()).isEqualTo(WEB_EXPERIENCE_ID);
 
     verify(qBusinessClient).createWebExperience(any(CreateWebExperienceRequest.class));
-    verify(qBusinessClient, times(2)).getWebExperience(
+    verify(qBusinessClient, times(1)).getWebExperience(
         argThat((ArgumentMatcher<GetWebExperienceRequest>) t -> t.applicationId().equals(APP_ID) && t.webExperienceId().equals(WEB_EXPERIENCE_ID))
     );
     verify(qBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
@@ -291,7 +296,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     assertThat(resultProgress).isNotNull();
     assertThat(resultProgress.isSuccess()).isTrue();
     verify(qBusinessClient).createWebExperience(any(CreateWebExperienceRequest.class));
-    verify(qBusinessClient, times(3)).getWebExperience(
+    verify(qBusinessClient, times(2)).getWebExperience(
         argThat((ArgumentMatcher<GetWebExperienceRequest>) t -> t.applicationId().equals(APP_ID) && t.webExperienceId().equals(WEB_EXPERIENCE_ID))
     );
     verify(qBusinessClient).listTagsForResource(any(ListTagsForResourceRequest.class));
@@ -328,6 +333,10 @@ public class CreateHandlerTest extends AbstractTestBase {
     verify(qBusinessClient).getWebExperience(any(GetWebExperienceRequest.class));
   }
 
+  private static GetApplicationResponse application(ApplicationStatus status) {
+    return GetApplicationResponse.builder().applicationId(APP_ID).status(status).build();
+  }
+
   private static Stream<Arguments> createWebExperienceErrorsAndExpectedCodes() {
     return Stream.of(
         Arguments.of(ValidationException.builder().build(), HandlerErrorCode.InvalidRequest),
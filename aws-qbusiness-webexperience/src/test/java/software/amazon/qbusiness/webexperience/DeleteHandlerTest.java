@@ -102,7 +102,9 @@ public class DeleteHandlerTest extends AbstractTestBase {
   public void handleRequest_SimpleSuccess() {
     // set up test
     when(sdkClient.deleteWebExperience(any(DeleteWebExperienceRequest.class))).thenReturn(DeleteWebExperienceResponse.builder().build());
-    when(sdkClient.getWebExperience(any(GetWebExperienceRequest.class))).thenThrow(ResourceNotFoundException.builder().build());
+    when(sdkClient.getWebExperience(any(GetWebExperienceRequest.class)))
+        .thenReturn(activeWebExperience())
+        .thenThrow(ResourceNotFoundException.builder().build());
 
     // call method under test
     final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
@@ -119,11 +121,39 @@ public class DeleteHandlerTest extends AbstractTestBase {
     verify(sdkClient).deleteWebExperience(
         argThat((ArgumentMatcher<DeleteWebExperienceRequest>) t -> t.applicationId().equals(APP_ID) && t.webExperienceId().equals(WEB_EXPERIENCE_ID))
     );
-    verify(sdkClient).getWebExperience(
+    verify(sdkClient, times(2)).getWebExperience(
         argThat((ArgumentMatcher<GetWebExperienceRequest>) t -> t.applicationId().equals(APP_ID) && t.webExperienceId().equals(WEB_EXPERIENCE_ID))
     );
   }
 
+  @Test
+  public void testThatItWaitsForAWebExperienceBeingCreatedBeforeDeleting() {
+    // set up test
+    when(sdkClient.deleteWebExperience(any(DeleteWebExperienceRequest.class))).thenReturn(DeleteWebExperienceResponse.builder().build());
+    when(sdkClient.getWebExperience(any(GetWebExperienceRequest.class)))
+        .thenReturn(activeWebExperience().toBuilder().status(WebExperienceStatus.CREATING).build())
+        .thenReturn(activeWebExperience())
+        .thenThrow(ResourceNotFoundException.builder().build());
+
+    // call method under test
+    final ProgressEvent<ResourceModel, CallbackContext> resultProgress = underTest.handleRequest(
+        proxy, testRequest, new CallbackContext(), proxyClient, logger
+    );
+
+    // verify
+    assertThat(resultProgress.isSuccess()).isTrue();
+    verify(sdkClient).deleteWebExperience(any(DeleteWebExperienceRequest.class));
+    verify(sdkClient, times(3)).getWebExperience(any(GetWebExperienceRequest.class));
+  }
+
+  private static GetWebExperienceResponse activeWebExperience() {
+    return GetWebExperienceResponse.builder()
+        .applicationId(APP_ID)
+        .webExperienceId(WEB_EXPERIENCE_ID)
+        .status(WebExperienceStatus.ACTIVE)
+        .build();
+  }
+
   @Test
   public void handleMovingFromDeletingToNotFound() {
     // set up test
@@ -180,6 +210,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
   @MethodSource("serviceErrorAndHandlerCodes")
   public void testThatItReturnsExpectedHandlerErrorCodeForServiceError(QBusinessException serviceError, HandlerErrorCode expectedErrorCode) {
     // set up test
+    when(sdkClient.getWebExperience(any(GetWebExperienceRequest.class))).thenReturn(activeWebExperience());
     when(sdkClient.deleteWebExperience(any(DeleteWebExperienceRequest.class))).thenThrow(serviceError);
 
     // call method under test
@@ -191,6 +222,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
     assertThat(responseProgress).isNotNull();
     assertThat(responseProgress.isSuccess()).isFalse();
     assertThat(responseProgress.getStatus()).isEqualTo(OperationStatus.FAILED);
+    verify(sdkClient).getWebExperience(any(GetWebExperienceRequest.class));
     verify(sdkClient).deleteWebExperience(any(DeleteWebExperienceRequest.class));
     assertThat(responseProgress.getErrorCode()).isEqualTo(expectedErrorCode);
     assertThat(responseProgress.getResourceModels()).isNull();